@@ -20,6 +20,8 @@ package org.apache.shardingsphere.masterslave.route.engine;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.core.rule.MasterSlaveRule;
 import org.apache.shardingsphere.masterslave.route.engine.impl.MasterSlaveDataSourceRouter;
+import org.apache.shardingsphere.masterslave.route.engine.sniffer.SQLStatementSniffer;
+import org.apache.shardingsphere.masterslave.route.engine.sniffer.SniffedStatementType;
 import org.apache.shardingsphere.masterslave.route.log.MasterSlaveSQLLogger;
 import org.apache.shardingsphere.sql.parser.SQLParserEngine;
 import org.apache.shardingsphere.underlying.route.DateNodeRouter;
@@ -28,6 +30,7 @@ import org.apache.shardingsphere.underlying.route.context.RouteResult;
 import org.apache.shardingsphere.underlying.route.context.RouteUnit;
 
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Master slave router interface.
@@ -43,7 +46,7 @@ public final class MasterSlaveRouter implements DateNodeRouter {
     
     @Override
     public RouteContext route(final String sql, final List<Object> parameters, final boolean useCache) {
-        String dataSourceName = new MasterSlaveDataSourceRouter(masterSlaveRule).route(sqlParserEngine.parse(sql, useCache));
+        String dataSourceName = routeDataSource(sql, useCache);
         if (showSQL) {
             MasterSlaveSQLLogger.logSQL(sql, dataSourceName);
         }
@@ -51,4 +54,20 @@ public final class MasterSlaveRouter implements DateNodeRouter {
         routeResult.getRouteUnits().add(new RouteUnit(dataSourceName));
         return new RouteContext(null, routeResult);
     }
+    
+    /**
+     * Route hedged read.
+     * 
+     * @param routedDataSourceName data source name which read is routed to
+     * @return another slave data source name to hedge read, absent if read is not eligible for hedging
+     */
+    public Optional<String> routeHedgedRead(final String routedDataSourceName) {
+        return new MasterSlaveDataSourceRouter(masterSlaveRule).routeHedgedRead(routedDataSourceName);
+    }
+    
+    private String routeDataSource(final String sql, final boolean useCache) {
+        MasterSlaveDataSourceRouter dataSourceRouter = new MasterSlaveDataSourceRouter(masterSlaveRule);
+        SniffedStatementType sniffedStatementType = SQLStatementSniffer.sniff(sql);
+        return SniffedStatementType.UNKNOWN == sniffedStatementType ? dataSourceRouter.route(sqlParserEngine.parse(sql, useCache)) : dataSourceRouter.route(sniffedStatementType);
+    }
 }
@@ -0,0 +1,169 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.masterslave.route.engine.hedge;
+
+import com.google.common.base.Preconditions;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Hedged read policy for master-slave.
+ *
+ * <p>
+ * Latencies of reads are sampled for each slave, read is hedged when it has not returned within configured latency percentile of its slave,
+ * and hedged reads are limited to budget percent of reads in sliding window of recent seconds.
+ * </p>
+ */
+public final class HedgedReadPolicy {
+    
+    private static final int WINDOW_SIZE = 128;
+    
+    private static final int MIN_SAMPLE_SIZE = 16;
+    
+    private static final int BUDGET_BUCKET_COUNT = 10;
+    
+    private static final long BUDGET_BUCKET_MILLIS = 1000L;
+    
+    private final int percentile;
+    
+    private final int budgetPercent;
+    
+    private final Map<String, LatencyWindow> latencyWindows = new ConcurrentHashMap<>();
+    
+    private final LongSupplier currentTimeMillisSupplier;
+    
+    private final BudgetWindow budgetWindow;
+    
+    public HedgedReadPolicy(final int percentile, final int budgetPercent) {
+        this(percentile, budgetPercent, System::currentTimeMillis);
+    }
+    
+    HedgedReadPolicy(final int percentile, final int budgetPercent, final LongSupplier currentTimeMillisSupplier) {
+        Preconditions.checkArgument(percentile > 0 && percentile <= 100, "Hedged read percentile must be in (0, 100].");
+        Preconditions.checkArgument(budgetPercent >= 0 && budgetPercent <= 100, "Hedged read budget percent must be in [0, 100].");
+        this.percentile = percentile;
+        this.budgetPercent = budgetPercent;
+        this.currentTimeMillisSupplier = currentTimeMillisSupplier;
+        budgetWindow = new BudgetWindow(currentTimeMillisSupplier.getAsLong());
+    }
+    
+    /**
+     * Get delay to hedge read.
+     *
+     * @param dataSourceName data source name which read is routed to
+     * @return delay in milliseconds, absent if latencies of data source are not sampled enough
+     */
+    public Optional<Long> getHedgeDelayMillis(final String dataSourceName) {
+        budgetWindow.addRead(currentTimeMillisSupplier.getAsLong());
+        LatencyWindow latencyWindow = latencyWindows.get(dataSourceName);
+        return null == latencyWindow ? Optional.empty() : latencyWindow.getPercentile(percentile);
+    }
+    
+    /**
+     * Try to acquire budget to hedge read.
+     *
+     * @return acquired or not
+     */
+    public boolean tryAcquireHedge() {
+        return budgetWindow.tryAddHedgedRead(currentTimeMillisSupplier.getAsLong(), budgetPercent);
+    }
+    
+    /**
+     * Record latency of read.
+     *
+     * @param dataSourceName data source name which read is executed on
+     * @param latencyMillis latency in milliseconds
+     */
+    public void recordLatency(final String dataSourceName, final long latencyMillis) {
+        latencyWindows.computeIfAbsent(dataSourceName, key -> new LatencyWindow()).add(latencyMillis);
+    }
+    
+    private static final class LatencyWindow {
+        
+        private final long[] samples = new long[WINDOW_SIZE];
+        
+        private int size;
+        
+        private int nextIndex;
+        
+        synchronized void add(final long latencyMillis) {
+            samples[nextIndex] = latencyMillis;
+            nextIndex = (nextIndex + 1) % WINDOW_SIZE;
+            size = Math.min(size + 1, WINDOW_SIZE);
+        }
+        
+        synchronized Optional<Long> getPercentile(final int percentile) {
+            if (size < MIN_SAMPLE_SIZE) {
+                return Optional.empty();
+            }
+            long[] sortedSamples = Arrays.copyOf(samples, size);
+            Arrays.sort(sortedSamples);
+            return Optional.of(sortedSamples[(int) Math.ceil(percentile * size / 100d) - 1]);
+        }
+    }
+    
+    private static final class BudgetWindow {
+        
+        private final long[] readCounts = new long[BUDGET_BUCKET_COUNT];
+        
+        private final long[] hedgedReadCounts = new long[BUDGET_BUCKET_COUNT];
+        
+        private long currentBucket;
+        
+        BudgetWindow(final long currentTimeMillis) {
+            currentBucket = currentTimeMillis / BUDGET_BUCKET_MILLIS;
+        }
+        
+        synchronized void addRead(final long currentTimeMillis) {
+            readCounts[roll(currentTimeMillis)]++;
+        }
+        
+        synchronized boolean tryAddHedgedRead(final long currentTimeMillis, final int budgetPercent) {
+            int bucketIndex = roll(currentTimeMillis);
+            if ((sum(hedgedReadCounts) + 1) * 100 > sum(readCounts) * budgetPercent) {
+                return false;
+            }
+            hedgedReadCounts[bucketIndex]++;
+            return true;
+        }
+        
+        private int roll(final long currentTimeMillis) {
+            long bucket = currentTimeMillis / BUDGET_BUCKET_MILLIS;
+            long expiredBucketCount = Math.min(bucket - currentBucket, BUDGET_BUCKET_COUNT);
+            for (long i = 1; i <= expiredBucketCount; i++) {
+                int expiredBucketIndex = (int) Math.floorMod(currentBucket + i, (long) BUDGET_BUCKET_COUNT);
+                readCounts[expiredBucketIndex] = 0;
+                hedgedReadCounts[expiredBucketIndex] = 0;
+            }
+            currentBucket = Math.max(bucket, currentBucket);
+            return (int) Math.floorMod(currentBucket, (long) BUDGET_BUCKET_COUNT);
+        }
+        
+        private long sum(final long[] counts) {
+            long result = 0;
+            for (long each : counts) {
+                result += each;
+            }
+            return result;
+        }
+    }
+}
@@ -17,13 +17,17 @@
 
 package org.apache.shardingsphere.masterslave.route.engine.impl;
 
+import com.google.common.base.Preconditions;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.api.hint.HintManager;
 import org.apache.shardingsphere.core.rule.MasterSlaveRule;
+import org.apache.shardingsphere.masterslave.route.engine.sniffer.SniffedStatementType;
 import org.apache.shardingsphere.sql.parser.sql.statement.SQLStatement;
 import org.apache.shardingsphere.sql.parser.sql.statement.dml.SelectStatement;
 
 import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
 
 /**
  * Data source router for master-slave.
@@ -40,7 +44,22 @@ public final class MasterSlaveDataSourceRouter {
      * @return data source name
      */
     public String route(final SQLStatement sqlStatement) {
-        if (isMasterRoute(sqlStatement)) {
+        return route(!containsLockSegment(sqlStatement) && sqlStatement instanceof SelectStatement);
+    }
+    
+    /**
+     * Route.
+     * 
+     * @param sniffedStatementType sniffed statement type, must not be {@code UNKNOWN}
+     * @return data source name
+     */
+    public String route(final SniffedStatementType sniffedStatementType) {
+        Preconditions.checkArgument(SniffedStatementType.UNKNOWN != sniffedStatementType, "Can not route unknown statement type.");
+        return route(sniffedStatementType.isReadOnly());
+    }
+    
+    private String route(final boolean isReadOnlyStatement) {
+        if (isMasterRoute(isReadOnlyStatement)) {
             MasterVisitedManager.setMasterVisited();
             return masterSlaveRule.getMasterDataSourceName();
         }
@@ -48,8 +67,24 @@ public final class MasterSlaveDataSourceRouter {
                 masterSlaveRule.getName(), masterSlaveRule.getMasterDataSourceName(), new ArrayList<>(masterSlaveRule.getSlaveDataSourceNames()));
     }
     
-    private boolean isMasterRoute(final SQLStatement sqlStatement) {
-        return containsLockSegment(sqlStatement) || !(sqlStatement instanceof SelectStatement) || MasterVisitedManager.isMasterVisited() || HintManager.isMasterRouteOnly();
+    /**
+     * Route hedged read.
+     * 
+     * @param routedDataSourceName data source name which read is routed to
+     * @return another slave data source name to hedge read, absent if read is not routed to slave or no other slave
+     */
+    public Optional<String> routeHedgedRead(final String routedDataSourceName) {
+        if (!masterSlaveRule.getSlaveDataSourceNames().contains(routedDataSourceName) || isMasterRoute(true)) {
+            return Optional.empty();
+        }
+        List<String> candidateDataSourceNames = new ArrayList<>(masterSlaveRule.getSlaveDataSourceNames());
+        candidateDataSourceNames.remove(routedDataSourceName);
+        return candidateDataSourceNames.isEmpty() ? Optional.empty()
+                : Optional.of(masterSlaveRule.getLoadBalanceAlgorithm().getDataSource(masterSlaveRule.getName(), masterSlaveRule.getMasterDataSourceName(), candidateDataSourceNames));
+    }
+    
+    private boolean isMasterRoute(final boolean isReadOnlyStatement) {
+        return !isReadOnlyStatement || MasterVisitedManager.isMasterVisited() || HintManager.isMasterRouteOnly();
     }
     
     private boolean containsLockSegment(final SQLStatement sqlStatement) {
@@ -0,0 +1,211 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.masterslave.route.engine.sniffer;
+
+/**
+ * SQL statement sniffer.
+ * 
+ * <p>Classify SQL by scanning its keywords lexically instead of parsing it.
+ * Any construct which may hide or change the meaning of the scanned keywords,
+ * such as executable comments, backslash escapes, dollar quoting or multiple statements,
+ * is classified as {@code UNKNOWN} and should be parsed fully.</p>
+ */
+public final class SQLStatementSniffer {
+    
+    private static final String[] WRITE_KEYWORDS = {"INSERT", "UPDATE", "DELETE", "REPLACE", "MERGE", "CREATE", "ALTER", "DROP", "TRUNCATE", "RENAME", "GRANT", "REVOKE"};
+    
+    private static final String[] TRANSACTION_CONTROL_KEYWORDS = {"BEGIN", "START", "COMMIT", "ROLLBACK", "SAVEPOINT", "RELEASE"};
+    
+    private static final String[] SET_TRANSACTION_CONTROL_KEYWORDS = {"AUTOCOMMIT", "TRANSACTION"};
+    
+    private static final String[] LOCK_MODE_KEYWORDS = {"UPDATE", "SHARE", "NO", "KEY"};
+    
+    private final String sql;
+    
+    private final int length;
+    
+    private int position;
+    
+    private int tokenStart;
+    
+    private SQLStatementSniffer(final String sql) {
+        this.sql = sql;
+        length = sql.length();
+    }
+    
+    /**
+     * Sniff statement type.
+     * 
+     * @param sql SQL
+     * @return sniffed statement type
+     */
+    public static SniffedStatementType sniff(final String sql) {
+        return new SQLStatementSniffer(sql).sniff();
+    }
+    
+    private SniffedStatementType sniff() {
+        if (TokenType.WORD != nextToken()) {
+            return SniffedStatementType.UNKNOWN;
+        }
+        if (isKeyword("SELECT")) {
+            return sniffSelect();
+        }
+        if (isKeyword(WRITE_KEYWORDS)) {
+            return SniffedStatementType.WRITE;
+        }
+        if (isKeyword(TRANSACTION_CONTROL_KEYWORDS)) {
+            return SniffedStatementType.TRANSACTION_CONTROL;
+        }
+        if (isKeyword("SET") && TokenType.WORD == nextToken() && isKeyword(SET_TRANSACTION_CONTROL_KEYWORDS)) {
+            return SniffedStatementType.TRANSACTION_CONTROL;
+        }
+        return SniffedStatementType.UNKNOWN;
+    }
+    
+    private SniffedStatementType sniffSelect() {
+        TokenType tokenType = nextToken();
+        while (TokenType.END != tokenType) {
+            if (TokenType.UNSUPPORTED == tokenType) {
+                return SniffedStatementType.UNKNOWN;
+            }
+            if (TokenType.WORD == tokenType && isKeyword("INTO")) {
+                return SniffedStatementType.UNKNOWN;
+            }
+            if (TokenType.SYMBOL == tokenType && ';' == sql.charAt(tokenStart)) {
+                return isStatementEnd() ? SniffedStatementType.READ : SniffedStatementType.UNKNOWN;
+            }
+            if (TokenType.WORD == tokenType && (isKeyword("FOR") || isKeyword("LOCK"))) {
+                boolean isFor = isKeyword("FOR");
+                tokenType = nextToken();
+                if (TokenType.WORD == tokenType && (isFor ? isKeyword(LOCK_MODE_KEYWORDS) : isKeyword("IN"))) {
+                    return SniffedStatementType.LOCK_READ;
+                }
+                continue;
+            }
+            tokenType = nextToken();
+        }
+        return SniffedStatementType.READ;
+    }
+    
+    private boolean isStatementEnd() {
+        TokenType tokenType = nextToken();
+        while (TokenType.SYMBOL == tokenType && ';' == sql.charAt(tokenStart)) {
+            tokenType = nextToken();
+        }
+        return TokenType.END == tokenType;
+    }
+    
+    private boolean isKeyword(final String... keywords) {
+        int tokenLength = position - tokenStart;
+        for (String each : keywords) {
+            if (each.length() == tokenLength && sql.regionMatches(true, tokenStart, each, 0, tokenLength)) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    private TokenType nextToken() {
+        if (!skipWhitespacesAndComments()) {
+            return TokenType.UNSUPPORTED;
+        }
+        if (position >= length) {
+            return TokenType.END;
+        }
+        tokenStart = position;
+        char current = sql.charAt(position);
+        if (isWordCharacter(current)) {
+            return scanWord();
+        }
+        if ('\'' == current || '"' == current || '`' == current) {
+            return skipQuoted(current) ? TokenType.QUOTED : TokenType.UNSUPPORTED;
+        }
+        if ('#' == current || '$' == current || '[' == current || '\\' == current) {
+            return TokenType.UNSUPPORTED;
+        }
+        position++;
+        return TokenType.SYMBOL;
+    }
+    
+    private boolean skipWhitespacesAndComments() {
+        while (position < length) {
+            char current = sql.charAt(position);
+            if (Character.isWhitespace(current)) {
+                position++;
+            } else if (sql.startsWith("--", position) && (position + 2 == length || Character.isWhitespace(sql.charAt(position + 2)))) {
+                skipLineComment();
+            } else if (sql.startsWith("/*", position)) {
+                if (sql.startsWith("/*!", position)) {
+                    return false;
+                }
+                int commentEnd = sql.indexOf("*/", position + 2);
+                if (commentEnd < 0) {
+                    return false;
+                }
+                position = commentEnd + 2;
+            } else {
+                return true;
+            }
+        }
+        return true;
+    }
+    
+    private void skipLineComment() {
+        while (position < length && '\n' != sql.charAt(position) && '\r' != sql.charAt(position)) {
+            position++;
+        }
+    }
+    
+    private TokenType scanWord() {
+        while (position < length && isWordCharacter(sql.charAt(position))) {
+            position++;
+        }
+        // Oracle alternative quoting, such as q'[...]', can not be skipped as an ordinary string
+        if (position < length && '\'' == sql.charAt(position) && (isKeyword("Q") || isKeyword("NQ"))) {
+            return TokenType.UNSUPPORTED;
+        }
+        return TokenType.WORD;
+    }
+    
+    private boolean isWordCharacter(final char character) {
+        return Character.isLetterOrDigit(character) || '_' == character;
+    }
+    
+    private boolean skipQuoted(final char quote) {
+        position++;
+        while (position < length) {
+            char current = sql.charAt(position++);
+            if ('\\' == current) {
+                return false;
+            }
+            if (quote == current) {
+                if (position < length && quote == sql.charAt(position)) {
+                    position++;
+                    continue;
+                }
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    private enum TokenType {
+        
+        WORD, QUOTED, SYMBOL, END, UNSUPPORTED
+    }
+}
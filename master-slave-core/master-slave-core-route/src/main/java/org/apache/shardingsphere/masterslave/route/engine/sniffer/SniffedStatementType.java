@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.masterslave.route.engine.sniffer;
+
+/**
+ * Statement type sniffed from SQL text.
+ */
+public enum SniffedStatementType {
+    
+    /**
+     * Select statement without lock clause.
+     */
+    READ,
+    
+    /**
+     * Select statement with {@code FOR UPDATE}, {@code FOR SHARE} or {@code LOCK IN SHARE MODE}.
+     */
+    LOCK_READ,
+    
+    /**
+     * DML, DDL or DCL statement.
+     */
+    WRITE,
+    
+    /**
+     * Transaction control statement.
+     */
+    TRANSACTION_CONTROL,
+    
+    /**
+     * Statement which can not be classified without full parsing.
+     */
+    UNKNOWN;
+    
+    /**
+     * Judge is read only or not.
+     * 
+     * @return is read only or not
+     */
+    public boolean isReadOnly() {
+        return READ == this;
+    }
+}
@@ -36,7 +36,12 @@ import java.util.Collections;
 import java.util.Optional;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -48,6 +53,10 @@ public final class MasterSlaveRouterTest {
     
     private static final String QUERY_SQL_LOCK = "SELECT * FROM table FOR UPDATE";
     
+    private static final String UNKNOWN_QUERY_SQL = "(SELECT * FROM table)";
+    
+    private static final String UNKNOWN_INSERT_SQL = "WITH t AS (SELECT 1) INSERT INTO table (id) SELECT * FROM t";
+    
     private static final String MASTER_DATASOURCE = "master";
     
     private static final String SLAVE_DATASOURCE = "query";
@@ -69,9 +78,6 @@ public final class MasterSlaveRouterTest {
     @Before
     public void setUp() {
         masterSlaveRouter = new MasterSlaveRouter(masterSlaveRule, sqlParserEngine, true);
-        when(sqlParserEngine.parse(QUERY_SQL, false)).thenReturn(selectStatement);
-        when(sqlParserEngine.parse(INSERT_SQL, false)).thenReturn(insertStatement);
-        when(selectStatement.getLock()).thenReturn(Optional.empty());
         when(masterSlaveRule.getMasterDataSourceName()).thenReturn(MASTER_DATASOURCE);
         when(masterSlaveRule.getLoadBalanceAlgorithm()).thenReturn(new RandomMasterSlaveLoadBalanceAlgorithm());
         when(masterSlaveRule.getSlaveDataSourceNames()).thenReturn(Lists.newArrayList(SLAVE_DATASOURCE));
@@ -102,4 +108,43 @@ public final class MasterSlaveRouterTest {
         assertThat(actual.getRouteResult().getRouteUnits().size(), is(1));
         assertThat(actual.getRouteResult().getRouteUnits().iterator().next().getActualDataSourceName(), is(MASTER_DATASOURCE));
     }
+    
+    @Test
+    public void assertRouteHedgedRead() {
+        when(masterSlaveRule.getSlaveDataSourceNames()).thenReturn(Lists.newArrayList(SLAVE_DATASOURCE, "query_1"));
+        assertThat(masterSlaveRouter.routeHedgedRead(SLAVE_DATASOURCE), is(Optional.of("query_1")));
+    }
+    
+    @Test
+    public void assertRouteHedgedReadWithoutOtherSlave() {
+        assertFalse(masterSlaveRouter.routeHedgedRead(SLAVE_DATASOURCE).isPresent());
+    }
+    
+    @Test
+    public void assertRouteHedgedReadAfterMasterVisited() {
+        masterSlaveRouter.route(INSERT_SQL, Collections.emptyList(), false);
+        assertFalse(masterSlaveRouter.routeHedgedRead(SLAVE_DATASOURCE).isPresent());
+    }
+    
+    @Test
+    public void assertRouteToMasterWithoutParsing() {
+        masterSlaveRouter.route(INSERT_SQL, Collections.emptyList(), false);
+        masterSlaveRouter.route(QUERY_SQL_LOCK, Collections.emptyList(), false);
+        verify(sqlParserEngine, never()).parse(anyString(), anyBoolean());
+    }
+    
+    @Test
+    public void assertRouteUnknownToMasterWithParsing() {
+        when(sqlParserEngine.parse(UNKNOWN_INSERT_SQL, false)).thenReturn(insertStatement);
+        RouteContext actual = masterSlaveRouter.route(UNKNOWN_INSERT_SQL, Collections.emptyList(), false);
+        assertThat(actual.getRouteResult().getRouteUnits().iterator().next().getActualDataSourceName(), is(MASTER_DATASOURCE));
+    }
+    
+    @Test
+    public void assertRouteUnknownToSlaveWithParsing() {
+        when(sqlParserEngine.parse(UNKNOWN_QUERY_SQL, false)).thenReturn(selectStatement);
+        when(selectStatement.getLock()).thenReturn(Optional.empty());
+        RouteContext actual = masterSlaveRouter.route(UNKNOWN_QUERY_SQL, Collections.emptyList(), false);
+        assertThat(actual.getRouteResult().getRouteUnits().iterator().next().getActualDataSourceName(), is(SLAVE_DATASOURCE));
+    }
 }
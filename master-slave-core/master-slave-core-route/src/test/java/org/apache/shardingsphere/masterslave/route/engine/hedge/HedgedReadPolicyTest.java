@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.masterslave.route.engine.hedge;
+
+import org.junit.Test;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class HedgedReadPolicyTest {
+    
+    @Test
+    public void assertGetHedgeDelayMillisWithoutEnoughSamples() {
+        HedgedReadPolicy hedgedReadPolicy = new HedgedReadPolicy(95, 10);
+        hedgedReadPolicy.recordLatency("slave_0", 10L);
+        assertFalse(hedgedReadPolicy.getHedgeDelayMillis("slave_0").isPresent());
+        assertFalse(hedgedReadPolicy.getHedgeDelayMillis("slave_1").isPresent());
+    }
+    
+    @Test
+    public void assertGetHedgeDelayMillis() {
+        HedgedReadPolicy hedgedReadPolicy = new HedgedReadPolicy(95, 10);
+        for (int i = 1; i <= 100; i++) {
+            hedgedReadPolicy.recordLatency("slave_0", i);
+        }
+        assertThat(hedgedReadPolicy.getHedgeDelayMillis("slave_0"), is(Optional.of(95L)));
+    }
+    
+    @Test
+    public void assertTryAcquireHedgeWithinBudget() {
+        HedgedReadPolicy hedgedReadPolicy = new HedgedReadPolicy(95, 10);
+        for (int i = 0; i < 20; i++) {
+            hedgedReadPolicy.getHedgeDelayMillis("slave_0");
+        }
+        assertTrue(hedgedReadPolicy.tryAcquireHedge());
+        assertTrue(hedgedReadPolicy.tryAcquireHedge());
+        assertFalse(hedgedReadPolicy.tryAcquireHedge());
+    }
+    
+    @Test
+    public void assertTryAcquireHedgeWithExpiredReads() {
+        AtomicLong currentTimeMillis = new AtomicLong();
+        HedgedReadPolicy hedgedReadPolicy = new HedgedReadPolicy(95, 10, currentTimeMillis::get);
+        for (int i = 0; i < 100; i++) {
+            hedgedReadPolicy.getHedgeDelayMillis("slave_0");
+        }
+        currentTimeMillis.set(60000L);
+        for (int i = 0; i < 10; i++) {
+            hedgedReadPolicy.getHedgeDelayMillis("slave_0");
+        }
+        assertTrue(hedgedReadPolicy.tryAcquireHedge());
+        assertFalse(hedgedReadPolicy.tryAcquireHedge());
+    }
+    
+    @Test
+    public void assertTryAcquireHedgeWithExpiredHedgedReads() {
+        AtomicLong currentTimeMillis = new AtomicLong();
+        HedgedReadPolicy hedgedReadPolicy = new HedgedReadPolicy(95, 10, currentTimeMillis::get);
+        for (int i = 0; i < 10; i++) {
+            hedgedReadPolicy.getHedgeDelayMillis("slave_0");
+        }
+        assertTrue(hedgedReadPolicy.tryAcquireHedge());
+        assertFalse(hedgedReadPolicy.tryAcquireHedge());
+        currentTimeMillis.set(5000L);
+        for (int i = 0; i < 10; i++) {
+            hedgedReadPolicy.getHedgeDelayMillis("slave_0");
+        }
+        assertTrue(hedgedReadPolicy.tryAcquireHedge());
+        assertFalse(hedgedReadPolicy.tryAcquireHedge());
+        currentTimeMillis.set(12000L);
+        for (int i = 0; i < 10; i++) {
+            hedgedReadPolicy.getHedgeDelayMillis("slave_0");
+        }
+        assertTrue(hedgedReadPolicy.tryAcquireHedge());
+        assertFalse(hedgedReadPolicy.tryAcquireHedge());
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.masterslave.route.engine.sniffer;
+
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class SQLStatementSnifferTest {
+    
+    @Test
+    public void assertSniffRead() {
+        assertThat(SQLStatementSniffer.sniff("SELECT * FROM t_order WHERE order_id = ?"), is(SniffedStatementType.READ));
+        assertThat(SQLStatementSniffer.sniff("  /* comment */ select * from t_order -- for update"), is(SniffedStatementType.READ));
+        assertThat(SQLStatementSniffer.sniff("SELECT 'for update', `lock in` FROM t_order;"), is(SniffedStatementType.READ));
+        assertThat(SQLStatementSniffer.sniff("SELECT 'it''s' FROM t_order"), is(SniffedStatementType.READ));
+    }
+    
+    @Test
+    public void assertSniffLockRead() {
+        assertThat(SQLStatementSniffer.sniff("SELECT * FROM t_order FOR UPDATE"), is(SniffedStatementType.LOCK_READ));
+        assertThat(SQLStatementSniffer.sniff("select * from t_order for share"), is(SniffedStatementType.LOCK_READ));
+        assertThat(SQLStatementSniffer.sniff("SELECT * FROM t_order FOR NO KEY UPDATE"), is(SniffedStatementType.LOCK_READ));
+        assertThat(SQLStatementSniffer.sniff("SELECT * FROM t_order LOCK IN SHARE MODE"), is(SniffedStatementType.LOCK_READ));
+        assertThat(SQLStatementSniffer.sniff("SELECT * FROM t_order /* comment */ FOR\nUPDATE"), is(SniffedStatementType.LOCK_READ));
+    }
+    
+    @Test
+    public void assertSniffWrite() {
+        assertThat(SQLStatementSniffer.sniff("INSERT INTO t_order (order_id) VALUES (?)"), is(SniffedStatementType.WRITE));
+        assertThat(SQLStatementSniffer.sniff("update t_order set status = ?"), is(SniffedStatementType.WRITE));
+        assertThat(SQLStatementSniffer.sniff("DELETE FROM t_order"), is(SniffedStatementType.WRITE));
+        assertThat(SQLStatementSniffer.sniff("CREATE TABLE t_order (order_id INT)"), is(SniffedStatementType.WRITE));
+    }
+    
+    @Test
+    public void assertSniffTransactionControl() {
+        assertThat(SQLStatementSniffer.sniff("BEGIN"), is(SniffedStatementType.TRANSACTION_CONTROL));
+        assertThat(SQLStatementSniffer.sniff("START TRANSACTION"), is(SniffedStatementType.TRANSACTION_CONTROL));
+        assertThat(SQLStatementSniffer.sniff("commit"), is(SniffedStatementType.TRANSACTION_CONTROL));
+        assertThat(SQLStatementSniffer.sniff("ROLLBACK"), is(SniffedStatementType.TRANSACTION_CONTROL));
+        assertThat(SQLStatementSniffer.sniff("SET autocommit = 0"), is(SniffedStatementType.TRANSACTION_CONTROL));
+    }
+    
+    @Test
+    public void assertSniffUnknown() {
+        assertThat(SQLStatementSniffer.sniff(""), is(SniffedStatementType.UNKNOWN));
+        assertThat(SQLStatementSniffer.sniff("SHOW TABLES"), is(SniffedStatementType.UNKNOWN));
+        assertThat(SQLStatementSniffer.sniff("SET NAMES utf8"), is(SniffedStatementType.UNKNOWN));
+        assertThat(SQLStatementSniffer.sniff("(SELECT * FROM t_order)"), is(SniffedStatementType.UNKNOWN));
+        assertThat(SQLStatementSniffer.sniff("SELECT * INTO t_order_backup FROM t_order"), is(SniffedStatementType.UNKNOWN));
+        assertThat(SQLStatementSniffer.sniff("SELECT * FROM t_order; DELETE FROM t_order"), is(SniffedStatementType.UNKNOWN));
+        assertThat(SQLStatementSniffer.sniff("SELECT /*!40001 SQL_NO_CACHE */ * FROM t_order"), is(SniffedStatementType.UNKNOWN));
+        assertThat(SQLStatementSniffer.sniff("SELECT '\\' FROM t_order"), is(SniffedStatementType.UNKNOWN));
+        assertThat(SQLStatementSniffer.sniff("SELECT $$x$$ FROM t_order"), is(SniffedStatementType.UNKNOWN));
+        assertThat(SQLStatementSniffer.sniff("SELECT * FROM t_order # comment"), is(SniffedStatementType.UNKNOWN));
+        assertThat(SQLStatementSniffer.sniff("SELECT 'unterminated FROM t_order"), is(SniffedStatementType.UNKNOWN));
+    }
+}
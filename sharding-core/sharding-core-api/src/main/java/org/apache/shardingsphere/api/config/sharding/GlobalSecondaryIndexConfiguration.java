@@ -0,0 +1,49 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.api.config.sharding;
+
+import com.google.common.base.Preconditions;
+import com.google.common.base.Strings;
+import lombok.Getter;
+import org.apache.shardingsphere.api.sharding.index.GlobalSecondaryIndex;
+
+/**
+ * Global secondary index configuration.
+ */
+@Getter
+public final class GlobalSecondaryIndexConfiguration {
+    
+    private final String logicTable;
+    
+    private final String indexColumn;
+    
+    private final String shardingColumn;
+    
+    private final GlobalSecondaryIndex globalSecondaryIndex;
+    
+    public GlobalSecondaryIndexConfiguration(final String logicTable, final String indexColumn, final String shardingColumn, final GlobalSecondaryIndex globalSecondaryIndex) {
+        Preconditions.checkArgument(!Strings.isNullOrEmpty(logicTable), "LogicTable is required.");
+        Preconditions.checkArgument(!Strings.isNullOrEmpty(indexColumn), "IndexColumn is required.");
+        Preconditions.checkArgument(!Strings.isNullOrEmpty(shardingColumn), "ShardingColumn is required.");
+        Preconditions.checkNotNull(globalSecondaryIndex, "GlobalSecondaryIndex is required.");
+        this.logicTable = logicTable;
+        this.indexColumn = indexColumn;
+        this.shardingColumn = shardingColumn;
+        this.globalSecondaryIndex = globalSecondaryIndex;
+    }
+}
@@ -51,4 +51,8 @@ public final class ShardingRuleConfiguration implements RuleConfiguration {
     private Collection<MasterSlaveRuleConfiguration> masterSlaveRuleConfigs = new LinkedList<>();
     
     private EncryptRuleConfiguration encryptRuleConfig;
+    
+    private Collection<GlobalSecondaryIndexConfiguration> globalSecondaryIndexConfigs = new LinkedList<>();
+    
+    private Collection<ZoneMapConfiguration> zoneMapConfigs = new LinkedList<>();
 }
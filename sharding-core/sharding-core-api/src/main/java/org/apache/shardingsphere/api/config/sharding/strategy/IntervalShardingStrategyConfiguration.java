@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.api.config.sharding.strategy;
+
+import com.google.common.base.Preconditions;
+import com.google.common.base.Strings;
+import lombok.Getter;
+
+/**
+ * Interval sharding strategy configuration.
+ * 
+ * <p>
+ * Routes datetime values to the data node whose suffix is the start of the interval the value falls in,
+ * e.g. {@code t_order_202001} for a monthly interval with suffix pattern {@code yyyyMM}.
+ * </p>
+ */
+@Getter
+public final class IntervalShardingStrategyConfiguration implements ShardingStrategyConfiguration {
+    
+    private final String shardingColumn;
+    
+    private final String datetimePattern;
+    
+    private final String datetimeLower;
+    
+    private final String datetimeUpper;
+    
+    private final String shardingSuffixPattern;
+    
+    private final String intervalUnit;
+    
+    private final int intervalAmount;
+    
+    public IntervalShardingStrategyConfiguration(final String shardingColumn, final String datetimePattern, final String datetimeLower, final String datetimeUpper,
+                                                 final String shardingSuffixPattern, final String intervalUnit, final int intervalAmount) {
+        Preconditions.checkArgument(!Strings.isNullOrEmpty(shardingColumn), "ShardingColumn is required.");
+        Preconditions.checkArgument(!Strings.isNullOrEmpty(datetimePattern), "DatetimePattern is required.");
+        Preconditions.checkArgument(!Strings.isNullOrEmpty(datetimeLower), "DatetimeLower is required.");
+        Preconditions.checkArgument(!Strings.isNullOrEmpty(datetimeUpper), "DatetimeUpper is required.");
+        Preconditions.checkArgument(!Strings.isNullOrEmpty(shardingSuffixPattern), "ShardingSuffixPattern is required.");
+        Preconditions.checkArgument(!Strings.isNullOrEmpty(intervalUnit), "IntervalUnit is required.");
+        Preconditions.checkArgument(intervalAmount > 0, "IntervalAmount must be positive.");
+        this.shardingColumn = shardingColumn;
+        this.datetimePattern = datetimePattern;
+        this.datetimeLower = datetimeLower;
+        this.datetimeUpper = datetimeUpper;
+        this.shardingSuffixPattern = shardingSuffixPattern;
+        this.intervalUnit = intervalUnit;
+        this.intervalAmount = intervalAmount;
+    }
+    
+    @Override
+    public String toString() {
+        return "Interval{" + "shardingColumn='" + shardingColumn + '\'' + ", datetimePattern='" + datetimePattern + '\'' + ", datetimeLower='" + datetimeLower + '\''
+                + ", datetimeUpper='" + datetimeUpper + '\'' + ", shardingSuffixPattern='" + shardingSuffixPattern + '\'' + ", intervalUnit='" + intervalUnit + '\''
+                + ", intervalAmount=" + intervalAmount + '}';
+    }
+}
@@ -154,6 +154,15 @@ public final class HintManager implements AutoCloseable {
         return null != HINT_MANAGER_HOLDER.get() && HINT_MANAGER_HOLDER.get().masterRouteOnly;
     }
     
+    /**
+     * Judge whether hint manager is instantiated in current thread or not.
+     *
+     * @return hint manager is instantiated in current thread or not
+     */
+    public static boolean isInstantiated() {
+        return null != HINT_MANAGER_HOLDER.get();
+    }
+    
     /**
      * Clear threadlocal for hint manager.
      */
@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.api.sharding.index;
+
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * Global secondary index, which maps values of a non-sharding column to values of the sharding column.
+ * 
+ * <p>
+ * Route is only narrowed by values the index knows exactly, so implementations must return empty unless every index value is indexed.
+ * Entries are added before statements are executed and are never removed by ShardingSphere,
+ * so an index may point to more sharding values than actually exist, which only widens the route.
+ * Existing rows must be indexed before the index is configured.
+ * </p>
+ */
+public interface GlobalSecondaryIndex {
+    
+    /**
+     * Find sharding values of index values.
+     * 
+     * @param indexValues index values
+     * @return sharding values of all index values, or empty if any of the index values is not indexed
+     */
+    Optional<Collection<Comparable<?>>> findShardingValues(Collection<Comparable<?>> indexValues);
+    
+    /**
+     * Add mapping from index value to sharding value.
+     * 
+     * @param indexValue index value
+     * @param shardingValue sharding value
+     */
+    void put(Comparable<?> indexValue, Comparable<?> shardingValue);
+    
+    /**
+     * Invalidate index value whose sharding values are unknown.
+     * 
+     * <p>Index values invalidated should never be found again.</p>
+     * 
+     * @param indexValue index value
+     */
+    void invalidate(Comparable<?> indexValue);
+}
@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.api.sharding.zonemap;
+
+import com.google.common.collect.Range;
+
+import java.util.Optional;
+
+/**
+ * Zone map, which keeps value range of a column for every data node.
+ * 
+ * <p>
+ * Data nodes whose value range cannot satisfy the predicates are pruned from the route,
+ * so implementations must only return ranges which contain every value stored in the data node.
+ * Values written by statements are expanded into the zone map before the statements are executed.
+ * </p>
+ */
+public interface ZoneMap {
+    
+    /**
+     * Find value range of data node.
+     * 
+     * @param dataSourceName data source name
+     * @param actualTableName actual table name
+     * @return value range, or empty if value range of the data node is unknown
+     */
+    Optional<Range<Comparable<?>>> findValueRange(String dataSourceName, String actualTableName);
+    
+    /**
+     * Expand value range of data node to contain value.
+     * 
+     * @param dataSourceName data source name
+     * @param actualTableName actual table name
+     * @param value value to be written into the data node
+     */
+    void expand(String dataSourceName, String actualTableName, Comparable<?> value);
+    
+    /**
+     * Invalidate value range of data node whose written value is unknown.
+     * 
+     * @param dataSourceName data source name
+     * @param actualTableName actual table name
+     */
+    void invalidate(String dataSourceName, String actualTableName);
+}
@@ -0,0 +1,39 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.spi.masterslave;
+
+import org.apache.shardingsphere.spi.TypeBasedSPI;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Replica status probe.
+ */
+public interface ReplicaStatusProbe extends TypeBasedSPI {
+    
+    /**
+     * Get replication lag of replica.
+     * 
+     * @param connection connection of replica
+     * @param queryTimeoutSeconds query timeout in seconds of probe statement
+     * @return replication lag in seconds, {@code Long.MAX_VALUE} if replication is not running
+     * @throws SQLException SQL exception
+     */
+    long getReplicationLagSeconds(Connection connection, int queryTimeoutSeconds) throws SQLException;
+}
@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.datasource;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Counter of in-flight queries per data source, which is tracked by executor.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class InFlightQueryCounter {
+    
+    private static final Map<String, AtomicInteger> COUNTS = new ConcurrentHashMap<>();
+    
+    /**
+     * Increase in-flight query count.
+     *
+     * @param dataSourceName data source name
+     */
+    public static void increase(final String dataSourceName) {
+        COUNTS.computeIfAbsent(dataSourceName, key -> new AtomicInteger()).incrementAndGet();
+    }
+    
+    /**
+     * Decrease in-flight query count.
+     *
+     * @param dataSourceName data source name
+     */
+    public static void decrease(final String dataSourceName) {
+        AtomicInteger count = COUNTS.get(dataSourceName);
+        if (null != count) {
+            count.decrementAndGet();
+        }
+    }
+    
+    /**
+     * Get in-flight query count.
+     *
+     * @param dataSourceName data source name
+     * @return in-flight query count
+     */
+    public static int getCount(final String dataSourceName) {
+        AtomicInteger count = COUNTS.get(dataSourceName);
+        return null == count ? 0 : count.get();
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.datasource;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * Holder of data source names which hold connections of current transaction.
+ * 
+ * <p>Should be set by connection holding transaction before routing, and cleared after routing.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class TransactionDataSourceHolder {
+    
+    private static final ThreadLocal<Collection<String>> DATA_SOURCE_NAMES = ThreadLocal.withInitial(Collections::emptyList);
+    
+    /**
+     * Get data source names which hold connections of current transaction.
+     *
+     * @return data source names
+     */
+    public static Collection<String> get() {
+        return DATA_SOURCE_NAMES.get();
+    }
+    
+    /**
+     * Set data source names which hold connections of current transaction.
+     *
+     * @param dataSourceNames data source names
+     */
+    public static void set(final Collection<String> dataSourceNames) {
+        DATA_SOURCE_NAMES.set(dataSourceNames);
+    }
+    
+    /**
+     * Clear data source names.
+     */
+    public static void clear() {
+        DATA_SOURCE_NAMES.remove();
+    }
+}
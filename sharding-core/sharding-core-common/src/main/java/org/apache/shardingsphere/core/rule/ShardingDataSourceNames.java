@@ -22,9 +22,14 @@ import com.google.common.collect.Lists;
 import lombok.Getter;
 import org.apache.shardingsphere.api.config.masterslave.MasterSlaveRuleConfiguration;
 import org.apache.shardingsphere.api.config.sharding.ShardingRuleConfiguration;
+import org.apache.shardingsphere.core.datasource.InFlightQueryCounter;
+import org.apache.shardingsphere.core.datasource.TransactionDataSourceHolder;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.concurrent.ThreadLocalRandom;
 
 /**
@@ -97,4 +102,59 @@ public final class ShardingDataSourceNames {
     public String getRandomDataSourceName(final Collection<String> dataSourceNames) {
         return Lists.newArrayList(dataSourceNames).get(ThreadLocalRandom.current().nextInt(dataSourceNames.size()));
     }
+    
+    /**
+     * Get preferred data source name.
+     *
+     * @return preferred data source name
+     */
+    public String getPreferredDataSourceName() {
+        return getPreferredDataSourceName(dataSourceNames);
+    }
+    
+    /**
+     * Get preferred data source name.
+     * 
+     * <p>
+     * Data source which holds connection of current transaction is preferred, 
+     * otherwise data source with least in-flight queries is preferred, and ties are broken randomly.
+     * </p>
+     *
+     * @param dataSourceNames available data source names
+     * @return preferred data source name
+     */
+    public String getPreferredDataSourceName(final Collection<String> dataSourceNames) {
+        Collection<String> transactionDataSourceNames = TransactionDataSourceHolder.get();
+        List<String> leastBusyDataSourceNames = new ArrayList<>(dataSourceNames.size());
+        int leastInFlightQueryCount = Integer.MAX_VALUE;
+        for (String each : dataSourceNames) {
+            Collection<String> actualDataSourceNames = getActualDataSourceNames(each);
+            if (!Collections.disjoint(transactionDataSourceNames, actualDataSourceNames)) {
+                return each;
+            }
+            int inFlightQueryCount = 0;
+            for (String actualDataSourceName : actualDataSourceNames) {
+                inFlightQueryCount += InFlightQueryCounter.getCount(actualDataSourceName);
+            }
+            if (inFlightQueryCount < leastInFlightQueryCount) {
+                leastInFlightQueryCount = inFlightQueryCount;
+                leastBusyDataSourceNames.clear();
+            }
+            if (inFlightQueryCount == leastInFlightQueryCount) {
+                leastBusyDataSourceNames.add(each);
+            }
+        }
+        return getRandomDataSourceName(leastBusyDataSourceNames);
+    }
+    
+    private Collection<String> getActualDataSourceNames(final String dataSourceName) {
+        for (MasterSlaveRuleConfiguration each : shardingRuleConfig.getMasterSlaveRuleConfigs()) {
+            if (each.getName().equals(dataSourceName)) {
+                Collection<String> result = new LinkedHashSet<>(each.getSlaveDataSourceNames());
+                result.add(each.getMasterDataSourceName());
+                return result;
+            }
+        }
+        return Collections.singletonList(dataSourceName);
+    }
 }
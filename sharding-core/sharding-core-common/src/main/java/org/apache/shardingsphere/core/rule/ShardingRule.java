@@ -20,11 +20,14 @@ package org.apache.shardingsphere.core.rule;
 import com.google.common.base.Preconditions;
 import com.google.common.base.Splitter;
 import com.google.common.base.Strings;
+import lombok.AccessLevel;
 import lombok.Getter;
 import org.apache.shardingsphere.api.config.masterslave.MasterSlaveRuleConfiguration;
+import org.apache.shardingsphere.api.config.sharding.GlobalSecondaryIndexConfiguration;
 import org.apache.shardingsphere.api.config.sharding.KeyGeneratorConfiguration;
 import org.apache.shardingsphere.api.config.sharding.ShardingRuleConfiguration;
 import org.apache.shardingsphere.api.config.sharding.TableRuleConfiguration;
+import org.apache.shardingsphere.api.config.sharding.ZoneMapConfiguration;
 import org.apache.shardingsphere.api.config.sharding.strategy.ShardingStrategyConfiguration;
 import org.apache.shardingsphere.core.strategy.route.ShardingStrategy;
 import org.apache.shardingsphere.core.strategy.route.ShardingStrategyFactory;
@@ -38,9 +41,14 @@ import org.apache.shardingsphere.underlying.common.rule.BaseRule;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.TreeSet;
 
 /**
@@ -69,19 +77,43 @@ public class ShardingRule implements BaseRule {
     
     private final EncryptRule encryptRule;
     
+    @Getter(AccessLevel.NONE)
+    private final Map<String, TableRule> logicTableRules;
+    
+    @Getter(AccessLevel.NONE)
+    private final Map<String, Collection<TableRule>> actualTableRules;
+    
+    @Getter(AccessLevel.NONE)
+    private final Map<String, BindingTableRule> logicTableBindingTableRules;
+    
+    @Getter(AccessLevel.NONE)
+    private final Set<String> broadcastTableNames;
+    
+    @Getter(AccessLevel.NONE)
+    private final Map<String, Collection<GlobalSecondaryIndexConfiguration>> globalSecondaryIndexConfigs;
+    
+    @Getter(AccessLevel.NONE)
+    private final Map<String, Collection<ZoneMapConfiguration>> zoneMapConfigs;
+    
     public ShardingRule(final ShardingRuleConfiguration shardingRuleConfig, final Collection<String> dataSourceNames) {
         Preconditions.checkArgument(null != shardingRuleConfig, "ShardingRuleConfig cannot be null.");
         Preconditions.checkArgument(null != dataSourceNames && !dataSourceNames.isEmpty(), "Data sources cannot be empty.");
         this.ruleConfiguration = shardingRuleConfig;
         shardingDataSourceNames = new ShardingDataSourceNames(shardingRuleConfig, dataSourceNames);
         tableRules = createTableRules(shardingRuleConfig);
+        logicTableRules = createLogicTableRules(tableRules);
+        actualTableRules = createActualTableRules(tableRules);
         broadcastTables = shardingRuleConfig.getBroadcastTables();
+        broadcastTableNames = createBroadcastTableNames(broadcastTables);
         bindingTableRules = createBindingTableRules(shardingRuleConfig.getBindingTableGroups());
         defaultDatabaseShardingStrategy = createDefaultShardingStrategy(shardingRuleConfig.getDefaultDatabaseShardingStrategyConfig());
         defaultTableShardingStrategy = createDefaultShardingStrategy(shardingRuleConfig.getDefaultTableShardingStrategyConfig());
         defaultShardingKeyGenerator = createDefaultKeyGenerator(shardingRuleConfig.getDefaultKeyGeneratorConfig());
         masterSlaveRules = createMasterSlaveRules(shardingRuleConfig.getMasterSlaveRuleConfigs());
         encryptRule = createEncryptRule(shardingRuleConfig.getEncryptRuleConfig());
+        logicTableBindingTableRules = createLogicTableBindingTableRules(bindingTableRules);
+        globalSecondaryIndexConfigs = createGlobalSecondaryIndexConfigs(shardingRuleConfig.getGlobalSecondaryIndexConfigs());
+        zoneMapConfigs = createZoneMapConfigs(shardingRuleConfig.getZoneMapConfigs());
     }
     
     private Collection<TableRule> createTableRules(final ShardingRuleConfiguration shardingRuleConfig) {
@@ -93,6 +125,45 @@ public class ShardingRule implements BaseRule {
         return result;
     }
     
+    private Map<String, TableRule> createLogicTableRules(final Collection<TableRule> tableRules) {
+        Map<String, TableRule> result = new HashMap<>(tableRules.size(), 1);
+        for (TableRule each : tableRules) {
+            result.putIfAbsent(each.getLogicTable(), each);
+        }
+        return result;
+    }
+    
+    private Map<String, Collection<TableRule>> createActualTableRules(final Collection<TableRule> tableRules) {
+        Map<String, Collection<TableRule>> result = new HashMap<>();
+        for (TableRule each : tableRules) {
+            for (DataNode dataNode : each.getActualDataNodes()) {
+                Collection<TableRule> actualTableRules = result.computeIfAbsent(dataNode.getTableName().toLowerCase(), key -> new LinkedList<>());
+                if (!actualTableRules.contains(each)) {
+                    actualTableRules.add(each);
+                }
+            }
+        }
+        return result;
+    }
+    
+    private Set<String> createBroadcastTableNames(final Collection<String> broadcastTables) {
+        Set<String> result = new HashSet<>(broadcastTables.size(), 1);
+        for (String each : broadcastTables) {
+            result.add(each.toLowerCase());
+        }
+        return result;
+    }
+    
+    private Map<String, BindingTableRule> createLogicTableBindingTableRules(final Collection<BindingTableRule> bindingTableRules) {
+        Map<String, BindingTableRule> result = new HashMap<>();
+        for (BindingTableRule each : bindingTableRules) {
+            for (TableRule tableRule : each.getTableRules()) {
+                result.putIfAbsent(tableRule.getLogicTable(), each);
+            }
+        }
+        return result;
+    }
+    
     private String getDefaultGenerateKeyColumn(final ShardingRuleConfiguration shardingRuleConfig) {
         return null == shardingRuleConfig.getDefaultKeyGeneratorConfig() ? null : shardingRuleConfig.getDefaultKeyGeneratorConfig().getColumn();
     }
@@ -139,6 +210,32 @@ public class ShardingRule implements BaseRule {
         return null == encryptRuleConfig ? new EncryptRule() : new EncryptRule(ruleConfiguration.getEncryptRuleConfig());
     }
     
+    private Map<String, Collection<GlobalSecondaryIndexConfiguration>> createGlobalSecondaryIndexConfigs(final Collection<GlobalSecondaryIndexConfiguration> globalSecondaryIndexConfigs) {
+        if (null == globalSecondaryIndexConfigs) {
+            return Collections.emptyMap();
+        }
+        Map<String, Collection<GlobalSecondaryIndexConfiguration>> result = new HashMap<>(globalSecondaryIndexConfigs.size(), 1);
+        for (GlobalSecondaryIndexConfiguration each : globalSecondaryIndexConfigs) {
+            Preconditions.checkArgument(isShardingColumn(each.getShardingColumn(), each.getLogicTable()), 
+                    "Global secondary index of `%s` must map to sharding column, but `%s` is not.", each.getLogicTable(), each.getShardingColumn());
+            Preconditions.checkArgument(!isShardingColumn(each.getIndexColumn(), each.getLogicTable()), 
+                    "Global secondary index of `%s` cannot be built on sharding column `%s`.", each.getLogicTable(), each.getIndexColumn());
+            result.computeIfAbsent(each.getLogicTable().toLowerCase(), key -> new LinkedList<>()).add(each);
+        }
+        return result;
+    }
+    
+    private Map<String, Collection<ZoneMapConfiguration>> createZoneMapConfigs(final Collection<ZoneMapConfiguration> zoneMapConfigs) {
+        if (null == zoneMapConfigs) {
+            return Collections.emptyMap();
+        }
+        Map<String, Collection<ZoneMapConfiguration>> result = new HashMap<>(zoneMapConfigs.size(), 1);
+        for (ZoneMapConfiguration each : zoneMapConfigs) {
+            result.computeIfAbsent(each.getLogicTable().toLowerCase(), key -> new LinkedList<>()).add(each);
+        }
+        return result;
+    }
+    
     /**
      * Find table rule.
      *
@@ -146,12 +243,7 @@ public class ShardingRule implements BaseRule {
      * @return table rule
      */
     public Optional<TableRule> findTableRule(final String logicTableName) {
-        for (TableRule each : tableRules) {
-            if (each.getLogicTable().equalsIgnoreCase(logicTableName)) {
-                return Optional.of(each);
-            }
-        }
-        return Optional.empty();
+        return null == logicTableName ? Optional.empty() : Optional.ofNullable(logicTableRules.get(logicTableName.toLowerCase()));
     }
     
     /**
@@ -161,12 +253,16 @@ public class ShardingRule implements BaseRule {
      * @return table rule
      */
     public Optional<TableRule> findTableRuleByActualTable(final String actualTableName) {
-        for (TableRule each : tableRules) {
-            if (each.isExisted(actualTableName)) {
-                return Optional.of(each);
-            }
+        Collection<TableRule> result = findActualTableRules(actualTableName);
+        return result.isEmpty() ? Optional.empty() : Optional.of(result.iterator().next());
+    }
+    
+    private Collection<TableRule> findActualTableRules(final String actualTableName) {
+        if (null == actualTableName) {
+            return Collections.emptyList();
         }
-        return Optional.empty();
+        Collection<TableRule> result = actualTableRules.get(actualTableName.toLowerCase());
+        return null == result ? Collections.emptyList() : result;
     }
     
     /**
@@ -253,12 +349,7 @@ public class ShardingRule implements BaseRule {
      * @return binding table rule
      */
     public Optional<BindingTableRule> findBindingTableRule(final String logicTableName) {
-        for (BindingTableRule each : bindingTableRules) {
-            if (each.hasLogicTable(logicTableName)) {
-                return Optional.of(each);
-            }
-        }
-        return Optional.empty();
+        return null == logicTableName ? Optional.empty() : Optional.ofNullable(logicTableBindingTableRules.get(logicTableName.toLowerCase()));
     }
     
     /**
@@ -286,12 +377,7 @@ public class ShardingRule implements BaseRule {
      * @return logic table is belong to broadcast tables or not
      */
     public boolean isBroadcastTable(final String logicTableName) {
-        for (String each : broadcastTables) {
-            if (each.equalsIgnoreCase(logicTableName)) {
-                return true;
-            }
-        }
-        return false;
+        return null != logicTableName && broadcastTableNames.contains(logicTableName.toLowerCase());
     }
     
     /**
@@ -335,12 +421,8 @@ public class ShardingRule implements BaseRule {
      * @return is sharding column or not
      */
     public boolean isShardingColumn(final String columnName, final String tableName) {
-        for (TableRule each : tableRules) {
-            if (each.getLogicTable().equalsIgnoreCase(tableName) && isShardingColumn(each, columnName)) {
-                return true;
-            }
-        }
-        return false;
+        Optional<TableRule> tableRule = findTableRule(tableName);
+        return tableRule.isPresent() && isShardingColumn(tableRule.get(), columnName);
     }
     
     private boolean isShardingColumn(final TableRule tableRule, final String columnName) {
@@ -354,12 +436,8 @@ public class ShardingRule implements BaseRule {
      * @return column name of generated key
      */
     public Optional<String> findGenerateKeyColumnName(final String logicTableName) {
-        for (TableRule each : tableRules) {
-            if (each.getLogicTable().equalsIgnoreCase(logicTableName) && null != each.getGenerateKeyColumn()) {
-                return Optional.of(each.getGenerateKeyColumn());
-            }
-        }
-        return Optional.empty();
+        Optional<TableRule> tableRule = findTableRule(logicTableName);
+        return tableRule.isPresent() ? Optional.ofNullable(tableRule.get().getGenerateKeyColumn()) : Optional.empty();
     }
     
     /**
@@ -385,10 +463,8 @@ public class ShardingRule implements BaseRule {
      */
     public Collection<String> getLogicTableNames(final String actualTableName) {
         Collection<String> result = new LinkedList<>();
-        for (TableRule each : tableRules) {
-            if (each.isExisted(actualTableName)) {
-                result.add(each.getLogicTable());
-            }
+        for (TableRule each : findActualTableRules(actualTableName)) {
+            result.add(each.getLogicTable());
         }
         return result;
     }
@@ -486,4 +562,100 @@ public class ShardingRule implements BaseRule {
         }
         return result;
     }
+    
+    /**
+     * Get global secondary index configurations of logic table.
+     *
+     * @param logicTableName logic table name
+     * @return global secondary index configurations
+     */
+    public Collection<GlobalSecondaryIndexConfiguration> getGlobalSecondaryIndexConfigs(final String logicTableName) {
+        if (null == logicTableName) {
+            return Collections.emptyList();
+        }
+        Collection<GlobalSecondaryIndexConfiguration> result = globalSecondaryIndexConfigs.get(logicTableName.toLowerCase());
+        return null == result ? Collections.emptyList() : result;
+    }
+    
+    /**
+     * Find global secondary index configuration.
+     *
+     * @param indexColumnName index column name
+     * @param logicTableName logic table name
+     * @return global secondary index configuration
+     */
+    public Optional<GlobalSecondaryIndexConfiguration> findGlobalSecondaryIndexConfig(final String indexColumnName, final String logicTableName) {
+        for (GlobalSecondaryIndexConfiguration each : getGlobalSecondaryIndexConfigs(logicTableName)) {
+            if (each.getIndexColumn().equalsIgnoreCase(indexColumnName)) {
+                return Optional.of(each);
+            }
+        }
+        return Optional.empty();
+    }
+    
+    /**
+     * Judge whether at least one of logic tables has global secondary index.
+     *
+     * @param logicTableNames logic table names
+     * @return whether at least one of logic tables has global secondary index
+     */
+    public boolean hasGlobalSecondaryIndex(final Collection<String> logicTableNames) {
+        if (globalSecondaryIndexConfigs.isEmpty()) {
+            return false;
+        }
+        for (String each : logicTableNames) {
+            if (!getGlobalSecondaryIndexConfigs(each).isEmpty()) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    /**
+     * Get zone map configurations of logic table.
+     *
+     * @param logicTableName logic table name
+     * @return zone map configurations
+     */
+    public Collection<ZoneMapConfiguration> getZoneMapConfigs(final String logicTableName) {
+        if (null == logicTableName) {
+            return Collections.emptyList();
+        }
+        Collection<ZoneMapConfiguration> result = zoneMapConfigs.get(logicTableName.toLowerCase());
+        return null == result ? Collections.emptyList() : result;
+    }
+    
+    /**
+     * Find zone map configuration.
+     *
+     * @param columnName column name
+     * @param logicTableName logic table name
+     * @return zone map configuration
+     */
+    public Optional<ZoneMapConfiguration> findZoneMapConfig(final String columnName, final String logicTableName) {
+        for (ZoneMapConfiguration each : getZoneMapConfigs(logicTableName)) {
+            if (each.getColumn().equalsIgnoreCase(columnName)) {
+                return Optional.of(each);
+            }
+        }
+        return Optional.empty();
+    }
+    
+    /**
+     * Judge whether at least one of logic tables has zone map.
+     *
+     * @param logicTableNames logic table names
+     * @return whether at least one of logic tables has zone map
+     */
+    public boolean hasZoneMap(final Collection<String> logicTableNames) {
+        if (zoneMapConfigs.isEmpty()) {
+            return false;
+        }
+        for (String each : logicTableNames) {
+            if (!getZoneMapConfigs(each).isEmpty()) {
+                return true;
+            }
+        }
+        return false;
+    }
 }
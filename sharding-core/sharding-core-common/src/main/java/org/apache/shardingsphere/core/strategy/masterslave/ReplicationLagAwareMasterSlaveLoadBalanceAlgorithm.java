@@ -0,0 +1,176 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.strategy.masterslave;
+
+import com.google.common.base.Preconditions;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import lombok.Getter;
+import lombok.Setter;
+import org.apache.shardingsphere.spi.algorithm.masterslave.ReplicaStatusProbeServiceLoader;
+import org.apache.shardingsphere.spi.masterslave.DataSourceAwareMasterSlaveLoadBalanceAlgorithm;
+import org.apache.shardingsphere.spi.masterslave.ReplicaStatusProbe;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+
+/**
+ * Replication lag aware slave database load-balance algorithm.
+ *
+ * <p>
+ * Slaves are probed periodically by replica status probe of {@code probe.type}.
+ * Slaves whose replication lag exceeds {@code max.replication.lag.seconds} or which fail to be probed are excluded,
+ * and other slaves are selected randomly with weights in inverse proportion to their probe latencies.
+ * Master is selected if all slaves are excluded.
+ * Init waits for first probe at most {@code probe.timeout.seconds}, and each probe query is limited by it too.
+ * </p>
+ */
+public final class ReplicationLagAwareMasterSlaveLoadBalanceAlgorithm implements DataSourceAwareMasterSlaveLoadBalanceAlgorithm {
+    
+    private static final long DEFAULT_PROBE_INTERVAL_MILLISECONDS = 5000L;
+    
+    private static final long DEFAULT_MAX_REPLICATION_LAG_SECONDS = 10L;
+    
+    private static final int DEFAULT_PROBE_TIMEOUT_SECONDS = 3;
+    
+    @Getter
+    @Setter
+    private Properties properties = new Properties();
+    
+    private final Map<String, Long> probeLatencies = new ConcurrentHashMap<>();
+    
+    private final Collection<String> excludedDataSourceNames = Collections.newSetFromMap(new ConcurrentHashMap<>());
+    
+    private Map<String, DataSource> slaveDataSourceMap = Collections.emptyMap();
+    
+    private ReplicaStatusProbe replicaStatusProbe;
+    
+    private ScheduledExecutorService probeExecutor;
+    
+    @Override
+    public String getType() {
+        return "REPLICATION_LAG_AWARE";
+    }
+    
+    @Override
+    public synchronized void init(final Map<String, DataSource> slaveDataSourceMap) {
+        String probeType = properties.getProperty("probe.type");
+        Preconditions.checkArgument(null != probeType, "Replica status probe type is required.");
+        final long probeIntervalMilliseconds = getProbeIntervalMilliseconds();
+        final int probeTimeoutSeconds = getProbeTimeoutSeconds();
+        close();
+        this.slaveDataSourceMap = slaveDataSourceMap;
+        replicaStatusProbe = new ReplicaStatusProbeServiceLoader().newService(probeType, properties);
+        probeExecutor = Executors.newSingleThreadScheduledExecutor(new ThreadFactoryBuilder().setDaemon(true).setNameFormat("ShardingSphere-replica-probe-%d").build());
+        Future<?> firstProbeFuture = probeExecutor.submit(this::probe);
+        probeExecutor.scheduleWithFixedDelay(this::probe, probeIntervalMilliseconds, probeIntervalMilliseconds, TimeUnit.MILLISECONDS);
+        awaitFirstProbe(firstProbeFuture, probeTimeoutSeconds);
+    }
+    
+    private void awaitFirstProbe(final Future<?> firstProbeFuture, final int probeTimeoutSeconds) {
+        try {
+            firstProbeFuture.get(probeTimeoutSeconds, TimeUnit.SECONDS);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } catch (final ExecutionException | TimeoutException ignored) {
+        }
+    }
+    
+    private long getProbeIntervalMilliseconds() {
+        long result = Long.parseLong(properties.getProperty("probe.interval.milliseconds", String.valueOf(DEFAULT_PROBE_INTERVAL_MILLISECONDS)));
+        Preconditions.checkArgument(result > 0L, "Illegal probe interval milliseconds");
+        return result;
+    }
+    
+    private int getProbeTimeoutSeconds() {
+        int result = Integer.parseInt(properties.getProperty("probe.timeout.seconds", String.valueOf(DEFAULT_PROBE_TIMEOUT_SECONDS)));
+        Preconditions.checkArgument(result > 0, "Illegal probe timeout seconds");
+        return result;
+    }
+    
+    private long getMaxReplicationLagSeconds() {
+        return Long.parseLong(properties.getProperty("max.replication.lag.seconds", String.valueOf(DEFAULT_MAX_REPLICATION_LAG_SECONDS)));
+    }
+    
+    private void probe() {
+        for (Entry<String, DataSource> entry : slaveDataSourceMap.entrySet()) {
+            long startTimeMillis = System.currentTimeMillis();
+            if (isReplicationLagAcceptable(entry.getValue())) {
+                probeLatencies.put(entry.getKey(), System.currentTimeMillis() - startTimeMillis);
+                excludedDataSourceNames.remove(entry.getKey());
+            } else {
+                excludedDataSourceNames.add(entry.getKey());
+            }
+        }
+    }
+    
+    private boolean isReplicationLagAcceptable(final DataSource dataSource) {
+        try (Connection connection = dataSource.getConnection()) {
+            return replicaStatusProbe.getReplicationLagSeconds(connection, getProbeTimeoutSeconds()) <= getMaxReplicationLagSeconds();
+            // CHECKSTYLE:OFF
+        } catch (final SQLException | RuntimeException ex) {
+            // CHECKSTYLE:ON
+            return false;
+        }
+    }
+    
+    @Override
+    public String getDataSource(final String name, final String masterDataSourceName, final List<String> slaveDataSourceNames) {
+        List<String> availableDataSourceNames = slaveDataSourceNames.stream().filter(each -> !excludedDataSourceNames.contains(each)).collect(Collectors.toList());
+        if (availableDataSourceNames.isEmpty()) {
+            return masterDataSourceName;
+        }
+        double[] weights = new double[availableDataSourceNames.size()];
+        double totalWeight = 0d;
+        for (int i = 0; i < weights.length; i++) {
+            weights[i] = 1d / (probeLatencies.getOrDefault(availableDataSourceNames.get(i), 0L) + 1);
+            totalWeight += weights[i];
+        }
+        double random = ThreadLocalRandom.current().nextDouble(totalWeight);
+        for (int i = 0; i < weights.length; i++) {
+            random -= weights[i];
+            if (random < 0d) {
+                return availableDataSourceNames.get(i);
+            }
+        }
+        return availableDataSourceNames.get(weights.length - 1);
+    }
+    
+    @Override
+    public synchronized void close() {
+        if (null != probeExecutor) {
+            probeExecutor.shutdownNow();
+            probeExecutor = null;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.strategy.masterslave.probe;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.apache.shardingsphere.spi.masterslave.ReplicaStatusProbe;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Properties;
+
+/**
+ * Replica status probe for MySQL.
+ */
+@Getter
+@Setter
+public final class MySQLReplicaStatusProbe implements ReplicaStatusProbe {
+    
+    private Properties properties = new Properties();
+    
+    @Override
+    public String getType() {
+        return "MySQL";
+    }
+    
+    @Override
+    public long getReplicationLagSeconds(final Connection connection, final int queryTimeoutSeconds) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.setQueryTimeout(queryTimeoutSeconds);
+            try (ResultSet resultSet = statement.executeQuery("SHOW SLAVE STATUS")) {
+                if (!resultSet.next()) {
+                    return 0L;
+                }
+                long result = resultSet.getLong("Seconds_Behind_Master");
+                return resultSet.wasNull() ? Long.MAX_VALUE : result;
+            }
+        }
+    }
+}
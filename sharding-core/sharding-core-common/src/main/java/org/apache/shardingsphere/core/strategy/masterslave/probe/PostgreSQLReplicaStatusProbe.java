@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.strategy.masterslave.probe;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.apache.shardingsphere.spi.masterslave.ReplicaStatusProbe;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Properties;
+
+/**
+ * Replica status probe for PostgreSQL.
+ */
+@Getter
+@Setter
+public final class PostgreSQLReplicaStatusProbe implements ReplicaStatusProbe {
+    
+    private static final String REPLICATION_LAG_SQL = "SELECT CASE WHEN NOT pg_is_in_recovery() OR pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 "
+            + "ELSE EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) END";
+    
+    private Properties properties = new Properties();
+    
+    @Override
+    public String getType() {
+        return "PostgreSQL";
+    }
+    
+    @Override
+    public long getReplicationLagSeconds(final Connection connection, final int queryTimeoutSeconds) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.setQueryTimeout(queryTimeoutSeconds);
+            try (ResultSet resultSet = statement.executeQuery(REPLICATION_LAG_SQL)) {
+                resultSet.next();
+                long result = resultSet.getLong(1);
+                return resultSet.wasNull() ? Long.MAX_VALUE : result;
+            }
+        }
+    }
+}
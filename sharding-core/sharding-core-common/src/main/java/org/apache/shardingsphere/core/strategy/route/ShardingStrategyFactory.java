@@ -22,11 +22,13 @@ import lombok.NoArgsConstructor;
 import org.apache.shardingsphere.api.config.sharding.strategy.ComplexShardingStrategyConfiguration;
 import org.apache.shardingsphere.api.config.sharding.strategy.HintShardingStrategyConfiguration;
 import org.apache.shardingsphere.api.config.sharding.strategy.InlineShardingStrategyConfiguration;
+import org.apache.shardingsphere.api.config.sharding.strategy.IntervalShardingStrategyConfiguration;
 import org.apache.shardingsphere.api.config.sharding.strategy.ShardingStrategyConfiguration;
 import org.apache.shardingsphere.api.config.sharding.strategy.StandardShardingStrategyConfiguration;
 import org.apache.shardingsphere.core.strategy.route.complex.ComplexShardingStrategy;
 import org.apache.shardingsphere.core.strategy.route.hint.HintShardingStrategy;
 import org.apache.shardingsphere.core.strategy.route.inline.InlineShardingStrategy;
+import org.apache.shardingsphere.core.strategy.route.interval.IntervalShardingStrategy;
 import org.apache.shardingsphere.core.strategy.route.none.NoneShardingStrategy;
 import org.apache.shardingsphere.core.strategy.route.standard.StandardShardingStrategy;
 
@@ -49,6 +51,9 @@ public final class ShardingStrategyFactory {
         if (shardingStrategyConfig instanceof InlineShardingStrategyConfiguration) {
             return new InlineShardingStrategy((InlineShardingStrategyConfiguration) shardingStrategyConfig);
         }
+        if (shardingStrategyConfig instanceof IntervalShardingStrategyConfiguration) {
+            return new IntervalShardingStrategy((IntervalShardingStrategyConfiguration) shardingStrategyConfig);
+        }
         if (shardingStrategyConfig instanceof ComplexShardingStrategyConfiguration) {
             return new ComplexShardingStrategy((ComplexShardingStrategyConfiguration) shardingStrategyConfig);
         }
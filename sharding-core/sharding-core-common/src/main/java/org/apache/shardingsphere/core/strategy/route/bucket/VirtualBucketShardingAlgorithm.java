@@ -0,0 +1,174 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.strategy.route.bucket;
+
+import com.google.common.base.Preconditions;
+import com.google.common.base.Splitter;
+import org.apache.shardingsphere.api.sharding.standard.PreciseShardingAlgorithm;
+import org.apache.shardingsphere.api.sharding.standard.PreciseShardingValue;
+import org.apache.shardingsphere.api.sharding.standard.RangeShardingAlgorithm;
+import org.apache.shardingsphere.api.sharding.standard.RangeShardingValue;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Virtual bucket sharding algorithm.
+ * 
+ * <p>
+ * Sharding values are hashed into a fixed number of virtual buckets, and every bucket is assigned to one target.
+ * Changing the topology only reassigns whole buckets, so only rows of moved buckets need to be migrated.
+ * </p>
+ * 
+ * <p>
+ * Bucket assignments are configured per target with comma separated bucket indexes or inclusive ranges, e.g. {@code ds_0: 0..15, 32}.
+ * </p>
+ */
+public final class VirtualBucketShardingAlgorithm implements PreciseShardingAlgorithm<Comparable<?>>, RangeShardingAlgorithm<Comparable<?>> {
+    
+    private static final String RANGE_SEPARATOR = "..";
+    
+    private final Map<String, String> bucketAssignments;
+    
+    private final String[] bucketTargetNames;
+    
+    private final Collection<String> targetNames = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+    
+    public VirtualBucketShardingAlgorithm(final int bucketCount, final Map<String, String> bucketAssignments) {
+        Preconditions.checkArgument(bucketCount > 0, "Bucket count must be positive.");
+        Preconditions.checkArgument(null != bucketAssignments && !bucketAssignments.isEmpty(), "Bucket assignments are required.");
+        this.bucketAssignments = Collections.unmodifiableMap(new LinkedHashMap<>(bucketAssignments));
+        bucketTargetNames = createBucketTargetNames(bucketCount, bucketAssignments);
+        targetNames.addAll(bucketAssignments.keySet());
+    }
+    
+    private String[] createBucketTargetNames(final int bucketCount, final Map<String, String> bucketAssignments) {
+        String[] result = new String[bucketCount];
+        for (Entry<String, String> entry : bucketAssignments.entrySet()) {
+            for (String each : Splitter.on(',').trimResults().omitEmptyStrings().split(entry.getValue())) {
+                int separatorIndex = each.indexOf(RANGE_SEPARATOR);
+                int startBucket = Integer.parseInt((-1 == separatorIndex ? each : each.substring(0, separatorIndex)).trim());
+                int endBucket = -1 == separatorIndex ? startBucket : Integer.parseInt(each.substring(separatorIndex + RANGE_SEPARATOR.length()).trim());
+                Preconditions.checkArgument(0 <= startBucket && startBucket <= endBucket && endBucket < bucketCount, "Invalid buckets `%s` of `%s`.", each, entry.getKey());
+                for (int i = startBucket; i <= endBucket; i++) {
+                    Preconditions.checkArgument(null == result[i], "Bucket `%s` is assigned to both `%s` and `%s`.", i, result[i], entry.getKey());
+                    result[i] = entry.getKey();
+                }
+            }
+        }
+        for (int i = 0; i < bucketCount; i++) {
+            Preconditions.checkArgument(null != result[i], "Bucket `%s` is not assigned to any target.", i);
+        }
+        return result;
+    }
+    
+    @Override
+    public String doSharding(final Collection<String> availableTargetNames, final PreciseShardingValue<Comparable<?>> shardingValue) {
+        String result = bucketTargetNames[getBucket(shardingValue.getValue())];
+        if (availableTargetNames.contains(result)) {
+            return result;
+        }
+        for (String each : availableTargetNames) {
+            if (each.equalsIgnoreCase(result)) {
+                return each;
+            }
+        }
+        return null;
+    }
+    
+    @Override
+    public Collection<String> doSharding(final Collection<String> availableTargetNames, final RangeShardingValue<Comparable<?>> shardingValue) {
+        Collection<String> result = new LinkedList<>();
+        for (String each : availableTargetNames) {
+            if (targetNames.contains(each)) {
+                result.add(each);
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Get bucket of sharding value.
+     * 
+     * <p>
+     * Integral values are bucketed by their value, other values by the hash code of their string representation.
+     * </p>
+     * 
+     * @param shardingValue sharding value
+     * @return bucket index
+     */
+    public int getBucket(final Comparable<?> shardingValue) {
+        if (shardingValue instanceof Integer || shardingValue instanceof Long || shardingValue instanceof Short || shardingValue instanceof Byte) {
+            return (int) Math.floorMod(((Number) shardingValue).longValue(), (long) bucketTargetNames.length);
+        }
+        return Math.floorMod(String.valueOf(shardingValue).hashCode(), bucketTargetNames.length);
+    }
+    
+    /**
+     * Get bucket count.
+     * 
+     * @return bucket count
+     */
+    public int getBucketCount() {
+        return bucketTargetNames.length;
+    }
+    
+    /**
+     * Get bucket assignments as configured.
+     * 
+     * @return bucket assignments, key is target name and value is assigned buckets
+     */
+    public Map<String, String> getBucketAssignments() {
+        return bucketAssignments;
+    }
+    
+    /**
+     * Get target names of every bucket.
+     * 
+     * @return target names indexed by bucket
+     */
+    public List<String> getBucketTargetNames() {
+        return Collections.unmodifiableList(Arrays.asList(bucketTargetNames));
+    }
+    
+    /**
+     * Get buckets which are reassigned by another bucket mapping.
+     * 
+     * @param newAlgorithm algorithm holding the new bucket mapping
+     * @return moved buckets, key is bucket index and value is new target name
+     */
+    public Map<Integer, String> getMovedBuckets(final VirtualBucketShardingAlgorithm newAlgorithm) {
+        Preconditions.checkArgument(bucketTargetNames.length == newAlgorithm.bucketTargetNames.length, 
+                "Cannot compare bucket mappings with different bucket count `%s` and `%s`.", bucketTargetNames.length, newAlgorithm.bucketTargetNames.length);
+        Map<Integer, String> result = new TreeMap<>();
+        for (int i = 0; i < bucketTargetNames.length; i++) {
+            if (!bucketTargetNames[i].equalsIgnoreCase(newAlgorithm.bucketTargetNames[i])) {
+                result.put(i, newAlgorithm.bucketTargetNames[i]);
+            }
+        }
+        return result;
+    }
+}
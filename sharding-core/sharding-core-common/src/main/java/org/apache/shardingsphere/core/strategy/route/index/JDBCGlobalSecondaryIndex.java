@@ -0,0 +1,137 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.strategy.route.index;
+
+import com.google.common.base.Joiner;
+import com.google.common.base.Preconditions;
+import com.google.common.base.Strings;
+import com.google.common.collect.Iterables;
+import org.apache.shardingsphere.api.sharding.index.GlobalSecondaryIndex;
+import org.apache.shardingsphere.underlying.common.exception.ShardingSphereException;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Optional;
+
+/**
+ * Global secondary index stored in an index table.
+ * 
+ * <p>
+ * Index table has an index column and a nullable sharding column, null sharding value marks an invalidated index value.
+ * </p>
+ */
+public final class JDBCGlobalSecondaryIndex implements GlobalSecondaryIndex {
+    
+    private final DataSource dataSource;
+    
+    private final String selectSQLPrefix;
+    
+    private final String existsSQL;
+    
+    private final String existsNullSQL;
+    
+    private final String insertSQL;
+    
+    public JDBCGlobalSecondaryIndex(final DataSource dataSource, final String indexTableName, final String indexColumn, final String shardingColumn) {
+        Preconditions.checkNotNull(dataSource, "Data source is required.");
+        Preconditions.checkArgument(!Strings.isNullOrEmpty(indexTableName), "Index table name is required.");
+        Preconditions.checkArgument(!Strings.isNullOrEmpty(indexColumn), "Index column is required.");
+        Preconditions.checkArgument(!Strings.isNullOrEmpty(shardingColumn), "Sharding column is required.");
+        this.dataSource = dataSource;
+        selectSQLPrefix = String.format("SELECT %s, %s FROM %s WHERE %s IN ", indexColumn, shardingColumn, indexTableName, indexColumn);
+        existsSQL = String.format("SELECT 1 FROM %s WHERE %s = ? AND %s = ?", indexTableName, indexColumn, shardingColumn);
+        existsNullSQL = String.format("SELECT 1 FROM %s WHERE %s = ? AND %s IS NULL", indexTableName, indexColumn, shardingColumn);
+        insertSQL = String.format("INSERT INTO %s (%s, %s) VALUES (?, ?)", indexTableName, indexColumn, shardingColumn);
+    }
+    
+    @Override
+    public Optional<Collection<Comparable<?>>> findShardingValues(final Collection<Comparable<?>> indexValues) {
+        if (indexValues.isEmpty()) {
+            return Optional.empty();
+        }
+        Collection<String> foundIndexValues = new HashSet<>(indexValues.size(), 1);
+        Collection<Comparable<?>> result = new LinkedHashSet<>();
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement preparedStatement = connection.prepareStatement(selectSQLPrefix + "(" + Joiner.on(", ").join(Collections.nCopies(indexValues.size(), "?")) + ")")) {
+            setParameters(preparedStatement, indexValues.toArray());
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                while (resultSet.next()) {
+                    Object shardingValue = resultSet.getObject(2);
+                    if (!(shardingValue instanceof Comparable)) {
+                        return Optional.empty();
+                    }
+                    foundIndexValues.add(String.valueOf(resultSet.getObject(1)));
+                    result.add((Comparable<?>) shardingValue);
+                }
+            }
+        } catch (final SQLException ex) {
+            throw new ShardingSphereException("Can not find sharding values from global secondary index.", ex);
+        }
+        return isAllIndexed(indexValues, foundIndexValues) ? Optional.of(result) : Optional.empty();
+    }
+    
+    private boolean isAllIndexed(final Collection<Comparable<?>> indexValues, final Collection<String> foundIndexValues) {
+        return Iterables.all(indexValues, input -> foundIndexValues.contains(String.valueOf(input)));
+    }
+    
+    @Override
+    public void put(final Comparable<?> indexValue, final Comparable<?> shardingValue) {
+        insertIfAbsent(existsSQL, indexValue, shardingValue);
+    }
+    
+    @Override
+    public void invalidate(final Comparable<?> indexValue) {
+        insertIfAbsent(existsNullSQL, indexValue, null);
+    }
+    
+    private void insertIfAbsent(final String checkExistsSQL, final Comparable<?> indexValue, final Comparable<?> shardingValue) {
+        try (Connection connection = dataSource.getConnection()) {
+            if (exists(connection, checkExistsSQL, null == shardingValue ? new Object[]{indexValue} : new Object[]{indexValue, shardingValue})) {
+                return;
+            }
+            try (PreparedStatement preparedStatement = connection.prepareStatement(insertSQL)) {
+                setParameters(preparedStatement, new Object[]{indexValue, shardingValue});
+                preparedStatement.executeUpdate();
+            }
+        } catch (final SQLException ex) {
+            throw new ShardingSphereException("Can not maintain global secondary index.", ex);
+        }
+    }
+    
+    private boolean exists(final Connection connection, final String checkExistsSQL, final Object[] parameters) throws SQLException {
+        try (PreparedStatement preparedStatement = connection.prepareStatement(checkExistsSQL)) {
+            setParameters(preparedStatement, parameters);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                return resultSet.next();
+            }
+        }
+    }
+    
+    private void setParameters(final PreparedStatement preparedStatement, final Object[] parameters) throws SQLException {
+        for (int i = 0; i < parameters.length; i++) {
+            preparedStatement.setObject(i + 1, parameters[i]);
+        }
+    }
+}
@@ -18,11 +18,15 @@
 package org.apache.shardingsphere.core.strategy.route.inline;
 
 import com.google.common.base.Preconditions;
+import com.google.common.collect.BoundType;
+import com.google.common.collect.Range;
 import groovy.lang.Closure;
 import groovy.util.Expando;
 import org.apache.shardingsphere.api.config.sharding.strategy.InlineShardingStrategyConfiguration;
 import org.apache.shardingsphere.api.sharding.standard.PreciseShardingValue;
 import org.apache.shardingsphere.core.strategy.route.ShardingStrategy;
+import org.apache.shardingsphere.core.strategy.route.inline.expression.CompiledInlineExpression;
+import org.apache.shardingsphere.core.strategy.route.inline.expression.InlineExpressionCompiler;
 import org.apache.shardingsphere.core.strategy.route.value.ListRouteValue;
 import org.apache.shardingsphere.core.strategy.route.value.RangeRouteValue;
 import org.apache.shardingsphere.core.strategy.route.value.RouteValue;
@@ -34,6 +38,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Optional;
 import java.util.TreeSet;
 
 /**
@@ -45,22 +50,35 @@ public final class InlineShardingStrategy implements ShardingStrategy {
     
     private final Closure<?> closure;
     
+    private final CompiledInlineExpression compiledExpression;
+    
+    private final long shardingColumnModulus;
+    
     public InlineShardingStrategy(final InlineShardingStrategyConfiguration inlineShardingStrategyConfig) {
         Preconditions.checkNotNull(inlineShardingStrategyConfig.getShardingColumn(), "Sharding column cannot be null.");
         Preconditions.checkNotNull(inlineShardingStrategyConfig.getAlgorithmExpression(), "Sharding algorithm expression cannot be null.");
         shardingColumn = inlineShardingStrategyConfig.getShardingColumn();
         String algorithmExpression = InlineExpressionParser.handlePlaceHolder(inlineShardingStrategyConfig.getAlgorithmExpression().trim());
         closure = new InlineExpressionParser(algorithmExpression).evaluateClosure();
+        compiledExpression = InlineExpressionCompiler.compile(algorithmExpression, shardingColumn).orElse(null);
+        shardingColumnModulus = null == compiledExpression ? 0L : compiledExpression.findShardingColumnModulus().orElse(0L);
     }
     
     @Override
     public Collection<String> doSharding(final Collection<String> availableTargetNames, final Collection<RouteValue> shardingValues, final ShardingSphereProperties properties) {
         RouteValue shardingValue = shardingValues.iterator().next();
         if (properties.<Boolean>getValue(PropertiesConstant.ALLOW_RANGE_QUERY_WITH_INLINE_SHARDING) && shardingValue instanceof RangeRouteValue) {
-            return availableTargetNames;
+            Optional<List<Comparable<?>>> rangeValues = enumerateRangeValues(((RangeRouteValue<?>) shardingValue).getValueRange(),
+                    properties.<Integer>getValue(PropertiesConstant.INLINE_SHARDING_RANGE_ENUMERATION_MAX_SIZE));
+            return rangeValues.isPresent()
+                    ? doSharding(availableTargetNames, new ListRouteValue<>(shardingValue.getColumnName(), shardingValue.getTableName(), rangeValues.get())) : availableTargetNames;
         }
         Preconditions.checkState(shardingValue instanceof ListRouteValue, "Inline strategy cannot support this type sharding:" + shardingValue.toString());
-        Collection<String> shardingResult = doSharding((ListRouteValue) shardingValue);
+        return doSharding(availableTargetNames, (ListRouteValue) shardingValue);
+    }
+    
+    private Collection<String> doSharding(final Collection<String> availableTargetNames, final ListRouteValue<?> shardingValue) {
+        Collection<String> shardingResult = doSharding(shardingValue);
         Collection<String> result = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
         for (String each : shardingResult) {
             if (availableTargetNames.contains(each)) {
@@ -78,6 +96,32 @@ public final class InlineShardingStrategy implements ShardingStrategy {
         return result;
     }
     
+    private Optional<List<Comparable<?>>> enumerateRangeValues(final Range<?> valueRange, final int maxSize) {
+        if (!valueRange.hasLowerBound() || !valueRange.hasUpperBound() || !isIntegral(valueRange.lowerEndpoint()) || !isIntegral(valueRange.upperEndpoint())) {
+            return Optional.empty();
+        }
+        long lower = ((Number) valueRange.lowerEndpoint()).longValue() + (BoundType.OPEN == valueRange.lowerBoundType() ? 1 : 0);
+        long upper = ((Number) valueRange.upperEndpoint()).longValue() - (BoundType.OPEN == valueRange.upperBoundType() ? 1 : 0);
+        long size = upper - lower + 1;
+        if (lower > upper || size <= 0 || size > maxSize || 0 < shardingColumnModulus && size >= shardingColumnModulus) {
+            return Optional.empty();
+        }
+        boolean isInteger = valueRange.lowerEndpoint() instanceof Integer && valueRange.upperEndpoint() instanceof Integer;
+        List<Comparable<?>> result = new ArrayList<>((int) size);
+        for (long i = 0; i < size; i++) {
+            if (isInteger) {
+                result.add((int) (lower + i));
+            } else {
+                result.add(lower + i);
+            }
+        }
+        return Optional.of(result);
+    }
+    
+    private boolean isIntegral(final Object value) {
+        return value instanceof Integer || value instanceof Long;
+    }
+    
     @SuppressWarnings("unchecked")
     private List<PreciseShardingValue> transferToPreciseShardingValues(final ListRouteValue<?> shardingValue) {
         List<PreciseShardingValue> result = new ArrayList<>(shardingValue.getValues().size());
@@ -88,6 +132,16 @@ public final class InlineShardingStrategy implements ShardingStrategy {
     }
     
     private String execute(final PreciseShardingValue shardingValue) {
+        if (null != compiledExpression) {
+            Optional<String> result = compiledExpression.evaluate(shardingValue.getValue());
+            if (result.isPresent()) {
+                return result.get();
+            }
+        }
+        return executeClosure(shardingValue);
+    }
+    
+    private String executeClosure(final PreciseShardingValue shardingValue) {
         Closure<?> result = closure.rehydrate(new Expando(), null, null);
         result.setResolveStrategy(Closure.DELEGATE_ONLY);
         result.setProperty(shardingColumn, shardingValue.getValue());
@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.strategy.route.inline.expression;
+
+import lombok.RequiredArgsConstructor;
+
+import java.util.Optional;
+
+/**
+ * Arithmetic node.
+ * 
+ * <p>Follow groovy semantics: integer arithmetic if both operands are integers, long arithmetic otherwise, and string concatenation for plus with string.</p>
+ */
+@RequiredArgsConstructor
+final class ArithmeticNode implements ExpressionNode {
+    
+    private final char operator;
+    
+    private final ExpressionNode left;
+    
+    private final ExpressionNode right;
+    
+    @Override
+    public Object evaluate(final Object shardingValue) {
+        Object leftValue = left.evaluate(shardingValue);
+        Object rightValue = right.evaluate(shardingValue);
+        if (null == leftValue || null == rightValue) {
+            return null;
+        }
+        if (leftValue instanceof String || rightValue instanceof String) {
+            return '+' == operator ? leftValue.toString() + rightValue.toString() : null;
+        }
+        if (leftValue instanceof Integer && rightValue instanceof Integer) {
+            return evaluate((Integer) leftValue, (Integer) rightValue);
+        }
+        return evaluate(((Number) leftValue).longValue(), ((Number) rightValue).longValue());
+    }
+    
+    private int evaluate(final int leftValue, final int rightValue) {
+        switch (operator) {
+            case '+':
+                return leftValue + rightValue;
+            case '-':
+                return leftValue - rightValue;
+            case '*':
+                return leftValue * rightValue;
+            default:
+                return leftValue % rightValue;
+        }
+    }
+    
+    private long evaluate(final long leftValue, final long rightValue) {
+        switch (operator) {
+            case '+':
+                return leftValue + rightValue;
+            case '-':
+                return leftValue - rightValue;
+            case '*':
+                return leftValue * rightValue;
+            default:
+                return leftValue % rightValue;
+        }
+    }
+    
+    /**
+     * Find modulus if node is modulo of sharding column.
+     *
+     * @return modulus
+     */
+    Optional<Long> findShardingColumnModulus() {
+        if ('%' != operator || !(left instanceof ShardingColumnNode) || !(right instanceof LiteralNode)) {
+            return Optional.empty();
+        }
+        Object modulus = ((LiteralNode) right).getValue();
+        return modulus instanceof Number && ((Number) modulus).longValue() > 0 ? Optional.of(((Number) modulus).longValue()) : Optional.empty();
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.strategy.route.inline.expression;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Compiled inline expression.
+ */
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+public final class CompiledInlineExpression {
+    
+    private final List<ExpressionNode> segments;
+    
+    /**
+     * Evaluate inline expression with sharding value.
+     *
+     * @param shardingValue sharding value
+     * @return evaluated result, absent if sharding value type need to be evaluated by groovy
+     */
+    public Optional<String> evaluate(final Comparable<?> shardingValue) {
+        StringBuilder result = new StringBuilder();
+        for (ExpressionNode each : segments) {
+            Object value = each.evaluate(shardingValue);
+            if (null == value) {
+                return Optional.empty();
+            }
+            result.append(value);
+        }
+        return Optional.of(result.toString());
+    }
+    
+    /**
+     * Find modulus if inline expression is modulo of sharding column, such as {@code t_order_${order_id % 16}}.
+     *
+     * @return modulus
+     */
+    public Optional<Long> findShardingColumnModulus() {
+        Optional<Long> result = Optional.empty();
+        for (ExpressionNode each : segments) {
+            if (each instanceof LiteralNode) {
+                continue;
+            }
+            if (result.isPresent() || !(each instanceof ArithmeticNode)) {
+                return Optional.empty();
+            }
+            result = ((ArithmeticNode) each).findShardingColumnModulus();
+            if (!result.isPresent()) {
+                return Optional.empty();
+            }
+        }
+        return result;
+    }
+}
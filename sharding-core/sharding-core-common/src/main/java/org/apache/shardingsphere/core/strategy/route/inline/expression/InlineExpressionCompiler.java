@@ -0,0 +1,248 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.strategy.route.inline.expression;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Inline expression compiler.
+ * 
+ * <p>
+ * Compile common inline expression grammar into expression tree, which includes sharding column, integer and string literals,
+ * {@code + - * %}, negation, parentheses, {@code hashCode()}, {@code abs()} and {@code Math.abs()}.
+ * Other expressions are unsupported and should be evaluated by groovy.
+ * </p>
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class InlineExpressionCompiler {
+    
+    private final String inlineExpression;
+    
+    private final String shardingColumn;
+    
+    private int position;
+    
+    /**
+     * Compile inline expression.
+     *
+     * @param inlineExpression inline expression with {@code $}
+     * @param shardingColumn sharding column
+     * @return compiled inline expression, absent if inline expression is unsupported
+     */
+    public static Optional<CompiledInlineExpression> compile(final String inlineExpression, final String shardingColumn) {
+        try {
+            return Optional.of(new InlineExpressionCompiler(inlineExpression, shardingColumn).compile());
+        } catch (final UnsupportedExpressionException ex) {
+            return Optional.empty();
+        }
+    }
+    
+    private CompiledInlineExpression compile() {
+        List<ExpressionNode> result = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+        while (position < inlineExpression.length()) {
+            char each = inlineExpression.charAt(position);
+            if ('$' == each && position + 1 < inlineExpression.length() && '{' == inlineExpression.charAt(position + 1)) {
+                if (literal.length() > 0) {
+                    result.add(new LiteralNode(literal.toString()));
+                    literal.setLength(0);
+                }
+                position += 2;
+                result.add(parseExpression());
+                skipWhitespace();
+                expect('}');
+                continue;
+            }
+            if ('$' == each || '\\' == each || '"' == each) {
+                throw new UnsupportedExpressionException();
+            }
+            literal.append(each);
+            position++;
+        }
+        if (literal.length() > 0) {
+            result.add(new LiteralNode(literal.toString()));
+        }
+        return new CompiledInlineExpression(result);
+    }
+    
+    private ExpressionNode parseExpression() {
+        ExpressionNode result = parseTerm();
+        while (true) {
+            skipWhitespace();
+            char operator = currentChar();
+            if ('+' != operator && '-' != operator) {
+                return result;
+            }
+            position++;
+            result = new ArithmeticNode(operator, result, parseTerm());
+        }
+    }
+    
+    private ExpressionNode parseTerm() {
+        ExpressionNode result = parseUnary();
+        while (true) {
+            skipWhitespace();
+            char operator = currentChar();
+            if ('*' != operator && '%' != operator) {
+                return result;
+            }
+            position++;
+            result = new ArithmeticNode(operator, result, parseUnary());
+        }
+    }
+    
+    private ExpressionNode parseUnary() {
+        skipWhitespace();
+        if ('-' == currentChar()) {
+            position++;
+            return new NegateNode(parseUnary());
+        }
+        return parsePostfix();
+    }
+    
+    private ExpressionNode parsePostfix() {
+        ExpressionNode result = parsePrimary();
+        while (true) {
+            skipWhitespace();
+            if ('.' != currentChar()) {
+                return result;
+            }
+            position++;
+            final String method = parseIdentifier();
+            skipWhitespace();
+            expect('(');
+            skipWhitespace();
+            expect(')');
+            if ("hashCode".equals(method)) {
+                result = new HashCodeNode(result);
+            } else if ("abs".equals(method)) {
+                result = new AbsNode(result);
+            } else {
+                throw new UnsupportedExpressionException();
+            }
+        }
+    }
+    
+    private ExpressionNode parsePrimary() {
+        skipWhitespace();
+        char current = currentChar();
+        if ('(' == current) {
+            position++;
+            ExpressionNode result = parseExpression();
+            skipWhitespace();
+            expect(')');
+            return result;
+        }
+        if ('\'' == current) {
+            return parseStringLiteral();
+        }
+        if (Character.isDigit(current)) {
+            return parseNumberLiteral();
+        }
+        String identifier = parseIdentifier();
+        if (identifier.equals(shardingColumn)) {
+            return new ShardingColumnNode();
+        }
+        if ("Math".equals(identifier)) {
+            skipWhitespace();
+            expect('.');
+            if (!"abs".equals(parseIdentifier())) {
+                throw new UnsupportedExpressionException();
+            }
+            skipWhitespace();
+            expect('(');
+            ExpressionNode result = parseExpression();
+            skipWhitespace();
+            expect(')');
+            return new AbsNode(result);
+        }
+        throw new UnsupportedExpressionException();
+    }
+    
+    private ExpressionNode parseStringLiteral() {
+        int end = inlineExpression.indexOf('\'', position + 1);
+        if (-1 == end) {
+            throw new UnsupportedExpressionException();
+        }
+        String result = inlineExpression.substring(position + 1, end);
+        if (result.contains("\\")) {
+            throw new UnsupportedExpressionException();
+        }
+        position = end + 1;
+        return new LiteralNode(result);
+    }
+    
+    private ExpressionNode parseNumberLiteral() {
+        int start = position;
+        while (Character.isDigit(currentChar())) {
+            position++;
+        }
+        if (Character.isLetter(currentChar()) || '.' == currentChar() || '_' == currentChar()) {
+            throw new UnsupportedExpressionException();
+        }
+        String literal = inlineExpression.substring(start, position);
+        if (literal.length() > 1 && '0' == literal.charAt(0)) {
+            throw new UnsupportedExpressionException();
+        }
+        try {
+            long result = Long.parseLong(literal);
+            return new LiteralNode(result <= Integer.MAX_VALUE ? (Object) (int) result : (Object) result);
+        } catch (final NumberFormatException ex) {
+            throw new UnsupportedExpressionException();
+        }
+    }
+    
+    private String parseIdentifier() {
+        skipWhitespace();
+        int start = position;
+        while (Character.isLetterOrDigit(currentChar()) || '_' == currentChar()) {
+            position++;
+        }
+        if (start == position || Character.isDigit(inlineExpression.charAt(start))) {
+            throw new UnsupportedExpressionException();
+        }
+        return inlineExpression.substring(start, position);
+    }
+    
+    private void skipWhitespace() {
+        while (Character.isWhitespace(currentChar())) {
+            position++;
+        }
+    }
+    
+    private char currentChar() {
+        return position < inlineExpression.length() ? inlineExpression.charAt(position) : (char) 0;
+    }
+    
+    private void expect(final char expected) {
+        if (expected != currentChar()) {
+            throw new UnsupportedExpressionException();
+        }
+        position++;
+    }
+    
+    private static final class UnsupportedExpressionException extends RuntimeException {
+        
+        private static final long serialVersionUID = -2384187498127393853L;
+    }
+}
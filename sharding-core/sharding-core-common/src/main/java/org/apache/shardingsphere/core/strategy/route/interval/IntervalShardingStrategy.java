@@ -0,0 +1,217 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.strategy.route.interval;
+
+import com.google.common.base.Preconditions;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.BoundType;
+import com.google.common.collect.Range;
+import org.apache.shardingsphere.api.config.sharding.strategy.IntervalShardingStrategyConfiguration;
+import org.apache.shardingsphere.core.strategy.route.ShardingStrategy;
+import org.apache.shardingsphere.core.strategy.route.value.ListRouteValue;
+import org.apache.shardingsphere.core.strategy.route.value.RangeRouteValue;
+import org.apache.shardingsphere.core.strategy.route.value.RouteValue;
+import org.apache.shardingsphere.underlying.common.constant.properties.ShardingSphereProperties;
+import org.apache.shardingsphere.underlying.common.exception.ShardingSphereException;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.temporal.ChronoField;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Date;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Interval sharding strategy.
+ * 
+ * <p>
+ * Targets are located arithmetically from the distance between the sharding value and the lower bound,
+ * so routing costs are proportional to the number of matched intervals instead of the number of targets.
+ * Targets are looked up by suffix, the suffix index of available target names is built once and cached by identity of the collection,
+ * which is owned by table rule and never changed.
+ * Sharding suffix pattern must be fixed width, such as {@code yyyyMM} rather than {@code yyyyM}, so that suffix of every target has same length.
+ * </p>
+ */
+public final class IntervalShardingStrategy implements ShardingStrategy {
+    
+    private final String shardingColumn;
+    
+    private final DateTimeFormatter datetimeFormatter;
+    
+    private final LocalDateTime datetimeLower;
+    
+    private final LocalDateTime datetimeUpper;
+    
+    private final DateTimeFormatter suffixFormatter;
+    
+    private final int suffixLength;
+    
+    private final ChronoUnit intervalUnit;
+    
+    private final int intervalAmount;
+    
+    private final long maxIntervalIndex;
+    
+    private final Cache<Collection<String>, Map<String, String>> targetNamesCache = CacheBuilder.newBuilder().weakKeys().build();
+    
+    public IntervalShardingStrategy(final IntervalShardingStrategyConfiguration intervalShardingStrategyConfig) {
+        Preconditions.checkNotNull(intervalShardingStrategyConfig.getShardingColumn(), "Sharding column cannot be null.");
+        shardingColumn = intervalShardingStrategyConfig.getShardingColumn();
+        datetimeFormatter = new DateTimeFormatterBuilder().appendPattern(intervalShardingStrategyConfig.getDatetimePattern())
+                .parseDefaulting(ChronoField.MONTH_OF_YEAR, 1).parseDefaulting(ChronoField.DAY_OF_MONTH, 1)
+                .parseDefaulting(ChronoField.HOUR_OF_DAY, 0).parseDefaulting(ChronoField.MINUTE_OF_HOUR, 0).parseDefaulting(ChronoField.SECOND_OF_MINUTE, 0).toFormatter();
+        datetimeLower = LocalDateTime.parse(intervalShardingStrategyConfig.getDatetimeLower(), datetimeFormatter);
+        datetimeUpper = LocalDateTime.parse(intervalShardingStrategyConfig.getDatetimeUpper(), datetimeFormatter);
+        Preconditions.checkArgument(!datetimeLower.isAfter(datetimeUpper), "Datetime lower `%s` cannot be after datetime upper `%s`.", datetimeLower, datetimeUpper);
+        suffixFormatter = DateTimeFormatter.ofPattern(intervalShardingStrategyConfig.getShardingSuffixPattern());
+        suffixLength = getFixedSuffixLength(intervalShardingStrategyConfig.getShardingSuffixPattern());
+        intervalUnit = ChronoUnit.valueOf(intervalShardingStrategyConfig.getIntervalUnit().toUpperCase());
+        intervalAmount = intervalShardingStrategyConfig.getIntervalAmount();
+        Preconditions.checkArgument(intervalAmount > 0, "Interval amount must be positive.");
+        maxIntervalIndex = getIntervalIndex(datetimeUpper);
+    }
+    
+    private int getFixedSuffixLength(final String shardingSuffixPattern) {
+        LocalDateTime firstDatetimeOfYear = datetimeLower.toLocalDate().withDayOfYear(1).atStartOfDay();
+        LocalDateTime lastDatetimeOfYear = firstDatetimeOfYear.plusYears(1).minusNanos(1);
+        int result = datetimeLower.format(suffixFormatter).length();
+        for (LocalDateTime each : Arrays.asList(datetimeUpper, firstDatetimeOfYear, lastDatetimeOfYear)) {
+            Preconditions.checkArgument(result == each.format(suffixFormatter).length(), "Sharding suffix pattern `%s` must be fixed width for interval sharding strategy.", shardingSuffixPattern);
+        }
+        return result;
+    }
+    
+    @Override
+    public Collection<String> doSharding(final Collection<String> availableTargetNames, final Collection<RouteValue> shardingValues, final ShardingSphereProperties properties) {
+        RouteValue shardingValue = shardingValues.iterator().next();
+        Collection<String> result = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        Map<String, String> targetNamesBySuffix = getTargetNamesBySuffix(availableTargetNames);
+        if (shardingValue instanceof ListRouteValue) {
+            for (Comparable<?> each : ((ListRouteValue<?>) shardingValue).getValues()) {
+                LocalDateTime datetime = toLocalDateTime(each);
+                if (!datetime.isBefore(datetimeLower) && !datetime.isAfter(datetimeUpper)) {
+                    addTargetName(targetNamesBySuffix, getIntervalIndex(datetime), result);
+                }
+            }
+            return result;
+        }
+        Range<?> range = ((RangeRouteValue<?>) shardingValue).getValueRange();
+        long startIndex = getStartIntervalIndex(range);
+        long endIndex = getEndIntervalIndex(range);
+        for (long i = startIndex; i <= endIndex; i++) {
+            addTargetName(targetNamesBySuffix, i, result);
+        }
+        return result;
+    }
+    
+    private Map<String, String> getTargetNamesBySuffix(final Collection<String> availableTargetNames) {
+        Map<String, String> result = targetNamesCache.getIfPresent(availableTargetNames);
+        if (null == result) {
+            result = createTargetNamesBySuffix(availableTargetNames);
+            targetNamesCache.put(availableTargetNames, result);
+        }
+        return result;
+    }
+    
+    private long getStartIntervalIndex(final Range<?> range) {
+        if (!range.hasLowerBound()) {
+            return 0;
+        }
+        LocalDateTime lower = toLocalDateTime(range.lowerEndpoint());
+        if (lower.isAfter(datetimeUpper)) {
+            return maxIntervalIndex + 1;
+        }
+        return lower.isBefore(datetimeLower) ? 0 : getIntervalIndex(lower);
+    }
+    
+    private long getEndIntervalIndex(final Range<?> range) {
+        if (!range.hasUpperBound()) {
+            return maxIntervalIndex;
+        }
+        LocalDateTime upper = toLocalDateTime(range.upperEndpoint());
+        if (upper.isBefore(datetimeLower) || BoundType.OPEN == range.upperBoundType() && upper.isEqual(datetimeLower)) {
+            return -1;
+        }
+        if (upper.isAfter(datetimeUpper)) {
+            return maxIntervalIndex;
+        }
+        long result = getIntervalIndex(upper);
+        return BoundType.OPEN == range.upperBoundType() && upper.isEqual(getIntervalStart(result)) ? result - 1 : result;
+    }
+    
+    private long getIntervalIndex(final LocalDateTime datetime) {
+        return intervalUnit.between(datetimeLower, datetime) / intervalAmount;
+    }
+    
+    private LocalDateTime getIntervalStart(final long intervalIndex) {
+        return datetimeLower.plus(intervalIndex * intervalAmount, intervalUnit);
+    }
+    
+    private void addTargetName(final Map<String, String> targetNamesBySuffix, final long intervalIndex, final Collection<String> result) {
+        String targetName = targetNamesBySuffix.get(getIntervalStart(intervalIndex).format(suffixFormatter));
+        if (null != targetName) {
+            result.add(targetName);
+        }
+    }
+    
+    private Map<String, String> createTargetNamesBySuffix(final Collection<String> availableTargetNames) {
+        Map<String, String> result = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        for (String each : availableTargetNames) {
+            if (each.length() < suffixLength) {
+                continue;
+            }
+            String suffix = each.substring(each.length() - suffixLength);
+            String existedTargetName = result.put(suffix, each);
+            if (null != existedTargetName && !existedTargetName.equals(each)) {
+                throw new ShardingSphereException("Targets `%s` and `%s` have same suffix `%s` for interval sharding strategy.", existedTargetName, each, suffix);
+            }
+        }
+        return result;
+    }
+    
+    private LocalDateTime toLocalDateTime(final Object shardingValue) {
+        if (shardingValue instanceof LocalDateTime) {
+            return (LocalDateTime) shardingValue;
+        }
+        if (shardingValue instanceof LocalDate) {
+            return ((LocalDate) shardingValue).atStartOfDay();
+        }
+        if (shardingValue instanceof Date) {
+            return new Timestamp(((Date) shardingValue).getTime()).toLocalDateTime();
+        }
+        if (shardingValue instanceof String) {
+            return LocalDateTime.parse((String) shardingValue, datetimeFormatter);
+        }
+        throw new ShardingSphereException("Cannot support sharding value type `%s` for interval sharding strategy.", shardingValue.getClass().getName());
+    }
+    
+    @Override
+    public Collection<String> getShardingColumns() {
+        Collection<String> result = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        result.add(shardingColumn);
+        return result;
+    }
+}
@@ -0,0 +1,168 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.strategy.route.zonemap;
+
+import com.google.common.base.Preconditions;
+import com.google.common.base.Strings;
+import com.google.common.collect.Range;
+import org.apache.shardingsphere.api.sharding.zonemap.ZoneMap;
+import org.apache.shardingsphere.core.rule.DataNode;
+import org.apache.shardingsphere.underlying.common.exception.ShardingSphereException;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Zone map loaded from minimum and maximum values of data nodes.
+ * 
+ * <p>
+ * Value ranges are unknown until {@link #refresh()} is called, and should be refreshed periodically to shrink ranges expanded by writes.
+ * Values expanded since the previous refresh began are kept by the next refresh, 
+ * so transactions are expected to be shorter than refresh period.
+ * </p>
+ */
+public final class JDBCZoneMap implements ZoneMap {
+    
+    private final Map<String, DataSource> dataSourceMap;
+    
+    private final Collection<DataNode> dataNodes;
+    
+    private final String column;
+    
+    private final Map<String, Range<Comparable<?>>> valueRanges = new HashMap<>();
+    
+    private Map<String, Range<Comparable<?>>> previousExpansions = new HashMap<>();
+    
+    private Map<String, Range<Comparable<?>>> currentExpansions = new HashMap<>();
+    
+    private Set<String> previousInvalidations = new HashSet<>();
+    
+    private Set<String> currentInvalidations = new HashSet<>();
+    
+    public JDBCZoneMap(final Map<String, DataSource> dataSourceMap, final Collection<DataNode> dataNodes, final String column) {
+        Preconditions.checkArgument(null != dataSourceMap && !dataSourceMap.isEmpty(), "Data sources are required.");
+        Preconditions.checkArgument(null != dataNodes && !dataNodes.isEmpty(), "Data nodes are required.");
+        Preconditions.checkArgument(!Strings.isNullOrEmpty(column), "Column is required.");
+        this.dataSourceMap = dataSourceMap;
+        this.dataNodes = new ArrayList<>(dataNodes);
+        this.column = column;
+    }
+    
+    /**
+     * Refresh value ranges from data nodes.
+     */
+    public void refresh() {
+        synchronized (this) {
+            previousExpansions = currentExpansions;
+            currentExpansions = new HashMap<>();
+            previousInvalidations = currentInvalidations;
+            currentInvalidations = new HashSet<>();
+        }
+        Map<String, Range<Comparable<?>>> loadedValueRanges = new HashMap<>(dataNodes.size(), 1);
+        for (DataNode each : dataNodes) {
+            loadValueRange(each).ifPresent(optional -> loadedValueRanges.put(getKey(each.getDataSourceName(), each.getTableName()), optional));
+        }
+        synchronized (this) {
+            for (DataNode each : dataNodes) {
+                String key = getKey(each.getDataSourceName(), each.getTableName());
+                Optional<Range<Comparable<?>>> valueRange = mergeExpansions(key, loadedValueRanges.get(key));
+                if (valueRange.isPresent()) {
+                    valueRanges.put(key, valueRange.get());
+                } else {
+                    valueRanges.remove(key);
+                }
+            }
+        }
+    }
+    
+    @SuppressWarnings("unchecked")
+    private Optional<Range<Comparable<?>>> loadValueRange(final DataNode dataNode) {
+        DataSource dataSource = dataSourceMap.get(dataNode.getDataSourceName());
+        if (null == dataSource) {
+            return Optional.empty();
+        }
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(String.format("SELECT MIN(%s), MAX(%s) FROM %s", column, column, dataNode.getTableName()))) {
+            if (!resultSet.next()) {
+                return Optional.empty();
+            }
+            Object minValue = resultSet.getObject(1);
+            Object maxValue = resultSet.getObject(2);
+            return minValue instanceof Comparable && maxValue instanceof Comparable ? Optional.of(Range.closed((Comparable) minValue, (Comparable) maxValue)) : Optional.empty();
+        } catch (final SQLException ex) {
+            throw new ShardingSphereException(String.format("Can not load zone map of `%s`.", dataNode), ex);
+        }
+    }
+    
+    private Optional<Range<Comparable<?>>> mergeExpansions(final String key, final Range<Comparable<?>> loadedValueRange) {
+        if (null == loadedValueRange || previousInvalidations.contains(key) || currentInvalidations.contains(key)) {
+            return Optional.empty();
+        }
+        try {
+            Range<Comparable<?>> result = span(loadedValueRange, previousExpansions.get(key));
+            return Optional.of(span(result, currentExpansions.get(key)));
+        } catch (final ClassCastException ex) {
+            return Optional.empty();
+        }
+    }
+    
+    @Override
+    public synchronized Optional<Range<Comparable<?>>> findValueRange(final String dataSourceName, final String actualTableName) {
+        return Optional.ofNullable(valueRanges.get(getKey(dataSourceName, actualTableName)));
+    }
+    
+    @Override
+    public synchronized void expand(final String dataSourceName, final String actualTableName, final Comparable<?> value) {
+        String key = getKey(dataSourceName, actualTableName);
+        Range<Comparable<?>> valueRange = Range.singleton(value);
+        try {
+            currentExpansions.put(key, span(valueRange, currentExpansions.get(key)));
+            if (valueRanges.containsKey(key)) {
+                valueRanges.put(key, span(valueRange, valueRanges.get(key)));
+            }
+        } catch (final ClassCastException ex) {
+            invalidate(dataSourceName, actualTableName);
+        }
+    }
+    
+    @Override
+    public synchronized void invalidate(final String dataSourceName, final String actualTableName) {
+        String key = getKey(dataSourceName, actualTableName);
+        valueRanges.remove(key);
+        currentInvalidations.add(key);
+    }
+    
+    private Range<Comparable<?>> span(final Range<Comparable<?>> valueRange, final Range<Comparable<?>> otherValueRange) {
+        return null == otherValueRange ? valueRange : valueRange.span(otherValueRange);
+    }
+    
+    private String getKey(final String dataSourceName, final String actualTableName) {
+        return (dataSourceName + "." + actualTableName).toLowerCase();
+    }
+}
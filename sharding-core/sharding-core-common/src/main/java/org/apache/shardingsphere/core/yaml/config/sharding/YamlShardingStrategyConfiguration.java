@@ -23,8 +23,10 @@ import org.apache.shardingsphere.underlying.common.yaml.config.YamlConfiguration
 import org.apache.shardingsphere.core.yaml.config.sharding.strategy.YamlComplexShardingStrategyConfiguration;
 import org.apache.shardingsphere.core.yaml.config.sharding.strategy.YamlHintShardingStrategyConfiguration;
 import org.apache.shardingsphere.core.yaml.config.sharding.strategy.YamlInlineShardingStrategyConfiguration;
+import org.apache.shardingsphere.core.yaml.config.sharding.strategy.YamlIntervalShardingStrategyConfiguration;
 import org.apache.shardingsphere.core.yaml.config.sharding.strategy.YamlNoneShardingStrategyConfiguration;
 import org.apache.shardingsphere.core.yaml.config.sharding.strategy.YamlStandardShardingStrategyConfiguration;
+import org.apache.shardingsphere.core.yaml.config.sharding.strategy.YamlVirtualBucketShardingStrategyConfiguration;
 
 /**
  * Sharding strategy configuration for YAML.
@@ -41,5 +43,9 @@ public final class YamlShardingStrategyConfiguration implements YamlConfiguratio
     
     private YamlInlineShardingStrategyConfiguration inline;
     
+    private YamlIntervalShardingStrategyConfiguration interval;
+    
+    private YamlVirtualBucketShardingStrategyConfiguration bucket;
+    
     private YamlNoneShardingStrategyConfiguration none;
 }
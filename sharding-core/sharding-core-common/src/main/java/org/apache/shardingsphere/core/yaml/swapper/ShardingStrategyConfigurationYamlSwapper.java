@@ -21,6 +21,7 @@ import com.google.common.base.Preconditions;
 import org.apache.shardingsphere.api.config.sharding.strategy.ComplexShardingStrategyConfiguration;
 import org.apache.shardingsphere.api.config.sharding.strategy.HintShardingStrategyConfiguration;
 import org.apache.shardingsphere.api.config.sharding.strategy.InlineShardingStrategyConfiguration;
+import org.apache.shardingsphere.api.config.sharding.strategy.IntervalShardingStrategyConfiguration;
 import org.apache.shardingsphere.api.config.sharding.strategy.NoneShardingStrategyConfiguration;
 import org.apache.shardingsphere.api.config.sharding.strategy.ShardingStrategyConfiguration;
 import org.apache.shardingsphere.api.config.sharding.strategy.StandardShardingStrategyConfiguration;
@@ -29,14 +30,19 @@ import org.apache.shardingsphere.api.sharding.hint.HintShardingAlgorithm;
 import org.apache.shardingsphere.api.sharding.standard.PreciseShardingAlgorithm;
 import org.apache.shardingsphere.api.sharding.standard.RangeShardingAlgorithm;
 import org.apache.shardingsphere.core.strategy.route.ShardingAlgorithmFactory;
+import org.apache.shardingsphere.core.strategy.route.bucket.VirtualBucketShardingAlgorithm;
 import org.apache.shardingsphere.core.yaml.config.sharding.YamlShardingStrategyConfiguration;
 import org.apache.shardingsphere.core.yaml.config.sharding.strategy.YamlComplexShardingStrategyConfiguration;
 import org.apache.shardingsphere.core.yaml.config.sharding.strategy.YamlHintShardingStrategyConfiguration;
 import org.apache.shardingsphere.core.yaml.config.sharding.strategy.YamlInlineShardingStrategyConfiguration;
+import org.apache.shardingsphere.core.yaml.config.sharding.strategy.YamlIntervalShardingStrategyConfiguration;
 import org.apache.shardingsphere.core.yaml.config.sharding.strategy.YamlNoneShardingStrategyConfiguration;
 import org.apache.shardingsphere.core.yaml.config.sharding.strategy.YamlStandardShardingStrategyConfiguration;
+import org.apache.shardingsphere.core.yaml.config.sharding.strategy.YamlVirtualBucketShardingStrategyConfiguration;
 import org.apache.shardingsphere.underlying.common.yaml.swapper.YamlSwapper;
 
+import java.util.LinkedHashMap;
+
 /**
  * Sharding strategy configuration YAML swapper.
  */
@@ -45,7 +51,9 @@ public final class ShardingStrategyConfigurationYamlSwapper implements YamlSwapp
     @Override
     public YamlShardingStrategyConfiguration swap(final ShardingStrategyConfiguration data) {
         YamlShardingStrategyConfiguration result = new YamlShardingStrategyConfiguration();
-        if (data instanceof StandardShardingStrategyConfiguration) {
+        if (data instanceof StandardShardingStrategyConfiguration && ((StandardShardingStrategyConfiguration) data).getPreciseShardingAlgorithm() instanceof VirtualBucketShardingAlgorithm) {
+            result.setBucket(createYamlVirtualBucketShardingStrategyConfiguration((StandardShardingStrategyConfiguration) data));
+        } else if (data instanceof StandardShardingStrategyConfiguration) {
             result.setStandard(createYamlStandardShardingStrategyConfiguration((StandardShardingStrategyConfiguration) data));
         }
         if (data instanceof ComplexShardingStrategyConfiguration) {
@@ -57,6 +65,9 @@ public final class ShardingStrategyConfigurationYamlSwapper implements YamlSwapp
         if (data instanceof InlineShardingStrategyConfiguration) {
             result.setInline(createYamlInlineShardingStrategyConfiguration((InlineShardingStrategyConfiguration) data));
         }
+        if (data instanceof IntervalShardingStrategyConfiguration) {
+            result.setInterval(createYamlIntervalShardingStrategyConfiguration((IntervalShardingStrategyConfiguration) data));
+        }
         if (data instanceof NoneShardingStrategyConfiguration) {
             result.setNone(new YamlNoneShardingStrategyConfiguration());
         }
@@ -87,6 +98,14 @@ public final class ShardingStrategyConfigurationYamlSwapper implements YamlSwapp
             shardingStrategyConfigCount++;
             result = new InlineShardingStrategyConfiguration(yamlConfiguration.getInline().getShardingColumn(), yamlConfiguration.getInline().getAlgorithmExpression());
         }
+        if (null != yamlConfiguration.getInterval()) {
+            shardingStrategyConfigCount++;
+            result = createIntervalShardingStrategyConfiguration(yamlConfiguration.getInterval());
+        }
+        if (null != yamlConfiguration.getBucket()) {
+            shardingStrategyConfigCount++;
+            result = createVirtualBucketShardingStrategyConfiguration(yamlConfiguration.getBucket());
+        }
         if (null != yamlConfiguration.getHint()) {
             shardingStrategyConfigCount++;
             result = new HintShardingStrategyConfiguration(ShardingAlgorithmFactory.newInstance(yamlConfiguration.getHint().getAlgorithmClassName(), HintShardingAlgorithm.class));
@@ -128,4 +147,35 @@ public final class ShardingStrategyConfigurationYamlSwapper implements YamlSwapp
         result.setAlgorithmExpression(data.getAlgorithmExpression());
         return result;
     }
+    
+    private YamlIntervalShardingStrategyConfiguration createYamlIntervalShardingStrategyConfiguration(final IntervalShardingStrategyConfiguration data) {
+        YamlIntervalShardingStrategyConfiguration result = new YamlIntervalShardingStrategyConfiguration();
+        result.setShardingColumn(data.getShardingColumn());
+        result.setDatetimePattern(data.getDatetimePattern());
+        result.setDatetimeLower(data.getDatetimeLower());
+        result.setDatetimeUpper(data.getDatetimeUpper());
+        result.setShardingSuffixPattern(data.getShardingSuffixPattern());
+        result.setIntervalUnit(data.getIntervalUnit());
+        result.setIntervalAmount(data.getIntervalAmount());
+        return result;
+    }
+    
+    private IntervalShardingStrategyConfiguration createIntervalShardingStrategyConfiguration(final YamlIntervalShardingStrategyConfiguration yamlConfiguration) {
+        return new IntervalShardingStrategyConfiguration(yamlConfiguration.getShardingColumn(), yamlConfiguration.getDatetimePattern(), yamlConfiguration.getDatetimeLower(),
+                yamlConfiguration.getDatetimeUpper(), yamlConfiguration.getShardingSuffixPattern(), yamlConfiguration.getIntervalUnit(), yamlConfiguration.getIntervalAmount());
+    }
+    
+    private YamlVirtualBucketShardingStrategyConfiguration createYamlVirtualBucketShardingStrategyConfiguration(final StandardShardingStrategyConfiguration data) {
+        VirtualBucketShardingAlgorithm algorithm = (VirtualBucketShardingAlgorithm) data.getPreciseShardingAlgorithm();
+        YamlVirtualBucketShardingStrategyConfiguration result = new YamlVirtualBucketShardingStrategyConfiguration();
+        result.setShardingColumn(data.getShardingColumn());
+        result.setBucketCount(algorithm.getBucketCount());
+        result.setBuckets(new LinkedHashMap<>(algorithm.getBucketAssignments()));
+        return result;
+    }
+    
+    private StandardShardingStrategyConfiguration createVirtualBucketShardingStrategyConfiguration(final YamlVirtualBucketShardingStrategyConfiguration yamlConfiguration) {
+        VirtualBucketShardingAlgorithm algorithm = new VirtualBucketShardingAlgorithm(yamlConfiguration.getBucketCount(), yamlConfiguration.getBuckets());
+        return new StandardShardingStrategyConfiguration(yamlConfiguration.getShardingColumn(), algorithm, algorithm);
+    }
 }
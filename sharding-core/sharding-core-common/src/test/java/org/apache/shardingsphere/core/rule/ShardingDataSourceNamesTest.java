@@ -21,6 +21,8 @@ import com.google.common.collect.Sets;
 import org.apache.shardingsphere.api.config.masterslave.LoadBalanceStrategyConfiguration;
 import org.apache.shardingsphere.api.config.masterslave.MasterSlaveRuleConfiguration;
 import org.apache.shardingsphere.api.config.sharding.ShardingRuleConfiguration;
+import org.apache.shardingsphere.core.datasource.InFlightQueryCounter;
+import org.apache.shardingsphere.core.datasource.TransactionDataSourceHolder;
 import org.junit.Test;
 
 import java.util.Arrays;
@@ -94,4 +96,32 @@ public final class ShardingDataSourceNamesTest {
     public void assertConstructShardingDataSourceNamesWithNullShardingRuleConfiguration() {
         new ShardingDataSourceNames(null, Arrays.asList("master_ds", "slave_ds")).getRawMasterDataSourceName("default_ds");
     }
+    
+    @Test
+    public void assertGetPreferredDataSourceNameWithTransactionDataSource() {
+        ShardingRuleConfiguration shardingRuleConfig = new ShardingRuleConfiguration();
+        shardingRuleConfig.getMasterSlaveRuleConfigs().add(
+                new MasterSlaveRuleConfiguration("ms_ds", "master_ds", Collections.singletonList("slave_ds"), new LoadBalanceStrategyConfiguration("ROUND_ROBIN")));
+        TransactionDataSourceHolder.set(Collections.singletonList("master_ds"));
+        try {
+            String actual = new ShardingDataSourceNames(shardingRuleConfig, Arrays.asList("ds_0", "master_ds", "slave_ds")).getPreferredDataSourceName();
+            assertThat(actual, is("ms_ds"));
+        } finally {
+            TransactionDataSourceHolder.clear();
+        }
+    }
+    
+    @Test
+    public void assertGetPreferredDataSourceNameWithLeastInFlightQueries() {
+        ShardingRuleConfiguration shardingRuleConfig = new ShardingRuleConfiguration();
+        InFlightQueryCounter.increase("ds_0");
+        InFlightQueryCounter.increase("ds_2");
+        try {
+            String actual = new ShardingDataSourceNames(shardingRuleConfig, Arrays.asList("ds_0", "ds_1", "ds_2")).getPreferredDataSourceName();
+            assertThat(actual, is("ds_1"));
+        } finally {
+            InFlightQueryCounter.decrease("ds_0");
+            InFlightQueryCounter.decrease("ds_2");
+        }
+    }
 }
@@ -96,6 +96,21 @@ public final class ShardingRuleTest {
         assertTrue(createMaximumShardingRule().findTableRuleByActualTable("table_0").isPresent());
     }
     
+    @Test
+    public void assertFindTableRuleByActualTableIgnoreCase() {
+        assertThat(createMaximumShardingRule().findTableRuleByActualTable("SUB_Table_1").get().getLogicTable(), is("sub_logic_table"));
+    }
+    
+    @Test
+    public void assertGetLogicTableNames() {
+        assertThat(createMaximumShardingRule().getLogicTableNames("Table_0"), is(Collections.singletonList("logic_table")));
+    }
+    
+    @Test
+    public void assertGetLogicTableNamesWithoutTableRule() {
+        assertTrue(createMaximumShardingRule().getLogicTableNames("table_3").isEmpty());
+    }
+    
     @Test
     public void assertNotFindTableRuleByActualTable() {
         assertFalse(createMaximumShardingRule().findTableRuleByActualTable("table_3").isPresent());
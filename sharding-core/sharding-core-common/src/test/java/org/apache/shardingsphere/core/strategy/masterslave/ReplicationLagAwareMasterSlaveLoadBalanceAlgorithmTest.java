@@ -0,0 +1,141 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.strategy.masterslave;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class ReplicationLagAwareMasterSlaveLoadBalanceAlgorithmTest {
+    
+    private final ReplicationLagAwareMasterSlaveLoadBalanceAlgorithm algorithm = new ReplicationLagAwareMasterSlaveLoadBalanceAlgorithm();
+    
+    private final List<String> slaveDataSourceNames = Arrays.asList("test_ds_slave_0", "test_ds_slave_1");
+    
+    private final Map<String, DataSource> slaveDataSourceMap = new LinkedHashMap<>(2, 1);
+    
+    @Before
+    public void setUp() {
+        Properties props = new Properties();
+        props.setProperty("probe.type", "H2");
+        props.setProperty("max.replication.lag.seconds", "10");
+        algorithm.setProperties(props);
+        for (String each : slaveDataSourceNames) {
+            JdbcDataSource dataSource = new JdbcDataSource();
+            dataSource.setURL(String.format("jdbc:h2:mem:%s;DB_CLOSE_DELAY=-1;MODE=MySQL", each));
+            slaveDataSourceMap.put(each, dataSource);
+        }
+    }
+    
+    @After
+    public void tearDown() {
+        algorithm.close();
+    }
+    
+    private void setReplicationLagSeconds(final String dataSourceName, final long lagSeconds) throws SQLException {
+        try (Connection connection = slaveDataSourceMap.get(dataSourceName).getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS t_replica_status");
+            statement.execute("CREATE TABLE t_replica_status (lag_seconds BIGINT)");
+            statement.execute("INSERT INTO t_replica_status VALUES (" + lagSeconds + ")");
+        }
+    }
+    
+    @Test
+    public void assertGetDataSourceWithoutInit() {
+        assertTrue(slaveDataSourceNames.contains(algorithm.getDataSource("ds", "test_ds_master", slaveDataSourceNames)));
+    }
+    
+    @Test
+    public void assertGetDataSourceExcludeLaggingSlave() throws SQLException {
+        setReplicationLagSeconds("test_ds_slave_0", 60L);
+        setReplicationLagSeconds("test_ds_slave_1", 1L);
+        algorithm.init(slaveDataSourceMap);
+        for (int i = 0; i < 10; i++) {
+            assertThat(algorithm.getDataSource("ds", "test_ds_master", slaveDataSourceNames), is("test_ds_slave_1"));
+        }
+    }
+    
+    @Test
+    public void assertGetDataSourceExcludeUnavailableSlave() throws SQLException {
+        setReplicationLagSeconds("test_ds_slave_0", 0L);
+        try (Connection connection = slaveDataSourceMap.get("test_ds_slave_1").getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS t_replica_status");
+        }
+        algorithm.init(slaveDataSourceMap);
+        for (int i = 0; i < 10; i++) {
+            assertThat(algorithm.getDataSource("ds", "test_ds_master", slaveDataSourceNames), is("test_ds_slave_0"));
+        }
+    }
+    
+    @Test
+    public void assertGetDataSourceToMasterIfAllSlavesLagging() throws SQLException {
+        setReplicationLagSeconds("test_ds_slave_0", 60L);
+        setReplicationLagSeconds("test_ds_slave_1", 60L);
+        algorithm.init(slaveDataSourceMap);
+        assertThat(algorithm.getDataSource("ds", "test_ds_master", slaveDataSourceNames), is("test_ds_master"));
+    }
+    
+    @Test
+    public void assertGetDataSourceExcludeSlaveFailedWithRuntimeException() throws SQLException {
+        setReplicationLagSeconds("test_ds_slave_0", 0L);
+        DataSource brokenDataSource = mock(DataSource.class);
+        when(brokenDataSource.getConnection()).thenThrow(new IllegalStateException("broken"));
+        slaveDataSourceMap.put("test_ds_slave_1", brokenDataSource);
+        algorithm.init(slaveDataSourceMap);
+        for (int i = 0; i < 10; i++) {
+            assertThat(algorithm.getDataSource("ds", "test_ds_master", slaveDataSourceNames), is("test_ds_slave_0"));
+        }
+    }
+    
+    @Test
+    public void assertProbeWithQueryTimeout() throws SQLException {
+        algorithm.getProperties().setProperty("probe.timeout.seconds", "5");
+        Statement statement = mock(Statement.class);
+        ResultSet resultSet = mock(ResultSet.class);
+        when(statement.executeQuery(anyString())).thenReturn(resultSet);
+        Connection connection = mock(Connection.class);
+        when(connection.createStatement()).thenReturn(statement);
+        DataSource dataSource = mock(DataSource.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        algorithm.init(Collections.singletonMap("test_ds_slave_0", dataSource));
+        verify(statement).setQueryTimeout(5);
+    }
+}
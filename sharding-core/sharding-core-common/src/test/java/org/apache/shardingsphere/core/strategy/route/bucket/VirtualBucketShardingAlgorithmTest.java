@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.strategy.route.bucket;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Range;
+import org.apache.shardingsphere.api.config.sharding.strategy.StandardShardingStrategyConfiguration;
+import org.apache.shardingsphere.core.strategy.route.standard.StandardShardingStrategy;
+import org.apache.shardingsphere.core.strategy.route.value.ListRouteValue;
+import org.apache.shardingsphere.core.strategy.route.value.RangeRouteValue;
+import org.apache.shardingsphere.core.strategy.route.value.RouteValue;
+import org.apache.shardingsphere.underlying.common.constant.properties.ShardingSphereProperties;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class VirtualBucketShardingAlgorithmTest {
+    
+    private final VirtualBucketShardingAlgorithm algorithm = new VirtualBucketShardingAlgorithm(8, ImmutableMap.of("ds_0", "0..3", "ds_1", "4, 5..7"));
+    
+    @Test
+    public void assertGetBucket() {
+        assertThat(algorithm.getBucket(13), is(5));
+        assertThat(algorithm.getBucket(13L), is(5));
+        assertThat(algorithm.getBucket(-1), is(7));
+        assertThat(algorithm.getBucket("foo"), is(Math.floorMod("foo".hashCode(), 8)));
+    }
+    
+    @Test
+    public void assertGetBucketTargetNames() {
+        assertThat(algorithm.getBucketCount(), is(8));
+        assertThat(algorithm.getBucketTargetNames(), is(Arrays.asList("ds_0", "ds_0", "ds_0", "ds_0", "ds_1", "ds_1", "ds_1", "ds_1")));
+    }
+    
+    @Test
+    public void assertDoShardingWithStandardShardingStrategy() {
+        StandardShardingStrategy shardingStrategy = new StandardShardingStrategy(new StandardShardingStrategyConfiguration("order_id", algorithm, algorithm));
+        Collection<String> availableTargetNames = Arrays.asList("ds_0", "ds_1");
+        ShardingSphereProperties properties = new ShardingSphereProperties(new Properties());
+        assertThat(shardingStrategy.doSharding(availableTargetNames, 
+                Collections.<RouteValue>singletonList(new ListRouteValue<>("order_id", "t_order", Collections.singletonList(10))), properties), is((Collection<String>) Collections.singleton("ds_0")));
+        assertThat(shardingStrategy.doSharding(availableTargetNames, 
+                Collections.<RouteValue>singletonList(new ListRouteValue<>("order_id", "t_order", Arrays.asList(10, 12))), properties).size(), is(2));
+        assertThat(shardingStrategy.doSharding(availableTargetNames, 
+                Collections.<RouteValue>singletonList(new RangeRouteValue<>("order_id", "t_order", Range.closed(1, 2))), properties).size(), is(2));
+    }
+    
+    @Test
+    public void assertDoShardingWithUnavailableTarget() {
+        StandardShardingStrategy shardingStrategy = new StandardShardingStrategy(new StandardShardingStrategyConfiguration("order_id", algorithm, algorithm));
+        Collection<String> actual = shardingStrategy.doSharding(Collections.singletonList("DS_0"), 
+                Collections.<RouteValue>singletonList(new ListRouteValue<>("order_id", "t_order", Arrays.asList(1, 5))), new ShardingSphereProperties(new Properties()));
+        assertThat(actual, is((Collection<String>) Collections.singleton("DS_0")));
+    }
+    
+    @Test
+    public void assertGetMovedBuckets() {
+        VirtualBucketShardingAlgorithm newAlgorithm = new VirtualBucketShardingAlgorithm(8, ImmutableMap.of("ds_0", "0..2", "ds_1", "4..6", "ds_2", "3, 7"));
+        Map<Integer, String> actual = algorithm.getMovedBuckets(newAlgorithm);
+        assertThat(actual, is((Map<Integer, String>) ImmutableMap.of(3, "ds_2", 7, "ds_2")));
+        assertTrue(algorithm.getMovedBuckets(algorithm).isEmpty());
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void assertGetMovedBucketsWithDifferentBucketCount() {
+        algorithm.getMovedBuckets(new VirtualBucketShardingAlgorithm(4, Collections.singletonMap("ds_0", "0..3")));
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void assertNewInstanceWithUnassignedBucket() {
+        new VirtualBucketShardingAlgorithm(8, Collections.singletonMap("ds_0", "0..6"));
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void assertNewInstanceWithDuplicatedBucket() {
+        new VirtualBucketShardingAlgorithm(4, ImmutableMap.of("ds_0", "0..2", "ds_1", "2..3"));
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void assertNewInstanceWithOutOfRangeBucket() {
+        new VirtualBucketShardingAlgorithm(4, Collections.singletonMap("ds_0", "0..4"));
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.strategy.route.index;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+
+public final class JDBCGlobalSecondaryIndexTest {
+    
+    private JDBCGlobalSecondaryIndex globalSecondaryIndex;
+    
+    @Before
+    public void setUp() throws SQLException {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:global_secondary_index;DB_CLOSE_DELAY=-1;MODE=MySQL");
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS t_order_index");
+            statement.execute("CREATE TABLE t_order_index (order_no VARCHAR(32) NOT NULL, user_id INT)");
+        }
+        globalSecondaryIndex = new JDBCGlobalSecondaryIndex(dataSource, "t_order_index", "order_no", "user_id");
+    }
+    
+    @Test
+    public void assertFindShardingValues() {
+        globalSecondaryIndex.put("no_1", 1);
+        globalSecondaryIndex.put("no_1", 1);
+        globalSecondaryIndex.put("no_2", 2);
+        globalSecondaryIndex.put("no_2", 3);
+        Optional<Collection<Comparable<?>>> actual = globalSecondaryIndex.findShardingValues(Arrays.asList("no_1", "no_2"));
+        assertThat(actual, is(Optional.of((Collection<Comparable<?>>) new LinkedHashSet<Comparable<?>>(Arrays.asList(1, 2, 3)))));
+    }
+    
+    @Test
+    public void assertFindShardingValuesWithUnindexedValue() {
+        globalSecondaryIndex.put("no_1", 1);
+        assertFalse(globalSecondaryIndex.findShardingValues(Arrays.asList("no_1", "no_2")).isPresent());
+        assertFalse(globalSecondaryIndex.findShardingValues(Collections.emptyList()).isPresent());
+    }
+    
+    @Test
+    public void assertFindShardingValuesWithInvalidatedValue() {
+        globalSecondaryIndex.put("no_1", 1);
+        globalSecondaryIndex.invalidate("no_1");
+        globalSecondaryIndex.invalidate("no_1");
+        assertFalse(globalSecondaryIndex.findShardingValues(Collections.singletonList("no_1")).isPresent());
+    }
+}
@@ -18,13 +18,18 @@
 package org.apache.shardingsphere.core.strategy.route.inline;
 
 import com.google.common.collect.Lists;
+import com.google.common.collect.Range;
+import com.google.common.collect.Sets;
 import org.apache.shardingsphere.api.config.sharding.strategy.InlineShardingStrategyConfiguration;
 import org.apache.shardingsphere.core.strategy.route.value.ListRouteValue;
+import org.apache.shardingsphere.core.strategy.route.value.RangeRouteValue;
 import org.apache.shardingsphere.core.strategy.route.value.RouteValue;
+import org.apache.shardingsphere.underlying.common.constant.properties.PropertiesConstant;
 import org.apache.shardingsphere.underlying.common.constant.properties.ShardingSphereProperties;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.Properties;
@@ -58,6 +63,46 @@ public final class InlineShardingStrategyTest {
         assertThat(actual.size(), is(2));
     }
     
+    @Test
+    public void assertDoShardingWithNarrowRange() {
+        List<String> availableTargetNames = Lists.newArrayList("t_order_0", "t_order_1", "t_order_2", "t_order_3");
+        List<RouteValue> shardingValues = Lists.newArrayList(new RangeRouteValue<>("order_id", "t_order", Range.openClosed(1, 3)));
+        Collection<String> actual = shardingStrategy.doSharding(availableTargetNames, shardingValues, createAllowRangeQueryProperties(256));
+        assertThat(actual, is((Collection<String>) Sets.newTreeSet(Arrays.asList("t_order_2", "t_order_3"))));
+    }
+    
+    @Test
+    public void assertDoShardingWithRangeNotNarrowerThanModulus() {
+        List<String> availableTargetNames = Lists.newArrayList("t_order_0", "t_order_1", "t_order_2", "t_order_3");
+        List<RouteValue> shardingValues = Lists.newArrayList(new RangeRouteValue<>("order_id", "t_order", Range.closed(10L, 13L)));
+        Collection<String> actual = shardingStrategy.doSharding(availableTargetNames, shardingValues, createAllowRangeQueryProperties(256));
+        assertThat(actual, is((Collection<String>) availableTargetNames));
+    }
+    
+    @Test
+    public void assertDoShardingWithRangeWiderThanMaxSize() {
+        InlineShardingStrategy shardingStrategy = new InlineShardingStrategy(new InlineShardingStrategyConfiguration("order_id", "t_order_${order_id.hashCode() % 4}"));
+        List<String> availableTargetNames = Lists.newArrayList("t_order_0", "t_order_1", "t_order_2", "t_order_3");
+        List<RouteValue> shardingValues = Lists.newArrayList(new RangeRouteValue<>("order_id", "t_order", Range.closed(10, 11)));
+        assertThat(shardingStrategy.doSharding(availableTargetNames, shardingValues, createAllowRangeQueryProperties(2)).size(), is(2));
+        assertThat(shardingStrategy.doSharding(availableTargetNames, shardingValues, createAllowRangeQueryProperties(1)), is((Collection<String>) availableTargetNames));
+    }
+    
+    @Test
+    public void assertDoShardingWithUnboundedRange() {
+        List<String> availableTargetNames = Lists.newArrayList("t_order_0", "t_order_1", "t_order_2", "t_order_3");
+        List<RouteValue> shardingValues = Lists.newArrayList(new RangeRouteValue<>("order_id", "t_order", Range.atLeast(1)));
+        Collection<String> actual = shardingStrategy.doSharding(availableTargetNames, shardingValues, createAllowRangeQueryProperties(256));
+        assertThat(actual, is((Collection<String>) availableTargetNames));
+    }
+    
+    private ShardingSphereProperties createAllowRangeQueryProperties(final int maxEnumerationSize) {
+        Properties result = new Properties();
+        result.setProperty(PropertiesConstant.ALLOW_RANGE_QUERY_WITH_INLINE_SHARDING.getKey(), Boolean.TRUE.toString());
+        result.setProperty(PropertiesConstant.INLINE_SHARDING_RANGE_ENUMERATION_MAX_SIZE.getKey(), String.valueOf(maxEnumerationSize));
+        return new ShardingSphereProperties(result);
+    }
+    
     @Test
     public void assertGetShardingColumns() {
         assertThat(shardingStrategy.getShardingColumns().size(), is(1));
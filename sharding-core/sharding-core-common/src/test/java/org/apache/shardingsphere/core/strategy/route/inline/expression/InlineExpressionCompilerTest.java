@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.strategy.route.inline.expression;
+
+import groovy.lang.Closure;
+import groovy.lang.MissingMethodException;
+import groovy.util.Expando;
+import org.apache.shardingsphere.underlying.common.config.inline.InlineExpressionParser;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collection;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class InlineExpressionCompilerTest {
+    
+    private static final Collection<Comparable<?>> SHARDING_VALUES = Arrays.asList(0, 1, 7, -7, 15, 16, Integer.MAX_VALUE, Integer.MIN_VALUE, 10L, -10L, Long.MAX_VALUE, "", "abc", "order_10");
+    
+    @Test
+    public void assertCompileSameAsGroovy() {
+        assertSameAsGroovy("t_order_${order_id % 16}");
+        assertSameAsGroovy("t_order_${order_id}");
+        assertSameAsGroovy("ds_${(order_id + 1) % 2}_t_${order_id * 3 - 2}");
+        assertSameAsGroovy("t_order_${order_id.hashCode() % 4}");
+        assertSameAsGroovy("t_order_${Math.abs(order_id.hashCode()) % 4}");
+        assertSameAsGroovy("t_order_${order_id.hashCode().abs() % 4}");
+        assertSameAsGroovy("t_order_${-order_id % 3}");
+        assertSameAsGroovy("t_order_${order_id % 3000000000}");
+        assertSameAsGroovy("t_order_${'x' + order_id}");
+        assertSameAsGroovy("t_order_${ order_id + '_' + 1 }");
+    }
+    
+    @Test
+    public void assertCompileUnsupportedExpression() {
+        assertFalse(InlineExpressionCompiler.compile("t_order_${order_id / 2}", "order_id").isPresent());
+        assertFalse(InlineExpressionCompiler.compile("t_order_${user_id % 2}", "order_id").isPresent());
+        assertFalse(InlineExpressionCompiler.compile("t_order_${order_id.toString()}", "order_id").isPresent());
+        assertFalse(InlineExpressionCompiler.compile("t_order_${order_id % 010}", "order_id").isPresent());
+        assertFalse(InlineExpressionCompiler.compile("t_order_$order_id", "order_id").isPresent());
+        assertFalse(InlineExpressionCompiler.compile("t_order_${order_id % 2", "order_id").isPresent());
+    }
+    
+    @Test
+    public void assertEvaluateUnsupportedShardingValue() {
+        CompiledInlineExpression actual = InlineExpressionCompiler.compile("t_order_${order_id % 2}", "order_id").get();
+        assertTrue(actual.evaluate(10).isPresent());
+        assertFalse(actual.evaluate(new BigDecimal("10")).isPresent());
+        assertFalse(actual.evaluate("10").isPresent());
+    }
+    
+    private void assertSameAsGroovy(final String inlineExpression) {
+        CompiledInlineExpression compiledExpression = InlineExpressionCompiler.compile(inlineExpression, "order_id").get();
+        Closure<?> closure = new InlineExpressionParser(inlineExpression).evaluateClosure();
+        for (Comparable<?> each : SHARDING_VALUES) {
+            Object expected;
+            try {
+                expected = evaluateClosure(closure, each);
+            } catch (final MissingMethodException ex) {
+                expected = null;
+            }
+            if (null == expected) {
+                assertFalse(inlineExpression + " with " + each, compiledExpression.evaluate(each).isPresent());
+            } else {
+                assertThat(inlineExpression + " with " + each, compiledExpression.evaluate(each).get(), is(expected));
+            }
+        }
+    }
+    
+    private String evaluateClosure(final Closure<?> closure, final Comparable<?> shardingValue) {
+        Closure<?> result = closure.rehydrate(new Expando(), null, null);
+        result.setResolveStrategy(Closure.DELEGATE_ONLY);
+        result.setProperty("order_id", shardingValue);
+        return result.call().toString();
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.strategy.route.interval;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Range;
+import org.apache.shardingsphere.api.config.sharding.strategy.IntervalShardingStrategyConfiguration;
+import org.apache.shardingsphere.core.strategy.route.value.ListRouteValue;
+import org.apache.shardingsphere.core.strategy.route.value.RangeRouteValue;
+import org.apache.shardingsphere.core.strategy.route.value.RouteValue;
+import org.apache.shardingsphere.underlying.common.constant.properties.ShardingSphereProperties;
+import org.apache.shardingsphere.underlying.common.exception.ShardingSphereException;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class IntervalShardingStrategyTest {
+    
+    private final List<String> availableTargetNames = new ArrayList<>(12);
+    
+    private IntervalShardingStrategy shardingStrategy;
+    
+    @Before
+    public void setUp() {
+        for (int i = 1; i <= 12; i++) {
+            availableTargetNames.add(String.format("t_order_2020%02d", i));
+        }
+        shardingStrategy = new IntervalShardingStrategy(
+                new IntervalShardingStrategyConfiguration("create_time", "yyyy-MM-dd HH:mm:ss", "2020-01-01 00:00:00", "2020-12-31 23:59:59", "yyyyMM", "months", 1));
+    }
+    
+    @Test
+    public void assertDoShardingWithPreciseValues() {
+        Collection<String> actual = doSharding(new ListRouteValue<>("create_time", "t_order", 
+                Arrays.<Comparable<?>>asList("2020-03-15 10:00:00", Timestamp.valueOf("2020-07-01 00:00:00"), LocalDateTime.of(2020, 12, 31, 23, 0), LocalDate.of(2020, 1, 31))));
+        assertThat(actual, is((Collection<String>) Arrays.asList("t_order_202001", "t_order_202003", "t_order_202007", "t_order_202012")));
+    }
+    
+    @Test
+    public void assertDoShardingWithPreciseValueOutOfBounds() {
+        Collection<String> actual = doSharding(new ListRouteValue<>("create_time", "t_order", Arrays.asList("2019-12-31 23:59:59", "2021-01-01 00:00:00")));
+        assertTrue(actual.isEmpty());
+    }
+    
+    @Test
+    public void assertDoShardingWithClosedRange() {
+        Collection<String> actual = doSharding(new RangeRouteValue<>("create_time", "t_order", Range.closed("2020-02-15 00:00:00", "2020-04-01 00:00:00")));
+        assertThat(actual, is((Collection<String>) Arrays.asList("t_order_202002", "t_order_202003", "t_order_202004")));
+    }
+    
+    @Test
+    public void assertDoShardingWithOpenUpperBoundOnIntervalStart() {
+        Collection<String> actual = doSharding(new RangeRouteValue<>("create_time", "t_order", Range.closedOpen("2020-02-15 00:00:00", "2020-04-01 00:00:00")));
+        assertThat(actual, is((Collection<String>) Arrays.asList("t_order_202002", "t_order_202003")));
+    }
+    
+    @Test
+    public void assertDoShardingWithUnboundedRange() {
+        assertThat(doSharding(new RangeRouteValue<>("create_time", "t_order", Range.atLeast("2020-11-20 00:00:00"))), is((Collection<String>) Arrays.asList("t_order_202011", "t_order_202012")));
+        assertThat(doSharding(new RangeRouteValue<>("create_time", "t_order", Range.lessThan("2020-01-20 00:00:00"))), is((Collection<String>) Collections.singletonList("t_order_202001")));
+        assertThat(doSharding(new RangeRouteValue<>("create_time", "t_order", Range.<String>all())).size(), is(12));
+    }
+    
+    @Test
+    public void assertDoShardingWithRangeOutOfBounds() {
+        assertTrue(doSharding(new RangeRouteValue<>("create_time", "t_order", Range.lessThan("2020-01-01 00:00:00"))).isEmpty());
+        assertTrue(doSharding(new RangeRouteValue<>("create_time", "t_order", Range.greaterThan("2021-01-01 00:00:00"))).isEmpty());
+    }
+    
+    @Test
+    public void assertDoShardingWithMultipleIntervalAmount() {
+        shardingStrategy = new IntervalShardingStrategy(
+                new IntervalShardingStrategyConfiguration("create_time", "yyyy-MM-dd", "2020-01-01", "2020-12-31", "yyyyMM", "MONTHS", 3));
+        Collection<String> actual = doSharding(new RangeRouteValue<>("create_time", "t_order", Range.closed("2020-02-01", "2020-08-01")));
+        assertThat(actual, is((Collection<String>) Arrays.asList("t_order_202001", "t_order_202004", "t_order_202007")));
+    }
+    
+    @Test
+    public void assertDoShardingWithNonExistTargets() {
+        availableTargetNames.remove("t_order_202003");
+        Collection<String> actual = doSharding(new RangeRouteValue<>("create_time", "t_order", Range.closed("2020-02-15 00:00:00", "2020-04-01 00:00:00")));
+        assertThat(actual, is((Collection<String>) Arrays.asList("t_order_202002", "t_order_202004")));
+    }
+    
+    @Test
+    public void assertDoShardingRepeatedlyWithSameTargets() {
+        RouteValue shardingValue = new ListRouteValue<>("create_time", "t_order", Collections.singletonList("2020-05-01 00:00:00"));
+        assertThat(doSharding(shardingValue), is((Collection<String>) Collections.singletonList("t_order_202005")));
+        assertThat(doSharding(shardingValue), is((Collection<String>) Collections.singletonList("t_order_202005")));
+    }
+    
+    @Test(expected = ShardingSphereException.class)
+    public void assertDoShardingWithDuplicatedSuffix() {
+        availableTargetNames.add("t_user_202005");
+        doSharding(new ListRouteValue<>("create_time", "t_order", Collections.singletonList("2020-05-01 00:00:00")));
+    }
+    
+    @Test(expected = ShardingSphereException.class)
+    public void assertDoShardingWithUnsupportedValueType() {
+        doSharding(new ListRouteValue<>("create_time", "t_order", Collections.singletonList(1)));
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void assertNewInstanceWithVariableWidthSuffixPattern() {
+        new IntervalShardingStrategy(new IntervalShardingStrategyConfiguration("create_time", "yyyy-MM-dd HH:mm:ss", "2020-01-01 00:00:00", "2020-12-31 23:59:59", "yyyyM", "months", 1));
+    }
+    
+    @Test
+    public void assertGetShardingColumns() {
+        assertThat(shardingStrategy.getShardingColumns().size(), is(1));
+        assertThat(shardingStrategy.getShardingColumns().iterator().next(), is("create_time"));
+    }
+    
+    private Collection<String> doSharding(final RouteValue shardingValue) {
+        return new ArrayList<>(shardingStrategy.doSharding(availableTargetNames, Lists.newArrayList(shardingValue), new ShardingSphereProperties(new Properties())));
+    }
+}
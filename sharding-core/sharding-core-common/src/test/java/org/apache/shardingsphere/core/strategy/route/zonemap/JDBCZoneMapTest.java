@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.strategy.route.zonemap;
+
+import com.google.common.collect.Range;
+import org.apache.shardingsphere.core.rule.DataNode;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+
+public final class JDBCZoneMapTest {
+    
+    private JdbcDataSource dataSource;
+    
+    private JDBCZoneMap zoneMap;
+    
+    @Before
+    public void setUp() throws SQLException {
+        dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:zone_map;DB_CLOSE_DELAY=-1;MODE=MySQL");
+        executeUpdate("DROP TABLE IF EXISTS t_order_0", "DROP TABLE IF EXISTS t_order_1",
+                "CREATE TABLE t_order_0 (order_id INT NOT NULL, create_day INT)", "CREATE TABLE t_order_1 (order_id INT NOT NULL, create_day INT)",
+                "INSERT INTO t_order_0 VALUES (1, 10), (2, 20)");
+        zoneMap = new JDBCZoneMap(Collections.singletonMap("ds_0", dataSource), Arrays.asList(new DataNode("ds_0.t_order_0"), new DataNode("ds_0.t_order_1")), "create_day");
+    }
+    
+    private void executeUpdate(final String... sqls) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            for (String each : sqls) {
+                statement.execute(each);
+            }
+        }
+    }
+    
+    @Test
+    public void assertFindValueRangeBeforeRefresh() {
+        assertFalse(zoneMap.findValueRange("ds_0", "t_order_0").isPresent());
+    }
+    
+    @Test
+    public void assertRefresh() {
+        zoneMap.refresh();
+        assertThat(zoneMap.findValueRange("ds_0", "t_order_0"), is(Optional.of(Range.<Comparable<?>>closed(10, 20))));
+        assertFalse(zoneMap.findValueRange("ds_0", "t_order_1").isPresent());
+    }
+    
+    @Test
+    public void assertExpand() {
+        zoneMap.refresh();
+        zoneMap.expand("ds_0", "t_order_0", 30);
+        zoneMap.expand("ds_0", "t_order_1", 30);
+        assertThat(zoneMap.findValueRange("ds_0", "t_order_0"), is(Optional.of(Range.<Comparable<?>>closed(10, 30))));
+        assertFalse(zoneMap.findValueRange("ds_0", "t_order_1").isPresent());
+    }
+    
+    @Test
+    public void assertRefreshKeepsExpansionsSincePreviousRefresh() throws SQLException {
+        zoneMap.refresh();
+        zoneMap.expand("ds_0", "t_order_0", 30);
+        zoneMap.refresh();
+        assertThat(zoneMap.findValueRange("ds_0", "t_order_0"), is(Optional.of(Range.<Comparable<?>>closed(10, 30))));
+        executeUpdate("DELETE FROM t_order_0 WHERE order_id = 2");
+        zoneMap.refresh();
+        assertThat(zoneMap.findValueRange("ds_0", "t_order_0"), is(Optional.of(Range.<Comparable<?>>closed(10, 10))));
+    }
+    
+    @Test
+    public void assertInvalidate() {
+        zoneMap.refresh();
+        zoneMap.invalidate("ds_0", "t_order_0");
+        assertFalse(zoneMap.findValueRange("ds_0", "t_order_0").isPresent());
+        zoneMap.refresh();
+        assertFalse(zoneMap.findValueRange("ds_0", "t_order_0").isPresent());
+        zoneMap.refresh();
+        assertThat(zoneMap.findValueRange("ds_0", "t_order_0"), is(Optional.of(Range.<Comparable<?>>closed(10, 20))));
+    }
+    
+    @Test
+    public void assertExpandWithIncomparableValue() {
+        zoneMap.refresh();
+        zoneMap.expand("ds_0", "t_order_0", "foo");
+        assertFalse(zoneMap.findValueRange("ds_0", "t_order_0").isPresent());
+    }
+}
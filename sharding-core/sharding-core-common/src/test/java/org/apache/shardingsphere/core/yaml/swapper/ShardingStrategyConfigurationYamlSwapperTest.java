@@ -20,6 +20,7 @@ package org.apache.shardingsphere.core.yaml.swapper;
 import org.apache.shardingsphere.api.config.sharding.strategy.ComplexShardingStrategyConfiguration;
 import org.apache.shardingsphere.api.config.sharding.strategy.HintShardingStrategyConfiguration;
 import org.apache.shardingsphere.api.config.sharding.strategy.InlineShardingStrategyConfiguration;
+import org.apache.shardingsphere.api.config.sharding.strategy.IntervalShardingStrategyConfiguration;
 import org.apache.shardingsphere.api.config.sharding.strategy.NoneShardingStrategyConfiguration;
 import org.apache.shardingsphere.api.config.sharding.strategy.StandardShardingStrategyConfiguration;
 import org.apache.shardingsphere.api.sharding.complex.ComplexKeysShardingAlgorithm;
@@ -30,14 +31,19 @@ import org.apache.shardingsphere.core.shard.fixture.ComplexKeysShardingAlgorithm
 import org.apache.shardingsphere.core.shard.fixture.HintShardingAlgorithmFixture;
 import org.apache.shardingsphere.core.shard.fixture.PreciseShardingAlgorithmFixture;
 import org.apache.shardingsphere.core.shard.fixture.RangeShardingAlgorithmFixture;
+import org.apache.shardingsphere.core.strategy.route.bucket.VirtualBucketShardingAlgorithm;
 import org.apache.shardingsphere.core.yaml.config.sharding.YamlShardingStrategyConfiguration;
 import org.apache.shardingsphere.core.yaml.config.sharding.strategy.YamlComplexShardingStrategyConfiguration;
 import org.apache.shardingsphere.core.yaml.config.sharding.strategy.YamlHintShardingStrategyConfiguration;
 import org.apache.shardingsphere.core.yaml.config.sharding.strategy.YamlInlineShardingStrategyConfiguration;
+import org.apache.shardingsphere.core.yaml.config.sharding.strategy.YamlIntervalShardingStrategyConfiguration;
 import org.apache.shardingsphere.core.yaml.config.sharding.strategy.YamlNoneShardingStrategyConfiguration;
 import org.apache.shardingsphere.core.yaml.config.sharding.strategy.YamlStandardShardingStrategyConfiguration;
+import org.apache.shardingsphere.core.yaml.config.sharding.strategy.YamlVirtualBucketShardingStrategyConfiguration;
 import org.junit.Test;
 
+import java.util.Collections;
+
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertNull;
@@ -62,6 +68,20 @@ public final class ShardingStrategyConfigurationYamlSwapperTest {
         assertNull(actual.getNone());
     }
     
+    @Test
+    public void assertSwapToYamlWithVirtualBucket() {
+        VirtualBucketShardingAlgorithm algorithm = new VirtualBucketShardingAlgorithm(4, Collections.singletonMap("ds_0", "0..3"));
+        YamlShardingStrategyConfiguration actual = shardingStrategyConfigurationYamlSwapper.swap(new StandardShardingStrategyConfiguration("id", algorithm, algorithm));
+        assertThat(actual.getBucket().getShardingColumn(), is("id"));
+        assertThat(actual.getBucket().getBucketCount(), is(4));
+        assertThat(actual.getBucket().getBuckets(), is(Collections.singletonMap("ds_0", "0..3")));
+        assertNull(actual.getStandard());
+        assertNull(actual.getInline());
+        assertNull(actual.getComplex());
+        assertNull(actual.getHint());
+        assertNull(actual.getNone());
+    }
+    
     @Test
     public void assertSwapToYamlWithInline() {
         YamlShardingStrategyConfiguration actual = shardingStrategyConfigurationYamlSwapper.swap(new InlineShardingStrategyConfiguration("id", "xxx_$->{id % 10}"));
@@ -73,6 +93,24 @@ public final class ShardingStrategyConfigurationYamlSwapperTest {
         assertNull(actual.getNone());
     }
     
+    @Test
+    public void assertSwapToYamlWithInterval() {
+        YamlShardingStrategyConfiguration actual = shardingStrategyConfigurationYamlSwapper.swap(
+                new IntervalShardingStrategyConfiguration("create_time", "yyyy-MM-dd", "2020-01-01", "2020-12-31", "yyyyMM", "MONTHS", 1));
+        assertThat(actual.getInterval().getShardingColumn(), is("create_time"));
+        assertThat(actual.getInterval().getDatetimePattern(), is("yyyy-MM-dd"));
+        assertThat(actual.getInterval().getDatetimeLower(), is("2020-01-01"));
+        assertThat(actual.getInterval().getDatetimeUpper(), is("2020-12-31"));
+        assertThat(actual.getInterval().getShardingSuffixPattern(), is("yyyyMM"));
+        assertThat(actual.getInterval().getIntervalUnit(), is("MONTHS"));
+        assertThat(actual.getInterval().getIntervalAmount(), is(1));
+        assertNull(actual.getStandard());
+        assertNull(actual.getInline());
+        assertNull(actual.getComplex());
+        assertNull(actual.getHint());
+        assertNull(actual.getNone());
+    }
+    
     @Test
     public void assertSwapToYamlWithComplex() {
         ComplexKeysShardingAlgorithm complexKeysShardingAlgorithm = mock(ComplexKeysShardingAlgorithm.class);
@@ -134,6 +172,26 @@ public final class ShardingStrategyConfigurationYamlSwapperTest {
         return result;
     }
     
+    @Test
+    public void assertSwapToObjectWithVirtualBucket() {
+        StandardShardingStrategyConfiguration actual = (StandardShardingStrategyConfiguration) shardingStrategyConfigurationYamlSwapper.swap(createVirtualBucketShardingStrategyConfiguration());
+        assertThat(actual.getShardingColumn(), is("id"));
+        assertThat(actual.getPreciseShardingAlgorithm(), instanceOf(VirtualBucketShardingAlgorithm.class));
+        assertThat(actual.getRangeShardingAlgorithm(), instanceOf(VirtualBucketShardingAlgorithm.class));
+        assertThat(((VirtualBucketShardingAlgorithm) actual.getPreciseShardingAlgorithm()).getBucketCount(), is(4));
+    }
+    
+    private YamlShardingStrategyConfiguration createVirtualBucketShardingStrategyConfiguration() {
+        YamlVirtualBucketShardingStrategyConfiguration yamlVirtualBucketShardingStrategyConfiguration = new YamlVirtualBucketShardingStrategyConfiguration();
+        yamlVirtualBucketShardingStrategyConfiguration.setShardingColumn("id");
+        yamlVirtualBucketShardingStrategyConfiguration.setBucketCount(4);
+        yamlVirtualBucketShardingStrategyConfiguration.getBuckets().put("ds_0", "0..1");
+        yamlVirtualBucketShardingStrategyConfiguration.getBuckets().put("ds_1", "2..3");
+        YamlShardingStrategyConfiguration result = new YamlShardingStrategyConfiguration();
+        result.setBucket(yamlVirtualBucketShardingStrategyConfiguration);
+        return result;
+    }
+    
     @Test
     public void assertSwapToObjectWithInline() {
         InlineShardingStrategyConfiguration actual = (InlineShardingStrategyConfiguration) shardingStrategyConfigurationYamlSwapper.swap(createInlineShardingStrategyConfiguration());
@@ -150,6 +208,31 @@ public final class ShardingStrategyConfigurationYamlSwapperTest {
         return result;
     }
     
+    @Test
+    public void assertSwapToObjectWithInterval() {
+        IntervalShardingStrategyConfiguration actual = (IntervalShardingStrategyConfiguration) shardingStrategyConfigurationYamlSwapper.swap(createIntervalShardingStrategyConfiguration());
+        assertThat(actual.getShardingColumn(), is("create_time"));
+        assertThat(actual.getDatetimePattern(), is("yyyy-MM-dd"));
+        assertThat(actual.getDatetimeLower(), is("2020-01-01"));
+        assertThat(actual.getDatetimeUpper(), is("2020-12-31"));
+        assertThat(actual.getShardingSuffixPattern(), is("yyyyMM"));
+        assertThat(actual.getIntervalUnit(), is("MONTHS"));
+        assertThat(actual.getIntervalAmount(), is(1));
+    }
+    
+    private YamlShardingStrategyConfiguration createIntervalShardingStrategyConfiguration() {
+        YamlIntervalShardingStrategyConfiguration yamlIntervalShardingStrategyConfiguration = new YamlIntervalShardingStrategyConfiguration();
+        yamlIntervalShardingStrategyConfiguration.setShardingColumn("create_time");
+        yamlIntervalShardingStrategyConfiguration.setDatetimePattern("yyyy-MM-dd");
+        yamlIntervalShardingStrategyConfiguration.setDatetimeLower("2020-01-01");
+        yamlIntervalShardingStrategyConfiguration.setDatetimeUpper("2020-12-31");
+        yamlIntervalShardingStrategyConfiguration.setShardingSuffixPattern("yyyyMM");
+        yamlIntervalShardingStrategyConfiguration.setIntervalUnit("MONTHS");
+        YamlShardingStrategyConfiguration result = new YamlShardingStrategyConfiguration();
+        result.setInterval(yamlIntervalShardingStrategyConfiguration);
+        return result;
+    }
+    
     @Test
     public void assertSwapToObjectWithComplex() {
         ComplexShardingStrategyConfiguration actual = (ComplexShardingStrategyConfiguration) shardingStrategyConfigurationYamlSwapper.swap(createComplexShardingStrategyConfiguration());
@@ -21,9 +21,13 @@ import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.api.hint.HintManager;
 import org.apache.shardingsphere.sharding.route.engine.context.ShardingRouteContext;
+import org.apache.shardingsphere.sharding.route.engine.join.HashJoinPlan;
+import org.apache.shardingsphere.sharding.route.engine.join.HashJoinScan;
 import org.apache.shardingsphere.sharding.route.hook.SPIRoutingHook;
 import org.apache.shardingsphere.masterslave.route.engine.MasterSlaveRouteDecorator;
 import org.apache.shardingsphere.sharding.route.engine.ShardingRouter;
+import org.apache.shardingsphere.sharding.route.engine.cache.RoutePlanCache;
+import org.apache.shardingsphere.sharding.route.engine.cache.RoutePlanKey;
 import org.apache.shardingsphere.core.rule.MasterSlaveRule;
 import org.apache.shardingsphere.core.rule.ShardingRule;
 import org.apache.shardingsphere.core.shard.log.ShardingSQLLogger;
@@ -31,7 +35,14 @@ import org.apache.shardingsphere.encrypt.rewrite.context.EncryptSQLRewriteContex
 import org.apache.shardingsphere.sharding.execute.context.ShardingExecutionContext;
 import org.apache.shardingsphere.sharding.rewrite.context.ShardingSQLRewriteContextDecorator;
 import org.apache.shardingsphere.sharding.rewrite.engine.ShardingSQLRewriteEngine;
+import org.apache.shardingsphere.sharding.rewrite.sql.ShardingSQLTemplate;
+import org.apache.shardingsphere.sharding.route.engine.keygen.GeneratedKey;
 import org.apache.shardingsphere.sql.parser.SQLParserEngine;
+import org.apache.shardingsphere.sql.parser.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.sql.parser.binder.type.IndexAvailable;
+import org.apache.shardingsphere.sql.parser.binder.type.TableAvailable;
+import org.apache.shardingsphere.sql.parser.sql.segment.generic.table.SimpleTableSegment;
+import org.apache.shardingsphere.sql.parser.sql.statement.dml.DMLStatement;
 import org.apache.shardingsphere.underlying.common.constant.properties.PropertiesConstant;
 import org.apache.shardingsphere.underlying.common.constant.properties.ShardingSphereProperties;
 import org.apache.shardingsphere.underlying.common.metadata.ShardingSphereMetaData;
@@ -44,12 +55,16 @@ import org.apache.shardingsphere.underlying.rewrite.context.SQLRewriteContext;
 import org.apache.shardingsphere.underlying.rewrite.context.SQLRewriteContextDecorator;
 import org.apache.shardingsphere.underlying.rewrite.engine.SQLRewriteResult;
 import org.apache.shardingsphere.underlying.route.context.RouteUnit;
+import org.apache.shardingsphere.underlying.route.context.TableUnit;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 /**
  * Base sharding engine.
@@ -63,15 +78,19 @@ public abstract class BaseShardingEngine {
     
     private final ShardingSphereMetaData metaData;
     
+    private final RoutePlanCache<Collection<ExecutionUnit>> routePlanCache;
+    
     @Getter
     private final ShardingRouter shardingRouter;
     
     private final SPIRoutingHook routingHook;
     
-    public BaseShardingEngine(final ShardingRule shardingRule, final ShardingSphereProperties properties, final ShardingSphereMetaData metaData, final SQLParserEngine sqlParserEngine) {
+    public BaseShardingEngine(final ShardingRule shardingRule, final ShardingSphereProperties properties, final ShardingSphereMetaData metaData, final SQLParserEngine sqlParserEngine,
+                              final RoutePlanCache<Collection<ExecutionUnit>> routePlanCache) {
         this.shardingRule = shardingRule;
         this.properties = properties;
         this.metaData = metaData;
+        this.routePlanCache = routePlanCache;
         shardingRouter = new ShardingRouter(shardingRule, properties, metaData, sqlParserEngine);
         routingHook = new SPIRoutingHook();
     }
@@ -85,9 +104,10 @@ public abstract class BaseShardingEngine {
      */
     public ExecutionContext shard(final String sql, final List<Object> parameters) {
         List<Object> clonedParameters = cloneParameters(parameters);
-        ShardingRouteContext shardingRouteContext = executeRoute(sql, clonedParameters);
-        ShardingExecutionContext result = new ShardingExecutionContext(shardingRouteContext.getSqlStatementContext(), shardingRouteContext.getGeneratedKey().orElse(null));
-        result.getExecutionUnits().addAll(HintManager.isDatabaseShardingOnly() ? convert(sql, clonedParameters, shardingRouteContext) : rewriteAndConvert(sql, clonedParameters, shardingRouteContext));
+        Optional<RoutePlanKey> routePlanKey = isRoutePlanCacheEnabled() ? RoutePlanKey.newInstance(shardingRule, properties, sql, clonedParameters) : Optional.empty();
+        Optional<Collection<ExecutionUnit>> cachedExecutionUnits = routePlanKey.isPresent() ? routePlanCache.getRoutePlan(routePlanKey.get()) : Optional.empty();
+        ShardingExecutionContext result = cachedExecutionUnits.isPresent()
+                ? createExecutionContext(sql, clonedParameters, cachedExecutionUnits.get()) : createExecutionContext(sql, clonedParameters, routePlanKey.orElse(null));
         boolean showSQL = properties.getValue(PropertiesConstant.SQL_SHOW);
         if (showSQL) {
             boolean showSimple = properties.getValue(PropertiesConstant.SQL_SIMPLE);
@@ -96,8 +116,39 @@ public abstract class BaseShardingEngine {
         return result;
     }
     
+    private boolean isRoutePlanCacheEnabled() {
+        return null != routePlanCache && isUseCache() && properties.<Boolean>getValue(PropertiesConstant.ROUTE_PLAN_CACHE_ENABLED);
+    }
+    
+    private ShardingExecutionContext createExecutionContext(final String sql, final List<Object> parameters, final Collection<ExecutionUnit> cachedExecutionUnits) {
+        ShardingExecutionContext result = new ShardingExecutionContext(shardingRouter.createSQLStatementContext(sql, parameters, true), null, null);
+        result.getExecutionUnits().addAll(cachedExecutionUnits);
+        return result;
+    }
+    
+    private ShardingExecutionContext createExecutionContext(final String sql, final List<Object> parameters, final RoutePlanKey routePlanKey) {
+        ShardingRouteContext shardingRouteContext = executeRoute(sql, parameters);
+        ShardingExecutionContext result = new ShardingExecutionContext(
+                shardingRouteContext.getSqlStatementContext(), shardingRouteContext.getGeneratedKey().orElse(null), shardingRouteContext.getHashJoinPlan().orElse(null));
+        result.getExecutionUnits().addAll(createExecutionUnits(sql, parameters, shardingRouteContext));
+        if (null != routePlanKey && isDeterministicRoutePlan(shardingRouteContext)) {
+            routePlanCache.put(routePlanKey, new ArrayList<>(result.getExecutionUnits()));
+        }
+        return result;
+    }
+    
+    private boolean isDeterministicRoutePlan(final ShardingRouteContext shardingRouteContext) {
+        Collection<String> tableNames = shardingRouteContext.getSqlStatementContext().getTablesContext().getTableNames();
+        return shardingRouteContext.getSqlStatementContext().getSqlStatement() instanceof DMLStatement && !shardingRouteContext.getGeneratedKey().isPresent()
+                && shardingRule.getMasterSlaveRules().isEmpty() && shardingRule.getEncryptRule().getEncryptTableNames().isEmpty()
+                && !tableNames.isEmpty() && shardingRule.tableRuleExists(tableNames) && !shardingRule.hasGlobalSecondaryIndex(tableNames) && !shardingRule.hasZoneMap(tableNames)
+                && !shardingRouteContext.getShardingConditions().isAlwaysFalse() && !shardingRouteContext.getHashJoinPlan().isPresent();
+    }
+    
     protected abstract List<Object> cloneParameters(List<Object> parameters);
     
+    protected abstract boolean isUseCache();
+    
     protected abstract ShardingRouteContext route(String sql, List<Object> parameters);
     
     private ShardingRouteContext executeRoute(final String sql, final List<Object> clonedParameters) {
@@ -122,6 +173,39 @@ public abstract class BaseShardingEngine {
         return result;
     }
     
+    private Collection<ExecutionUnit> createExecutionUnits(final String sql, final List<Object> parameters, final ShardingRouteContext shardingRouteContext) {
+        if (HintManager.isDatabaseShardingOnly()) {
+            return convert(sql, parameters, shardingRouteContext);
+        }
+        Optional<HashJoinPlan> hashJoinPlan = shardingRouteContext.getHashJoinPlan();
+        if (hashJoinPlan.isPresent()) {
+            return convertHashJoinScans(parameters, hashJoinPlan.get(), shardingRouteContext);
+        }
+        return isNoOpRewrite(shardingRouteContext) ? convert(sql, parameters, shardingRouteContext) : rewriteAndConvert(sql, parameters, shardingRouteContext);
+    }
+    
+    private boolean isNoOpRewrite(final ShardingRouteContext shardingRouteContext) {
+        SQLStatementContext sqlStatementContext = shardingRouteContext.getSqlStatementContext();
+        return sqlStatementContext.getSqlStatement() instanceof DMLStatement && shardingRouteContext.getRouteResult().isSingleRouting()
+                && !shardingRouteContext.getGeneratedKey().map(GeneratedKey::isGenerated).orElse(false)
+                && Collections.disjoint(shardingRule.getEncryptRule().getEncryptTableNames(), sqlStatementContext.getTablesContext().getTableNames())
+                && !(sqlStatementContext instanceof IndexAvailable && !((IndexAvailable) sqlStatementContext).getIndexes().isEmpty())
+                && isSameLogicAndActualTables(sqlStatementContext, shardingRouteContext.getRouteResult().getRouteUnits().iterator().next());
+    }
+    
+    private boolean isSameLogicAndActualTables(final SQLStatementContext sqlStatementContext, final RouteUnit routeUnit) {
+        if (!(sqlStatementContext instanceof TableAvailable)) {
+            return true;
+        }
+        for (SimpleTableSegment each : ((TableAvailable) sqlStatementContext).getAllTables()) {
+            String tableName = each.getTableName().getIdentifier().getValue();
+            if (shardingRule.findTableRule(tableName).isPresent() && !Collections.singleton(tableName).equals(routeUnit.getActualTableNames(tableName))) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
     private Collection<ExecutionUnit> convert(final String sql, final List<Object> parameters, final ShardingRouteContext shardingRouteContext) {
         Collection<ExecutionUnit> result = new LinkedHashSet<>();
         for (RouteUnit each : shardingRouteContext.getRouteResult().getRouteUnits()) {
@@ -130,12 +214,24 @@ public abstract class BaseShardingEngine {
         return result;
     }
     
+    private Collection<ExecutionUnit> convertHashJoinScans(final List<Object> parameters, final HashJoinPlan hashJoinPlan, final ShardingRouteContext shardingRouteContext) {
+        Collection<ExecutionUnit> result = new LinkedHashSet<>();
+        for (RouteUnit each : shardingRouteContext.getRouteResult().getRouteUnits()) {
+            for (TableUnit tableUnit : each.getTableUnits()) {
+                HashJoinScan hashJoinScan = hashJoinPlan.getScan(tableUnit.getLogicTableName());
+                result.add(new ExecutionUnit(each.getActualDataSourceName(), new SQLUnit(hashJoinScan.getSQL(tableUnit.getActualTableName()), hashJoinScan.getParameters(parameters))));
+            }
+        }
+        return result;
+    }
+    
     private Collection<ExecutionUnit> rewriteAndConvert(final String sql, final List<Object> parameters, final ShardingRouteContext shardingRouteContext) {
         Collection<ExecutionUnit> result = new LinkedHashSet<>();
         SQLRewriteContext sqlRewriteContext = new SQLRewriteEntry(
                 metaData, properties).createSQLRewriteContext(sql, parameters, shardingRouteContext.getSqlStatementContext(), createSQLRewriteContextDecorator(shardingRouteContext));
+        ShardingSQLTemplate sqlTemplate = new ShardingSQLTemplate(sqlRewriteContext);
         for (RouteUnit each : shardingRouteContext.getRouteResult().getRouteUnits()) {
-            ShardingSQLRewriteEngine sqlRewriteEngine = new ShardingSQLRewriteEngine(shardingRule, shardingRouteContext.getShardingConditions(), each);
+            ShardingSQLRewriteEngine sqlRewriteEngine = new ShardingSQLRewriteEngine(shardingRule, shardingRouteContext.getShardingConditions(), each, sqlTemplate);
             SQLRewriteResult sqlRewriteResult = sqlRewriteEngine.rewrite(sqlRewriteContext);
             result.add(new ExecutionUnit(each.getActualDataSourceName(), new SQLUnit(sqlRewriteResult.getSql(), sqlRewriteResult.getParameters())));
         }
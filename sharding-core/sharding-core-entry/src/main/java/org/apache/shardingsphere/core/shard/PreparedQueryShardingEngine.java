@@ -17,13 +17,16 @@
 
 package org.apache.shardingsphere.core.shard;
 
+import org.apache.shardingsphere.sharding.route.engine.cache.RoutePlanCache;
 import org.apache.shardingsphere.sharding.route.engine.context.ShardingRouteContext;
 import org.apache.shardingsphere.core.rule.ShardingRule;
 import org.apache.shardingsphere.sql.parser.SQLParserEngine;
 import org.apache.shardingsphere.underlying.common.constant.properties.ShardingSphereProperties;
 import org.apache.shardingsphere.underlying.common.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.underlying.executor.context.ExecutionUnit;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -38,8 +41,9 @@ import java.util.List;
  */
 public final class PreparedQueryShardingEngine extends BaseShardingEngine {
     
-    public PreparedQueryShardingEngine(final ShardingRule shardingRule, final ShardingSphereProperties properties, final ShardingSphereMetaData metaData, final SQLParserEngine sqlParserEngine) {
-        super(shardingRule, properties, metaData, sqlParserEngine);
+    public PreparedQueryShardingEngine(final ShardingRule shardingRule, final ShardingSphereProperties properties, final ShardingSphereMetaData metaData, final SQLParserEngine sqlParserEngine,
+                                       final RoutePlanCache<Collection<ExecutionUnit>> routePlanCache) {
+        super(shardingRule, properties, metaData, sqlParserEngine, routePlanCache);
     }
     
     @Override
@@ -47,8 +51,13 @@ public final class PreparedQueryShardingEngine extends BaseShardingEngine {
         return new ArrayList<>(parameters);
     }
     
+    @Override
+    protected boolean isUseCache() {
+        return true;
+    }
+    
     @Override
     protected ShardingRouteContext route(final String sql, final List<Object> parameters) {
-        return getShardingRouter().route(sql, parameters, true);
+        return getShardingRouter().route(sql, parameters, isUseCache());
     }
 }
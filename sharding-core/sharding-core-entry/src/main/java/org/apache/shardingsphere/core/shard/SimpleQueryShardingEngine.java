@@ -39,7 +39,7 @@ import java.util.List;
 public final class SimpleQueryShardingEngine extends BaseShardingEngine {
     
     public SimpleQueryShardingEngine(final ShardingRule shardingRule, final ShardingSphereProperties properties, final ShardingSphereMetaData metaData, final SQLParserEngine sqlParserEngine) {
-        super(shardingRule, properties, metaData, sqlParserEngine);
+        super(shardingRule, properties, metaData, sqlParserEngine, null);
     }
     
     @Override
@@ -47,8 +47,13 @@ public final class SimpleQueryShardingEngine extends BaseShardingEngine {
         return Collections.emptyList();
     }
     
+    @Override
+    protected boolean isUseCache() {
+        return false;
+    }
+    
     @Override
     protected ShardingRouteContext route(final String sql, final List<Object> parameters) {
-        return getShardingRouter().route(sql, Collections.emptyList(), false);
+        return getShardingRouter().route(sql, Collections.emptyList(), isUseCache());
     }
 }
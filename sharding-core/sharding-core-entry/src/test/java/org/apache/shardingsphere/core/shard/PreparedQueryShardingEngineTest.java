@@ -19,11 +19,29 @@ package org.apache.shardingsphere.core.shard;
 
 import lombok.SneakyThrows;
 import org.apache.shardingsphere.sharding.route.engine.ShardingRouter;
+import org.apache.shardingsphere.sharding.route.engine.cache.RoutePlanCache;
+import org.apache.shardingsphere.sharding.route.engine.condition.ShardingConditions;
+import org.apache.shardingsphere.sharding.route.engine.context.ShardingRouteContext;
 import org.apache.shardingsphere.core.rule.ShardingRule;
+import org.apache.shardingsphere.core.rule.TableRule;
 import org.apache.shardingsphere.encrypt.rule.EncryptRule;
 import org.apache.shardingsphere.sql.parser.SQLParserEngine;
+import org.apache.shardingsphere.sql.parser.binder.statement.CommonSQLStatementContext;
+import org.apache.shardingsphere.sql.parser.binder.statement.dml.UpdateStatementContext;
+import org.apache.shardingsphere.sql.parser.sql.segment.generic.RemoveAvailable;
+import org.apache.shardingsphere.sql.parser.sql.segment.generic.table.SimpleTableSegment;
+import org.apache.shardingsphere.sql.parser.sql.statement.dal.dialect.mysql.ShowTablesStatement;
+import org.apache.shardingsphere.sql.parser.sql.statement.dml.UpdateStatement;
+import org.apache.shardingsphere.sql.parser.sql.value.identifier.IdentifierValue;
+import org.apache.shardingsphere.underlying.common.constant.properties.PropertiesConstant;
+import org.apache.shardingsphere.underlying.common.constant.properties.ShardingSphereProperties;
 import org.apache.shardingsphere.underlying.common.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.underlying.common.metadata.table.TableMetas;
+import org.apache.shardingsphere.underlying.executor.context.ExecutionContext;
+import org.apache.shardingsphere.underlying.executor.context.ExecutionUnit;
+import org.apache.shardingsphere.underlying.route.context.RouteResult;
+import org.apache.shardingsphere.underlying.route.context.RouteUnit;
+import org.apache.shardingsphere.underlying.route.context.TableUnit;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -32,9 +50,18 @@ import org.mockito.junit.MockitoJUnitRunner;
 
 import java.lang.reflect.Field;
 import java.sql.SQLException;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.Optional;
+import java.util.Properties;
 
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -56,7 +83,7 @@ public final class PreparedQueryShardingEngineTest extends BaseShardingEngineTes
         when(shardingRule.getEncryptRule()).thenReturn(encryptRule);
         ShardingSphereMetaData shardingSphereMetaData = mock(ShardingSphereMetaData.class);
         when(shardingSphereMetaData.getTables()).thenReturn(mock(TableMetas.class));
-        shardingEngine = new PreparedQueryShardingEngine(shardingRule, getProperties(), shardingSphereMetaData, mock(SQLParserEngine.class));
+        shardingEngine = new PreparedQueryShardingEngine(shardingRule, getProperties(), shardingSphereMetaData, mock(SQLParserEngine.class), new RoutePlanCache<>());
         setRoutingEngine();
     }
     
@@ -77,4 +104,112 @@ public final class PreparedQueryShardingEngineTest extends BaseShardingEngineTes
         when(shardingRouter.route(getSql(), getParameters(), true)).thenThrow(SQLException.class);
         shardingEngine.shard(getSql(), getParameters());
     }
+    
+    @Test
+    public void assertShardWithRoutePlanCache() {
+        RoutePlanCache<Collection<ExecutionUnit>> routePlanCache = new RoutePlanCache<>();
+        shardingEngine = new PreparedQueryShardingEngine(
+                createCacheableShardingRule(), createRoutePlanCacheEnabledProperties(), mock(ShardingSphereMetaData.class), mock(SQLParserEngine.class), routePlanCache);
+        setRoutingEngine();
+        String sql = "UPDATE t_order SET status = ?";
+        UpdateStatementContext updateStatementContext = createUpdateStatementContext();
+        when(shardingRouter.route(sql, getParameters(), true)).thenReturn(createShardingRouteContext(updateStatementContext, "ds"));
+        when(shardingRouter.createSQLStatementContext(sql, getParameters(), true)).thenReturn(updateStatementContext);
+        ExecutionContext actual = shardingEngine.shard(sql, getParameters());
+        assertThat(shardingEngine.shard(sql, getParameters()).getExecutionUnits(), is(actual.getExecutionUnits()));
+        verify(shardingRouter).route(sql, getParameters(), true);
+        routePlanCache.clear();
+        shardingEngine.shard(sql, getParameters());
+        verify(shardingRouter, times(2)).route(sql, getParameters(), true);
+    }
+    
+    @Test
+    public void assertShardWithRoutePlanCacheAfterShardingRuleChanged() {
+        RoutePlanCache<Collection<ExecutionUnit>> routePlanCache = new RoutePlanCache<>();
+        ShardingSphereProperties properties = createRoutePlanCacheEnabledProperties();
+        String sql = "UPDATE t_order SET status = ?";
+        UpdateStatementContext updateStatementContext = createUpdateStatementContext();
+        shardingEngine = new PreparedQueryShardingEngine(createCacheableShardingRule(), properties, mock(ShardingSphereMetaData.class), mock(SQLParserEngine.class), routePlanCache);
+        setRoutingEngine();
+        when(shardingRouter.route(sql, getParameters(), true)).thenReturn(createShardingRouteContext(updateStatementContext, "ds_0"));
+        assertThat(shardingEngine.shard(sql, getParameters()).getExecutionUnits().iterator().next().getDataSourceName(), is("ds_0"));
+        shardingEngine = new PreparedQueryShardingEngine(createCacheableShardingRule(), properties, mock(ShardingSphereMetaData.class), mock(SQLParserEngine.class), routePlanCache);
+        setRoutingEngine();
+        when(shardingRouter.route(sql, getParameters(), true)).thenReturn(createShardingRouteContext(updateStatementContext, "ds_1"));
+        assertThat(shardingEngine.shard(sql, getParameters()).getExecutionUnits().iterator().next().getDataSourceName(), is("ds_1"));
+        verify(shardingRouter, times(2)).route(sql, getParameters(), true);
+    }
+    
+    private ShardingRule createCacheableShardingRule() {
+        ShardingRule result = mock(ShardingRule.class);
+        when(result.getEncryptRule()).thenReturn(mock(EncryptRule.class));
+        when(result.tableRuleExists(anyCollection())).thenReturn(true);
+        return result;
+    }
+    
+    private ShardingSphereProperties createRoutePlanCacheEnabledProperties() {
+        Properties props = new Properties();
+        props.setProperty(PropertiesConstant.ROUTE_PLAN_CACHE_ENABLED.getKey(), Boolean.TRUE.toString());
+        return new ShardingSphereProperties(props);
+    }
+    
+    private UpdateStatementContext createUpdateStatementContext() {
+        UpdateStatement updateStatement = new UpdateStatement();
+        updateStatement.getTables().add(new SimpleTableSegment(7, 13, new IdentifierValue("t_order")));
+        return new UpdateStatementContext(updateStatement);
+    }
+    
+    private ShardingRouteContext createShardingRouteContext(final UpdateStatementContext updateStatementContext, final String dataSourceName) {
+        RouteResult routeResult = new RouteResult();
+        routeResult.getRouteUnits().add(new RouteUnit(dataSourceName));
+        return new ShardingRouteContext(updateStatementContext, routeResult, new ShardingConditions(Collections.emptyList()));
+    }
+    
+    @Test
+    public void assertShardWithNoOpRewrite() {
+        ShardingRule shardingRule = mock(ShardingRule.class);
+        when(shardingRule.getEncryptRule()).thenReturn(mock(EncryptRule.class));
+        when(shardingRule.findTableRule("t_order")).thenReturn(Optional.of(mock(TableRule.class)));
+        ShardingSphereMetaData shardingSphereMetaData = mock(ShardingSphereMetaData.class);
+        shardingEngine = new PreparedQueryShardingEngine(shardingRule, getProperties(), shardingSphereMetaData, mock(SQLParserEngine.class), new RoutePlanCache<>());
+        setRoutingEngine();
+        UpdateStatement updateStatement = new UpdateStatement();
+        updateStatement.getTables().add(new SimpleTableSegment(7, 13, new IdentifierValue("t_order")));
+        RouteResult routeResult = new RouteResult();
+        RouteUnit routeUnit = new RouteUnit("ds");
+        routeUnit.getTableUnits().add(new TableUnit("t_order", "t_order"));
+        routeResult.getRouteUnits().add(routeUnit);
+        ShardingRouteContext shardingRouteContext = new ShardingRouteContext(new UpdateStatementContext(updateStatement), routeResult, new ShardingConditions(Collections.emptyList()));
+        String sql = "UPDATE t_order SET status = ?";
+        when(shardingRouter.route(sql, getParameters(), true)).thenReturn(shardingRouteContext);
+        ExecutionContext actual = shardingEngine.shard(sql, getParameters());
+        assertThat(actual.getExecutionUnits().size(), is(1));
+        ExecutionUnit actualExecutionUnit = actual.getExecutionUnits().iterator().next();
+        assertThat(actualExecutionUnit.getDataSourceName(), is("ds"));
+        assertThat(actualExecutionUnit.getSqlUnit().getSql(), is(sql));
+        assertThat(actualExecutionUnit.getSqlUnit().getParameters(), is(getParameters()));
+        verify(shardingSphereMetaData, never()).getRelationMetas();
+    }
+    
+    @Test
+    public void assertShardWithSchemaRemovedForSingleRoutingShowTables() {
+        ShardingRule shardingRule = mock(ShardingRule.class);
+        when(shardingRule.getEncryptRule()).thenReturn(mock(EncryptRule.class));
+        shardingEngine = new PreparedQueryShardingEngine(shardingRule, getProperties(), mock(ShardingSphereMetaData.class), mock(SQLParserEngine.class), new RoutePlanCache<>());
+        setRoutingEngine();
+        RemoveAvailable fromSchema = mock(RemoveAvailable.class);
+        when(fromSchema.getStartIndex()).thenReturn(12);
+        when(fromSchema.getStopIndex()).thenReturn(27);
+        ShowTablesStatement showTablesStatement = new ShowTablesStatement();
+        showTablesStatement.setFromSchema(fromSchema);
+        RouteResult routeResult = new RouteResult();
+        routeResult.getRouteUnits().add(new RouteUnit("ds"));
+        ShardingRouteContext shardingRouteContext = new ShardingRouteContext(
+                new CommonSQLStatementContext(showTablesStatement), routeResult, new ShardingConditions(Collections.emptyList()));
+        String sql = "SHOW TABLES FROM sharding_db";
+        when(shardingRouter.route(sql, Collections.emptyList(), true)).thenReturn(shardingRouteContext);
+        ExecutionContext actual = shardingEngine.shard(sql, Collections.emptyList());
+        assertThat(actual.getExecutionUnits().size(), is(1));
+        assertThat(actual.getExecutionUnits().iterator().next().getSqlUnit().getSql(), is("SHOW TABLES "));
+    }
 }
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.sharding.execute.context;
 
+import org.apache.shardingsphere.sharding.route.engine.join.HashJoinPlan;
 import org.apache.shardingsphere.sharding.route.engine.keygen.GeneratedKey;
 import org.apache.shardingsphere.sql.parser.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.underlying.executor.context.ExecutionContext;
@@ -30,9 +31,12 @@ public final class ShardingExecutionContext extends ExecutionContext {
     
     private final GeneratedKey generatedKey;
     
-    public ShardingExecutionContext(final SQLStatementContext sqlStatementContext, final GeneratedKey generatedKey) {
+    private final HashJoinPlan hashJoinPlan;
+    
+    public ShardingExecutionContext(final SQLStatementContext sqlStatementContext, final GeneratedKey generatedKey, final HashJoinPlan hashJoinPlan) {
         super(sqlStatementContext);
         this.generatedKey = generatedKey;
+        this.hashJoinPlan = hashJoinPlan;
     }
     
     /**
@@ -43,4 +47,13 @@ public final class ShardingExecutionContext extends ExecutionContext {
     public Optional<GeneratedKey> getGeneratedKey() {
         return Optional.ofNullable(generatedKey);
     }
+    
+    /**
+     * Get hash join plan.
+     * 
+     * @return hash join plan
+     */
+    public Optional<HashJoinPlan> getHashJoinPlan() {
+        return Optional.ofNullable(hashJoinPlan);
+    }
 }
@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.sharding.execute.sql.execute;
 
 import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.core.datasource.InFlightQueryCounter;
 import org.apache.shardingsphere.sharding.execute.sql.StatementExecuteUnit;
 import org.apache.shardingsphere.sharding.execute.sql.execute.threadlocal.ExecutorExceptionHandler;
 import org.apache.shardingsphere.sharding.execute.sql.hook.SPISQLExecutionHook;
@@ -50,16 +51,40 @@ public abstract class SQLExecuteCallback<T> implements GroupedCallback<Statement
     
     private final boolean isExceptionThrown;
     
+    private final Collection<StatementExecuteUnit> executingUnits = ConcurrentHashMap.newKeySet();
+    
+    private volatile Throwable cancelCause;
+    
     @Override
     public final Collection<T> execute(final Collection<StatementExecuteUnit> statementExecuteUnits, 
                                        final boolean isTrunkThread, final Map<String, Object> dataMap) throws SQLException {
         Collection<T> result = new LinkedList<>();
         for (StatementExecuteUnit each : statementExecuteUnits) {
+            if (null != cancelCause) {
+                throw new SQLException("Execution is cancelled because execution of other statements failed.", cancelCause);
+            }
             result.add(execute0(each, isTrunkThread, dataMap));
         }
         return result;
     }
     
+    @Override
+    public final void cancel(final Collection<StatementExecuteUnit> statementExecuteUnits, final Throwable cause) {
+        cancelCause = cause;
+        for (StatementExecuteUnit each : statementExecuteUnits) {
+            if (executingUnits.contains(each)) {
+                cancel(each.getStatement());
+            }
+        }
+    }
+    
+    private void cancel(final Statement statement) {
+        try {
+            statement.cancel();
+        } catch (final SQLException ignored) {
+        }
+    }
+    
     /**
      * To make sure SkyWalking will be available at the next release of ShardingSphere,
      * a new plugin should be provided to SkyWalking project if this API changed.
@@ -76,8 +101,10 @@ public abstract class SQLExecuteCallback<T> implements GroupedCallback<Statement
         ExecutorExceptionHandler.setExceptionThrown(isExceptionThrown);
         DataSourceMetaData dataSourceMetaData = getDataSourceMetaData(statementExecuteUnit.getStatement().getConnection().getMetaData());
         SQLExecutionHook sqlExecutionHook = new SPISQLExecutionHook();
+        ExecutionUnit executionUnit = statementExecuteUnit.getExecutionUnit();
+        InFlightQueryCounter.increase(executionUnit.getDataSourceName());
+        executingUnits.add(statementExecuteUnit);
         try {
-            ExecutionUnit executionUnit = statementExecuteUnit.getExecutionUnit();
             sqlExecutionHook.start(executionUnit.getDataSourceName(), executionUnit.getSqlUnit().getSql(), executionUnit.getSqlUnit().getParameters(), dataSourceMetaData, isTrunkThread, dataMap);
             T result = executeSQL(executionUnit.getSqlUnit().getSql(), statementExecuteUnit.getStatement(), statementExecuteUnit.getConnectionMode());
             sqlExecutionHook.finishSuccess();
@@ -86,6 +113,9 @@ public abstract class SQLExecuteCallback<T> implements GroupedCallback<Statement
             sqlExecutionHook.finishFailure(ex);
             ExecutorExceptionHandler.handleException(ex);
             return null;
+        } finally {
+            executingUnits.remove(statementExecuteUnit);
+            InFlightQueryCounter.decrease(executionUnit.getDataSourceName());
         }
     }
     
@@ -27,6 +27,7 @@ import java.sql.SQLException;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * SQL execute template.
@@ -71,4 +72,17 @@ public final class SQLExecuteTemplate {
             return Collections.emptyList();
         }
     }
+    
+    /**
+     * Execute asynchronously.
+     *
+     * @param inputGroups input groups
+     * @param callback SQL execute callback
+     * @param <T> class type of return value
+     * @return future of execute result
+     */
+    @SuppressWarnings("unchecked")
+    public <T> CompletableFuture<List<T>> executeAsync(final Collection<InputGroup<? extends StatementExecuteUnit>> inputGroups, final SQLExecuteCallback<T> callback) {
+        return executorEngine.executeAsync((Collection) inputGroups, callback, serial);
+    }
 }
@@ -42,6 +42,7 @@ import java.util.Map;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -60,6 +61,7 @@ public final class SQLExecuteCallbackTest {
     
     @Before
     public void setUp() throws Exception {
+        getCachedDataSourceMetaData().clear();
         when(preparedStatement.getConnection()).thenReturn(connection);
         when(connection.getMetaData()).thenReturn(metaData);
         when(metaData.getURL()).thenReturn("jdbc:mysql://localhost:3306/test");
@@ -78,13 +80,35 @@ public final class SQLExecuteCallbackTest {
                 return ((PreparedStatement) statement).executeUpdate();
             }
         };
-        Field field = SQLExecuteCallback.class.getDeclaredField("CACHED_DATASOURCE_METADATA");
-        field.setAccessible(true);
-        Map<String, DataSourceMetaData> cachedDataSourceMetaData = (Map<String, DataSourceMetaData>) field.get(sqlExecuteCallback);
+        Map<String, DataSourceMetaData> cachedDataSourceMetaData = getCachedDataSourceMetaData();
         assertThat(cachedDataSourceMetaData.size(), is(0));
         sqlExecuteCallback.execute(units, true, null);
         assertThat(cachedDataSourceMetaData.size(), is(1));
         sqlExecuteCallback.execute(units, true, null);
         assertThat(cachedDataSourceMetaData.size(), is(1));
     }
+    
+    @Test
+    public void assertCancelExecutingUnits() throws SQLException {
+        SQLExecuteCallback<Integer> sqlExecuteCallback = new SQLExecuteCallback<Integer>(DatabaseTypes.getActualDatabaseType("MySQL"), true) {
+            
+            @Override
+            protected Integer executeSQL(final String sql, final Statement statement, final ConnectionMode connectionMode) {
+                cancel(units, new SQLException("Execution of other statement failed."));
+                return 1;
+            }
+        };
+        assertThat(sqlExecuteCallback.execute(units, false, null), is((Collection<Integer>) Collections.singletonList(1)));
+        verify(preparedStatement).cancel();
+        sqlExecuteCallback.cancel(units, new SQLException("Execution of other statement failed."));
+        verify(preparedStatement).cancel();
+    }
+    
+    @SneakyThrows
+    @SuppressWarnings("unchecked")
+    private Map<String, DataSourceMetaData> getCachedDataSourceMetaData() {
+        Field field = SQLExecuteCallback.class.getDeclaredField("CACHED_DATASOURCE_METADATA");
+        field.setAccessible(true);
+        return (Map<String, DataSourceMetaData>) field.get(null);
+    }
 }
@@ -21,6 +21,7 @@ import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.sharding.merge.dql.groupby.GroupByMemoryMergedResult;
 import org.apache.shardingsphere.sharding.merge.dql.groupby.GroupByStreamMergedResult;
 import org.apache.shardingsphere.sharding.merge.dql.iterator.IteratorStreamMergedResult;
+import org.apache.shardingsphere.sharding.merge.dql.join.HashJoinMergedResult;
 import org.apache.shardingsphere.sharding.merge.dql.orderby.OrderByStreamMergedResult;
 import org.apache.shardingsphere.sharding.merge.dql.pagination.LimitDecoratorMergedResult;
 import org.apache.shardingsphere.sharding.merge.dql.pagination.RowNumberDecoratorMergedResult;
@@ -28,12 +29,14 @@ import org.apache.shardingsphere.sharding.merge.dql.pagination.TopAndRowNumberDe
 import org.apache.shardingsphere.spi.database.type.DatabaseType;
 import org.apache.shardingsphere.sql.parser.core.constant.OrderDirection;
 import org.apache.shardingsphere.sql.parser.binder.metadata.RelationMetas;
+import org.apache.shardingsphere.sql.parser.binder.segment.select.projection.DerivedColumn;
 import org.apache.shardingsphere.sql.parser.binder.segment.select.orderby.OrderByItem;
 import org.apache.shardingsphere.sql.parser.binder.segment.select.pagination.PaginationContext;
 import org.apache.shardingsphere.sql.parser.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.sql.parser.binder.statement.dml.SelectStatementContext;
 import org.apache.shardingsphere.sql.parser.sql.segment.dml.order.item.IndexOrderByItemSegment;
 import org.apache.shardingsphere.sql.parser.util.SQLUtil;
+import org.apache.shardingsphere.underlying.common.constant.properties.PropertiesConstant;
 import org.apache.shardingsphere.underlying.common.database.type.DatabaseTypes;
 import org.apache.shardingsphere.underlying.executor.QueryResult;
 import org.apache.shardingsphere.underlying.merge.engine.merger.ResultMerger;
@@ -52,18 +55,40 @@ public final class ShardingDQLResultMerger implements ResultMerger {
     
     private final DatabaseType databaseType;
     
+    private final int hashJoinMaxMemoryRows;
+    
+    public ShardingDQLResultMerger(final DatabaseType databaseType) {
+        this(databaseType, Integer.parseInt(PropertiesConstant.CARTESIAN_HASH_JOIN_MAX_MEMORY_ROWS.getDefaultValue()));
+    }
+    
     @Override
     public MergedResult merge(final List<QueryResult> queryResults, final SQLStatementContext sqlStatementContext, final RelationMetas relationMetas) throws SQLException {
+        SelectStatementContext selectStatementContext = (SelectStatementContext) sqlStatementContext;
+        if (isHashJoinScan(queryResults, selectStatementContext)) {
+            return new HashJoinMergedResult(queryResults, selectStatementContext.getProjectionsContext().getExpandProjections().size(), hashJoinMaxMemoryRows);
+        }
         if (1 == queryResults.size()) {
             return new IteratorStreamMergedResult(queryResults);
         }
         Map<String, Integer> columnLabelIndexMap = getColumnLabelIndexMap(queryResults.get(0));
-        SelectStatementContext selectStatementContext = (SelectStatementContext) sqlStatementContext;
         selectStatementContext.setIndexes(columnLabelIndexMap);
         MergedResult mergedResult = build(queryResults, selectStatementContext, columnLabelIndexMap);
         return decorate(queryResults, selectStatementContext, mergedResult);
     }
     
+    private boolean isHashJoinScan(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext) throws SQLException {
+        if (queryResults.isEmpty()) {
+            return false;
+        }
+        int sideColumnIndex = selectStatementContext.getProjectionsContext().getExpandProjections().size() + 1;
+        if (queryResults.get(0).getColumnCount() <= sideColumnIndex) {
+            return false;
+        }
+        String sideColumnLabel = queryResults.get(0).getColumnLabel(sideColumnIndex);
+        return DerivedColumn.HASH_JOIN_SIDE_ALIAS.getDerivedColumnAlias(0).equalsIgnoreCase(sideColumnLabel)
+                || DerivedColumn.HASH_JOIN_SIDE_ALIAS.getDerivedColumnAlias(1).equalsIgnoreCase(sideColumnLabel);
+    }
+    
     private Map<String, Integer> getColumnLabelIndexMap(final QueryResult queryResult) throws SQLException {
         Map<String, Integer> result = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
         for (int i = queryResult.getColumnCount(); i > 0; i--) {
@@ -0,0 +1,318 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.join;
+
+import com.google.common.base.Preconditions;
+import org.apache.shardingsphere.sql.parser.binder.segment.select.projection.DerivedColumn;
+import org.apache.shardingsphere.underlying.executor.QueryResult;
+import org.apache.shardingsphere.underlying.merge.result.MergedResult;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.SQLXML;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Merged result for hash join.
+ * 
+ * <p>
+ * Rows of table with fewer query results are built into hash table, and rows of the other table probe it.
+ * If built rows exceed max memory rows, rows of both tables are spilled into partitions of temporary files by hash of join keys,
+ * and each partition is joined by chunks of max memory rows.
+ * Rows with null join key never match.
+ * Join keys are matched by equality of Java objects after numbers are normalized,
+ * so strings are matched case sensitively without collation of database.
+ * Spill files are deleted when merged result is exhausted or closed.
+ * </p>
+ */
+public final class HashJoinMergedResult implements MergedResult {
+    
+    private static final int SPILL_PARTITION_COUNT = 16;
+    
+    private final int columnCount;
+    
+    private final int maxMemoryRows;
+    
+    private final List<QueryResult> buildQueryResults = new LinkedList<>();
+    
+    private final List<QueryResult> probeQueryResults = new LinkedList<>();
+    
+    private final Map<List<Object>, List<HashJoinRow>> builtRows = new HashMap<>();
+    
+    private final List<HashJoinSpillFile> buildSpillFiles = new ArrayList<>(SPILL_PARTITION_COUNT);
+    
+    private final List<HashJoinSpillFile> probeSpillFiles = new ArrayList<>(SPILL_PARTITION_COUNT);
+    
+    private int spillPartitionIndex;
+    
+    private HashJoinRow probeRow;
+    
+    private Iterator<HashJoinRow> matchedRows = Collections.emptyIterator();
+    
+    private Object[] currentRow;
+    
+    private boolean wasNull;
+    
+    public HashJoinMergedResult(final List<QueryResult> queryResults, final int columnCount, final int maxMemoryRows) throws SQLException {
+        Preconditions.checkArgument(maxMemoryRows > 0, "Max memory rows of hash join must be positive.");
+        this.columnCount = columnCount;
+        this.maxMemoryRows = maxMemoryRows;
+        classifyQueryResults(queryResults);
+        build();
+    }
+    
+    private void classifyQueryResults(final List<QueryResult> queryResults) throws SQLException {
+        List<List<QueryResult>> sides = Arrays.asList(new LinkedList<>(), new LinkedList<>());
+        String firstSideColumnLabel = DerivedColumn.HASH_JOIN_SIDE_ALIAS.getDerivedColumnAlias(0);
+        for (QueryResult each : queryResults) {
+            sides.get(firstSideColumnLabel.equalsIgnoreCase(each.getColumnLabel(columnCount + 1)) ? 0 : 1).add(each);
+        }
+        if (sides.get(0).isEmpty() || sides.get(1).isEmpty()) {
+            return;
+        }
+        int buildSide = sides.get(0).size() < sides.get(1).size() ? 0 : 1;
+        buildQueryResults.addAll(sides.get(buildSide));
+        probeQueryResults.addAll(sides.get(1 - buildSide));
+    }
+    
+    private void build() throws SQLException {
+        int builtRowCount = 0;
+        HashJoinRow row = readRow(buildQueryResults);
+        while (null != row) {
+            if (builtRowCount == maxMemoryRows) {
+                spill(row);
+                return;
+            }
+            builtRows.computeIfAbsent(row.getKeys(), key -> new LinkedList<>()).add(row);
+            builtRowCount++;
+            row = readRow(buildQueryResults);
+        }
+    }
+    
+    private void spill(final HashJoinRow firstUnbuiltRow) throws SQLException {
+        try {
+            writeSpillFiles(firstUnbuiltRow);
+        } catch (final SQLException ex) {
+            deleteSpillFiles();
+            throw ex;
+        }
+        loadNextChunk();
+    }
+    
+    private void writeSpillFiles(final HashJoinRow firstUnbuiltRow) throws SQLException {
+        for (int i = 0; i < SPILL_PARTITION_COUNT; i++) {
+            buildSpillFiles.add(new HashJoinSpillFile());
+            probeSpillFiles.add(new HashJoinSpillFile());
+        }
+        for (List<HashJoinRow> each : builtRows.values()) {
+            for (HashJoinRow row : each) {
+                getSpillFile(buildSpillFiles, row).write(row);
+            }
+        }
+        builtRows.clear();
+        HashJoinRow row = firstUnbuiltRow;
+        while (null != row) {
+            getSpillFile(buildSpillFiles, row).write(row);
+            row = readRow(buildQueryResults);
+        }
+        row = readRow(probeQueryResults);
+        while (null != row) {
+            getSpillFile(probeSpillFiles, row).write(row);
+            row = readRow(probeQueryResults);
+        }
+        for (int i = 0; i < SPILL_PARTITION_COUNT; i++) {
+            buildSpillFiles.get(i).finishWriting();
+            probeSpillFiles.get(i).finishWriting();
+        }
+    }
+    
+    private HashJoinSpillFile getSpillFile(final List<HashJoinSpillFile> spillFiles, final HashJoinRow row) {
+        return spillFiles.get((row.getKeys().hashCode() & Integer.MAX_VALUE) % SPILL_PARTITION_COUNT);
+    }
+    
+    private HashJoinRow readRow(final List<QueryResult> queryResults) throws SQLException {
+        while (!queryResults.isEmpty()) {
+            QueryResult queryResult = queryResults.get(0);
+            if (!queryResult.next()) {
+                queryResults.remove(0);
+                continue;
+            }
+            List<Object> keys = readKeys(queryResult);
+            if (!keys.isEmpty()) {
+                Object[] values = new Object[columnCount];
+                for (int i = 0; i < columnCount; i++) {
+                    values[i] = queryResult.getValue(i + 1, Object.class);
+                }
+                return new HashJoinRow(keys, values);
+            }
+        }
+        return null;
+    }
+    
+    private List<Object> readKeys(final QueryResult queryResult) throws SQLException {
+        List<Object> result = new ArrayList<>(queryResult.getColumnCount() - columnCount - 1);
+        for (int i = columnCount + 2; i <= queryResult.getColumnCount(); i++) {
+            Object key = queryResult.getValue(i, Object.class);
+            if (null == key) {
+                return Collections.emptyList();
+            }
+            result.add(normalizeKey(key));
+        }
+        return result;
+    }
+    
+    private Object normalizeKey(final Object key) {
+        if (key instanceof Double || key instanceof Float) {
+            double value = ((Number) key).doubleValue();
+            return Double.isNaN(value) || Double.isInfinite(value) ? key : BigDecimal.valueOf(value).stripTrailingZeros();
+        }
+        return key instanceof Number ? new BigDecimal(key.toString()).stripTrailingZeros() : key;
+    }
+    
+    private boolean loadNextChunk() throws SQLException {
+        while (spillPartitionIndex < buildSpillFiles.size()) {
+            builtRows.clear();
+            HashJoinSpillFile buildSpillFile = buildSpillFiles.get(spillPartitionIndex);
+            for (int i = 0; i < maxMemoryRows; i++) {
+                HashJoinRow row = buildSpillFile.read();
+                if (null == row) {
+                    break;
+                }
+                builtRows.computeIfAbsent(row.getKeys(), key -> new LinkedList<>()).add(row);
+            }
+            if (!builtRows.isEmpty()) {
+                probeSpillFiles.get(spillPartitionIndex).rewind();
+                return true;
+            }
+            buildSpillFile.delete();
+            probeSpillFiles.get(spillPartitionIndex).delete();
+            spillPartitionIndex++;
+        }
+        return false;
+    }
+    
+    private HashJoinRow readProbeRow() throws SQLException {
+        if (buildSpillFiles.isEmpty()) {
+            return readRow(probeQueryResults);
+        }
+        return spillPartitionIndex < probeSpillFiles.size() ? probeSpillFiles.get(spillPartitionIndex).read() : null;
+    }
+    
+    @Override
+    public boolean next() throws SQLException {
+        while (true) {
+            if (matchedRows.hasNext()) {
+                currentRow = join(matchedRows.next(), probeRow);
+                return true;
+            }
+            probeRow = readProbeRow();
+            if (null != probeRow) {
+                matchedRows = builtRows.getOrDefault(probeRow.getKeys(), Collections.emptyList()).iterator();
+            } else if (!loadNextChunk()) {
+                deleteSpillFiles();
+                return false;
+            }
+        }
+    }
+    
+    private Object[] join(final HashJoinRow builtRow, final HashJoinRow probeRow) {
+        Object[] result = new Object[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            result[i] = null == builtRow.getValues()[i] ? probeRow.getValues()[i] : builtRow.getValues()[i];
+        }
+        return result;
+    }
+    
+    @Override
+    public Object getValue(final int columnIndex, final Class<?> type) throws SQLException {
+        if (Blob.class == type || Clob.class == type || Reader.class == type || InputStream.class == type || SQLXML.class == type) {
+            throw new SQLFeatureNotSupportedException();
+        }
+        return getCell(columnIndex);
+    }
+    
+    @Override
+    public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) {
+        return getCell(columnIndex);
+    }
+    
+    private Object getCell(final int columnIndex) {
+        Preconditions.checkArgument(columnIndex > 0 && columnIndex <= columnCount);
+        Object result = currentRow[columnIndex - 1];
+        wasNull = null == result;
+        return result;
+    }
+    
+    @Override
+    public InputStream getInputStream(final int columnIndex, final String type) throws SQLException {
+        throw new SQLFeatureNotSupportedException();
+    }
+    
+    @Override
+    public boolean wasNull() {
+        return wasNull;
+    }
+    
+    @Override
+    public void close() throws SQLException {
+        builtRows.clear();
+        matchedRows = Collections.emptyIterator();
+        deleteSpillFiles();
+    }
+    
+    private void deleteSpillFiles() throws SQLException {
+        SQLException exception = null;
+        for (HashJoinSpillFile each : buildSpillFiles) {
+            exception = delete(each, exception);
+        }
+        for (HashJoinSpillFile each : probeSpillFiles) {
+            exception = delete(each, exception);
+        }
+        buildSpillFiles.clear();
+        probeSpillFiles.clear();
+        if (null != exception) {
+            throw exception;
+        }
+    }
+    
+    private SQLException delete(final HashJoinSpillFile spillFile, final SQLException previousException) {
+        try {
+            spillFile.delete();
+            return previousException;
+        } catch (final SQLException ex) {
+            if (null != previousException) {
+                previousException.setNextException(ex);
+                return previousException;
+            }
+            return ex;
+        }
+    }
+}
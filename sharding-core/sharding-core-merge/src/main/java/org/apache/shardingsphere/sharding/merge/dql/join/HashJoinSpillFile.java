@@ -0,0 +1,151 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.join;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.file.Files;
+import java.sql.SQLException;
+
+/**
+ * Spill file of hash join rows.
+ * 
+ * <p>
+ * Rows are written once, and can be read from beginning again after rewind.
+ * </p>
+ */
+public final class HashJoinSpillFile {
+    
+    private static final int RESET_INTERVAL = 1000;
+    
+    private final File file;
+    
+    private ObjectOutputStream outputStream;
+    
+    private ObjectInputStream inputStream;
+    
+    private int rowCount;
+    
+    private int readRowCount;
+    
+    public HashJoinSpillFile() throws SQLException {
+        try {
+            file = File.createTempFile("sharding-hash-join-", ".spill");
+            outputStream = new ObjectOutputStream(new BufferedOutputStream(new FileOutputStream(file)));
+        } catch (final IOException ex) {
+            throw new SQLException(ex);
+        }
+    }
+    
+    /**
+     * Write row.
+     * 
+     * @param row hash join row
+     * @throws SQLException SQL exception
+     */
+    public void write(final HashJoinRow row) throws SQLException {
+        try {
+            outputStream.writeObject(row);
+            rowCount++;
+            if (0 == rowCount % RESET_INTERVAL) {
+                outputStream.reset();
+            }
+        } catch (final IOException ex) {
+            throw new SQLException(ex);
+        }
+    }
+    
+    /**
+     * Finish writing.
+     * 
+     * @throws SQLException SQL exception
+     */
+    public void finishWriting() throws SQLException {
+        try {
+            outputStream.close();
+        } catch (final IOException ex) {
+            throw new SQLException(ex);
+        }
+    }
+    
+    /**
+     * Read next row.
+     * 
+     * @return next row, null if all rows are read
+     * @throws SQLException SQL exception
+     */
+    public HashJoinRow read() throws SQLException {
+        if (readRowCount == rowCount) {
+            closeInputStream();
+            return null;
+        }
+        try {
+            if (null == inputStream) {
+                inputStream = new ObjectInputStream(new BufferedInputStream(new FileInputStream(file)));
+            }
+            readRowCount++;
+            return (HashJoinRow) inputStream.readObject();
+        } catch (final IOException | ClassNotFoundException ex) {
+            throw new SQLException(ex);
+        }
+    }
+    
+    /**
+     * Rewind to read from first row.
+     * 
+     * @throws SQLException SQL exception
+     */
+    public void rewind() throws SQLException {
+        closeInputStream();
+        readRowCount = 0;
+    }
+    
+    /**
+     * Delete spill file.
+     * 
+     * @throws SQLException SQL exception
+     */
+    public void delete() throws SQLException {
+        closeInputStream();
+        try {
+            outputStream.close();
+            Files.deleteIfExists(file.toPath());
+        } catch (final IOException ex) {
+            throw new SQLException(ex);
+        }
+    }
+    
+    private void closeInputStream() throws SQLException {
+        if (null == inputStream) {
+            return;
+        }
+        try {
+            inputStream.close();
+        } catch (final IOException ex) {
+            throw new SQLException(ex);
+        } finally {
+            inputStream = null;
+        }
+    }
+}
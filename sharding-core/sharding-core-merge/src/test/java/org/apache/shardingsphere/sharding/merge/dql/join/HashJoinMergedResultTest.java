@@ -0,0 +1,180 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.join;
+
+import org.apache.shardingsphere.sharding.merge.dql.ShardingDQLResultMerger;
+import org.apache.shardingsphere.sql.parser.binder.segment.select.groupby.GroupByContext;
+import org.apache.shardingsphere.sql.parser.binder.segment.select.orderby.OrderByContext;
+import org.apache.shardingsphere.sql.parser.binder.segment.select.pagination.PaginationContext;
+import org.apache.shardingsphere.sql.parser.binder.segment.select.projection.DerivedColumn;
+import org.apache.shardingsphere.sql.parser.binder.segment.select.projection.ProjectionsContext;
+import org.apache.shardingsphere.sql.parser.binder.segment.select.projection.impl.ColumnProjection;
+import org.apache.shardingsphere.sql.parser.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.sql.parser.sql.statement.dml.SelectStatement;
+import org.apache.shardingsphere.underlying.common.database.type.DatabaseTypes;
+import org.apache.shardingsphere.underlying.executor.QueryResult;
+import org.apache.shardingsphere.underlying.merge.result.MergedResult;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.sql.Blob;
+import java.sql.Date;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class HashJoinMergedResultTest {
+    
+    private SelectStatementContext selectStatementContext;
+    
+    @Before
+    public void setUp() {
+        selectStatementContext = new SelectStatementContext(new SelectStatement(), 
+                new GroupByContext(Collections.emptyList(), 0), new OrderByContext(Collections.emptyList(), false), 
+                new ProjectionsContext(0, 0, false, Arrays.asList(new ColumnProjection(null, "order_id", null), new ColumnProjection(null, "name", null))), 
+                new PaginationContext(null, null, Collections.emptyList()));
+    }
+    
+    @Test
+    public void assertNextWithMatchedRows() throws SQLException {
+        List<QueryResult> queryResults = Arrays.asList(
+                createQueryResult(0, new Object[]{1, null, 0, 10}, new Object[]{2, null, 0, 20}), createQueryResult(0, new Object[]{3, null, 0, 30}), 
+                createQueryResult(1, new Object[]{null, "foo", 1, 10L}, new Object[]{null, "bar", 1, 20L}, new Object[]{null, "baz", 1, 40L}));
+        MergedResult actual = new ShardingDQLResultMerger(DatabaseTypes.getActualDatabaseType("MySQL")).merge(queryResults, selectStatementContext, null);
+        assertThat(actual, instanceOf(HashJoinMergedResult.class));
+        assertThat(getRows(actual), is(Arrays.asList(Arrays.<Object>asList(1, "foo"), Arrays.<Object>asList(2, "bar"))));
+    }
+    
+    @Test
+    public void assertNextWithDuplicatedKeys() throws SQLException {
+        List<QueryResult> queryResults = Arrays.asList(
+                createQueryResult(0, new Object[]{1, null, 0, 10}, new Object[]{2, null, 0, 10}), 
+                createQueryResult(1, new Object[]{null, "foo", 1, 10}, new Object[]{null, "bar", 1, 10}));
+        MergedResult actual = new ShardingDQLResultMerger(DatabaseTypes.getActualDatabaseType("MySQL")).merge(queryResults, selectStatementContext, null);
+        assertThat(new HashSet<>(getRows(actual)), is(new HashSet<>(Arrays.asList(
+                Arrays.<Object>asList(1, "foo"), Arrays.<Object>asList(1, "bar"), Arrays.<Object>asList(2, "foo"), Arrays.<Object>asList(2, "bar")))));
+    }
+    
+    @Test
+    public void assertNextWithNullKey() throws SQLException {
+        List<QueryResult> queryResults = Arrays.asList(createQueryResult(0, new Object[]{1, null, 0, null}), createQueryResult(1, new Object[]{null, "foo", 1, null}));
+        assertFalse(new ShardingDQLResultMerger(DatabaseTypes.getActualDatabaseType("MySQL")).merge(queryResults, selectStatementContext, null).next());
+    }
+    
+    @Test
+    public void assertNextWithoutRowsOfOneTable() throws SQLException {
+        List<QueryResult> queryResults = Arrays.asList(createQueryResult(0, new Object[]{1, null, 0, 10}), createQueryResult(0, new Object[]{2, null, 0, 10}));
+        assertFalse(new ShardingDQLResultMerger(DatabaseTypes.getActualDatabaseType("MySQL")).merge(queryResults, selectStatementContext, null).next());
+    }
+    
+    @Test
+    public void assertNextWithSpill() throws SQLException {
+        final int spillFileCount = getSpillFileCount();
+        List<Object[]> orderRows = new ArrayList<>();
+        List<Object[]> userRows = new ArrayList<>();
+        List<List<Object>> expected = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            orderRows.add(new Object[]{i, null, 0, i % 20});
+            userRows.add(new Object[]{null, "user_" + i, 1, i});
+            if (i < 20) {
+                expected.add(Arrays.asList(i, "user_" + i));
+                expected.add(Arrays.asList(i + 20, "user_" + i));
+                if (i < 10) {
+                    expected.add(Arrays.asList(i + 40, "user_" + i));
+                }
+            }
+        }
+        List<QueryResult> queryResults = Arrays.asList(createQueryResult(0, orderRows.toArray(new Object[0][])), createQueryResult(1, userRows.toArray(new Object[0][])));
+        List<List<Object>> actual = getRows(new ShardingDQLResultMerger(DatabaseTypes.getActualDatabaseType("MySQL"), 3).merge(queryResults, selectStatementContext, null));
+        assertThat(actual.size(), is(expected.size()));
+        assertThat(new HashSet<>(actual), is(new HashSet<>(expected)));
+        assertThat(getSpillFileCount(), is(spillFileCount));
+    }
+    
+    @Test
+    public void assertCloseWithSpill() throws SQLException {
+        final int spillFileCount = getSpillFileCount();
+        List<QueryResult> queryResults = Arrays.asList(
+                createQueryResult(0, new Object[]{1, null, 0, 10}, new Object[]{2, null, 0, 20}, new Object[]{3, null, 0, 30}), 
+                createQueryResult(1, new Object[]{null, "foo", 1, 10}, new Object[]{null, "bar", 1, 20}, new Object[]{null, "baz", 1, 30}));
+        MergedResult actual = new ShardingDQLResultMerger(DatabaseTypes.getActualDatabaseType("MySQL"), 1).merge(queryResults, selectStatementContext, null);
+        assertTrue(actual.next());
+        assertTrue(getSpillFileCount() > spillFileCount);
+        actual.close();
+        assertThat(getSpillFileCount(), is(spillFileCount));
+        assertFalse(actual.next());
+    }
+    
+    @Test(expected = SQLFeatureNotSupportedException.class)
+    public void assertGetValueForBlob() throws SQLException {
+        List<QueryResult> queryResults = Arrays.asList(createQueryResult(0, new Object[]{1, null, 0, 10}), createQueryResult(1, new Object[]{null, "foo", 1, 10}));
+        MergedResult actual = new ShardingDQLResultMerger(DatabaseTypes.getActualDatabaseType("MySQL")).merge(queryResults, selectStatementContext, null);
+        actual.next();
+        actual.getValue(1, Blob.class);
+    }
+    
+    @Test
+    public void assertGetCalendarValue() throws SQLException {
+        List<QueryResult> queryResults = Arrays.asList(createQueryResult(0, new Object[]{new Date(0L), null, 0, 10}), createQueryResult(1, new Object[]{null, "foo", 1, 10}));
+        MergedResult actual = new ShardingDQLResultMerger(DatabaseTypes.getActualDatabaseType("MySQL")).merge(queryResults, selectStatementContext, null);
+        assertTrue(actual.next());
+        assertThat(actual.getCalendarValue(1, Date.class, Calendar.getInstance()), is((Object) new Date(0L)));
+        assertFalse(actual.wasNull());
+        assertThat(actual.getCalendarValue(2, Date.class, Calendar.getInstance()), is((Object) "foo"));
+    }
+    
+    private QueryResult createQueryResult(final int side, final Object[]... rows) throws SQLException {
+        QueryResult result = mock(QueryResult.class);
+        AtomicInteger rowIndex = new AtomicInteger(-1);
+        when(result.getColumnCount()).thenReturn(4);
+        when(result.getColumnLabel(3)).thenReturn(DerivedColumn.HASH_JOIN_SIDE_ALIAS.getDerivedColumnAlias(side));
+        when(result.next()).thenAnswer(invocation -> rowIndex.incrementAndGet() < rows.length);
+        when(result.getValue(anyInt(), eq(Object.class))).thenAnswer(invocation -> rows[rowIndex.get()][(int) invocation.getArguments()[0] - 1]);
+        return result;
+    }
+    
+    private List<List<Object>> getRows(final MergedResult mergedResult) throws SQLException {
+        List<List<Object>> result = new ArrayList<>();
+        while (mergedResult.next()) {
+            result.add(Arrays.asList(mergedResult.getValue(1, Object.class), mergedResult.getValue(2, Object.class)));
+        }
+        return result;
+    }
+    
+    private int getSpillFileCount() {
+        String[] result = new File(System.getProperty("java.io.tmpdir")).list((dir, name) -> name.startsWith("sharding-hash-join-"));
+        return null == result ? 0 : result.length;
+    }
+}
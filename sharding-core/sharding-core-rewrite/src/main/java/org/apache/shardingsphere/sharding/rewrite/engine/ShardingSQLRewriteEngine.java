@@ -17,10 +17,11 @@
 
 package org.apache.shardingsphere.sharding.rewrite.engine;
 
-import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.core.rule.DataNode;
 import org.apache.shardingsphere.core.rule.ShardingRule;
 import org.apache.shardingsphere.sharding.rewrite.sql.ShardingSQLBuilder;
+import org.apache.shardingsphere.sharding.rewrite.sql.ShardingSQLTemplate;
+import org.apache.shardingsphere.sharding.rewrite.token.pojo.impl.ShardingInValuesToken;
 import org.apache.shardingsphere.sharding.route.engine.condition.ShardingCondition;
 import org.apache.shardingsphere.sharding.route.engine.condition.ShardingConditions;
 import org.apache.shardingsphere.underlying.rewrite.context.SQLRewriteContext;
@@ -29,15 +30,19 @@ import org.apache.shardingsphere.underlying.rewrite.engine.SQLRewriteResult;
 import org.apache.shardingsphere.underlying.rewrite.parameter.builder.ParameterBuilder;
 import org.apache.shardingsphere.underlying.rewrite.parameter.builder.impl.GroupedParameterBuilder;
 import org.apache.shardingsphere.underlying.rewrite.parameter.builder.impl.StandardParameterBuilder;
+import org.apache.shardingsphere.underlying.rewrite.sql.token.pojo.SQLToken;
 import org.apache.shardingsphere.underlying.route.context.RouteUnit;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map.Entry;
 
 /**
  * SQL rewrite engine for sharding.
  */
-@RequiredArgsConstructor
 public final class ShardingSQLRewriteEngine implements SQLRewriteEngine {
     
     private final ShardingRule shardingRule;
@@ -46,14 +51,31 @@ public final class ShardingSQLRewriteEngine implements SQLRewriteEngine {
     
     private final RouteUnit routeUnit;
     
+    private final ShardingSQLTemplate sqlTemplate;
+    
+    public ShardingSQLRewriteEngine(final ShardingRule shardingRule, final ShardingConditions shardingConditions, final RouteUnit routeUnit) {
+        this(shardingRule, shardingConditions, routeUnit, null);
+    }
+    
+    public ShardingSQLRewriteEngine(final ShardingRule shardingRule, final ShardingConditions shardingConditions, final RouteUnit routeUnit, final ShardingSQLTemplate sqlTemplate) {
+        this.shardingRule = shardingRule;
+        this.shardingConditions = shardingConditions;
+        this.routeUnit = routeUnit;
+        this.sqlTemplate = sqlTemplate;
+    }
+    
     @Override
     public SQLRewriteResult rewrite(final SQLRewriteContext sqlRewriteContext) {
+        ShardingSQLTemplate template = null == sqlTemplate ? new ShardingSQLTemplate(sqlRewriteContext) : sqlTemplate;
         return new SQLRewriteResult(
-                new ShardingSQLBuilder(sqlRewriteContext, shardingRule, routeUnit).toSQL(), getParameters(sqlRewriteContext.getParameterBuilder()));
+                template.toSQL(new ShardingSQLBuilder(sqlRewriteContext, shardingRule, routeUnit)), getParameters(sqlRewriteContext.getParameterBuilder(), sqlRewriteContext.getSqlTokens()));
     }
     
-    private List<Object> getParameters(final ParameterBuilder parameterBuilder) {
-        if (parameterBuilder instanceof StandardParameterBuilder || shardingConditions.getConditions().isEmpty() || parameterBuilder.getParameters().isEmpty()) {
+    private List<Object> getParameters(final ParameterBuilder parameterBuilder, final List<SQLToken> sqlTokens) {
+        if (parameterBuilder instanceof StandardParameterBuilder) {
+            return getParameters((StandardParameterBuilder) parameterBuilder, sqlTokens);
+        }
+        if (shardingConditions.getConditions().isEmpty() || parameterBuilder.getParameters().isEmpty()) {
             return parameterBuilder.getParameters();
         }
         List<Object> result = new LinkedList<>();
@@ -67,6 +89,40 @@ public final class ShardingSQLRewriteEngine implements SQLRewriteEngine {
         return result;
     }
     
+    private List<Object> getParameters(final StandardParameterBuilder parameterBuilder, final List<SQLToken> sqlTokens) {
+        List<Object> result = parameterBuilder.getParameters();
+        Collection<Integer> removedIndexes = new HashSet<>();
+        for (SQLToken each : sqlTokens) {
+            if (each instanceof ShardingInValuesToken) {
+                for (int index : ((ShardingInValuesToken) each).getRemovedParameterMarkerIndexes(routeUnit)) {
+                    removedIndexes.add(getActualParameterIndex(parameterBuilder, index));
+                }
+            }
+        }
+        if (removedIndexes.isEmpty()) {
+            return result;
+        }
+        List<Object> filteredResult = new ArrayList<>(result.size() - removedIndexes.size());
+        int index = 0;
+        for (Object each : result) {
+            if (!removedIndexes.contains(index)) {
+                filteredResult.add(each);
+            }
+            index++;
+        }
+        return filteredResult;
+    }
+    
+    private int getActualParameterIndex(final StandardParameterBuilder parameterBuilder, final int parameterMarkerIndex) {
+        int result = parameterMarkerIndex;
+        for (Entry<Integer, Collection<Object>> entry : parameterBuilder.getAddedIndexAndParameters().entrySet()) {
+            if (entry.getKey() <= parameterMarkerIndex) {
+                result += entry.getValue().size();
+            }
+        }
+        return result;
+    }
+    
     private boolean isInSameDataNode(final ShardingCondition shardingCondition) {
         if (shardingCondition.getDataNodes().isEmpty()) {
             return true;
@@ -41,6 +41,8 @@ public final class ShardingSQLBuilder extends AbstractSQLBuilder {
     
     private final RouteUnit routeUnit;
     
+    private Map<String, String> logicAndActualTables;
+    
     public ShardingSQLBuilder(final SQLRewriteContext context, final ShardingRule shardingRule, final RouteUnit routeUnit) {
         super(context);
         this.shardingRule = shardingRule;
@@ -53,7 +55,10 @@ public final class ShardingSQLBuilder extends AbstractSQLBuilder {
             return ((RouteUnitAware) sqlToken).toString(routeUnit);
         }
         if (sqlToken instanceof LogicAndActualTablesAware) {
-            return ((LogicAndActualTablesAware) sqlToken).toString(getLogicAndActualTables());
+            if (null == logicAndActualTables) {
+                logicAndActualTables = getLogicAndActualTables();
+            }
+            return ((LogicAndActualTablesAware) sqlToken).toString(logicAndActualTables);
         }
         return sqlToken.toString();
     }
@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.rewrite.sql;
+
+import org.apache.shardingsphere.sharding.rewrite.token.pojo.LogicAndActualTablesAware;
+import org.apache.shardingsphere.sharding.rewrite.token.pojo.RouteUnitAware;
+import org.apache.shardingsphere.underlying.rewrite.context.SQLRewriteContext;
+import org.apache.shardingsphere.underlying.rewrite.sql.token.pojo.SQLToken;
+import org.apache.shardingsphere.underlying.rewrite.sql.token.pojo.Substitutable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * SQL template for sharding.
+ * 
+ * <p>
+ * SQL tokens are compiled once per statement into literal segments and slots.
+ * Only route unit relevant tokens become slots, others are rendered into literal segments directly.
+ * </p>
+ */
+public final class ShardingSQLTemplate {
+    
+    private static final int ESTIMATED_SLOT_LENGTH = 32;
+    
+    private final List<String> literalSegments = new ArrayList<>();
+    
+    private final List<SQLToken> slots = new ArrayList<>();
+    
+    private int literalLength;
+    
+    public ShardingSQLTemplate(final SQLRewriteContext context) {
+        String sql = context.getSql();
+        List<SQLToken> sqlTokens = context.getSqlTokens();
+        if (sqlTokens.isEmpty()) {
+            addLiteralSegment(sql);
+            return;
+        }
+        Collections.sort(sqlTokens);
+        StringBuilder literalSegment = new StringBuilder(sql.substring(0, sqlTokens.get(0).getStartIndex()));
+        for (int i = 0; i < sqlTokens.size(); i++) {
+            SQLToken each = sqlTokens.get(i);
+            if (isSlot(each)) {
+                addLiteralSegment(literalSegment.toString());
+                slots.add(each);
+                literalSegment = new StringBuilder();
+            } else {
+                literalSegment.append(each.toString());
+            }
+            int stopIndex = sqlTokens.size() - 1 == i ? sql.length() : sqlTokens.get(i + 1).getStartIndex();
+            literalSegment.append(sql, getStartIndex(each, sql), stopIndex);
+        }
+        addLiteralSegment(literalSegment.toString());
+    }
+    
+    private boolean isSlot(final SQLToken sqlToken) {
+        return sqlToken instanceof RouteUnitAware || sqlToken instanceof LogicAndActualTablesAware;
+    }
+    
+    private int getStartIndex(final SQLToken sqlToken, final String sql) {
+        int startIndex = sqlToken instanceof Substitutable ? ((Substitutable) sqlToken).getStopIndex() + 1 : sqlToken.getStartIndex();
+        return Math.min(startIndex, sql.length());
+    }
+    
+    private void addLiteralSegment(final String literalSegment) {
+        literalSegments.add(literalSegment);
+        literalLength += literalSegment.length();
+    }
+    
+    /**
+     * Render SQL by filling slots.
+     *
+     * @param sqlBuilder SQL builder for current route unit
+     * @return SQL
+     */
+    public String toSQL(final ShardingSQLBuilder sqlBuilder) {
+        if (slots.isEmpty()) {
+            return literalSegments.get(0);
+        }
+        StringBuilder result = new StringBuilder(literalLength + slots.size() * ESTIMATED_SLOT_LENGTH);
+        result.append(literalSegments.get(0));
+        for (int i = 0; i < slots.size(); i++) {
+            result.append(sqlBuilder.getSQLTokenText(slots.get(i)));
+            result.append(literalSegments.get(i + 1));
+        }
+        return result.toString();
+    }
+}
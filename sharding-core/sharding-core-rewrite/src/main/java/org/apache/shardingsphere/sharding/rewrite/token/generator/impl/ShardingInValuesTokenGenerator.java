@@ -0,0 +1,165 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.rewrite.token.generator.impl;
+
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import org.apache.shardingsphere.core.rule.DataNode;
+import org.apache.shardingsphere.core.rule.ShardingRule;
+import org.apache.shardingsphere.core.rule.TableRule;
+import org.apache.shardingsphere.core.rule.aware.ShardingRuleAware;
+import org.apache.shardingsphere.core.strategy.route.ShardingStrategy;
+import org.apache.shardingsphere.core.strategy.route.value.ListRouteValue;
+import org.apache.shardingsphere.core.strategy.route.value.RouteValue;
+import org.apache.shardingsphere.sharding.rewrite.token.generator.IgnoreForSingleRoute;
+import org.apache.shardingsphere.sharding.rewrite.token.pojo.impl.ShardingInValue;
+import org.apache.shardingsphere.sharding.rewrite.token.pojo.impl.ShardingInValuesToken;
+import org.apache.shardingsphere.sharding.route.engine.condition.generator.ConditionValue;
+import org.apache.shardingsphere.sql.parser.binder.metadata.RelationMetas;
+import org.apache.shardingsphere.sql.parser.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.sql.parser.binder.type.WhereAvailable;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.expr.ExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.expr.simple.LiteralExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.expr.simple.ParameterMarkerExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.predicate.AndPredicate;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.predicate.PredicateSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.predicate.value.PredicateBracketValue;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.predicate.value.PredicateInRightValue;
+import org.apache.shardingsphere.underlying.common.constant.properties.ShardingSphereProperties;
+import org.apache.shardingsphere.underlying.rewrite.sql.token.generator.CollectionSQLTokenGenerator;
+import org.apache.shardingsphere.underlying.rewrite.sql.token.generator.aware.ParametersAware;
+import org.apache.shardingsphere.underlying.rewrite.sql.token.generator.aware.RelationMetasAware;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * In values token generator for sharding.
+ * 
+ * <p>Generate token for in predicate of sharding column, which values are evaluated by sharding strategies of its table.</p>
+ */
+@RequiredArgsConstructor
+@Setter
+public final class ShardingInValuesTokenGenerator implements CollectionSQLTokenGenerator, ShardingRuleAware, ParametersAware, RelationMetasAware, IgnoreForSingleRoute {
+    
+    private final ShardingSphereProperties properties;
+    
+    private ShardingRule shardingRule;
+    
+    private List<Object> parameters;
+    
+    private RelationMetas relationMetas;
+    
+    @Override
+    public boolean isGenerateSQLToken(final SQLStatementContext sqlStatementContext) {
+        return sqlStatementContext instanceof WhereAvailable && ((WhereAvailable) sqlStatementContext).getWhere().isPresent();
+    }
+    
+    @Override
+    public Collection<ShardingInValuesToken> generateSQLTokens(final SQLStatementContext sqlStatementContext) {
+        Map<Integer, ShardingInValuesToken> result = new LinkedHashMap<>();
+        for (AndPredicate each : ((WhereAvailable) sqlStatementContext).getWhere().get().getAndPredicates()) {
+            for (PredicateSegment predicate : each.getPredicates()) {
+                if (predicate.getRightValue() instanceof PredicateInRightValue && !result.containsKey(predicate.getStartIndex())) {
+                    createShardingInValuesToken(sqlStatementContext, predicate).ifPresent(token -> result.put(predicate.getStartIndex(), token));
+                }
+            }
+        }
+        return result.values();
+    }
+    
+    private Optional<ShardingInValuesToken> createShardingInValuesToken(final SQLStatementContext sqlStatementContext, final PredicateSegment predicate) {
+        Optional<String> tableName = sqlStatementContext.getTablesContext().findTableName(predicate, relationMetas);
+        if (!tableName.isPresent()) {
+            return Optional.empty();
+        }
+        String columnName = predicate.getColumn().getIdentifier().getValue();
+        Optional<TableRule> tableRule = shardingRule.findTableRule(tableName.get());
+        if (!tableRule.isPresent() || shardingRule.getEncryptRule().findEncryptor(tableName.get(), columnName).isPresent()) {
+            return Optional.empty();
+        }
+        ShardingStrategy databaseShardingStrategy = shardingRule.getDatabaseShardingStrategy(tableRule.get());
+        ShardingStrategy tableShardingStrategy = shardingRule.getTableShardingStrategy(tableRule.get());
+        if (!isShardedByColumn(databaseShardingStrategy, columnName) && !isShardedByColumn(tableShardingStrategy, columnName)) {
+            return Optional.empty();
+        }
+        PredicateInRightValue inRightValue = (PredicateInRightValue) predicate.getRightValue();
+        List<ShardingInValue> inValues = new ArrayList<>(inRightValue.getSqlExpressions().size());
+        for (ExpressionSegment each : inRightValue.getSqlExpressions()) {
+            Optional<ShardingInValue> inValue = createShardingInValue(each, columnName, tableRule.get(), databaseShardingStrategy, tableShardingStrategy);
+            if (!inValue.isPresent()) {
+                return Optional.empty();
+            }
+            inValues.add(inValue.get());
+        }
+        PredicateBracketValue bracketValue = inRightValue.getPredicateBracketValue();
+        return Optional.of(new ShardingInValuesToken(bracketValue.getPredicateLeftBracketValue().getStartIndex(),
+                bracketValue.getPredicateRightBracketValue().getStopIndex(), tableRule.get().getLogicTable(), inValues));
+    }
+    
+    private boolean isShardedByColumn(final ShardingStrategy shardingStrategy, final String columnName) {
+        Collection<String> shardingColumns = shardingStrategy.getShardingColumns();
+        return 1 == shardingColumns.size() && shardingColumns.contains(columnName);
+    }
+    
+    private Optional<ShardingInValue> createShardingInValue(final ExpressionSegment expressionSegment, final String columnName, final TableRule tableRule,
+                                                            final ShardingStrategy databaseShardingStrategy, final ShardingStrategy tableShardingStrategy) {
+        Optional<String> text = getText(expressionSegment);
+        if (!text.isPresent()) {
+            return Optional.empty();
+        }
+        Optional<Comparable> value = new ConditionValue(expressionSegment, parameters).getValue();
+        if (!value.isPresent()) {
+            return Optional.empty();
+        }
+        Collection<RouteValue> routeValues = Collections.singletonList(new ListRouteValue<>(columnName, tableRule.getLogicTable(), Collections.singletonList(value.get())));
+        Collection<String> dataSourceNames = isShardedByColumn(databaseShardingStrategy, columnName)
+                ? databaseShardingStrategy.doSharding(tableRule.getActualDatasourceNames(), routeValues, properties) : tableRule.getActualDatasourceNames();
+        Collection<DataNode> dataNodes = new HashSet<>();
+        for (String each : dataSourceNames) {
+            Collection<String> actualTableNames = isShardedByColumn(tableShardingStrategy, columnName)
+                    ? tableShardingStrategy.doSharding(tableRule.getActualTableNames(each), routeValues, properties) : tableRule.getActualTableNames(each);
+            for (String actualTableName : actualTableNames) {
+                dataNodes.add(new DataNode(each, actualTableName));
+            }
+        }
+        int parameterMarkerIndex = expressionSegment instanceof ParameterMarkerExpressionSegment ? ((ParameterMarkerExpressionSegment) expressionSegment).getParameterMarkerIndex() : -1;
+        return Optional.of(new ShardingInValue(text.get(), parameterMarkerIndex, dataNodes));
+    }
+    
+    private Optional<String> getText(final ExpressionSegment expressionSegment) {
+        if (expressionSegment instanceof ParameterMarkerExpressionSegment) {
+            return Optional.of("?");
+        }
+        if (!(expressionSegment instanceof LiteralExpressionSegment)) {
+            return Optional.empty();
+        }
+        Object literals = ((LiteralExpressionSegment) expressionSegment).getLiterals();
+        if (literals instanceof Number) {
+            return Optional.of(literals.toString());
+        }
+        return literals instanceof String && !((String) literals).contains("'") && !((String) literals).contains("\\")
+                ? Optional.of(String.format("'%s'", literals)) : Optional.empty();
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.rewrite.token.pojo.impl;
+
+import lombok.Getter;
+import org.apache.shardingsphere.sharding.rewrite.token.pojo.RouteUnitAware;
+import org.apache.shardingsphere.underlying.rewrite.sql.token.pojo.SQLToken;
+import org.apache.shardingsphere.underlying.rewrite.sql.token.pojo.Substitutable;
+import org.apache.shardingsphere.underlying.route.context.RouteUnit;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * In values token for sharding.
+ * 
+ * <p>Only retain values which are routed to current route unit, retain all values if none of them are routed to it.</p>
+ */
+public final class ShardingInValuesToken extends SQLToken implements Substitutable, RouteUnitAware {
+    
+    @Getter
+    private final int stopIndex;
+    
+    private final String logicTableName;
+    
+    private final List<ShardingInValue> inValues;
+    
+    public ShardingInValuesToken(final int startIndex, final int stopIndex, final String logicTableName, final List<ShardingInValue> inValues) {
+        super(startIndex);
+        this.stopIndex = stopIndex;
+        this.logicTableName = logicTableName;
+        this.inValues = inValues;
+    }
+    
+    /**
+     * Get parameter marker indexes of values which are not routed to route unit.
+     * 
+     * @param routeUnit route unit
+     * @return removed parameter marker indexes
+     */
+    public Collection<Integer> getRemovedParameterMarkerIndexes(final RouteUnit routeUnit) {
+        Collection<ShardingInValue> retainedInValues = new HashSet<>(getRetainedInValues(routeUnit));
+        Collection<Integer> result = new LinkedList<>();
+        for (ShardingInValue each : inValues) {
+            if (-1 != each.getParameterMarkerIndex() && !retainedInValues.contains(each)) {
+                result.add(each.getParameterMarkerIndex());
+            }
+        }
+        return result;
+    }
+    
+    @Override
+    public String toString(final RouteUnit routeUnit) {
+        StringBuilder result = new StringBuilder();
+        result.append("(");
+        for (ShardingInValue each : getRetainedInValues(routeUnit)) {
+            result.append(each.getText()).append(", ");
+        }
+        result.delete(result.length() - 2, result.length()).append(")");
+        return result.toString();
+    }
+    
+    private Collection<ShardingInValue> getRetainedInValues(final RouteUnit routeUnit) {
+        Set<String> actualTableNames = routeUnit.getActualTableNames(logicTableName);
+        if (actualTableNames.isEmpty()) {
+            return inValues;
+        }
+        Collection<ShardingInValue> result = new LinkedList<>();
+        for (ShardingInValue each : inValues) {
+            if (each.isRoutedTo(routeUnit.getLogicDataSourceName(), actualTableNames)) {
+                result.add(each);
+            }
+        }
+        return result.isEmpty() ? inValues : result;
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.rewrite.sql;
+
+import com.google.common.base.Strings;
+import org.apache.shardingsphere.core.rule.ShardingRule;
+import org.apache.shardingsphere.sharding.rewrite.engine.ShardingSQLRewriteEngine;
+import org.apache.shardingsphere.sharding.rewrite.token.pojo.impl.OffsetToken;
+import org.apache.shardingsphere.sharding.rewrite.token.pojo.impl.TableToken;
+import org.apache.shardingsphere.sharding.route.engine.condition.ShardingConditions;
+import org.apache.shardingsphere.sql.parser.binder.metadata.RelationMetas;
+import org.apache.shardingsphere.sql.parser.binder.segment.table.TablesContext;
+import org.apache.shardingsphere.sql.parser.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.sql.parser.sql.segment.generic.table.SimpleTableSegment;
+import org.apache.shardingsphere.sql.parser.sql.value.identifier.IdentifierValue;
+import org.apache.shardingsphere.underlying.rewrite.context.SQLRewriteContext;
+import org.apache.shardingsphere.underlying.route.context.RouteUnit;
+import org.apache.shardingsphere.underlying.route.context.TableUnit;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class ShardingSQLTemplateTest {
+    
+    private static final String SQL = "SELECT * FROM t_order WHERE t_order.order_id = ? LIMIT 10, 20";
+    
+    private final ShardingRule shardingRule = mock(ShardingRule.class);
+    
+    private SQLRewriteContext sqlRewriteContext;
+    
+    @Before
+    public void setUp() {
+        SQLStatementContext sqlStatementContext = mock(SQLStatementContext.class);
+        when(sqlStatementContext.getTablesContext()).thenReturn(new TablesContext(new SimpleTableSegment(14, 20, new IdentifierValue("t_order"))));
+        sqlRewriteContext = new SQLRewriteContext(mock(RelationMetas.class), sqlStatementContext, SQL, Collections.singletonList(1));
+        int firstTableIndex = SQL.indexOf("t_order");
+        int secondTableIndex = SQL.indexOf("t_order", firstTableIndex + 1);
+        int offsetIndex = SQL.indexOf("10");
+        sqlRewriteContext.getSqlTokens().add(new OffsetToken(offsetIndex, offsetIndex + 1, 0));
+        sqlRewriteContext.getSqlTokens().add(new TableToken(secondTableIndex, secondTableIndex + 6, new IdentifierValue("t_order")));
+        sqlRewriteContext.getSqlTokens().add(new TableToken(firstTableIndex, firstTableIndex + 6, new IdentifierValue("t_order")));
+    }
+    
+    @Test
+    public void assertToSQLWithoutSQLTokens() {
+        SQLRewriteContext context = new SQLRewriteContext(mock(RelationMetas.class), mock(SQLStatementContext.class), "SELECT * FROM t_config", Collections.emptyList());
+        ShardingSQLTemplate actual = new ShardingSQLTemplate(context);
+        assertThat(actual.toSQL(new ShardingSQLBuilder(context, shardingRule, new RouteUnit("ds"))), is("SELECT * FROM t_config"));
+    }
+    
+    @Test
+    public void assertToSQLForEachRouteUnit() {
+        ShardingSQLTemplate actual = new ShardingSQLTemplate(sqlRewriteContext);
+        assertThat(actual.toSQL(new ShardingSQLBuilder(sqlRewriteContext, shardingRule, createRouteUnit("t_order_0"))), 
+                is("SELECT * FROM t_order_0 WHERE t_order_0.order_id = ? LIMIT 0, 20"));
+        assertThat(actual.toSQL(new ShardingSQLBuilder(sqlRewriteContext, shardingRule, createRouteUnit("t_order_1"))), 
+                is("SELECT * FROM t_order_1 WHERE t_order_1.order_id = ? LIMIT 0, 20"));
+    }
+    
+    @Test
+    public void assertToSQLWithSlotLongerThanEstimatedLength() {
+        String actualTableName = "t_order_" + Strings.repeat("x", 64);
+        ShardingSQLTemplate actual = new ShardingSQLTemplate(sqlRewriteContext);
+        assertThat(actual.toSQL(new ShardingSQLBuilder(sqlRewriteContext, shardingRule, createRouteUnit(actualTableName))), 
+                is(String.format("SELECT * FROM %s WHERE %s.order_id = ? LIMIT 0, 20", actualTableName, actualTableName)));
+    }
+    
+    @Test
+    public void assertToSQLSameAsRewriteEngine() {
+        ShardingSQLTemplate sqlTemplate = new ShardingSQLTemplate(sqlRewriteContext);
+        ShardingConditions shardingConditions = new ShardingConditions(Collections.emptyList());
+        for (String each : new String[]{"t_order_0", "t_order_1"}) {
+            RouteUnit routeUnit = createRouteUnit(each);
+            String expected = new ShardingSQLBuilder(sqlRewriteContext, shardingRule, routeUnit).toSQL();
+            assertThat(new ShardingSQLRewriteEngine(shardingRule, shardingConditions, routeUnit).rewrite(sqlRewriteContext).getSql(), is(expected));
+            assertThat(new ShardingSQLRewriteEngine(shardingRule, shardingConditions, routeUnit, sqlTemplate).rewrite(sqlRewriteContext).getSql(), is(expected));
+        }
+    }
+    
+    private RouteUnit createRouteUnit(final String actualTableName) {
+        RouteUnit result = new RouteUnit("ds");
+        result.getTableUnits().add(new TableUnit("t_order", actualTableName));
+        return result;
+    }
+}
@@ -31,12 +31,19 @@ import org.apache.shardingsphere.sharding.route.engine.condition.ShardingConditi
 import org.apache.shardingsphere.sharding.route.engine.condition.engine.InsertClauseShardingConditionEngine;
 import org.apache.shardingsphere.sharding.route.engine.condition.engine.WhereClauseShardingConditionEngine;
 import org.apache.shardingsphere.sharding.route.engine.context.ShardingRouteContext;
+import org.apache.shardingsphere.sharding.route.engine.index.GlobalSecondaryIndexMaintainer;
+import org.apache.shardingsphere.sharding.route.engine.join.HashJoinPlan;
+import org.apache.shardingsphere.sharding.route.engine.join.HashJoinPlanner;
 import org.apache.shardingsphere.sharding.route.engine.keygen.GeneratedKey;
 import org.apache.shardingsphere.sharding.route.engine.type.ShardingRouteEngine;
 import org.apache.shardingsphere.sharding.route.engine.type.ShardingRouteEngineFactory;
+import org.apache.shardingsphere.sharding.route.engine.type.join.ShardingHashJoinRoutingEngine;
 import org.apache.shardingsphere.sharding.route.engine.validator.ShardingStatementValidatorFactory;
+import org.apache.shardingsphere.sharding.route.engine.zonemap.ZoneMapMaintainer;
+import org.apache.shardingsphere.sharding.route.engine.zonemap.ZoneMapRouteUnitPruner;
 import org.apache.shardingsphere.sql.parser.SQLParserEngine;
 import org.apache.shardingsphere.sql.parser.binder.SQLStatementContextFactory;
+import org.apache.shardingsphere.sql.parser.binder.cache.SQLStatementContextCache;
 import org.apache.shardingsphere.sql.parser.binder.metadata.RelationMetas;
 import org.apache.shardingsphere.sql.parser.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.sql.parser.binder.statement.dml.InsertStatementContext;
@@ -44,6 +51,7 @@ import org.apache.shardingsphere.sql.parser.binder.statement.dml.SelectStatement
 import org.apache.shardingsphere.sql.parser.sql.statement.SQLStatement;
 import org.apache.shardingsphere.sql.parser.sql.statement.dml.DMLStatement;
 import org.apache.shardingsphere.sql.parser.sql.statement.dml.InsertStatement;
+import org.apache.shardingsphere.underlying.common.constant.properties.PropertiesConstant;
 import org.apache.shardingsphere.underlying.common.constant.properties.ShardingSphereProperties;
 import org.apache.shardingsphere.underlying.common.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.underlying.route.DateNodeRouter;
@@ -72,21 +80,48 @@ public final class ShardingRouter implements DateNodeRouter {
     public ShardingRouteContext route(final String sql, final List<Object> parameters, final boolean useCache) {
         SQLStatement sqlStatement = parse(sql, useCache);
         ShardingStatementValidatorFactory.newInstance(sqlStatement).ifPresent(shardingStatementValidator -> shardingStatementValidator.validate(shardingRule, sqlStatement, parameters));
-        SQLStatementContext sqlStatementContext = SQLStatementContextFactory.newInstance(metaData.getRelationMetas(), sql, parameters, sqlStatement);
+        SQLStatementContext sqlStatementContext = createSQLStatementContext(sql, parameters, sqlStatement, useCache);
         Optional<GeneratedKey> generatedKey = sqlStatement instanceof InsertStatement
                 ? GeneratedKey.getGenerateKey(shardingRule, metaData.getTables(), parameters, (InsertStatement) sqlStatement) : Optional.empty();
         ShardingConditions shardingConditions = getShardingConditions(parameters, sqlStatementContext, generatedKey.orElse(null), metaData.getRelationMetas());
+        if (sqlStatementContext.getSqlStatement() instanceof DMLStatement && shardingRule.hasGlobalSecondaryIndex(sqlStatementContext.getTablesContext().getTableNames())) {
+            new GlobalSecondaryIndexMaintainer(shardingRule).maintain(sqlStatementContext, shardingConditions, generatedKey.orElse(null), parameters);
+        }
         boolean needMergeShardingValues = isNeedMergeShardingValues(sqlStatementContext);
         if (sqlStatementContext.getSqlStatement() instanceof DMLStatement && needMergeShardingValues) {
             checkSubqueryShardingValues(sqlStatementContext, shardingConditions);
             mergeShardingConditions(shardingConditions);
         }
-        ShardingRouteEngine shardingRouteEngine = ShardingRouteEngineFactory.newInstance(shardingRule, metaData, sqlStatementContext, shardingConditions, properties);
+        Optional<HashJoinPlan> hashJoinPlan = properties.<Boolean>getValue(PropertiesConstant.CARTESIAN_HASH_JOIN_ENABLED)
+                ? new HashJoinPlanner(shardingRule, metaData.getRelationMetas()).plan(sql, sqlStatementContext, shardingConditions) : Optional.empty();
+        ShardingRouteEngine shardingRouteEngine = hashJoinPlan.isPresent() ? new ShardingHashJoinRoutingEngine(hashJoinPlan.get(), sqlStatementContext, shardingConditions, properties)
+                : ShardingRouteEngineFactory.newInstance(shardingRule, metaData, sqlStatementContext, shardingConditions, properties);
         RouteResult routeResult = shardingRouteEngine.route(shardingRule);
+        if (sqlStatementContext.getSqlStatement() instanceof DMLStatement && shardingRule.hasZoneMap(sqlStatementContext.getTablesContext().getTableNames())) {
+            new ZoneMapRouteUnitPruner(shardingRule, metaData.getRelationMetas()).prune(sql, sqlStatementContext, parameters, routeResult);
+            new ZoneMapMaintainer(shardingRule).maintain(sqlStatementContext, shardingConditions, generatedKey.orElse(null), parameters, routeResult);
+        }
         if (needMergeShardingValues) {
             Preconditions.checkState(1 == routeResult.getRouteUnits().size(), "Must have one sharding with subquery.");
         }
-        return new ShardingRouteContext(sqlStatementContext, routeResult, shardingConditions, generatedKey.orElse(null));
+        return new ShardingRouteContext(sqlStatementContext, routeResult, shardingConditions, generatedKey.orElse(null), hashJoinPlan.orElse(null));
+    }
+    
+    /**
+     * Create SQL statement context without routing.
+     *
+     * @param sql SQL
+     * @param parameters SQL parameters
+     * @param useCache use cache or not
+     * @return SQL statement context
+     */
+    public SQLStatementContext createSQLStatementContext(final String sql, final List<Object> parameters, final boolean useCache) {
+        return createSQLStatementContext(sql, parameters, parse(sql, useCache), useCache);
+    }
+    
+    private SQLStatementContext createSQLStatementContext(final String sql, final List<Object> parameters, final SQLStatement sqlStatement, final boolean useCache) {
+        return useCache ? SQLStatementContextCache.getSQLStatementContext(metaData.getRelationMetas(), sql, parameters, sqlStatement)
+                : SQLStatementContextFactory.newInstance(metaData.getRelationMetas(), sql, parameters, sqlStatement);
     }
     
     /*
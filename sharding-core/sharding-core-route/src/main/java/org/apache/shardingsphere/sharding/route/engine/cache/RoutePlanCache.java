@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.route.engine.cache;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import java.util.Optional;
+
+/**
+ * Route plan cache.
+ * 
+ * <p>Route plan is the route and rewrite result of a SQL with its parameters.
+ * Only deterministic route plans should be cached, which excludes generated keys, random unicast and load balanced master-slave routing.</p>
+ * 
+ * <p>Route plan cache is owned by runtime context of a logic schema, and should be cleared when table metadata or sharding rule of the schema is refreshed.</p>
+ * 
+ * @param <T> type of route plan
+ */
+public final class RoutePlanCache<T> {
+    
+    private final Cache<RoutePlanKey, T> cache = CacheBuilder.newBuilder().softValues().initialCapacity(2000).maximumSize(65535).build();
+    
+    /**
+     * Put route plan into cache.
+     * 
+     * @param routePlanKey route plan key
+     * @param routePlan route plan
+     */
+    public void put(final RoutePlanKey routePlanKey, final T routePlan) {
+        cache.put(routePlanKey, routePlan);
+    }
+    
+    /**
+     * Get route plan.
+     * 
+     * @param routePlanKey route plan key
+     * @return route plan
+     */
+    public Optional<T> getRoutePlan(final RoutePlanKey routePlanKey) {
+        return Optional.ofNullable(cache.getIfPresent(routePlanKey));
+    }
+    
+    /**
+     * Clear cache.
+     */
+    public synchronized void clear() {
+        cache.invalidateAll();
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.route.engine.cache;
+
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.api.hint.HintManager;
+import org.apache.shardingsphere.core.rule.ShardingRule;
+import org.apache.shardingsphere.underlying.common.constant.properties.ShardingSphereProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Route plan key.
+ * 
+ * <p>Sharding rule and properties are compared by identity,
+ * so route plans of previous rule or properties are never hit after they are renewed by orchestration.</p>
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+@EqualsAndHashCode
+public final class RoutePlanKey {
+    
+    private final ShardingRule shardingRule;
+    
+    private final ShardingSphereProperties properties;
+    
+    private final String sql;
+    
+    private final List<Object> parameters;
+    
+    /**
+     * Create route plan key.
+     * 
+     * <p>Route plan is decided by hint values if hint manager is used, so no key is created.</p>
+     * 
+     * @param shardingRule sharding rule
+     * @param properties ShardingSphere properties
+     * @param sql SQL
+     * @param parameters SQL parameters
+     * @return route plan key
+     */
+    public static Optional<RoutePlanKey> newInstance(final ShardingRule shardingRule, final ShardingSphereProperties properties, final String sql, final List<Object> parameters) {
+        return HintManager.isInstantiated() ? Optional.empty() : Optional.of(new RoutePlanKey(shardingRule, properties, sql, new ArrayList<>(parameters)));
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.route.engine.condition;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.predicate.AndPredicate;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.predicate.PredicateSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.predicate.WhereSegment;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+
+/**
+ * Where clause utility class for route.
+ * 
+ * <p>
+ * Predicates of where segment may not be the whole where clause, because predicates which cannot be recognized are dropped by SQL parser,
+ * such as {@code IS NULL}, {@code LIKE}, function calls and {@code NOT}. Text of where clause which is not covered by predicates is checked to find them.
+ * </p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class WhereClauseUtils {
+    
+    private static final Pattern AND_CONNECTOR_PATTERN = Pattern.compile("(?i)\\bWHERE\\b|\\bAND\\b|[()\\s]");
+    
+    private static final Pattern AND_OR_CONNECTOR_PATTERN = Pattern.compile("(?i)\\bWHERE\\b|\\bAND\\b|\\bOR\\b|[()\\s]");
+    
+    /**
+     * Judge whether predicates cover whole where clause and are only connected by {@code AND}.
+     * 
+     * @param sql SQL
+     * @param whereSegment where segment
+     * @param predicates predicates sorted by start index
+     * @return predicates cover whole where clause and are only connected by {@code AND} or not
+     */
+    public static boolean isOnlyConnectedByAnd(final String sql, final WhereSegment whereSegment, final Collection<PredicateSegment> predicates) {
+        return isOnlyConnected(sql, whereSegment, predicates, AND_CONNECTOR_PATTERN);
+    }
+    
+    /**
+     * Judge whether predicates of where segment cover whole where clause and are only connected by {@code AND} or {@code OR}.
+     * 
+     * @param sql SQL
+     * @param whereSegment where segment
+     * @return predicates of where segment cover whole where clause and are only connected by {@code AND} or {@code OR} or not
+     */
+    public static boolean isOnlyConnectedByAndOr(final String sql, final WhereSegment whereSegment) {
+        Map<Integer, PredicateSegment> predicates = new TreeMap<>();
+        for (AndPredicate each : whereSegment.getAndPredicates()) {
+            for (PredicateSegment predicate : each.getPredicates()) {
+                predicates.put(predicate.getStartIndex(), predicate);
+            }
+        }
+        return isOnlyConnected(sql, whereSegment, predicates.values(), AND_OR_CONNECTOR_PATTERN);
+    }
+    
+    private static boolean isOnlyConnected(final String sql, final WhereSegment whereSegment, final Collection<PredicateSegment> predicates, final Pattern connectorPattern) {
+        StringBuilder connectors = new StringBuilder();
+        int startIndex = whereSegment.getStartIndex();
+        for (PredicateSegment each : predicates) {
+            if (each.getStartIndex() < startIndex) {
+                return false;
+            }
+            connectors.append(sql, startIndex, each.getStartIndex());
+            startIndex = each.getStopIndex() + 1;
+        }
+        connectors.append(sql, startIndex, whereSegment.getStopIndex() + 1);
+        return connectorPattern.matcher(connectors).replaceAll("").isEmpty();
+    }
+}
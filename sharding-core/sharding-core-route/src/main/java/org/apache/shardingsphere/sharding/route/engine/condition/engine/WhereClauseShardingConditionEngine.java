@@ -19,6 +19,7 @@ package org.apache.shardingsphere.sharding.route.engine.condition.engine;
 
 import com.google.common.collect.Range;
 import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.api.config.sharding.GlobalSecondaryIndexConfiguration;
 import org.apache.shardingsphere.core.rule.ShardingRule;
 import org.apache.shardingsphere.core.strategy.route.value.ListRouteValue;
 import org.apache.shardingsphere.core.strategy.route.value.RangeRouteValue;
@@ -99,11 +100,21 @@ public final class WhereClauseShardingConditionEngine {
         Map<Column, Collection<RouteValue>> result = new HashMap<>();
         for (PredicateSegment each : andPredicate.getPredicates()) {
             Optional<String> tableName = sqlStatementContext.getTablesContext().findTableName(each, relationMetas);
-            if (!tableName.isPresent() || !shardingRule.isShardingColumn(each.getColumn().getIdentifier().getValue(), tableName.get())) {
+            if (!tableName.isPresent()) {
                 continue;
             }
-            Column column = new Column(each.getColumn().getIdentifier().getValue(), tableName.get());
+            String columnName = each.getColumn().getIdentifier().getValue();
+            boolean isShardingColumn = shardingRule.isShardingColumn(columnName, tableName.get());
+            Optional<GlobalSecondaryIndexConfiguration> globalSecondaryIndexConfig = isShardingColumn ? Optional.empty() : shardingRule.findGlobalSecondaryIndexConfig(columnName, tableName.get());
+            if (!isShardingColumn && !globalSecondaryIndexConfig.isPresent()) {
+                continue;
+            }
+            Column column = new Column(columnName, tableName.get());
             Optional<RouteValue> routeValue = ConditionValueGeneratorFactory.generate(each.getRightValue(), column, parameters);
+            if (routeValue.isPresent() && globalSecondaryIndexConfig.isPresent()) {
+                column = new Column(globalSecondaryIndexConfig.get().getShardingColumn(), tableName.get());
+                routeValue = findShardingRouteValue(globalSecondaryIndexConfig.get(), column, routeValue.get());
+            }
             if (!routeValue.isPresent()) {
                 continue;
             }
@@ -115,6 +126,15 @@ public final class WhereClauseShardingConditionEngine {
         return result;
     }
     
+    private Optional<RouteValue> findShardingRouteValue(final GlobalSecondaryIndexConfiguration globalSecondaryIndexConfig, final Column shardingColumn, final RouteValue indexRouteValue) {
+        if (!(indexRouteValue instanceof ListRouteValue)) {
+            return Optional.empty();
+        }
+        Collection<Comparable<?>> indexValues = new ArrayList<>(((ListRouteValue<?>) indexRouteValue).getValues());
+        Optional<Collection<Comparable<?>>> shardingValues = globalSecondaryIndexConfig.getGlobalSecondaryIndex().findShardingValues(indexValues);
+        return shardingValues.map(each -> new ListRouteValue<>(shardingColumn.getName(), shardingColumn.getTableName(), new ArrayList<>(each)));
+    }
+    
     private ShardingCondition createShardingCondition(final Map<Column, Collection<RouteValue>> routeValueMap) {
         ShardingCondition result = new ShardingCondition();
         for (Entry<Column, Collection<RouteValue>> entry : routeValueMap.entrySet()) {
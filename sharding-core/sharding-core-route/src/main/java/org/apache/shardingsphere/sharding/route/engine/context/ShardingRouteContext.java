@@ -19,6 +19,7 @@ package org.apache.shardingsphere.sharding.route.engine.context;
 
 import lombok.Getter;
 import org.apache.shardingsphere.sharding.route.engine.condition.ShardingConditions;
+import org.apache.shardingsphere.sharding.route.engine.join.HashJoinPlan;
 import org.apache.shardingsphere.sharding.route.engine.keygen.GeneratedKey;
 import org.apache.shardingsphere.sql.parser.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.underlying.route.context.RouteContext;
@@ -36,10 +37,18 @@ public final class ShardingRouteContext extends RouteContext {
     
     private final GeneratedKey generatedKey;
     
-    public ShardingRouteContext(final SQLStatementContext sqlStatementContext, final RouteResult routeResult, final ShardingConditions shardingConditions, final GeneratedKey generatedKey) {
+    private final HashJoinPlan hashJoinPlan;
+    
+    public ShardingRouteContext(final SQLStatementContext sqlStatementContext, final RouteResult routeResult, 
+                                final ShardingConditions shardingConditions, final GeneratedKey generatedKey, final HashJoinPlan hashJoinPlan) {
         super(sqlStatementContext, routeResult);
         this.shardingConditions = shardingConditions;
         this.generatedKey = generatedKey;
+        this.hashJoinPlan = hashJoinPlan;
+    }
+    
+    public ShardingRouteContext(final SQLStatementContext sqlStatementContext, final RouteResult routeResult, final ShardingConditions shardingConditions, final GeneratedKey generatedKey) {
+        this(sqlStatementContext, routeResult, shardingConditions, generatedKey, null);
     }
     
     public ShardingRouteContext(final SQLStatementContext sqlStatementContext, final RouteResult routeResult, final ShardingConditions shardingConditions) {
@@ -54,4 +63,13 @@ public final class ShardingRouteContext extends RouteContext {
     public Optional<GeneratedKey> getGeneratedKey() {
         return Optional.ofNullable(generatedKey);
     }
+    
+    /**
+     * Get hash join plan.
+     * 
+     * @return hash join plan
+     */
+    public Optional<HashJoinPlan> getHashJoinPlan() {
+        return Optional.ofNullable(hashJoinPlan);
+    }
 }
@@ -0,0 +1,184 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.route.engine.index;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.api.config.sharding.GlobalSecondaryIndexConfiguration;
+import org.apache.shardingsphere.core.rule.ShardingRule;
+import org.apache.shardingsphere.core.strategy.route.value.ListRouteValue;
+import org.apache.shardingsphere.core.strategy.route.value.RouteValue;
+import org.apache.shardingsphere.sharding.route.engine.condition.ShardingCondition;
+import org.apache.shardingsphere.sharding.route.engine.condition.ShardingConditions;
+import org.apache.shardingsphere.sharding.route.engine.keygen.GeneratedKey;
+import org.apache.shardingsphere.sql.parser.binder.segment.insert.InsertValueContext;
+import org.apache.shardingsphere.sql.parser.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.sql.parser.binder.statement.dml.InsertStatementContext;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.assignment.AssignmentSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.column.OnDuplicateKeyColumnsSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.expr.ExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.expr.simple.LiteralExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.expr.simple.ParameterMarkerExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.expr.simple.SimpleExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.statement.dml.UpdateStatement;
+import org.apache.shardingsphere.underlying.common.exception.ShardingSphereException;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Global secondary index maintainer.
+ * 
+ * <p>
+ * Index is maintained before statements are executed, so only entries which widen the route are written:
+ * inserted rows add their mappings, updated index values (including assignments of {@code ON DUPLICATE KEY UPDATE})
+ * are mapped to sharding values of updated rows or invalidated if these are unknown,
+ * and deleted rows leave their mappings in the index.
+ * </p>
+ */
+@RequiredArgsConstructor
+public final class GlobalSecondaryIndexMaintainer {
+    
+    private final ShardingRule shardingRule;
+    
+    /**
+     * Maintain global secondary indexes.
+     * 
+     * @param sqlStatementContext SQL statement context
+     * @param shardingConditions sharding conditions
+     * @param generatedKey generated key
+     * @param parameters SQL parameters
+     */
+    public void maintain(final SQLStatementContext sqlStatementContext, final ShardingConditions shardingConditions, final GeneratedKey generatedKey, final List<Object> parameters) {
+        if (sqlStatementContext instanceof InsertStatementContext) {
+            maintainInsert((InsertStatementContext) sqlStatementContext, shardingConditions, generatedKey, parameters);
+        } else if (sqlStatementContext.getSqlStatement() instanceof UpdateStatement) {
+            UpdateStatement updateStatement = (UpdateStatement) sqlStatementContext.getSqlStatement();
+            String tableName = updateStatement.getTables().iterator().next().getTableName().getIdentifier().getValue();
+            maintainAssignments(tableName, updateStatement.getSetAssignment().getAssignments(), shardingConditions, parameters);
+        }
+    }
+    
+    private void maintainInsert(final InsertStatementContext insertStatementContext, final ShardingConditions shardingConditions, final GeneratedKey generatedKey, final List<Object> parameters) {
+        String tableName = insertStatementContext.getSqlStatement().getTable().getTableName().getIdentifier().getValue();
+        maintainInsertValues(insertStatementContext, tableName, shardingConditions, generatedKey);
+        Optional<OnDuplicateKeyColumnsSegment> onDuplicateKeyColumnsSegment = insertStatementContext.getSqlStatement().getOnDuplicateKeyColumns();
+        if (onDuplicateKeyColumnsSegment.isPresent()) {
+            maintainAssignments(tableName, onDuplicateKeyColumnsSegment.get().getColumns(), shardingConditions, parameters);
+        }
+    }
+    
+    private void maintainInsertValues(final InsertStatementContext insertStatementContext, final String tableName, final ShardingConditions shardingConditions, final GeneratedKey generatedKey) {
+        List<String> columnNames = getColumnNames(insertStatementContext, generatedKey);
+        for (GlobalSecondaryIndexConfiguration each : shardingRule.getGlobalSecondaryIndexConfigs(tableName)) {
+            int columnIndex = indexOfIgnoreCase(columnNames, each.getIndexColumn());
+            if (-1 == columnIndex) {
+                continue;
+            }
+            Iterator<ShardingCondition> shardingConditionIterator = shardingConditions.getConditions().iterator();
+            for (InsertValueContext insertValueContext : insertStatementContext.getInsertValueContexts()) {
+                ShardingCondition shardingCondition = shardingConditionIterator.next();
+                checkIndexValueExpression(each, insertValueContext.getValueExpressions().get(columnIndex));
+                Object indexValue = insertValueContext.getValue(columnIndex);
+                if (indexValue instanceof Comparable) {
+                    maintainIndexValue(each, (Comparable<?>) indexValue, findShardingValues(each.getShardingColumn(), Collections.singletonList(shardingCondition)));
+                }
+            }
+        }
+    }
+    
+    private List<String> getColumnNames(final InsertStatementContext insertStatementContext, final GeneratedKey generatedKey) {
+        List<String> result = new LinkedList<>(insertStatementContext.getColumnNames());
+        if (null != generatedKey && generatedKey.isGenerated()) {
+            result.remove(generatedKey.getColumnName());
+        }
+        return result;
+    }
+    
+    private int indexOfIgnoreCase(final List<String> columnNames, final String columnName) {
+        int result = 0;
+        for (String each : columnNames) {
+            if (each.equalsIgnoreCase(columnName)) {
+                return result;
+            }
+            result++;
+        }
+        return -1;
+    }
+    
+    private void maintainAssignments(final String tableName, final Collection<AssignmentSegment> assignments, final ShardingConditions shardingConditions, final List<Object> parameters) {
+        for (AssignmentSegment each : assignments) {
+            Optional<GlobalSecondaryIndexConfiguration> globalSecondaryIndexConfig = shardingRule.findGlobalSecondaryIndexConfig(each.getColumn().getIdentifier().getValue(), tableName);
+            if (!globalSecondaryIndexConfig.isPresent()) {
+                continue;
+            }
+            checkIndexValueExpression(globalSecondaryIndexConfig.get(), each.getValue());
+            Object indexValue = each.getValue() instanceof ParameterMarkerExpressionSegment
+                    ? parameters.get(((ParameterMarkerExpressionSegment) each.getValue()).getParameterMarkerIndex()) : ((LiteralExpressionSegment) each.getValue()).getLiterals();
+            if (indexValue instanceof Comparable) {
+                Optional<Collection<Comparable<?>>> shardingValues = findShardingValues(globalSecondaryIndexConfig.get().getShardingColumn(), shardingConditions.getConditions());
+                maintainIndexValue(globalSecondaryIndexConfig.get(), (Comparable<?>) indexValue, shardingValues);
+            }
+        }
+    }
+    
+    private void checkIndexValueExpression(final GlobalSecondaryIndexConfiguration globalSecondaryIndexConfig, final ExpressionSegment expressionSegment) {
+        if (!(expressionSegment instanceof SimpleExpressionSegment)) {
+            throw new ShardingSphereException("Global secondary index column `%s` of `%s` only supports literal or parameter marker values.", 
+                    globalSecondaryIndexConfig.getIndexColumn(), globalSecondaryIndexConfig.getLogicTable());
+        }
+    }
+    
+    private Optional<Collection<Comparable<?>>> findShardingValues(final String shardingColumn, final Collection<ShardingCondition> shardingConditions) {
+        if (shardingConditions.isEmpty()) {
+            return Optional.empty();
+        }
+        Collection<Comparable<?>> result = new LinkedHashSet<>();
+        for (ShardingCondition each : shardingConditions) {
+            Optional<ListRouteValue<?>> routeValue = findListRouteValue(shardingColumn, each);
+            if (!routeValue.isPresent()) {
+                return Optional.empty();
+            }
+            result.addAll(routeValue.get().getValues());
+        }
+        return Optional.of(result);
+    }
+    
+    private Optional<ListRouteValue<?>> findListRouteValue(final String shardingColumn, final ShardingCondition shardingCondition) {
+        for (RouteValue each : shardingCondition.getRouteValues()) {
+            if (each instanceof ListRouteValue && shardingColumn.equalsIgnoreCase(each.getColumnName())) {
+                return Optional.of((ListRouteValue<?>) each);
+            }
+        }
+        return Optional.empty();
+    }
+    
+    private void maintainIndexValue(final GlobalSecondaryIndexConfiguration globalSecondaryIndexConfig, final Comparable<?> indexValue, final Optional<Collection<Comparable<?>>> shardingValues) {
+        if (!shardingValues.isPresent()) {
+            globalSecondaryIndexConfig.getGlobalSecondaryIndex().invalidate(indexValue);
+            return;
+        }
+        for (Comparable<?> each : shardingValues.get()) {
+            globalSecondaryIndexConfig.getGlobalSecondaryIndex().put(indexValue, each);
+        }
+    }
+}
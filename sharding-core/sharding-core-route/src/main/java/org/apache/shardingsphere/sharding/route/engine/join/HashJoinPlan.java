@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.route.engine.join;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.sql.parser.binder.segment.select.projection.DerivedColumn;
+import org.apache.shardingsphere.underlying.common.exception.ShardingSphereException;
+
+import java.util.List;
+
+/**
+ * Hash join plan.
+ * 
+ * <p>
+ * Each joined table is scanned with its own predicates, and rows of scans are joined by equality of join keys in merge layer.
+ * Scans project columns of logic SQL in same order, which are null if they belong to other table, 
+ * followed by derived columns of table index and join keys.
+ * Result set meta data of each column should be taken from scan of table which column belongs to, because columns of other table are null.
+ * </p>
+ */
+@RequiredArgsConstructor
+@Getter
+public final class HashJoinPlan {
+    
+    private final List<HashJoinScan> scans;
+    
+    private final List<Integer> columnTableIndexes;
+    
+    /**
+     * Get scan of logic table.
+     * 
+     * @param logicTableName logic table name
+     * @return scan of logic table
+     */
+    public HashJoinScan getScan(final String logicTableName) {
+        for (HashJoinScan each : scans) {
+            if (each.getLogicTableName().equalsIgnoreCase(logicTableName)) {
+                return each;
+            }
+        }
+        throw new ShardingSphereException("Can not find hash join scan of table `%s`.", logicTableName);
+    }
+    
+    /**
+     * Get index of table which column of logic SQL belongs to.
+     * 
+     * @param columnIndex column index of logic SQL, start from 1
+     * @return index of table
+     */
+    public int getColumnTableIndex(final int columnIndex) {
+        return columnTableIndexes.get(columnIndex - 1);
+    }
+    
+    /**
+     * Get index of table which scan result belongs to.
+     * 
+     * @param tableIndexColumnLabel label of derived column of table index in scan result
+     * @return index of table
+     */
+    public int getTableIndex(final String tableIndexColumnLabel) {
+        return DerivedColumn.HASH_JOIN_SIDE_ALIAS.getDerivedColumnAlias(0).equalsIgnoreCase(tableIndexColumnLabel) ? 0 : 1;
+    }
+    
+    /**
+     * Get column count of logic SQL.
+     * 
+     * @return column count
+     */
+    public int getColumnCount() {
+        return columnTableIndexes.size();
+    }
+}
@@ -0,0 +1,316 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.route.engine.join;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.api.hint.HintManager;
+import org.apache.shardingsphere.core.rule.BindingTableRule;
+import org.apache.shardingsphere.core.rule.ShardingRule;
+import org.apache.shardingsphere.sharding.route.engine.condition.ShardingConditions;
+import org.apache.shardingsphere.sharding.route.engine.condition.WhereClauseUtils;
+import org.apache.shardingsphere.sql.parser.binder.metadata.RelationMetas;
+import org.apache.shardingsphere.sql.parser.binder.segment.select.projection.DerivedColumn;
+import org.apache.shardingsphere.sql.parser.binder.segment.select.projection.Projection;
+import org.apache.shardingsphere.sql.parser.binder.segment.select.projection.impl.ColumnProjection;
+import org.apache.shardingsphere.sql.parser.binder.segment.select.projection.impl.ShorthandProjection;
+import org.apache.shardingsphere.sql.parser.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.sql.parser.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.column.ColumnSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.expr.ExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.expr.simple.ParameterMarkerExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.expr.simple.SimpleExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.predicate.PredicateSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.predicate.WhereSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.predicate.value.PredicateBetweenRightValue;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.predicate.value.PredicateCompareRightValue;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.predicate.value.PredicateInRightValue;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.predicate.value.PredicateRightValue;
+import org.apache.shardingsphere.sql.parser.sql.segment.generic.table.SimpleTableSegment;
+import org.apache.shardingsphere.sql.parser.sql.statement.dml.SelectStatement;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Hash join planner.
+ * 
+ * <p>
+ * Only two non-binding sharding tables joined by comma are planned, and where clause must be conjunction of 
+ * equality predicates between columns of both tables and simple predicates of single table.
+ * SQL with group by, order by, limit, aggregation, distinct or subquery is not planned.
+ * </p>
+ */
+@RequiredArgsConstructor
+public final class HashJoinPlanner {
+    
+    private final ShardingRule shardingRule;
+    
+    private final RelationMetas relationMetas;
+    
+    /**
+     * Plan hash join.
+     * 
+     * @param sql SQL
+     * @param sqlStatementContext SQL statement context
+     * @param shardingConditions sharding conditions
+     * @return hash join plan
+     */
+    public Optional<HashJoinPlan> plan(final String sql, final SQLStatementContext sqlStatementContext, final ShardingConditions shardingConditions) {
+        if (!(sqlStatementContext instanceof SelectStatementContext) || shardingConditions.isAlwaysFalse() || HintManager.isDatabaseShardingOnly()
+                || !isSupportedStatement((SelectStatementContext) sqlStatementContext)) {
+            return Optional.empty();
+        }
+        SelectStatementContext selectStatementContext = (SelectStatementContext) sqlStatementContext;
+        List<SimpleTableSegment> tables = getJoinedTables(sql, selectStatementContext.getSqlStatement());
+        if (tables.isEmpty() || !selectStatementContext.getSqlStatement().getWhere().isPresent()) {
+            return Optional.empty();
+        }
+        List<List<PredicateSegment>> pushedPredicates = Arrays.asList(new LinkedList<>(), new LinkedList<>());
+        List<List<ColumnSegment>> joinColumns = Arrays.asList(new LinkedList<>(), new LinkedList<>());
+        if (!classifyPredicates(sql, selectStatementContext.getSqlStatement().getWhere().get(), tables, pushedPredicates, joinColumns) || joinColumns.get(0).isEmpty()) {
+            return Optional.empty();
+        }
+        List<HashJoinProjection> projections = getProjections(selectStatementContext, tables);
+        if (projections.size() != selectStatementContext.getProjectionsContext().getExpandProjections().size()) {
+            return Optional.empty();
+        }
+        List<HashJoinScan> scans = new ArrayList<>(2);
+        for (int i = 0; i < tables.size(); i++) {
+            scans.add(createScan(sql, tables.get(i), i, projections, pushedPredicates.get(i), joinColumns.get(i)));
+        }
+        List<Integer> columnTableIndexes = new ArrayList<>(projections.size());
+        for (HashJoinProjection each : projections) {
+            columnTableIndexes.add(each.getTableIndex());
+        }
+        return Optional.of(new HashJoinPlan(scans, columnTableIndexes));
+    }
+    
+    private boolean isSupportedStatement(final SelectStatementContext selectStatementContext) {
+        SelectStatement selectStatement = selectStatementContext.getSqlStatement();
+        return null == selectStatement.getParentStatement() && selectStatement.getSubQueryTableSegments().isEmpty() && !selectStatementContext.isContainsSubquery()
+                && !selectStatement.getGroupBy().isPresent() && !selectStatement.getOrderBy().isPresent() && !selectStatement.getLimit().isPresent() && !selectStatement.getLock().isPresent()
+                && !selectStatementContext.getProjectionsContext().isDistinctRow();
+    }
+    
+    private List<SimpleTableSegment> getJoinedTables(final String sql, final SelectStatement selectStatement) {
+        List<SimpleTableSegment> result = new ArrayList<>(selectStatement.getSimpleTableSegments());
+        if (2 != result.size() || 2 != selectStatement.getTables().size()) {
+            return Collections.emptyList();
+        }
+        result.sort(Comparator.comparingInt(SimpleTableSegment::getStartIndex));
+        String firstTableName = getTableName(result.get(0));
+        String secondTableName = getTableName(result.get(1));
+        if (result.get(0).getOwner().isPresent() || result.get(1).getOwner().isPresent() || firstTableName.equalsIgnoreCase(secondTableName)
+                || !sql.substring(result.get(0).getStopIndex() + 1, result.get(1).getStartIndex()).trim().endsWith(",")) {
+            return Collections.emptyList();
+        }
+        if (!shardingRule.findTableRule(firstTableName).isPresent() || !shardingRule.findTableRule(secondTableName).isPresent() || isBindingTables(firstTableName, secondTableName)
+                || shardingRule.getEncryptRule().findEncryptTable(firstTableName).isPresent() || shardingRule.getEncryptRule().findEncryptTable(secondTableName).isPresent()) {
+            return Collections.emptyList();
+        }
+        return result;
+    }
+    
+    private boolean isBindingTables(final String firstTableName, final String secondTableName) {
+        Optional<BindingTableRule> bindingTableRule = shardingRule.findBindingTableRule(firstTableName);
+        return bindingTableRule.isPresent() && bindingTableRule.get().hasLogicTable(secondTableName);
+    }
+    
+    private boolean classifyPredicates(final String sql, final WhereSegment whereSegment, final List<SimpleTableSegment> tables,
+                                       final List<List<PredicateSegment>> pushedPredicates, final List<List<ColumnSegment>> joinColumns) {
+        if (1 != whereSegment.getAndPredicates().size()) {
+            return false;
+        }
+        List<PredicateSegment> predicates = new ArrayList<>(whereSegment.getAndPredicates().iterator().next().getPredicates());
+        predicates.sort(Comparator.comparingInt(PredicateSegment::getStartIndex));
+        if (!WhereClauseUtils.isOnlyConnectedByAnd(sql, whereSegment, predicates)) {
+            return false;
+        }
+        for (PredicateSegment each : predicates) {
+            if (!classifyPredicate(sql, each, tables, pushedPredicates, joinColumns)) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private boolean classifyPredicate(final String sql, final PredicateSegment predicate, final List<SimpleTableSegment> tables,
+                                      final List<List<PredicateSegment>> pushedPredicates, final List<List<ColumnSegment>> joinColumns) {
+        Optional<Integer> leftTableIndex = findTableIndex(predicate.getColumn(), tables);
+        if (!leftTableIndex.isPresent()) {
+            return false;
+        }
+        if (!(predicate.getRightValue() instanceof ColumnSegment)) {
+            if (getSimpleExpressions(predicate.getRightValue()).isEmpty()) {
+                return false;
+            }
+            pushedPredicates.get(leftTableIndex.get()).add(predicate);
+            return true;
+        }
+        ColumnSegment rightColumn = (ColumnSegment) predicate.getRightValue();
+        Optional<Integer> rightTableIndex = findTableIndex(rightColumn, tables);
+        if (!rightTableIndex.isPresent()) {
+            return false;
+        }
+        if (leftTableIndex.get().equals(rightTableIndex.get())) {
+            pushedPredicates.get(leftTableIndex.get()).add(predicate);
+            return true;
+        }
+        if (!"=".equals(sql.substring(predicate.getColumn().getStopIndex() + 1, rightColumn.getStartIndex()).trim())) {
+            return false;
+        }
+        joinColumns.get(leftTableIndex.get()).add(predicate.getColumn());
+        joinColumns.get(rightTableIndex.get()).add(rightColumn);
+        return true;
+    }
+    
+    private Optional<Integer> findTableIndex(final ColumnSegment column, final List<SimpleTableSegment> tables) {
+        return column.getOwner().isPresent() ? findTableIndex(column.getOwner().get().getIdentifier().getValue(), tables) : findTableIndexByColumnName(column.getIdentifier().getValue(), tables);
+    }
+    
+    private Optional<Integer> findTableIndex(final String owner, final List<SimpleTableSegment> tables) {
+        for (int i = 0; i < tables.size(); i++) {
+            if (owner.equalsIgnoreCase(getTableReference(tables.get(i)))) {
+                return Optional.of(i);
+            }
+        }
+        return Optional.empty();
+    }
+    
+    private Collection<SimpleExpressionSegment> getSimpleExpressions(final PredicateRightValue rightValue) {
+        Collection<ExpressionSegment> expressions = new LinkedList<>();
+        if (rightValue instanceof PredicateCompareRightValue) {
+            expressions.add(((PredicateCompareRightValue) rightValue).getExpression());
+        } else if (rightValue instanceof PredicateInRightValue) {
+            expressions.addAll(((PredicateInRightValue) rightValue).getSqlExpressions());
+        } else if (rightValue instanceof PredicateBetweenRightValue) {
+            expressions.add(((PredicateBetweenRightValue) rightValue).getBetweenExpression());
+            expressions.add(((PredicateBetweenRightValue) rightValue).getAndExpression());
+        }
+        Collection<SimpleExpressionSegment> result = new LinkedList<>();
+        for (ExpressionSegment each : expressions) {
+            if (!(each instanceof SimpleExpressionSegment)) {
+                return Collections.emptyList();
+            }
+            result.add((SimpleExpressionSegment) each);
+        }
+        return result;
+    }
+    
+    private List<HashJoinProjection> getProjections(final SelectStatementContext selectStatementContext, final List<SimpleTableSegment> tables) {
+        List<HashJoinProjection> result = new LinkedList<>();
+        for (Projection each : selectStatementContext.getProjectionsContext().getProjections()) {
+            if (each instanceof ColumnProjection) {
+                ColumnProjection columnProjection = (ColumnProjection) each;
+                Optional<Integer> tableIndex = null == columnProjection.getOwner()
+                        ? findTableIndexByColumnName(columnProjection.getName(), tables) : findTableIndex(columnProjection.getOwner(), tables);
+                if (!tableIndex.isPresent()) {
+                    return Collections.emptyList();
+                }
+                result.add(createProjection(tableIndex.get(), tables.get(tableIndex.get()), columnProjection.getName(), columnProjection.getColumnLabel()));
+            } else if (each instanceof ShorthandProjection && ((ShorthandProjection) each).getOwner().isPresent()) {
+                Optional<Integer> tableIndex = findTableIndex(((ShorthandProjection) each).getOwner().get(), tables);
+                if (!tableIndex.isPresent()) {
+                    return Collections.emptyList();
+                }
+                for (ColumnProjection actualColumn : ((ShorthandProjection) each).getActualColumns()) {
+                    result.add(createProjection(tableIndex.get(), tables.get(tableIndex.get()), actualColumn.getName(), actualColumn.getColumnLabel()));
+                }
+            } else if (each instanceof ShorthandProjection) {
+                for (int i = 0; i < tables.size(); i++) {
+                    for (String columnName : relationMetas.getAllColumnNames(getTableName(tables.get(i)))) {
+                        result.add(createProjection(i, tables.get(i), columnName, columnName));
+                    }
+                }
+            } else {
+                return Collections.emptyList();
+            }
+        }
+        return result;
+    }
+    
+    private Optional<Integer> findTableIndexByColumnName(final String columnName, final List<SimpleTableSegment> tables) {
+        Optional<Integer> result = Optional.empty();
+        for (int i = 0; i < tables.size(); i++) {
+            if (relationMetas.containsColumn(getTableName(tables.get(i)), columnName)) {
+                if (result.isPresent()) {
+                    return Optional.empty();
+                }
+                result = Optional.of(i);
+            }
+        }
+        return result;
+    }
+    
+    private HashJoinProjection createProjection(final int tableIndex, final SimpleTableSegment table, final String columnName, final String columnLabel) {
+        return new HashJoinProjection(tableIndex, getTableReference(table) + "." + columnName, columnLabel);
+    }
+    
+    private HashJoinScan createScan(final String sql, final SimpleTableSegment table, final int tableIndex, 
+                                    final List<HashJoinProjection> projections, final List<PredicateSegment> pushedPredicates, final List<ColumnSegment> joinColumns) {
+        StringBuilder sqlPrefix = new StringBuilder("SELECT ");
+        for (HashJoinProjection each : projections) {
+            sqlPrefix.append(tableIndex == each.getTableIndex() ? each.getExpression() : "NULL").append(" AS ").append(each.getColumnLabel()).append(", ");
+        }
+        sqlPrefix.append(tableIndex).append(" AS ").append(DerivedColumn.HASH_JOIN_SIDE_ALIAS.getDerivedColumnAlias(tableIndex));
+        int joinColumnCount = 0;
+        for (ColumnSegment each : joinColumns) {
+            sqlPrefix.append(", ").append(getTableReference(table)).append('.').append(each.getIdentifier().getValue())
+                    .append(" AS ").append(DerivedColumn.HASH_JOIN_KEY_ALIAS.getDerivedColumnAlias(joinColumnCount++));
+        }
+        sqlPrefix.append(" FROM ");
+        Collection<String> predicateTexts = new LinkedList<>();
+        List<Integer> parameterIndexes = new LinkedList<>();
+        for (PredicateSegment each : pushedPredicates) {
+            predicateTexts.add(sql.substring(each.getStartIndex(), each.getStopIndex() + 1));
+            for (SimpleExpressionSegment expression : getSimpleExpressions(each.getRightValue())) {
+                if (expression instanceof ParameterMarkerExpressionSegment) {
+                    parameterIndexes.add(((ParameterMarkerExpressionSegment) expression).getParameterMarkerIndex());
+                }
+            }
+        }
+        String sqlSuffix = " " + getTableReference(table) + (predicateTexts.isEmpty() ? "" : " WHERE " + String.join(" AND ", predicateTexts));
+        return new HashJoinScan(getTableName(table), sqlPrefix.toString(), sqlSuffix, parameterIndexes);
+    }
+    
+    private String getTableName(final SimpleTableSegment table) {
+        return table.getTableName().getIdentifier().getValue();
+    }
+    
+    private String getTableReference(final SimpleTableSegment table) {
+        return table.getAlias().orElse(getTableName(table));
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class HashJoinProjection {
+        
+        private final int tableIndex;
+        
+        private final String expression;
+        
+        private final String columnLabel;
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.route.engine.join;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Scan of table for hash join.
+ */
+@RequiredArgsConstructor
+public final class HashJoinScan {
+    
+    @Getter
+    private final String logicTableName;
+    
+    private final String sqlPrefix;
+    
+    private final String sqlSuffix;
+    
+    private final List<Integer> parameterIndexes;
+    
+    /**
+     * Get scan SQL of actual table.
+     * 
+     * @param actualTableName actual table name
+     * @return scan SQL
+     */
+    public String getSQL(final String actualTableName) {
+        return sqlPrefix + actualTableName + sqlSuffix;
+    }
+    
+    /**
+     * Get parameters of scan SQL.
+     * 
+     * @param parameters parameters of logic SQL
+     * @return parameters of scan SQL
+     */
+    public List<Object> getParameters(final List<Object> parameters) {
+        List<Object> result = new ArrayList<>(parameterIndexes.size());
+        for (int each : parameterIndexes) {
+            result.add(parameters.get(each));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.route.engine.type.join;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.core.rule.ShardingRule;
+import org.apache.shardingsphere.sharding.route.engine.condition.ShardingConditions;
+import org.apache.shardingsphere.sharding.route.engine.join.HashJoinPlan;
+import org.apache.shardingsphere.sharding.route.engine.join.HashJoinScan;
+import org.apache.shardingsphere.sharding.route.engine.type.ShardingRouteEngine;
+import org.apache.shardingsphere.sharding.route.engine.type.standard.ShardingStandardRoutingEngine;
+import org.apache.shardingsphere.sql.parser.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.underlying.common.constant.properties.ShardingSphereProperties;
+import org.apache.shardingsphere.underlying.route.context.RouteResult;
+
+/**
+ * Sharding hash join routing engine.
+ * 
+ * <p>
+ * Each table of hash join plan is routed alone, so route units are added up instead of multiplied as cartesian routing.
+ * </p>
+ */
+@RequiredArgsConstructor
+public final class ShardingHashJoinRoutingEngine implements ShardingRouteEngine {
+    
+    private final HashJoinPlan hashJoinPlan;
+    
+    private final SQLStatementContext sqlStatementContext;
+    
+    private final ShardingConditions shardingConditions;
+    
+    private final ShardingSphereProperties properties;
+    
+    @Override
+    public RouteResult route(final ShardingRule shardingRule) {
+        RouteResult result = new RouteResult();
+        for (HashJoinScan each : hashJoinPlan.getScans()) {
+            result.getRouteUnits().addAll(new ShardingStandardRoutingEngine(each.getLogicTableName(), sqlStatementContext, shardingConditions, properties).route(shardingRule).getRouteUnits());
+        }
+        return result;
+    }
+}
@@ -50,15 +50,15 @@ public final class ShardingUnicastRoutingEngine implements ShardingRouteEngine {
             for (String each : logicTables) {
                 tableUnits.add(new TableUnit(each, each));
             }
-            RouteUnit routeUnit = new RouteUnit(shardingRule.getShardingDataSourceNames().getRandomDataSourceName());
+            RouteUnit routeUnit = new RouteUnit(shardingRule.getShardingDataSourceNames().getPreferredDataSourceName());
             routeUnit.getTableUnits().addAll(tableUnits);
             result.getRouteUnits().add(routeUnit);
         } else if (logicTables.isEmpty()) {
-            result.getRouteUnits().add(new RouteUnit(shardingRule.getShardingDataSourceNames().getRandomDataSourceName()));
+            result.getRouteUnits().add(new RouteUnit(shardingRule.getShardingDataSourceNames().getPreferredDataSourceName()));
         } else if (1 == logicTables.size()) {
             String logicTableName = logicTables.iterator().next();
             if (!shardingRule.findTableRule(logicTableName).isPresent()) {
-                result.getRouteUnits().add(new RouteUnit(shardingRule.getShardingDataSourceNames().getRandomDataSourceName()));
+                result.getRouteUnits().add(new RouteUnit(shardingRule.getShardingDataSourceNames().getPreferredDataSourceName()));
                 return result;
             }
             DataNode dataNode = shardingRule.getDataNode(logicTableName);
@@ -87,7 +87,7 @@ public final class ShardingUnicastRoutingEngine implements ShardingRouteEngine {
             if (availableDatasourceNames.isEmpty()) {
                 throw new ShardingSphereConfigurationException("Cannot find actual datasource intersection for logic tables: %s", logicTables);
             }
-            RouteUnit routeUnit = new RouteUnit(shardingRule.getShardingDataSourceNames().getRandomDataSourceName(availableDatasourceNames));
+            RouteUnit routeUnit = new RouteUnit(shardingRule.getShardingDataSourceNames().getPreferredDataSourceName(availableDatasourceNames));
             routeUnit.getTableUnits().addAll(tableUnits);
             result.getRouteUnits().add(routeUnit);
         }
@@ -0,0 +1,165 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.route.engine.zonemap;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.api.config.sharding.ZoneMapConfiguration;
+import org.apache.shardingsphere.core.rule.DataNode;
+import org.apache.shardingsphere.core.rule.ShardingRule;
+import org.apache.shardingsphere.sharding.route.engine.condition.ShardingCondition;
+import org.apache.shardingsphere.sharding.route.engine.condition.ShardingConditions;
+import org.apache.shardingsphere.sharding.route.engine.keygen.GeneratedKey;
+import org.apache.shardingsphere.sql.parser.binder.segment.insert.InsertValueContext;
+import org.apache.shardingsphere.sql.parser.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.sql.parser.binder.statement.dml.InsertStatementContext;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.assignment.AssignmentSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.expr.ExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.expr.simple.LiteralExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.expr.simple.ParameterMarkerExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.statement.dml.UpdateStatement;
+import org.apache.shardingsphere.underlying.route.context.RouteResult;
+import org.apache.shardingsphere.underlying.route.context.RouteUnit;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * Zone map maintainer.
+ * 
+ * <p>
+ * Zone maps are maintained before statements are executed, so value ranges of routed data nodes are expanded to contain written values,
+ * or invalidated if written values are unknown. Deleted rows leave value ranges unchanged.
+ * </p>
+ */
+@RequiredArgsConstructor
+public final class ZoneMapMaintainer {
+    
+    private final ShardingRule shardingRule;
+    
+    /**
+     * Maintain zone maps.
+     * 
+     * @param sqlStatementContext SQL statement context
+     * @param shardingConditions sharding conditions
+     * @param generatedKey generated key
+     * @param parameters SQL parameters
+     * @param routeResult route result
+     */
+    public void maintain(final SQLStatementContext sqlStatementContext, final ShardingConditions shardingConditions, 
+                         final GeneratedKey generatedKey, final List<Object> parameters, final RouteResult routeResult) {
+        if (sqlStatementContext instanceof InsertStatementContext) {
+            maintainInsert((InsertStatementContext) sqlStatementContext, shardingConditions, generatedKey, routeResult);
+        } else if (sqlStatementContext.getSqlStatement() instanceof UpdateStatement) {
+            maintainUpdate((UpdateStatement) sqlStatementContext.getSqlStatement(), parameters, routeResult);
+        }
+    }
+    
+    private void maintainInsert(final InsertStatementContext insertStatementContext, final ShardingConditions shardingConditions, final GeneratedKey generatedKey, final RouteResult routeResult) {
+        String tableName = insertStatementContext.getSqlStatement().getTable().getTableName().getIdentifier().getValue();
+        List<String> columnNames = getColumnNames(insertStatementContext, generatedKey);
+        for (ZoneMapConfiguration each : shardingRule.getZoneMapConfigs(tableName)) {
+            boolean isGeneratedKeyColumn = null != generatedKey && generatedKey.isGenerated() && generatedKey.getColumnName().equalsIgnoreCase(each.getColumn());
+            int columnIndex = indexOfIgnoreCase(columnNames, each.getColumn());
+            Iterator<ShardingCondition> shardingConditionIterator = shardingConditions.getConditions().iterator();
+            Iterator<Comparable<?>> generatedValueIterator = isGeneratedKeyColumn ? generatedKey.getGeneratedValues().iterator() : null;
+            for (InsertValueContext insertValueContext : insertStatementContext.getInsertValueContexts()) {
+                Collection<DataNode> dataNodes = getDataNodes(tableName, shardingConditionIterator.hasNext() ? shardingConditionIterator.next() : null, routeResult);
+                if (isGeneratedKeyColumn) {
+                    expand(each, generatedValueIterator.next(), dataNodes);
+                } else if (-1 == columnIndex || !isSimpleExpression(insertValueContext.getValueExpressions().get(columnIndex))) {
+                    invalidate(each, dataNodes);
+                } else {
+                    expand(each, insertValueContext.getValue(columnIndex), dataNodes);
+                }
+            }
+        }
+    }
+    
+    private List<String> getColumnNames(final InsertStatementContext insertStatementContext, final GeneratedKey generatedKey) {
+        List<String> result = new LinkedList<>(insertStatementContext.getColumnNames());
+        if (null != generatedKey && generatedKey.isGenerated()) {
+            result.remove(generatedKey.getColumnName());
+        }
+        return result;
+    }
+    
+    private int indexOfIgnoreCase(final List<String> columnNames, final String columnName) {
+        int result = 0;
+        for (String each : columnNames) {
+            if (each.equalsIgnoreCase(columnName)) {
+                return result;
+            }
+            result++;
+        }
+        return -1;
+    }
+    
+    private Collection<DataNode> getDataNodes(final String logicTableName, final ShardingCondition shardingCondition, final RouteResult routeResult) {
+        if (null != shardingCondition && !shardingCondition.getDataNodes().isEmpty()) {
+            return shardingCondition.getDataNodes();
+        }
+        Collection<DataNode> result = new LinkedList<>();
+        for (RouteUnit each : routeResult.getRouteUnits()) {
+            for (String actualTableName : each.getActualTableNames(logicTableName)) {
+                result.add(new DataNode(each.getActualDataSourceName(), actualTableName));
+            }
+        }
+        return result;
+    }
+    
+    private void maintainUpdate(final UpdateStatement updateStatement, final List<Object> parameters, final RouteResult routeResult) {
+        String tableName = updateStatement.getTables().iterator().next().getTableName().getIdentifier().getValue();
+        for (AssignmentSegment each : updateStatement.getSetAssignment().getAssignments()) {
+            shardingRule.findZoneMapConfig(each.getColumn().getIdentifier().getValue(), tableName).ifPresent(zoneMapConfig -> {
+                Collection<DataNode> dataNodes = getDataNodes(tableName, null, routeResult);
+                if (each.getValue() instanceof ParameterMarkerExpressionSegment) {
+                    expand(zoneMapConfig, parameters.get(((ParameterMarkerExpressionSegment) each.getValue()).getParameterMarkerIndex()), dataNodes);
+                } else if (each.getValue() instanceof LiteralExpressionSegment) {
+                    expand(zoneMapConfig, ((LiteralExpressionSegment) each.getValue()).getLiterals(), dataNodes);
+                } else {
+                    invalidate(zoneMapConfig, dataNodes);
+                }
+            });
+        }
+    }
+    
+    private boolean isSimpleExpression(final ExpressionSegment expressionSegment) {
+        return expressionSegment instanceof ParameterMarkerExpressionSegment || expressionSegment instanceof LiteralExpressionSegment;
+    }
+    
+    private void expand(final ZoneMapConfiguration zoneMapConfig, final Object value, final Collection<DataNode> dataNodes) {
+        if (null == value) {
+            return;
+        }
+        if (!(value instanceof Comparable)) {
+            invalidate(zoneMapConfig, dataNodes);
+            return;
+        }
+        for (DataNode each : dataNodes) {
+            zoneMapConfig.getZoneMap().expand(each.getDataSourceName(), each.getTableName(), (Comparable<?>) value);
+        }
+    }
+    
+    private void invalidate(final ZoneMapConfiguration zoneMapConfig, final Collection<DataNode> dataNodes) {
+        for (DataNode each : dataNodes) {
+            zoneMapConfig.getZoneMap().invalidate(each.getDataSourceName(), each.getTableName());
+        }
+    }
+}
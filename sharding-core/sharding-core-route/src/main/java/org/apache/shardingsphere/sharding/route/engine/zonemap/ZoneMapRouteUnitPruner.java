@@ -0,0 +1,158 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.route.engine.zonemap;
+
+import com.google.common.collect.Range;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.api.config.sharding.ZoneMapConfiguration;
+import org.apache.shardingsphere.core.rule.ShardingRule;
+import org.apache.shardingsphere.core.strategy.route.value.ListRouteValue;
+import org.apache.shardingsphere.core.strategy.route.value.RangeRouteValue;
+import org.apache.shardingsphere.core.strategy.route.value.RouteValue;
+import org.apache.shardingsphere.sharding.route.engine.condition.Column;
+import org.apache.shardingsphere.sharding.route.engine.condition.WhereClauseUtils;
+import org.apache.shardingsphere.sharding.route.engine.condition.generator.ConditionValueGeneratorFactory;
+import org.apache.shardingsphere.sql.parser.binder.metadata.RelationMetas;
+import org.apache.shardingsphere.sql.parser.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.sql.parser.binder.type.WhereAvailable;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.predicate.AndPredicate;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.predicate.PredicateSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.predicate.WhereSegment;
+import org.apache.shardingsphere.underlying.route.context.RouteResult;
+import org.apache.shardingsphere.underlying.route.context.RouteUnit;
+import org.apache.shardingsphere.underlying.route.context.TableUnit;
+
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Route unit pruner for zone maps.
+ * 
+ * <p>
+ * Route units are pruned if no value range of their data nodes can satisfy predicates of where clause. 
+ * Unknown value ranges are never pruned, and one route unit is kept if all of them are pruned.
+ * Nothing is pruned unless recognized predicates cover the whole where clause, because unrecognized predicates are dropped by SQL parser.
+ * </p>
+ */
+@RequiredArgsConstructor
+public final class ZoneMapRouteUnitPruner {
+    
+    private final ShardingRule shardingRule;
+    
+    private final RelationMetas relationMetas;
+    
+    /**
+     * Prune route units.
+     * 
+     * @param sql SQL
+     * @param sqlStatementContext SQL statement context
+     * @param parameters SQL parameters
+     * @param routeResult route result
+     */
+    public void prune(final String sql, final SQLStatementContext sqlStatementContext, final List<Object> parameters, final RouteResult routeResult) {
+        if (!(sqlStatementContext instanceof WhereAvailable) || routeResult.getRouteUnits().size() < 2) {
+            return;
+        }
+        Optional<WhereSegment> whereSegment = ((WhereAvailable) sqlStatementContext).getWhere();
+        if (!whereSegment.isPresent() || !WhereClauseUtils.isOnlyConnectedByAndOr(sql, whereSegment.get())) {
+            return;
+        }
+        Collection<RouteUnit> prunedRouteUnits = new LinkedList<>();
+        for (RouteUnit each : routeResult.getRouteUnits()) {
+            if (!isSatisfiable(sqlStatementContext, whereSegment.get().getAndPredicates(), parameters, each)) {
+                prunedRouteUnits.add(each);
+            }
+        }
+        if (prunedRouteUnits.size() == routeResult.getRouteUnits().size()) {
+            prunedRouteUnits.remove(routeResult.getRouteUnits().iterator().next());
+        }
+        routeResult.getRouteUnits().removeAll(prunedRouteUnits);
+    }
+    
+    private boolean isSatisfiable(final SQLStatementContext sqlStatementContext, final Collection<AndPredicate> andPredicates, final List<Object> parameters, final RouteUnit routeUnit) {
+        if (andPredicates.isEmpty()) {
+            return true;
+        }
+        for (AndPredicate each : andPredicates) {
+            if (isSatisfiable(sqlStatementContext, each, parameters, routeUnit)) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    private boolean isSatisfiable(final SQLStatementContext sqlStatementContext, final AndPredicate andPredicate, final List<Object> parameters, final RouteUnit routeUnit) {
+        for (PredicateSegment each : andPredicate.getPredicates()) {
+            Optional<String> tableName = sqlStatementContext.getTablesContext().findTableName(each, relationMetas);
+            if (!tableName.isPresent()) {
+                continue;
+            }
+            Optional<ZoneMapConfiguration> zoneMapConfig = shardingRule.findZoneMapConfig(each.getColumn().getIdentifier().getValue(), tableName.get());
+            if (!zoneMapConfig.isPresent()) {
+                continue;
+            }
+            Optional<RouteValue> routeValue = ConditionValueGeneratorFactory.generate(each.getRightValue(), new Column(zoneMapConfig.get().getColumn(), tableName.get()), parameters);
+            if (routeValue.isPresent() && isDisjoint(zoneMapConfig.get(), routeValue.get(), routeUnit)) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private boolean isDisjoint(final ZoneMapConfiguration zoneMapConfig, final RouteValue routeValue, final RouteUnit routeUnit) {
+        boolean result = false;
+        for (TableUnit each : routeUnit.getTableUnits()) {
+            if (!each.getLogicTableName().equalsIgnoreCase(zoneMapConfig.getLogicTable())) {
+                continue;
+            }
+            Optional<Range<Comparable<?>>> valueRange = zoneMapConfig.getZoneMap().findValueRange(routeUnit.getActualDataSourceName(), each.getActualTableName());
+            if (!valueRange.isPresent() || !isDisjoint(valueRange.get(), routeValue)) {
+                return false;
+            }
+            result = true;
+        }
+        return result;
+    }
+    
+    @SuppressWarnings("unchecked")
+    private boolean isDisjoint(final Range<Comparable<?>> valueRange, final RouteValue routeValue) {
+        try {
+            if (routeValue instanceof ListRouteValue) {
+                return isDisjoint(valueRange, ((ListRouteValue<?>) routeValue).getValues());
+            }
+            if (routeValue instanceof RangeRouteValue) {
+                Range<Comparable<?>> predicateRange = ((RangeRouteValue) routeValue).getValueRange();
+                return !valueRange.isConnected(predicateRange) || valueRange.intersection(predicateRange).isEmpty();
+            }
+        } catch (final ClassCastException ex) {
+            return false;
+        }
+        return false;
+    }
+    
+    private boolean isDisjoint(final Range<Comparable<?>> valueRange, final Collection<? extends Comparable<?>> values) {
+        for (Comparable<?> each : values) {
+            if (valueRange.contains(each)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.route.engine.cache;
+
+import org.apache.shardingsphere.api.hint.HintManager;
+import org.apache.shardingsphere.core.rule.ShardingRule;
+import org.apache.shardingsphere.underlying.common.constant.properties.ShardingSphereProperties;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+public final class RoutePlanCacheTest {
+    
+    private static final String SQL = "SELECT * FROM t_order WHERE order_id = ?";
+    
+    private final ShardingRule shardingRule = mock(ShardingRule.class);
+    
+    private final ShardingSphereProperties properties = new ShardingSphereProperties(new Properties());
+    
+    private final RoutePlanCache<String> routePlanCache = new RoutePlanCache<>();
+    
+    @Test
+    public void assertGetRoutePlan() {
+        routePlanCache.put(RoutePlanKey.newInstance(shardingRule, properties, SQL, Collections.singletonList(1)).get(), "ds_1.t_order_1");
+        Optional<String> actual = routePlanCache.getRoutePlan(RoutePlanKey.newInstance(shardingRule, properties, SQL, Collections.singletonList(1)).get());
+        assertTrue(actual.isPresent());
+        assertThat(actual.get(), is("ds_1.t_order_1"));
+    }
+    
+    @Test
+    public void assertGetRoutePlanWithDifferentParameters() {
+        routePlanCache.put(RoutePlanKey.newInstance(shardingRule, properties, SQL, Collections.singletonList(1)).get(), "ds_1.t_order_1");
+        assertFalse(routePlanCache.getRoutePlan(RoutePlanKey.newInstance(shardingRule, properties, SQL, Collections.singletonList(2)).get()).isPresent());
+    }
+    
+    @Test
+    public void assertGetRoutePlanWithRenewedRule() {
+        routePlanCache.put(RoutePlanKey.newInstance(shardingRule, properties, SQL, Collections.singletonList(1)).get(), "ds_1.t_order_1");
+        assertFalse(routePlanCache.getRoutePlan(RoutePlanKey.newInstance(mock(ShardingRule.class), properties, SQL, Collections.singletonList(1)).get()).isPresent());
+        assertFalse(routePlanCache.getRoutePlan(RoutePlanKey.newInstance(
+                shardingRule, new ShardingSphereProperties(new Properties()), SQL, Collections.singletonList(1)).get()).isPresent());
+    }
+    
+    @Test
+    public void assertClear() {
+        routePlanCache.put(RoutePlanKey.newInstance(shardingRule, properties, "SELECT * FROM t_order WHERE order_id IN (?, ?)", Arrays.asList(1, 2)).get(), "ds_1.t_order_1");
+        routePlanCache.clear();
+        assertFalse(routePlanCache.getRoutePlan(RoutePlanKey.newInstance(shardingRule, properties, "SELECT * FROM t_order WHERE order_id IN (?, ?)", Arrays.asList(1, 2)).get()).isPresent());
+    }
+    
+    @Test
+    public void assertNewRoutePlanKeyWithHint() {
+        try (HintManager hintManager = HintManager.getInstance()) {
+            hintManager.addDatabaseShardingValue("t_order", 1);
+            assertFalse(RoutePlanKey.newInstance(shardingRule, properties, "SELECT * FROM t_order", Collections.emptyList()).isPresent());
+        }
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.route.engine.index;
+
+import org.apache.shardingsphere.api.config.sharding.GlobalSecondaryIndexConfiguration;
+import org.apache.shardingsphere.api.config.sharding.ShardingRuleConfiguration;
+import org.apache.shardingsphere.api.config.sharding.TableRuleConfiguration;
+import org.apache.shardingsphere.api.config.sharding.strategy.InlineShardingStrategyConfiguration;
+import org.apache.shardingsphere.core.rule.ShardingRule;
+import org.apache.shardingsphere.sharding.route.engine.ShardingRouter;
+import org.apache.shardingsphere.sharding.route.fixture.GlobalSecondaryIndexFixture;
+import org.apache.shardingsphere.sql.parser.SQLParserEngineFactory;
+import org.apache.shardingsphere.underlying.common.config.DatabaseAccessConfiguration;
+import org.apache.shardingsphere.underlying.common.constant.properties.ShardingSphereProperties;
+import org.apache.shardingsphere.underlying.common.database.type.DatabaseTypes;
+import org.apache.shardingsphere.underlying.common.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.underlying.common.metadata.column.ColumnMetaData;
+import org.apache.shardingsphere.underlying.common.metadata.datasource.DataSourceMetas;
+import org.apache.shardingsphere.underlying.common.metadata.table.TableMetaData;
+import org.apache.shardingsphere.underlying.common.metadata.table.TableMetas;
+import org.apache.shardingsphere.underlying.common.exception.ShardingSphereException;
+import org.apache.shardingsphere.underlying.route.context.RouteUnit;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class GlobalSecondaryIndexRouteTest {
+    
+    private final GlobalSecondaryIndexFixture globalSecondaryIndex = new GlobalSecondaryIndexFixture();
+    
+    private ShardingRouter shardingRouter;
+    
+    @Before
+    public void setUp() {
+        ShardingRuleConfiguration shardingRuleConfig = new ShardingRuleConfiguration();
+        TableRuleConfiguration tableRuleConfig = new TableRuleConfiguration("t_order", "ds_${0..1}.t_order_${0..1}");
+        tableRuleConfig.setDatabaseShardingStrategyConfig(new InlineShardingStrategyConfiguration("user_id", "ds_${user_id % 2}"));
+        tableRuleConfig.setTableShardingStrategyConfig(new InlineShardingStrategyConfiguration("user_id", "t_order_${user_id % 2}"));
+        shardingRuleConfig.getTableRuleConfigs().add(tableRuleConfig);
+        shardingRuleConfig.getGlobalSecondaryIndexConfigs().add(new GlobalSecondaryIndexConfiguration("t_order", "status", "user_id", globalSecondaryIndex));
+        ShardingRule shardingRule = new ShardingRule(shardingRuleConfig, Arrays.asList("ds_0", "ds_1"));
+        shardingRouter = new ShardingRouter(shardingRule, new ShardingSphereProperties(new Properties()), createMetaData(), SQLParserEngineFactory.getSQLParserEngine("MySQL"));
+    }
+    
+    private ShardingSphereMetaData createMetaData() {
+        Map<String, DatabaseAccessConfiguration> dataSourceInfoMap = new HashMap<>(2, 1);
+        dataSourceInfoMap.put("ds_0", new DatabaseAccessConfiguration("jdbc:mysql://127.0.0.1:3306/actual_db", "test", null));
+        dataSourceInfoMap.put("ds_1", new DatabaseAccessConfiguration("jdbc:mysql://127.0.0.1:3306/actual_db", "test", null));
+        Map<String, TableMetaData> tableMetaDataMap = new HashMap<>(1, 1);
+        tableMetaDataMap.put("t_order", new TableMetaData(Arrays.asList(new ColumnMetaData("order_id", "int", true), 
+                new ColumnMetaData("user_id", "int", false), new ColumnMetaData("status", "int", false)), Collections.emptySet()));
+        return new ShardingSphereMetaData(new DataSourceMetas(DatabaseTypes.getActualDatabaseType("MySQL"), dataSourceInfoMap), new TableMetas(tableMetaDataMap));
+    }
+    
+    @Test
+    public void assertRouteWithIndexedValue() {
+        route("INSERT INTO t_order (order_id, user_id, status) VALUES (?, ?, ?), (?, ?, ?)", Arrays.asList(1, 1, 10, 3, 3, 30));
+        assertThat(globalSecondaryIndex.getEntries().get(10), is((Collection<Comparable<?>>) Collections.<Comparable<?>>singleton(1)));
+        assertThat(route("SELECT * FROM t_order WHERE status = ?", Collections.singletonList(10)), is((Collection<String>) Collections.singleton("ds_1.t_order_1")));
+        assertThat(route("SELECT * FROM t_order WHERE status IN (10, 30)", Collections.emptyList()), is((Collection<String>) Collections.singleton("ds_1.t_order_1")));
+    }
+    
+    @Test
+    public void assertRouteWithIndexedValueAndShardingValue() {
+        route("INSERT INTO t_order (order_id, user_id, status) VALUES (1, 1, 10)", Collections.emptyList());
+        assertTrue(shardingRouter.route("SELECT * FROM t_order WHERE status = 10 AND user_id = 2", Collections.emptyList(), false).getShardingConditions().isAlwaysFalse());
+    }
+    
+    @Test
+    public void assertRouteWithUnknownValue() {
+        route("INSERT INTO t_order (order_id, user_id, status) VALUES (1, 1, 10)", Collections.emptyList());
+        assertThat(route("SELECT * FROM t_order WHERE status IN (10, 30)", Collections.emptyList()).size(), is(4));
+        assertThat(route("SELECT * FROM t_order WHERE status > 10", Collections.emptyList()).size(), is(4));
+    }
+    
+    @Test
+    public void assertUpdateWithShardingValue() {
+        route("UPDATE t_order SET status = ? WHERE user_id IN (?, ?)", Arrays.asList(30, 2, 4));
+        assertThat(globalSecondaryIndex.getEntries().get(30), is((Collection<Comparable<?>>) new LinkedHashSet<Comparable<?>>(Arrays.asList(2, 4))));
+        assertThat(route("SELECT * FROM t_order WHERE status = 30", Collections.emptyList()), is((Collection<String>) Collections.singleton("ds_0.t_order_0")));
+    }
+    
+    @Test
+    public void assertUpdateWithoutShardingValue() {
+        route("INSERT INTO t_order (order_id, user_id, status) VALUES (1, 1, 10)", Collections.emptyList());
+        route("UPDATE t_order SET status = 10 WHERE order_id = 2", Collections.emptyList());
+        assertTrue(globalSecondaryIndex.getEntries().get(10).isEmpty());
+        assertThat(route("SELECT * FROM t_order WHERE status = 10", Collections.emptyList()).size(), is(4));
+    }
+    
+    @Test
+    public void assertInsertOnDuplicateKeyUpdate() {
+        route("INSERT INTO t_order (order_id, user_id, status) VALUES (1, 1, 10)", Collections.emptyList());
+        route("INSERT INTO t_order (order_id, user_id, status) VALUES (2, 2, 20)", Collections.emptyList());
+        route("INSERT INTO t_order (order_id, user_id, status) VALUES (?, ?, ?) ON DUPLICATE KEY UPDATE status = ?", Arrays.asList(2, 2, 20, 10));
+        assertThat(globalSecondaryIndex.getEntries().get(10), is((Collection<Comparable<?>>) new LinkedHashSet<Comparable<?>>(Arrays.asList(1, 2))));
+        assertTrue(route("SELECT * FROM t_order WHERE status = 10", Collections.emptyList()).containsAll(Arrays.asList("ds_0.t_order_0", "ds_1.t_order_1")));
+    }
+    
+    @Test(expected = ShardingSphereException.class)
+    public void assertInsertWithUnsupportedIndexValue() {
+        route("INSERT INTO t_order (order_id, user_id, status) VALUES (1, 1, 10 + 1)", Collections.emptyList());
+    }
+    
+    private Collection<String> route(final String sql, final List<Object> parameters) {
+        Collection<String> result = new LinkedHashSet<>();
+        for (RouteUnit each : shardingRouter.route(sql, parameters, false).getRouteResult().getRouteUnits()) {
+            result.add(each.getActualDataSourceName() + "." + each.getTableUnits().get(0).getActualTableName());
+        }
+        return result;
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.route.engine.join;
+
+import org.apache.shardingsphere.api.config.sharding.ShardingRuleConfiguration;
+import org.apache.shardingsphere.api.config.sharding.TableRuleConfiguration;
+import org.apache.shardingsphere.api.config.sharding.strategy.InlineShardingStrategyConfiguration;
+import org.apache.shardingsphere.core.rule.ShardingRule;
+import org.apache.shardingsphere.sharding.route.engine.ShardingRouter;
+import org.apache.shardingsphere.sharding.route.engine.context.ShardingRouteContext;
+import org.apache.shardingsphere.sql.parser.SQLParserEngineFactory;
+import org.apache.shardingsphere.underlying.common.config.DatabaseAccessConfiguration;
+import org.apache.shardingsphere.underlying.common.constant.properties.PropertiesConstant;
+import org.apache.shardingsphere.underlying.common.constant.properties.ShardingSphereProperties;
+import org.apache.shardingsphere.underlying.common.database.type.DatabaseTypes;
+import org.apache.shardingsphere.underlying.common.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.underlying.common.metadata.column.ColumnMetaData;
+import org.apache.shardingsphere.underlying.common.metadata.datasource.DataSourceMetas;
+import org.apache.shardingsphere.underlying.common.metadata.table.TableMetaData;
+import org.apache.shardingsphere.underlying.common.metadata.table.TableMetas;
+import org.apache.shardingsphere.underlying.route.context.RouteUnit;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class HashJoinRouteTest {
+    
+    private ShardingRule shardingRule;
+    
+    private ShardingRouter shardingRouter;
+    
+    @Before
+    public void setUp() {
+        ShardingRuleConfiguration shardingRuleConfig = new ShardingRuleConfiguration();
+        TableRuleConfiguration orderTableRuleConfig = new TableRuleConfiguration("t_order", "ds_${0..1}.t_order_${0..1}");
+        orderTableRuleConfig.setDatabaseShardingStrategyConfig(new InlineShardingStrategyConfiguration("user_id", "ds_${user_id % 2}"));
+        orderTableRuleConfig.setTableShardingStrategyConfig(new InlineShardingStrategyConfiguration("order_id", "t_order_${order_id % 2}"));
+        shardingRuleConfig.getTableRuleConfigs().add(orderTableRuleConfig);
+        TableRuleConfiguration userTableRuleConfig = new TableRuleConfiguration("t_user", "ds_${0..1}.t_user_${0..1}");
+        userTableRuleConfig.setDatabaseShardingStrategyConfig(new InlineShardingStrategyConfiguration("user_id", "ds_${user_id % 2}"));
+        userTableRuleConfig.setTableShardingStrategyConfig(new InlineShardingStrategyConfiguration("user_id", "t_user_${user_id.intdiv(2) % 2}"));
+        shardingRuleConfig.getTableRuleConfigs().add(userTableRuleConfig);
+        shardingRule = new ShardingRule(shardingRuleConfig, Arrays.asList("ds_0", "ds_1"));
+        Properties props = new Properties();
+        props.setProperty(PropertiesConstant.CARTESIAN_HASH_JOIN_ENABLED.getKey(), Boolean.TRUE.toString());
+        shardingRouter = new ShardingRouter(shardingRule, new ShardingSphereProperties(props), createMetaData(), SQLParserEngineFactory.getSQLParserEngine("MySQL"));
+    }
+    
+    private ShardingSphereMetaData createMetaData() {
+        Map<String, DatabaseAccessConfiguration> dataSourceInfoMap = new HashMap<>(2, 1);
+        dataSourceInfoMap.put("ds_0", new DatabaseAccessConfiguration("jdbc:mysql://127.0.0.1:3306/actual_db", "test", null));
+        dataSourceInfoMap.put("ds_1", new DatabaseAccessConfiguration("jdbc:mysql://127.0.0.1:3306/actual_db", "test", null));
+        Map<String, TableMetaData> tableMetaDataMap = new HashMap<>(2, 1);
+        tableMetaDataMap.put("t_order", new TableMetaData(Arrays.asList(new ColumnMetaData("order_id", "int", true), 
+                new ColumnMetaData("user_id", "int", false), new ColumnMetaData("status", "varchar", false)), Collections.emptySet()));
+        tableMetaDataMap.put("t_user", new TableMetaData(Arrays.asList(new ColumnMetaData("user_id", "int", true), new ColumnMetaData("user_name", "varchar", false)), Collections.emptySet()));
+        return new ShardingSphereMetaData(new DataSourceMetas(DatabaseTypes.getActualDatabaseType("MySQL"), dataSourceInfoMap), new TableMetas(tableMetaDataMap));
+    }
+    
+    @Test
+    public void assertRouteWithHashJoin() {
+        ShardingRouteContext actual = shardingRouter.route(
+                "SELECT o.order_id, u.user_name FROM t_order o, t_user u WHERE o.user_id = u.user_id AND o.status = ?", Collections.singletonList("init"), false);
+        assertTrue(actual.getHashJoinPlan().isPresent());
+        assertThat(actual.getRouteResult().getRouteUnits().size(), is(8));
+        HashJoinScan orderScan = actual.getHashJoinPlan().get().getScan("t_order");
+        assertThat(orderScan.getSQL("t_order_0"), 
+                is("SELECT o.order_id AS order_id, NULL AS user_name, 0 AS HASH_JOIN_DERIVED_SIDE_0, o.user_id AS HASH_JOIN_DERIVED_KEY_0 FROM t_order_0 o WHERE o.status = ?"));
+        assertThat(orderScan.getParameters(Collections.singletonList("init")), is(Collections.<Object>singletonList("init")));
+        HashJoinScan userScan = actual.getHashJoinPlan().get().getScan("t_user");
+        assertThat(userScan.getSQL("t_user_1"), is("SELECT NULL AS order_id, u.user_name AS user_name, 1 AS HASH_JOIN_DERIVED_SIDE_1, u.user_id AS HASH_JOIN_DERIVED_KEY_0 FROM t_user_1 u"));
+        assertTrue(userScan.getParameters(Collections.singletonList("init")).isEmpty());
+        assertThat(actual.getHashJoinPlan().get().getColumnCount(), is(2));
+        assertThat(actual.getHashJoinPlan().get().getColumnTableIndex(1), is(0));
+        assertThat(actual.getHashJoinPlan().get().getColumnTableIndex(2), is(1));
+        assertThat(actual.getHashJoinPlan().get().getTableIndex("HASH_JOIN_DERIVED_SIDE_1"), is(1));
+    }
+    
+    @Test
+    public void assertRouteWithShardingValueOfOneTable() {
+        ShardingRouteContext actual = shardingRouter.route("SELECT * FROM t_order o, t_user u WHERE o.user_id = u.user_id AND u.user_id = ?", Collections.singletonList(3), false);
+        assertTrue(actual.getHashJoinPlan().isPresent());
+        assertThat(getDataNodes(actual), is((Collection<String>) new LinkedHashSet<>(Arrays.asList(
+                "ds_0.t_order_0", "ds_0.t_order_1", "ds_1.t_order_0", "ds_1.t_order_1", "ds_1.t_user_1"))));
+        assertThat(actual.getHashJoinPlan().get().getScan("t_user").getSQL("t_user_1"), is("SELECT NULL AS order_id, NULL AS user_id, NULL AS status, "
+                + "u.user_id AS user_id, u.user_name AS user_name, 1 AS HASH_JOIN_DERIVED_SIDE_1, u.user_id AS HASH_JOIN_DERIVED_KEY_0 FROM t_user_1 u WHERE u.user_id = ?"));
+    }
+    
+    @Test
+    public void assertRouteWithUnqualifiedColumns() {
+        ShardingRouteContext actual = shardingRouter.route(
+                "SELECT order_id, user_name FROM t_order, t_user WHERE t_order.user_id = t_user.user_id AND status IN (?, ?)", Arrays.asList("a", "b"), false);
+        assertTrue(actual.getHashJoinPlan().isPresent());
+        HashJoinScan orderScan = actual.getHashJoinPlan().get().getScan("t_order");
+        assertThat(orderScan.getSQL("t_order_1"), is("SELECT t_order.order_id AS order_id, NULL AS user_name, 0 AS HASH_JOIN_DERIVED_SIDE_0, "
+                + "t_order.user_id AS HASH_JOIN_DERIVED_KEY_0 FROM t_order_1 t_order WHERE status IN (?, ?)"));
+        assertThat(orderScan.getParameters(Arrays.asList("a", "b")), is(Arrays.<Object>asList("a", "b")));
+    }
+    
+    @Test
+    public void assertRouteWithoutHashJoinIfDisabled() {
+        ShardingRouter shardingRouter = new ShardingRouter(shardingRule, new ShardingSphereProperties(new Properties()), createMetaData(), SQLParserEngineFactory.getSQLParserEngine("MySQL"));
+        assertFalse(shardingRouter.route("SELECT o.order_id FROM t_order o, t_user u WHERE o.user_id = u.user_id", Collections.emptyList(), false).getHashJoinPlan().isPresent());
+    }
+    
+    @Test
+    public void assertRouteWithoutHashJoinForUnsupportedSQL() {
+        assertFalse(shardingRouter.route("SELECT o.order_id FROM t_order o, t_user u WHERE o.user_id = u.user_id ORDER BY o.order_id", Collections.emptyList(), false).getHashJoinPlan().isPresent());
+        assertFalse(shardingRouter.route("SELECT o.order_id FROM t_order o, t_user u WHERE o.user_id = u.user_id OR o.status = 'a'", Collections.emptyList(), false).getHashJoinPlan().isPresent());
+        assertFalse(shardingRouter.route("SELECT o.order_id FROM t_order o, t_user u WHERE o.user_id > u.user_id", Collections.emptyList(), false).getHashJoinPlan().isPresent());
+        assertFalse(shardingRouter.route("SELECT COUNT(*) FROM t_order o, t_user u WHERE o.user_id = u.user_id", Collections.emptyList(), false).getHashJoinPlan().isPresent());
+    }
+    
+    private Collection<String> getDataNodes(final ShardingRouteContext shardingRouteContext) {
+        Collection<String> result = new LinkedHashSet<>();
+        for (RouteUnit each : shardingRouteContext.getRouteResult().getRouteUnits()) {
+            result.add(each.getActualDataSourceName() + "." + each.getTableUnits().get(0).getActualTableName());
+        }
+        return result;
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.route.engine.zonemap;
+
+import com.google.common.collect.Range;
+import org.apache.shardingsphere.api.config.sharding.ShardingRuleConfiguration;
+import org.apache.shardingsphere.api.config.sharding.TableRuleConfiguration;
+import org.apache.shardingsphere.api.config.sharding.ZoneMapConfiguration;
+import org.apache.shardingsphere.api.config.sharding.strategy.InlineShardingStrategyConfiguration;
+import org.apache.shardingsphere.core.rule.ShardingRule;
+import org.apache.shardingsphere.sharding.route.engine.ShardingRouter;
+import org.apache.shardingsphere.sharding.route.fixture.ZoneMapFixture;
+import org.apache.shardingsphere.sql.parser.SQLParserEngineFactory;
+import org.apache.shardingsphere.underlying.common.config.DatabaseAccessConfiguration;
+import org.apache.shardingsphere.underlying.common.constant.properties.ShardingSphereProperties;
+import org.apache.shardingsphere.underlying.common.database.type.DatabaseTypes;
+import org.apache.shardingsphere.underlying.common.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.underlying.common.metadata.column.ColumnMetaData;
+import org.apache.shardingsphere.underlying.common.metadata.datasource.DataSourceMetas;
+import org.apache.shardingsphere.underlying.common.metadata.table.TableMetaData;
+import org.apache.shardingsphere.underlying.common.metadata.table.TableMetas;
+import org.apache.shardingsphere.underlying.route.context.RouteUnit;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+
+public final class ZoneMapRouteTest {
+    
+    private final ZoneMapFixture zoneMap = new ZoneMapFixture();
+    
+    private ShardingRouter shardingRouter;
+    
+    @Before
+    public void setUp() {
+        ShardingRuleConfiguration shardingRuleConfig = new ShardingRuleConfiguration();
+        TableRuleConfiguration tableRuleConfig = new TableRuleConfiguration("t_order", "ds_${0..1}.t_order_${0..1}");
+        tableRuleConfig.setDatabaseShardingStrategyConfig(new InlineShardingStrategyConfiguration("user_id", "ds_${user_id % 2}"));
+        tableRuleConfig.setTableShardingStrategyConfig(new InlineShardingStrategyConfiguration("user_id", "t_order_${user_id % 2}"));
+        shardingRuleConfig.getTableRuleConfigs().add(tableRuleConfig);
+        shardingRuleConfig.getZoneMapConfigs().add(new ZoneMapConfiguration("t_order", "create_day", zoneMap));
+        ShardingRule shardingRule = new ShardingRule(shardingRuleConfig, Arrays.asList("ds_0", "ds_1"));
+        shardingRouter = new ShardingRouter(shardingRule, new ShardingSphereProperties(new Properties()), createMetaData(), SQLParserEngineFactory.getSQLParserEngine("MySQL"));
+        zoneMap.getValueRanges().put("ds_0.t_order_0", Range.<Comparable<?>>closed(1, 10));
+        zoneMap.getValueRanges().put("ds_0.t_order_1", Range.<Comparable<?>>closed(11, 20));
+        zoneMap.getValueRanges().put("ds_1.t_order_0", Range.<Comparable<?>>closed(21, 30));
+        zoneMap.getValueRanges().put("ds_1.t_order_1", Range.<Comparable<?>>closed(31, 40));
+    }
+    
+    private ShardingSphereMetaData createMetaData() {
+        Map<String, DatabaseAccessConfiguration> dataSourceInfoMap = new HashMap<>(2, 1);
+        dataSourceInfoMap.put("ds_0", new DatabaseAccessConfiguration("jdbc:mysql://127.0.0.1:3306/actual_db", "test", null));
+        dataSourceInfoMap.put("ds_1", new DatabaseAccessConfiguration("jdbc:mysql://127.0.0.1:3306/actual_db", "test", null));
+        Map<String, TableMetaData> tableMetaDataMap = new HashMap<>(1, 1);
+        tableMetaDataMap.put("t_order", new TableMetaData(Arrays.asList(new ColumnMetaData("order_id", "int", true), 
+                new ColumnMetaData("user_id", "int", false), new ColumnMetaData("create_day", "int", false)), Collections.emptySet()));
+        return new ShardingSphereMetaData(new DataSourceMetas(DatabaseTypes.getActualDatabaseType("MySQL"), dataSourceInfoMap), new TableMetas(tableMetaDataMap));
+    }
+    
+    @Test
+    public void assertRouteWithListValue() {
+        assertThat(route("SELECT * FROM t_order WHERE create_day = ?", Collections.singletonList(15)), is((Collection<String>) Collections.singleton("ds_0.t_order_1")));
+        Collection<String> actual = route("SELECT * FROM t_order WHERE create_day IN (5, 35)", Collections.emptyList());
+        assertThat(actual, is((Collection<String>) new LinkedHashSet<>(Arrays.asList("ds_0.t_order_0", "ds_1.t_order_1"))));
+    }
+    
+    @Test
+    public void assertRouteWithRangeValue() {
+        assertThat(route("SELECT * FROM t_order WHERE create_day BETWEEN 5 AND 25", Collections.emptyList()).size(), is(3));
+        assertThat(route("SELECT * FROM t_order WHERE create_day > 35", Collections.emptyList()), is((Collection<String>) Collections.singleton("ds_1.t_order_1")));
+    }
+    
+    @Test
+    public void assertRouteWithOrPredicates() {
+        assertThat(route("SELECT * FROM t_order WHERE create_day = 5 OR create_day = 35", Collections.emptyList()).size(), is(2));
+    }
+    
+    @Test
+    public void assertRouteWithOrLikePredicate() {
+        assertThat(route("SELECT * FROM t_order WHERE create_day > ? OR order_id LIKE '1%'", Collections.singletonList(35)).size(), is(4));
+    }
+    
+    @Test
+    public void assertRouteWithOrIsNullPredicate() {
+        assertThat(route("SELECT * FROM t_order WHERE create_day > ? OR order_id IS NULL", Collections.singletonList(35)).size(), is(4));
+    }
+    
+    @Test
+    public void assertRouteWithNotPredicate() {
+        assertThat(route("SELECT * FROM t_order WHERE NOT (create_day > ?)", Collections.singletonList(35)).size(), is(4));
+    }
+    
+    @Test
+    public void assertRouteWithParenthesizedPredicates() {
+        Collection<String> actual = route("SELECT * FROM t_order WHERE (create_day > 35) AND (order_id = 1 OR order_id = 3)", Collections.emptyList());
+        assertThat(actual, is((Collection<String>) Collections.singleton("ds_1.t_order_1")));
+    }
+    
+    @Test
+    public void assertRouteWithUnsatisfiableValue() {
+        assertThat(route("SELECT * FROM t_order WHERE create_day = 100", Collections.emptyList()).size(), is(1));
+    }
+    
+    @Test
+    public void assertRouteWithUnknownValueRange() {
+        zoneMap.invalidate("ds_1", "t_order_1");
+        assertThat(route("SELECT * FROM t_order WHERE create_day = 15", Collections.emptyList()), is((Collection<String>) new LinkedHashSet<>(Arrays.asList("ds_0.t_order_1", "ds_1.t_order_1"))));
+    }
+    
+    @Test
+    public void assertInsertExpandsValueRange() {
+        route("INSERT INTO t_order (order_id, user_id, create_day) VALUES (?, ?, ?), (?, ?, ?)", Arrays.asList(1, 1, 50, 2, 2, 0));
+        assertThat(zoneMap.getValueRanges().get("ds_1.t_order_1"), is(Range.<Comparable<?>>closed(31, 50)));
+        assertThat(zoneMap.getValueRanges().get("ds_0.t_order_0"), is(Range.<Comparable<?>>closed(0, 10)));
+        assertThat(route("SELECT * FROM t_order WHERE create_day = 50", Collections.emptyList()), is((Collection<String>) Collections.singleton("ds_1.t_order_1")));
+    }
+    
+    @Test
+    public void assertInsertWithoutColumnInvalidatesValueRange() {
+        route("INSERT INTO t_order (order_id, user_id) VALUES (1, 1)", Collections.emptyList());
+        assertFalse(zoneMap.findValueRange("ds_1", "t_order_1").isPresent());
+        assertThat(zoneMap.getValueRanges().size(), is(3));
+    }
+    
+    @Test
+    public void assertUpdateExpandsValueRange() {
+        route("UPDATE t_order SET create_day = 12 WHERE user_id = 2", Collections.emptyList());
+        assertThat(zoneMap.getValueRanges().get("ds_0.t_order_0"), is(Range.<Comparable<?>>closed(1, 12)));
+        assertThat(zoneMap.getValueRanges().get("ds_0.t_order_1"), is(Range.<Comparable<?>>closed(11, 20)));
+    }
+    
+    @Test
+    public void assertUpdateWithExpressionInvalidatesValueRange() {
+        route("UPDATE t_order SET create_day = create_day + 1 WHERE user_id = 2", Collections.emptyList());
+        assertFalse(zoneMap.findValueRange("ds_0", "t_order_0").isPresent());
+        assertThat(zoneMap.getValueRanges().size(), is(3));
+    }
+    
+    private Collection<String> route(final String sql, final List<Object> parameters) {
+        Collection<String> result = new LinkedHashSet<>();
+        for (RouteUnit each : shardingRouter.route(sql, parameters, false).getRouteResult().getRouteUnits()) {
+            result.add(each.getActualDataSourceName() + "." + each.getTableUnits().get(0).getActualTableName());
+        }
+        return result;
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.route.fixture;
+
+import lombok.Getter;
+import org.apache.shardingsphere.api.sharding.index.GlobalSecondaryIndex;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Optional;
+
+@Getter
+public final class GlobalSecondaryIndexFixture implements GlobalSecondaryIndex {
+    
+    private final Map<Comparable<?>, Collection<Comparable<?>>> entries = new HashMap<>();
+    
+    @Override
+    public Optional<Collection<Comparable<?>>> findShardingValues(final Collection<Comparable<?>> indexValues) {
+        Collection<Comparable<?>> result = new LinkedHashSet<>();
+        for (Comparable<?> each : indexValues) {
+            Collection<Comparable<?>> shardingValues = entries.get(each);
+            if (null == shardingValues || shardingValues.isEmpty()) {
+                return Optional.empty();
+            }
+            result.addAll(shardingValues);
+        }
+        return Optional.of(result);
+    }
+    
+    @Override
+    public void put(final Comparable<?> indexValue, final Comparable<?> shardingValue) {
+        entries.computeIfAbsent(indexValue, key -> new LinkedHashSet<>()).add(shardingValue);
+    }
+    
+    @Override
+    public void invalidate(final Comparable<?> indexValue) {
+        entries.put(indexValue, new LinkedHashSet<>());
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.route.fixture;
+
+import com.google.common.collect.Range;
+import lombok.Getter;
+import org.apache.shardingsphere.api.sharding.zonemap.ZoneMap;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+@Getter
+public final class ZoneMapFixture implements ZoneMap {
+    
+    private final Map<String, Range<Comparable<?>>> valueRanges = new HashMap<>();
+    
+    @Override
+    public Optional<Range<Comparable<?>>> findValueRange(final String dataSourceName, final String actualTableName) {
+        return Optional.ofNullable(valueRanges.get(dataSourceName + "." + actualTableName));
+    }
+    
+    @Override
+    public void expand(final String dataSourceName, final String actualTableName, final Comparable<?> value) {
+        valueRanges.computeIfPresent(dataSourceName + "." + actualTableName, (key, valueRange) -> valueRange.span(Range.singleton(value)));
+    }
+    
+    @Override
+    public void invalidate(final String dataSourceName, final String actualTableName) {
+        valueRanges.remove(dataSourceName + "." + actualTableName);
+    }
+}
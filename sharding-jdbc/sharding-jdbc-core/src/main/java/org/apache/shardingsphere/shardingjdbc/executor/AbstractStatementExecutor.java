@@ -64,6 +64,8 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.stream.Collectors;
 
@@ -144,6 +146,29 @@ public abstract class AbstractStatementExecutor {
         return result;
     }
     
+    /**
+     * Execute callback asynchronously.
+     *
+     * @param executeCallback execute callback
+     * @param <T> class type of return value
+     * @return future of result
+     */
+    @SuppressWarnings("unchecked")
+    protected final <T> CompletableFuture<List<T>> executeCallbackAsync(final SQLExecuteCallback<T> executeCallback) {
+        return sqlExecuteTemplate.executeAsync((Collection) inputGroups, executeCallback).thenApply(result -> {
+            refreshMetaDataIfNeededQuietly();
+            return result;
+        });
+    }
+    
+    private void refreshMetaDataIfNeededQuietly() {
+        try {
+            refreshMetaDataIfNeeded(connection.getRuntimeContext(), sqlStatementContext);
+        } catch (final SQLException ex) {
+            throw new CompletionException(ex);
+        }
+    }
+    
     /**
      * is accumulate.
      * 
@@ -187,7 +212,10 @@ public abstract class AbstractStatementExecutor {
             refreshTableMetaData(runtimeContext, ((CreateIndexStatementContext) sqlStatementContext).getSqlStatement());
         } else if (sqlStatementContext instanceof DropIndexStatementContext) {
             refreshTableMetaData(runtimeContext, ((DropIndexStatementContext) sqlStatementContext).getSqlStatement());
+        } else {
+            return;
         }
+        runtimeContext.getRoutePlanCache().clear();
     }
     
     private void refreshTableMetaData(final ShardingRuntimeContext runtimeContext, final CreateTableStatement createTableStatement) throws SQLException {
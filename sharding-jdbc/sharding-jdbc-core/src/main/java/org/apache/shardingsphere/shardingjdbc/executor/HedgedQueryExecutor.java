@@ -0,0 +1,169 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingjdbc.executor;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.masterslave.route.engine.hedge.HedgedReadPolicy;
+import org.apache.shardingsphere.underlying.executor.engine.ExecutorEngine;
+import org.apache.shardingsphere.underlying.executor.engine.InputGroup;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Hedged query executor for master-slave.
+ */
+@RequiredArgsConstructor
+public final class HedgedQueryExecutor {
+    
+    private final ExecutorEngine executorEngine;
+    
+    private final HedgedReadPolicy hedgedReadPolicy;
+    
+    /**
+     * Execute query, and issue it to hedge data source too if it has not returned within hedge delay.
+     *
+     * <p>
+     * Routed statements must contain only the statement of routed data source when called,
+     * and contain only the statement which produces returned result set after returned.
+     * </p>
+     *
+     * @param sql SQL
+     * @param routedStatements routed statements
+     * @param dataSourceName data source name which query is routed to
+     * @param hedgeDataSourceName data source name to hedge query
+     * @param hedgeStatementCreator creator of statement on hedge data source
+     * @return result set of the query which returns first
+     * @throws SQLException SQL exception
+     */
+    public ResultSet executeQuery(final String sql, final Collection<Statement> routedStatements, 
+                                  final String dataSourceName, final String hedgeDataSourceName, final HedgeStatementCreator hedgeStatementCreator) throws SQLException {
+        Statement statement = routedStatements.iterator().next();
+        Optional<Long> hedgeDelayMillis = hedgedReadPolicy.getHedgeDelayMillis(dataSourceName);
+        CompletableFuture<ResultSet> future = executeQueryAsync(sql, dataSourceName, statement);
+        if (!hedgeDelayMillis.isPresent() || isCompleted(future, hedgeDelayMillis.get()) || !hedgedReadPolicy.tryAcquireHedge()) {
+            return getResult(future);
+        }
+        Statement hedgeStatement = hedgeStatementCreator.create();
+        CompletableFuture<ResultSet> hedgeFuture = executeQueryAsync(sql, hedgeDataSourceName, hedgeStatement);
+        ResultSet result;
+        try {
+            result = getResult(getFirstSucceeded(future, hedgeFuture));
+        } catch (final SQLException ex) {
+            closeQuietly(hedgeStatement);
+            throw ex;
+        }
+        if (isProducedBy(future, result)) {
+            cancel(hedgeStatement, hedgeFuture);
+        } else {
+            cancel(statement, future);
+            routedStatements.clear();
+            routedStatements.add(hedgeStatement);
+        }
+        return result;
+    }
+    
+    private CompletableFuture<ResultSet> executeQueryAsync(final String sql, final String dataSourceName, final Statement statement) {
+        InputGroup<Statement> inputGroup = new InputGroup<>(dataSourceName, Collections.singletonList(statement));
+        return executorEngine.<Statement, ResultSet>executeAsync(Collections.singleton(inputGroup), (inputs, isTrunkThread, dataMap) -> {
+            long startTimeMillis = System.currentTimeMillis();
+            ResultSet result = statement.executeQuery(sql);
+            hedgedReadPolicy.recordLatency(dataSourceName, System.currentTimeMillis() - startTimeMillis);
+            return Collections.singletonList(result);
+        }, false).thenApply(results -> results.get(0));
+    }
+    
+    private boolean isCompleted(final CompletableFuture<ResultSet> future, final long timeoutMillis) {
+        try {
+            future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+            return true;
+        } catch (final TimeoutException ex) {
+            return false;
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return true;
+        } catch (final ExecutionException ex) {
+            return true;
+        }
+    }
+    
+    private CompletableFuture<ResultSet> getFirstSucceeded(final CompletableFuture<ResultSet> future, final CompletableFuture<ResultSet> hedgeFuture) {
+        CompletableFuture<ResultSet> result = new CompletableFuture<>();
+        future.thenAccept(result::complete);
+        hedgeFuture.thenAccept(result::complete);
+        CompletableFuture.allOf(future, hedgeFuture).whenComplete((ignored, throwable) -> {
+            if (null != throwable) {
+                result.completeExceptionally(throwable instanceof CompletionException && null != throwable.getCause() ? throwable.getCause() : throwable);
+            }
+        });
+        return result;
+    }
+    
+    private ResultSet getResult(final CompletableFuture<ResultSet> future) throws SQLException {
+        try {
+            return future.get();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new SQLException(ex);
+        } catch (final ExecutionException ex) {
+            throw ex.getCause() instanceof SQLException ? (SQLException) ex.getCause() : new SQLException(ex.getCause());
+        }
+    }
+    
+    private boolean isProducedBy(final CompletableFuture<ResultSet> future, final ResultSet resultSet) {
+        return future.isDone() && !future.isCompletedExceptionally() && resultSet == future.join();
+    }
+    
+    private void cancel(final Statement statement, final CompletableFuture<ResultSet> future) {
+        try {
+            statement.cancel();
+        } catch (final SQLException ignored) {
+        }
+        future.whenComplete((resultSet, throwable) -> closeQuietly(statement));
+    }
+    
+    private void closeQuietly(final Statement statement) {
+        try {
+            statement.close();
+        } catch (final SQLException ignored) {
+        }
+    }
+    
+    /**
+     * Creator of statement on hedge data source.
+     */
+    public interface HedgeStatementCreator {
+        
+        /**
+         * Create statement.
+         *
+         * @return statement
+         * @throws SQLException SQL exception
+         */
+        Statement create() throws SQLException;
+    }
+}
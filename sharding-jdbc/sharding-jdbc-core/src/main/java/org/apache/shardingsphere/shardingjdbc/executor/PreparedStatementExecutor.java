@@ -38,6 +38,7 @@ import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Prepared statement executor.
@@ -104,6 +105,23 @@ public final class PreparedStatementExecutor extends AbstractStatementExecutor {
         return executeCallback(executeCallback);
     }
     
+    /**
+     * Execute query asynchronously.
+     *
+     * @return future of query results
+     */
+    public CompletableFuture<List<QueryResult>> executeQueryAsync() {
+        final boolean isExceptionThrown = ExecutorExceptionHandler.isExceptionThrown();
+        SQLExecuteCallback<QueryResult> executeCallback = new SQLExecuteCallback<QueryResult>(getDatabaseType(), isExceptionThrown) {
+            
+            @Override
+            protected QueryResult executeSQL(final String sql, final Statement statement, final ConnectionMode connectionMode) throws SQLException {
+                return getQueryResult(statement, connectionMode);
+            }
+        };
+        return executeCallbackAsync(executeCallback);
+    }
+    
     private QueryResult getQueryResult(final Statement statement, final ConnectionMode connectionMode) throws SQLException {
         PreparedStatement preparedStatement = (PreparedStatement) statement;
         ResultSet resultSet = preparedStatement.executeQuery();
@@ -128,6 +146,18 @@ public final class PreparedStatementExecutor extends AbstractStatementExecutor {
         }
     }
     
+    /**
+     * Execute update asynchronously.
+     *
+     * @return future of effected records count
+     */
+    public CompletableFuture<Integer> executeUpdateAsync() {
+        final boolean isExceptionThrown = ExecutorExceptionHandler.isExceptionThrown();
+        SQLExecuteCallback<Integer> executeCallback = SQLExecuteCallbackFactory.getPreparedUpdateSQLExecuteCallback(getDatabaseType(), isExceptionThrown);
+        boolean isAccumulate = isAccumulate();
+        return executeCallbackAsync(executeCallback).thenApply(results -> isAccumulate ? accumulate(results) : results.get(0));
+    }
+    
     private int accumulate(final List<Integer> results) {
         int result = 0;
         for (Integer each : results) {
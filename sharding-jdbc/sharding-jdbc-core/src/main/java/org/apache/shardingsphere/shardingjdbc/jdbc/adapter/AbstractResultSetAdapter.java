@@ -21,8 +21,10 @@ import com.google.common.base.Preconditions;
 import lombok.Getter;
 import org.apache.shardingsphere.core.rule.ShardingRule;
 import org.apache.shardingsphere.sharding.execute.context.ShardingExecutionContext;
+import org.apache.shardingsphere.sharding.route.engine.join.HashJoinPlan;
 import org.apache.shardingsphere.shardingjdbc.jdbc.adapter.executor.ForceExecuteTemplate;
 import org.apache.shardingsphere.shardingjdbc.jdbc.core.connection.ShardingConnection;
+import org.apache.shardingsphere.shardingjdbc.jdbc.core.resultset.HashJoinResultSetMetaData;
 import org.apache.shardingsphere.shardingjdbc.jdbc.core.resultset.ShardingResultSetMetaData;
 import org.apache.shardingsphere.shardingjdbc.jdbc.core.statement.ShardingPreparedStatement;
 import org.apache.shardingsphere.shardingjdbc.jdbc.core.statement.ShardingStatement;
@@ -34,6 +36,7 @@ import java.sql.SQLException;
 import java.sql.SQLWarning;
 import java.sql.Statement;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Adapter for {@code ResultSet}.
@@ -62,7 +65,12 @@ public abstract class AbstractResultSetAdapter extends AbstractUnsupportedOperat
     
     @Override
     public final ResultSetMetaData getMetaData() throws SQLException {
-        return new ShardingResultSetMetaData(resultSets.get(0).getMetaData(), getShardingRule(), shardingExecutionContext.getSqlStatementContext());
+        return new ShardingResultSetMetaData(getResultSetMetaData(), getShardingRule(), shardingExecutionContext.getSqlStatementContext());
+    }
+    
+    private ResultSetMetaData getResultSetMetaData() throws SQLException {
+        Optional<HashJoinPlan> hashJoinPlan = shardingExecutionContext.getHashJoinPlan();
+        return hashJoinPlan.isPresent() ? new HashJoinResultSetMetaData(hashJoinPlan.get(), resultSets) : resultSets.get(0).getMetaData();
     }
     
     private ShardingRule getShardingRule() {
@@ -76,7 +84,7 @@ public abstract class AbstractResultSetAdapter extends AbstractUnsupportedOperat
     }
     
     @Override
-    public final void close() throws SQLException {
+    public void close() throws SQLException {
         closed = true;
         forceExecuteTemplate.execute(resultSets, ResultSet::close);
     }
@@ -31,6 +31,9 @@ import java.sql.DatabaseMetaData;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.Map;
 
 /**
@@ -63,6 +66,20 @@ public final class ShardingConnection extends AbstractConnectionAdapter {
         return (TransactionType.LOCAL == transactionType && !getAutoCommit()) || (TransactionType.XA == transactionType && isInShardingTransaction());
     }
     
+    /**
+     * Get data source names which hold connections of current transaction.
+     *
+     * @return data source names, empty if not hold transaction
+     */
+    public Collection<String> getTransactionDataSourceNames() {
+        if (!isHoldTransaction()) {
+            return Collections.emptyList();
+        }
+        synchronized (getCachedConnections()) {
+            return new HashSet<>(getCachedConnections().keySet());
+        }
+    }
+    
     @Override
     protected Connection createConnection(final String dataSourceName, final DataSource dataSource) throws SQLException {
         return isInShardingTransaction() ? shardingTransactionManager.getConnection(dataSourceName) : dataSource.getConnection();
@@ -17,7 +17,9 @@
 
 package org.apache.shardingsphere.shardingjdbc.jdbc.core.context;
 
+import com.google.common.base.Strings;
 import lombok.Getter;
+import lombok.SneakyThrows;
 import org.apache.shardingsphere.core.log.ConfigurationLogger;
 import org.apache.shardingsphere.spi.database.type.DatabaseType;
 import org.apache.shardingsphere.sql.parser.SQLParserEngine;
@@ -27,7 +29,9 @@ import org.apache.shardingsphere.underlying.common.constant.properties.ShardingS
 import org.apache.shardingsphere.underlying.common.database.type.DatabaseTypes;
 import org.apache.shardingsphere.underlying.common.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.underlying.common.rule.BaseRule;
+import org.apache.shardingsphere.underlying.executor.engine.ExecuteFailurePolicy;
 import org.apache.shardingsphere.underlying.executor.engine.ExecutorEngine;
+import org.apache.shardingsphere.underlying.executor.engine.bulkhead.ExecutorBulkhead;
 
 import java.util.Properties;
 
@@ -53,12 +57,29 @@ public abstract class AbstractRuntimeContext<T extends BaseRule> implements Runt
         this.rule = rule;
         this.properties = new ShardingSphereProperties(null == props ? new Properties() : props);
         this.databaseType = databaseType;
-        executorEngine = new ExecutorEngine(properties.<Integer>getValue(PropertiesConstant.EXECUTOR_SIZE));
-        sqlParserEngine = SQLParserEngineFactory.getSQLParserEngine(DatabaseTypes.getTrunkDatabaseTypeName(databaseType));
+        executorEngine = createExecutorEngine();
+        sqlParserEngine = SQLParserEngineFactory.getSQLParserEngine(
+                DatabaseTypes.getTrunkDatabaseTypeName(databaseType), properties.<Boolean>getValue(PropertiesConstant.SQL_PARSER_THREAD_LOCAL_REUSE_ENABLED));
+        warmUpSQLParser();
         ConfigurationLogger.log(rule.getRuleConfiguration());
         ConfigurationLogger.log(props);
     }
     
+    private ExecutorEngine createExecutorEngine() {
+        ExecuteFailurePolicy failurePolicy = ExecuteFailurePolicy.valueOf(properties.<String>getValue(PropertiesConstant.EXECUTOR_FAILURE_POLICY).toUpperCase());
+        ExecutorBulkhead bulkhead = new ExecutorBulkhead(
+                properties.<Integer>getValue(PropertiesConstant.EXECUTOR_MAX_CONCURRENCY_PER_DATA_SOURCE), properties.<Integer>getValue(PropertiesConstant.EXECUTOR_BULKHEAD_MAX_WAIT_MILLISECONDS));
+        return new ExecutorEngine(properties.<Integer>getValue(PropertiesConstant.EXECUTOR_SIZE), failurePolicy, bulkhead);
+    }
+    
+    @SneakyThrows
+    private void warmUpSQLParser() {
+        String corpusFile = properties.getValue(PropertiesConstant.SQL_PARSER_WARM_UP_CORPUS_FILE);
+        if (!Strings.isNullOrEmpty(corpusFile)) {
+            SQLParserEngineFactory.warmUp(sqlParserEngine, corpusFile);
+        }
+    }
+    
     protected abstract ShardingSphereMetaData getMetaData();
     
     @Override
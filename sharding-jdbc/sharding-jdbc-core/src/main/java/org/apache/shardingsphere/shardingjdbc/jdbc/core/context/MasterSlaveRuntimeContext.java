@@ -19,9 +19,11 @@ package org.apache.shardingsphere.shardingjdbc.jdbc.core.context;
 
 import lombok.Getter;
 import org.apache.shardingsphere.core.rule.MasterSlaveRule;
+import org.apache.shardingsphere.masterslave.route.engine.hedge.HedgedReadPolicy;
 import org.apache.shardingsphere.shardingjdbc.jdbc.core.datasource.metadata.CachedDatabaseMetaData;
 import org.apache.shardingsphere.shardingjdbc.jdbc.metadata.JDBCDataSourceMapConnectionManager;
 import org.apache.shardingsphere.spi.database.type.DatabaseType;
+import org.apache.shardingsphere.underlying.common.constant.properties.PropertiesConstant;
 import org.apache.shardingsphere.underlying.common.metadata.datasource.DataSourceMetas;
 import org.apache.shardingsphere.underlying.common.metadata.table.init.TableMetaDataInitializer;
 import org.apache.shardingsphere.underlying.common.metadata.table.init.TableMetaDataInitializerEntry;
@@ -44,9 +46,13 @@ public final class MasterSlaveRuntimeContext extends MultipleDataSourcesRuntimeC
     
     private final DatabaseMetaData cachedDatabaseMetaData;
     
+    private final HedgedReadPolicy hedgedReadPolicy;
+    
     public MasterSlaveRuntimeContext(final Map<String, DataSource> dataSourceMap, final MasterSlaveRule masterSlaveRule, final Properties props, final DatabaseType databaseType) throws SQLException {
         super(dataSourceMap, masterSlaveRule, props, databaseType);
         cachedDatabaseMetaData = createCachedDatabaseMetaData(dataSourceMap);
+        hedgedReadPolicy = createHedgedReadPolicy();
+        initLoadBalanceAlgorithm(masterSlaveRule, dataSourceMap);
     }
     
     private DatabaseMetaData createCachedDatabaseMetaData(final Map<String, DataSource> dataSourceMap) throws SQLException {
@@ -55,10 +61,24 @@ public final class MasterSlaveRuntimeContext extends MultipleDataSourcesRuntimeC
         }
     }
     
+    private HedgedReadPolicy createHedgedReadPolicy() {
+        if (!getProperties().<Boolean>getValue(PropertiesConstant.MASTER_SLAVE_HEDGED_READ_ENABLED)) {
+            return null;
+        }
+        return new HedgedReadPolicy(getProperties().<Integer>getValue(PropertiesConstant.MASTER_SLAVE_HEDGED_READ_PERCENTILE),
+                getProperties().<Integer>getValue(PropertiesConstant.MASTER_SLAVE_HEDGED_READ_BUDGET_PERCENT));
+    }
+    
     @Override
     protected TableMetaDataInitializerEntry createTableMetaDataInitializerEntry(final Map<String, DataSource> dataSourceMap, final DataSourceMetas dataSourceMetas) {
         Map<BaseRule, TableMetaDataInitializer> tableMetaDataInitializes = new HashMap<>(1, 1);
         tableMetaDataInitializes.put(getRule(), new DefaultTableMetaDataLoader(dataSourceMetas, new JDBCDataSourceMapConnectionManager(dataSourceMap)));
         return new TableMetaDataInitializerEntry(tableMetaDataInitializes);
     }
+    
+    @Override
+    public void close() throws Exception {
+        closeLoadBalanceAlgorithm(getRule());
+        super.close();
+    }
 }
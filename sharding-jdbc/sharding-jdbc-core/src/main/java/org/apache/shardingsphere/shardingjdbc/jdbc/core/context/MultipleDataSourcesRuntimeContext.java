@@ -18,6 +18,8 @@
 package org.apache.shardingsphere.shardingjdbc.jdbc.core.context;
 
 import lombok.Getter;
+import org.apache.shardingsphere.core.rule.MasterSlaveRule;
+import org.apache.shardingsphere.spi.masterslave.DataSourceAwareMasterSlaveLoadBalanceAlgorithm;
 import org.apache.shardingsphere.spi.database.type.DatabaseType;
 import org.apache.shardingsphere.underlying.common.config.DatabaseAccessConfiguration;
 import org.apache.shardingsphere.underlying.common.log.MetaDataLogger;
@@ -72,5 +74,21 @@ public abstract class MultipleDataSourcesRuntimeContext<T extends BaseRule> exte
         return result;
     }
     
+    protected final void initLoadBalanceAlgorithm(final MasterSlaveRule masterSlaveRule, final Map<String, DataSource> dataSourceMap) {
+        if (masterSlaveRule.getLoadBalanceAlgorithm() instanceof DataSourceAwareMasterSlaveLoadBalanceAlgorithm) {
+            Map<String, DataSource> slaveDataSourceMap = new LinkedHashMap<>(masterSlaveRule.getSlaveDataSourceNames().size(), 1);
+            for (String each : masterSlaveRule.getSlaveDataSourceNames()) {
+                slaveDataSourceMap.put(each, dataSourceMap.get(each));
+            }
+            ((DataSourceAwareMasterSlaveLoadBalanceAlgorithm) masterSlaveRule.getLoadBalanceAlgorithm()).init(slaveDataSourceMap);
+        }
+    }
+    
+    protected final void closeLoadBalanceAlgorithm(final MasterSlaveRule masterSlaveRule) {
+        if (masterSlaveRule.getLoadBalanceAlgorithm() instanceof DataSourceAwareMasterSlaveLoadBalanceAlgorithm) {
+            ((DataSourceAwareMasterSlaveLoadBalanceAlgorithm) masterSlaveRule.getLoadBalanceAlgorithm()).close();
+        }
+    }
+    
     protected abstract TableMetaDataInitializerEntry createTableMetaDataInitializerEntry(Map<String, DataSource> dataSourceMap, DataSourceMetas dataSourceMetas);
 }
@@ -18,9 +18,11 @@
 package org.apache.shardingsphere.shardingjdbc.jdbc.core.context;
 
 import lombok.Getter;
+import org.apache.shardingsphere.core.rule.MasterSlaveRule;
 import org.apache.shardingsphere.core.rule.ShardingRule;
 import org.apache.shardingsphere.encrypt.metadata.decorator.EncryptTableMetaDataDecorator;
 import org.apache.shardingsphere.sharding.execute.metadata.loader.ShardingTableMetaDataLoader;
+import org.apache.shardingsphere.sharding.route.engine.cache.RoutePlanCache;
 import org.apache.shardingsphere.shardingjdbc.jdbc.core.datasource.metadata.CachedDatabaseMetaData;
 import org.apache.shardingsphere.shardingjdbc.jdbc.metadata.JDBCDataSourceMapConnectionManager;
 import org.apache.shardingsphere.spi.database.type.DatabaseType;
@@ -30,11 +32,13 @@ import org.apache.shardingsphere.underlying.common.metadata.datasource.DataSourc
 import org.apache.shardingsphere.underlying.common.metadata.table.init.TableMetaDataInitializer;
 import org.apache.shardingsphere.underlying.common.metadata.table.init.TableMetaDataInitializerEntry;
 import org.apache.shardingsphere.underlying.common.rule.BaseRule;
+import org.apache.shardingsphere.underlying.executor.context.ExecutionUnit;
 
 import javax.sql.DataSource;
 import java.sql.Connection;
 import java.sql.DatabaseMetaData;
 import java.sql.SQLException;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Properties;
@@ -49,11 +53,16 @@ public final class ShardingRuntimeContext extends MultipleDataSourcesRuntimeCont
     
     private final ShardingTransactionManagerEngine shardingTransactionManagerEngine;
     
+    private final RoutePlanCache<Collection<ExecutionUnit>> routePlanCache = new RoutePlanCache<>();
+    
     public ShardingRuntimeContext(final Map<String, DataSource> dataSourceMap, final ShardingRule shardingRule, final Properties props, final DatabaseType databaseType) throws SQLException {
         super(dataSourceMap, shardingRule, props, databaseType);
         cachedDatabaseMetaData = createCachedDatabaseMetaData(dataSourceMap, shardingRule);
         shardingTransactionManagerEngine = new ShardingTransactionManagerEngine();
         shardingTransactionManagerEngine.init(databaseType, dataSourceMap);
+        for (MasterSlaveRule each : shardingRule.getMasterSlaveRules()) {
+            initLoadBalanceAlgorithm(each, dataSourceMap);
+        }
     }
     
     private DatabaseMetaData createCachedDatabaseMetaData(final Map<String, DataSource> dataSourceMap, final ShardingRule rule) throws SQLException {
@@ -75,6 +84,9 @@ public final class ShardingRuntimeContext extends MultipleDataSourcesRuntimeCont
     
     @Override
     public void close() throws Exception {
+        for (MasterSlaveRule each : getRule().getMasterSlaveRules()) {
+            closeLoadBalanceAlgorithm(each);
+        }
         shardingTransactionManagerEngine.close();
         super.close();
     }
@@ -0,0 +1,165 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingjdbc.jdbc.core.resultset;
+
+import org.apache.shardingsphere.sharding.route.engine.join.HashJoinPlan;
+import org.apache.shardingsphere.shardingjdbc.jdbc.adapter.WrapperAdapter;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Result set meta data for hash join.
+ * 
+ * <p>
+ * Scan of each joined table projects null for columns of the other table,
+ * so meta data of each column is taken from result set of the table which column belongs to.
+ * </p>
+ */
+public final class HashJoinResultSetMetaData extends WrapperAdapter implements ResultSetMetaData {
+    
+    private final HashJoinPlan hashJoinPlan;
+    
+    private final ResultSetMetaData[] tableResultSetMetaData = new ResultSetMetaData[2];
+    
+    public HashJoinResultSetMetaData(final HashJoinPlan hashJoinPlan, final List<ResultSet> resultSets) throws SQLException {
+        this.hashJoinPlan = hashJoinPlan;
+        for (ResultSet each : resultSets) {
+            ResultSetMetaData resultSetMetaData = each.getMetaData();
+            int tableIndex = hashJoinPlan.getTableIndex(resultSetMetaData.getColumnLabel(hashJoinPlan.getColumnCount() + 1));
+            if (null == tableResultSetMetaData[tableIndex]) {
+                tableResultSetMetaData[tableIndex] = resultSetMetaData;
+            }
+        }
+    }
+    
+    private ResultSetMetaData getResultSetMetaData(final int column) {
+        ResultSetMetaData result = column <= hashJoinPlan.getColumnCount() ? tableResultSetMetaData[hashJoinPlan.getColumnTableIndex(column)] : null;
+        if (null != result) {
+            return result;
+        }
+        return null == tableResultSetMetaData[0] ? tableResultSetMetaData[1] : tableResultSetMetaData[0];
+    }
+    
+    @Override
+    public int getColumnCount() throws SQLException {
+        return getResultSetMetaData(1).getColumnCount();
+    }
+    
+    @Override
+    public boolean isAutoIncrement(final int column) throws SQLException {
+        return getResultSetMetaData(column).isAutoIncrement(column);
+    }
+    
+    @Override
+    public boolean isCaseSensitive(final int column) throws SQLException {
+        return getResultSetMetaData(column).isCaseSensitive(column);
+    }
+    
+    @Override
+    public boolean isSearchable(final int column) throws SQLException {
+        return getResultSetMetaData(column).isSearchable(column);
+    }
+    
+    @Override
+    public boolean isCurrency(final int column) throws SQLException {
+        return getResultSetMetaData(column).isCurrency(column);
+    }
+    
+    @Override
+    public int isNullable(final int column) throws SQLException {
+        return getResultSetMetaData(column).isNullable(column);
+    }
+    
+    @Override
+    public boolean isSigned(final int column) throws SQLException {
+        return getResultSetMetaData(column).isSigned(column);
+    }
+    
+    @Override
+    public int getColumnDisplaySize(final int column) throws SQLException {
+        return getResultSetMetaData(column).getColumnDisplaySize(column);
+    }
+    
+    @Override
+    public String getColumnLabel(final int column) throws SQLException {
+        return getResultSetMetaData(column).getColumnLabel(column);
+    }
+    
+    @Override
+    public String getColumnName(final int column) throws SQLException {
+        return getResultSetMetaData(column).getColumnName(column);
+    }
+    
+    @Override
+    public String getSchemaName(final int column) throws SQLException {
+        return getResultSetMetaData(column).getSchemaName(column);
+    }
+    
+    @Override
+    public int getPrecision(final int column) throws SQLException {
+        return getResultSetMetaData(column).getPrecision(column);
+    }
+    
+    @Override
+    public int getScale(final int column) throws SQLException {
+        return getResultSetMetaData(column).getScale(column);
+    }
+    
+    @Override
+    public String getTableName(final int column) throws SQLException {
+        return getResultSetMetaData(column).getTableName(column);
+    }
+    
+    @Override
+    public String getCatalogName(final int column) throws SQLException {
+        return getResultSetMetaData(column).getCatalogName(column);
+    }
+    
+    @Override
+    public int getColumnType(final int column) throws SQLException {
+        return getResultSetMetaData(column).getColumnType(column);
+    }
+    
+    @Override
+    public String getColumnTypeName(final int column) throws SQLException {
+        return getResultSetMetaData(column).getColumnTypeName(column);
+    }
+    
+    @Override
+    public boolean isReadOnly(final int column) throws SQLException {
+        return getResultSetMetaData(column).isReadOnly(column);
+    }
+    
+    @Override
+    public boolean isWritable(final int column) throws SQLException {
+        return getResultSetMetaData(column).isWritable(column);
+    }
+    
+    @Override
+    public boolean isDefinitelyWritable(final int column) throws SQLException {
+        return getResultSetMetaData(column).isDefinitelyWritable(column);
+    }
+    
+    @Override
+    public String getColumnClassName(final int column) throws SQLException {
+        return getResultSetMetaData(column).getColumnClassName(column);
+    }
+}
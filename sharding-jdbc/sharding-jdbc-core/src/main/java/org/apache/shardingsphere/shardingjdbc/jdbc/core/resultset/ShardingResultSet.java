@@ -73,6 +73,15 @@ public final class ShardingResultSet extends AbstractResultSetAdapter {
         return mergeResultSet.wasNull();
     }
     
+    @Override
+    public void close() throws SQLException {
+        try {
+            mergeResultSet.close();
+        } finally {
+            super.close();
+        }
+    }
+    
     @Override
     public boolean getBoolean(final int columnIndex) throws SQLException {
         return (boolean) ResultSetUtil.convertValue(mergeResultSet.getValue(columnIndex, boolean.class), boolean.class);
@@ -22,6 +22,8 @@ import com.google.common.base.Strings;
 import lombok.AccessLevel;
 import lombok.Getter;
 import org.apache.shardingsphere.masterslave.route.engine.MasterSlaveRouter;
+import org.apache.shardingsphere.masterslave.route.engine.hedge.HedgedReadPolicy;
+import org.apache.shardingsphere.shardingjdbc.executor.HedgedQueryExecutor;
 import org.apache.shardingsphere.underlying.route.context.RouteUnit;
 import org.apache.shardingsphere.shardingjdbc.jdbc.adapter.AbstractStatementAdapter;
 import org.apache.shardingsphere.shardingjdbc.jdbc.core.connection.MasterSlaveConnection;
@@ -34,6 +36,7 @@ import java.sql.Statement;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedList;
+import java.util.Optional;
 
 /**
  * Statement that support master-slave.
@@ -80,9 +83,20 @@ public final class MasterSlaveStatement extends AbstractStatementAdapter {
         clearPrevious();
         Collection<RouteUnit> routeUnits = masterSlaveRouter.route(sql, Collections.emptyList(), false).getRouteResult().getRouteUnits();
         Preconditions.checkState(1 == routeUnits.size(), "Cannot support executeQuery for DML or DDL");
-        Statement statement = connection.getConnection(routeUnits.iterator().next().getActualDataSourceName()).createStatement(resultSetType, resultSetConcurrency, resultSetHoldability);
+        String dataSourceName = routeUnits.iterator().next().getActualDataSourceName();
+        Statement statement = createRoutedStatement(dataSourceName);
         routedStatements.add(statement);
-        return statement.executeQuery(sql);
+        HedgedReadPolicy hedgedReadPolicy = connection.getRuntimeContext().getHedgedReadPolicy();
+        Optional<String> hedgeDataSourceName = null == hedgedReadPolicy ? Optional.empty() : masterSlaveRouter.routeHedgedRead(dataSourceName);
+        if (!hedgeDataSourceName.isPresent()) {
+            return statement.executeQuery(sql);
+        }
+        return new HedgedQueryExecutor(connection.getRuntimeContext().getExecutorEngine(), hedgedReadPolicy)
+                .executeQuery(sql, routedStatements, dataSourceName, hedgeDataSourceName.get(), () -> createRoutedStatement(hedgeDataSourceName.get()));
+    }
+    
+    private Statement createRoutedStatement(final String dataSourceName) throws SQLException {
+        return connection.getConnection(dataSourceName).createStatement(resultSetType, resultSetConcurrency, resultSetHoldability);
     }
     
     @Override
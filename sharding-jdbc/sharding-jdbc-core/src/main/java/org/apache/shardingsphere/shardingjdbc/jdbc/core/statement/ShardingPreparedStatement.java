@@ -21,6 +21,7 @@ import com.google.common.base.Preconditions;
 import com.google.common.base.Strings;
 import com.google.common.collect.Collections2;
 import lombok.Getter;
+import org.apache.shardingsphere.core.datasource.TransactionDataSourceHolder;
 import org.apache.shardingsphere.core.shard.BaseShardingEngine;
 import org.apache.shardingsphere.core.shard.PreparedQueryShardingEngine;
 import org.apache.shardingsphere.encrypt.rule.EncryptRule;
@@ -57,6 +58,8 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 /**
  * PreparedStatement that support sharding.
@@ -105,7 +108,8 @@ public final class ShardingPreparedStatement extends AbstractShardingPreparedSta
         this.connection = connection;
         this.sql = sql;
         ShardingRuntimeContext runtimeContext = connection.getRuntimeContext();
-        shardingEngine = new PreparedQueryShardingEngine(runtimeContext.getRule(), runtimeContext.getProperties(), runtimeContext.getMetaData(), runtimeContext.getSqlParserEngine());
+        shardingEngine = new PreparedQueryShardingEngine(
+                runtimeContext.getRule(), runtimeContext.getProperties(), runtimeContext.getMetaData(), runtimeContext.getSqlParserEngine(), runtimeContext.getRoutePlanCache());
         preparedStatementExecutor = new PreparedStatementExecutor(resultSetType, resultSetConcurrency, resultSetHoldability, returnGeneratedKeys, connection);
         batchPreparedStatementExecutor = new BatchPreparedStatementExecutor(resultSetType, resultSetConcurrency, resultSetHoldability, returnGeneratedKeys, connection);
     }
@@ -125,6 +129,38 @@ public final class ShardingPreparedStatement extends AbstractShardingPreparedSta
         return result;
     }
     
+    /**
+     * Execute query asynchronously.
+     * 
+     * <p>
+     * Route and rewrite run in caller thread, and all route units are executed by executor engine without blocking caller thread.
+     * </p>
+     *
+     * @return future of result set
+     * @throws SQLException SQL exception
+     */
+    public CompletableFuture<ResultSet> executeQueryAsync() throws SQLException {
+        CompletableFuture<List<QueryResult>> queryResults;
+        try {
+            clearPrevious();
+            shard();
+            initPreparedStatementExecutor();
+            queryResults = preparedStatementExecutor.executeQueryAsync();
+        } finally {
+            clearBatch();
+        }
+        return queryResults.thenApply(this::getCurrentResultSet);
+    }
+    
+    private ResultSet getCurrentResultSet(final List<QueryResult> queryResults) {
+        try {
+            currentResultSet = getResultSet(queryResults);
+            return currentResultSet;
+        } catch (final SQLException ex) {
+            throw new CompletionException(ex);
+        }
+    }
+    
     @Override
     public ResultSet getResultSet() throws SQLException {
         if (null != currentResultSet) {
@@ -175,6 +211,23 @@ public final class ShardingPreparedStatement extends AbstractShardingPreparedSta
         }
     }
     
+    /**
+     * Execute update asynchronously.
+     *
+     * @return future of effected records count
+     * @throws SQLException SQL exception
+     */
+    public CompletableFuture<Integer> executeUpdateAsync() throws SQLException {
+        try {
+            clearPrevious();
+            shard();
+            initPreparedStatementExecutor();
+            return preparedStatementExecutor.executeUpdateAsync();
+        } finally {
+            clearBatch();
+        }
+    }
+    
     @Override
     public boolean execute() throws SQLException {
         try {
@@ -239,7 +292,12 @@ public final class ShardingPreparedStatement extends AbstractShardingPreparedSta
     }
     
     private void shard() {
-        shardingExecutionContext = (ShardingExecutionContext) shardingEngine.shard(sql, getParameters());
+        TransactionDataSourceHolder.set(connection.getTransactionDataSourceNames());
+        try {
+            shardingExecutionContext = (ShardingExecutionContext) shardingEngine.shard(sql, getParameters());
+        } finally {
+            TransactionDataSourceHolder.clear();
+        }
         shardingExecutionContext.getGeneratedKey().ifPresent(generatedKey -> generatedValues.add(generatedKey.getGeneratedValues().getLast()));
     }
     
@@ -0,0 +1,150 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingjdbc.executor;
+
+import org.apache.shardingsphere.masterslave.route.engine.hedge.HedgedReadPolicy;
+import org.apache.shardingsphere.shardingjdbc.executor.HedgedQueryExecutor.HedgeStatementCreator;
+import org.apache.shardingsphere.underlying.executor.engine.ExecutorEngine;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class HedgedQueryExecutorTest {
+    
+    private static final String SQL = "SELECT * FROM t_order";
+    
+    private final ExecutorEngine executorEngine = new ExecutorEngine(4);
+    
+    private Statement statement;
+    
+    private Statement hedgeStatement;
+    
+    private HedgeStatementCreator hedgeStatementCreator;
+    
+    private Collection<Statement> routedStatements;
+    
+    @Before
+    public void setUp() throws SQLException {
+        statement = mock(Statement.class);
+        hedgeStatement = mock(Statement.class);
+        hedgeStatementCreator = mock(HedgeStatementCreator.class);
+        when(hedgeStatementCreator.create()).thenReturn(hedgeStatement);
+        routedStatements = new LinkedList<>();
+        routedStatements.add(statement);
+    }
+    
+    @After
+    public void tearDown() {
+        executorEngine.close();
+    }
+    
+    @Test
+    public void assertExecuteQueryWhenPrimaryWins() throws SQLException {
+        ResultSet resultSet = mock(ResultSet.class);
+        when(statement.executeQuery(SQL)).thenAnswer(invocation -> {
+            TimeUnit.MILLISECONDS.sleep(50L);
+            return resultSet;
+        });
+        mockBlockedUntilCancelled(hedgeStatement);
+        ResultSet actual = createHedgedQueryExecutor(100).executeQuery(SQL, routedStatements, "slave_0", "slave_1", hedgeStatementCreator);
+        assertThat(actual, is(resultSet));
+        assertThat(routedStatements.iterator().next(), is(statement));
+        verify(hedgeStatement).cancel();
+        verify(hedgeStatement, timeout(1000L)).close();
+    }
+    
+    @Test
+    public void assertExecuteQueryWhenHedgeWins() throws SQLException {
+        mockBlockedUntilCancelled(statement);
+        ResultSet hedgeResultSet = mock(ResultSet.class);
+        when(hedgeStatement.executeQuery(SQL)).thenReturn(hedgeResultSet);
+        ResultSet actual = createHedgedQueryExecutor(100).executeQuery(SQL, routedStatements, "slave_0", "slave_1", hedgeStatementCreator);
+        assertThat(actual, is(hedgeResultSet));
+        assertThat(routedStatements.size(), is(1));
+        assertThat(routedStatements.iterator().next(), is(hedgeStatement));
+        verify(statement).cancel();
+        verify(statement, timeout(1000L)).close();
+    }
+    
+    @Test
+    public void assertExecuteQueryWhenBothFail() throws SQLException {
+        when(statement.executeQuery(SQL)).thenAnswer(invocation -> {
+            TimeUnit.MILLISECONDS.sleep(50L);
+            throw new SQLException("primary failed");
+        });
+        when(hedgeStatement.executeQuery(SQL)).thenThrow(new SQLException("hedge failed"));
+        try {
+            createHedgedQueryExecutor(100).executeQuery(SQL, routedStatements, "slave_0", "slave_1", hedgeStatementCreator);
+            fail("Expected SQLException to be thrown.");
+        } catch (final SQLException ex) {
+            assertThat(routedStatements.iterator().next(), is(statement));
+            verify(hedgeStatement).close();
+        }
+    }
+    
+    @Test
+    public void assertExecuteQueryWhenBudgetExhausted() throws SQLException {
+        ResultSet resultSet = mock(ResultSet.class);
+        when(statement.executeQuery(SQL)).thenAnswer(invocation -> {
+            TimeUnit.MILLISECONDS.sleep(50L);
+            return resultSet;
+        });
+        ResultSet actual = createHedgedQueryExecutor(0).executeQuery(SQL, routedStatements, "slave_0", "slave_1", hedgeStatementCreator);
+        assertThat(actual, is(resultSet));
+        assertThat(routedStatements.iterator().next(), is(statement));
+        verify(hedgeStatementCreator, never()).create();
+    }
+    
+    private HedgedQueryExecutor createHedgedQueryExecutor(final int budgetPercent) {
+        HedgedReadPolicy hedgedReadPolicy = new HedgedReadPolicy(50, budgetPercent);
+        for (int i = 0; i < 16; i++) {
+            hedgedReadPolicy.recordLatency("slave_0", 1L);
+        }
+        return new HedgedQueryExecutor(executorEngine, hedgedReadPolicy);
+    }
+    
+    private void mockBlockedUntilCancelled(final Statement blockedStatement) throws SQLException {
+        CountDownLatch cancelLatch = new CountDownLatch(1);
+        when(blockedStatement.executeQuery(SQL)).thenAnswer(invocation -> {
+            cancelLatch.await(10L, TimeUnit.SECONDS);
+            throw new SQLException("cancelled");
+        });
+        doAnswer(invocation -> {
+            cancelLatch.countDown();
+            return null;
+        }).when(blockedStatement).cancel();
+    }
+}
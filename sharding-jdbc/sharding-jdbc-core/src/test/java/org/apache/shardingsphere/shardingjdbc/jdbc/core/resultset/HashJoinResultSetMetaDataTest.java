@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.shardingsphere.shardingjdbc.jdbc.core.resultset;
+
+import org.apache.shardingsphere.sharding.route.engine.join.HashJoinPlan;
+import org.apache.shardingsphere.sql.parser.binder.segment.select.projection.DerivedColumn;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class HashJoinResultSetMetaDataTest {
+    
+    private ResultSetMetaData actualMetaData;
+    
+    @Before
+    public void setUp() throws SQLException {
+        HashJoinPlan hashJoinPlan = new HashJoinPlan(Collections.emptyList(), Arrays.asList(0, 1));
+        actualMetaData = new HashJoinResultSetMetaData(hashJoinPlan, Arrays.asList(
+                createResultSet(1, "t_user_0", Types.NULL, Types.VARCHAR), createResultSet(0, "t_order_0", Types.INTEGER, Types.NULL)));
+    }
+    
+    private ResultSet createResultSet(final int tableIndex, final String tableName, final int firstColumnType, final int secondColumnType) throws SQLException {
+        ResultSet result = mock(ResultSet.class);
+        ResultSetMetaData resultSetMetaData = mock(ResultSetMetaData.class);
+        when(resultSetMetaData.getColumnCount()).thenReturn(4);
+        when(resultSetMetaData.getColumnLabel(3)).thenReturn(DerivedColumn.HASH_JOIN_SIDE_ALIAS.getDerivedColumnAlias(tableIndex));
+        when(resultSetMetaData.getColumnType(1)).thenReturn(firstColumnType);
+        when(resultSetMetaData.getColumnType(2)).thenReturn(secondColumnType);
+        when(resultSetMetaData.getTableName(1)).thenReturn(tableName);
+        when(resultSetMetaData.getTableName(2)).thenReturn(tableName);
+        when(result.getMetaData()).thenReturn(resultSetMetaData);
+        return result;
+    }
+    
+    @Test
+    public void assertGetColumnCount() throws SQLException {
+        assertThat(actualMetaData.getColumnCount(), is(4));
+    }
+    
+    @Test
+    public void assertGetColumnType() throws SQLException {
+        assertThat(actualMetaData.getColumnType(1), is(Types.INTEGER));
+        assertThat(actualMetaData.getColumnType(2), is(Types.VARCHAR));
+    }
+    
+    @Test
+    public void assertGetTableName() throws SQLException {
+        assertThat(actualMetaData.getTableName(1), is("t_order_0"));
+        assertThat(actualMetaData.getTableName(2), is("t_user_0"));
+    }
+}
@@ -17,6 +17,8 @@
 
 package org.apache.shardingsphere.shardingjdbc.jdbc.core.statement;
 
+import com.google.common.base.Strings;
+import org.apache.shardingsphere.sharding.execute.sql.execute.threadlocal.ExecutorExceptionHandler;
 import org.apache.shardingsphere.shardingjdbc.common.base.AbstractShardingJDBCDatabaseAndTableTest;
 import org.junit.Test;
 
@@ -25,12 +27,15 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.concurrent.ExecutionException;
 
+import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 public final class ShardingPreparedStatementTest extends AbstractShardingJDBCDatabaseAndTableTest {
     
@@ -46,6 +51,10 @@ public final class ShardingPreparedStatementTest extends AbstractShardingJDBCDat
     
     private static final String UPDATE_BATCH_SQL = "UPDATE t_order SET status=? WHERE status=?";
     
+    private static final String SELECT_ORDER_BY_STATUS_SQL = "SELECT order_id FROM t_order WHERE status = ? ORDER BY order_id";
+    
+    private static final String SELECT_ORDER_WITH_DIVISION_SQL = "SELECT order_id FROM t_order WHERE status = ? AND 1 / ? = 1";
+    
     @Test
     public void assertAddBatch() throws SQLException {
         try (
@@ -263,6 +272,55 @@ public final class ShardingPreparedStatementTest extends AbstractShardingJDBCDat
         }
     }
     
+    @Test
+    public void assertExecuteQueryAsync() throws SQLException, InterruptedException, ExecutionException {
+        try (ShardingPreparedStatement preparedStatement = (ShardingPreparedStatement) getShardingDataSource().getConnection().prepareStatement(SELECT_ORDER_BY_STATUS_SQL)) {
+            preparedStatement.setString(1, "init");
+            ResultSet resultSet = preparedStatement.executeQueryAsync().get();
+            for (int each : new int[]{1000, 1001, 1100, 1101}) {
+                assertTrue(resultSet.next());
+                assertThat(resultSet.getInt(1), is(each));
+            }
+            assertFalse(resultSet.next());
+            assertThat(preparedStatement.getResultSet(), is(resultSet));
+        }
+    }
+    
+    @Test
+    public void assertExecuteQueryAsyncWithExecuteFailure() throws SQLException, InterruptedException {
+        ExecutorExceptionHandler.setExceptionThrown(true);
+        try (ShardingPreparedStatement preparedStatement = (ShardingPreparedStatement) getShardingDataSource().getConnection().prepareStatement(SELECT_ORDER_WITH_DIVISION_SQL)) {
+            preparedStatement.setString(1, "init");
+            preparedStatement.setInt(2, 0);
+            preparedStatement.executeQueryAsync().get();
+            fail("Expected ExecutionException to be thrown.");
+        } catch (final ExecutionException ex) {
+            assertThat(ex.getCause(), instanceOf(SQLException.class));
+        }
+    }
+    
+    @Test
+    public void assertExecuteUpdateAsync() throws SQLException, InterruptedException, ExecutionException {
+        try (ShardingPreparedStatement preparedStatement = (ShardingPreparedStatement) getShardingDataSource().getConnection().prepareStatement(UPDATE_BATCH_SQL)) {
+            preparedStatement.setString(1, "async");
+            preparedStatement.setString(2, "init");
+            assertThat(preparedStatement.executeUpdateAsync().get(), is(4));
+        }
+    }
+    
+    @Test
+    public void assertExecuteUpdateAsyncWithExecuteFailure() throws SQLException, InterruptedException {
+        ExecutorExceptionHandler.setExceptionThrown(true);
+        try (ShardingPreparedStatement preparedStatement = (ShardingPreparedStatement) getShardingDataSource().getConnection().prepareStatement(UPDATE_BATCH_SQL)) {
+            preparedStatement.setString(1, Strings.repeat("x", 46));
+            preparedStatement.setString(2, "init");
+            preparedStatement.executeUpdateAsync().get();
+            fail("Expected ExecutionException to be thrown.");
+        } catch (final ExecutionException ex) {
+            assertThat(ex.getCause(), instanceOf(SQLException.class));
+        }
+    }
+    
     @Test(expected = SQLException.class)
     public void assertQueryWithNull() throws SQLException {
         try (PreparedStatement preparedStatement = getShardingDataSource().getConnection().prepareStatement(null)) {
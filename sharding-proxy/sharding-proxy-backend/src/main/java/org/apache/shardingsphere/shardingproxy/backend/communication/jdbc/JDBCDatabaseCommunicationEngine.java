@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.shardingproxy.backend.communication.jdbc;
 
 import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.core.datasource.TransactionDataSourceHolder;
 import org.apache.shardingsphere.encrypt.rule.EncryptRule;
 import org.apache.shardingsphere.encrypt.strategy.spi.Encryptor;
 import org.apache.shardingsphere.sharding.merge.ShardingResultMergerEngine;
@@ -77,13 +78,21 @@ public final class JDBCDatabaseCommunicationEngine implements DatabaseCommunicat
     @Override
     public BackendResponse execute() {
         try {
-            ExecutionContext executionContext = executeEngine.getJdbcExecutorWrapper().route(sql);
-            return execute(executionContext);
+            return execute(route());
         } catch (final SQLException ex) {
             return new ErrorResponse(ex);
         }
     }
     
+    private ExecutionContext route() {
+        TransactionDataSourceHolder.set(executeEngine.getBackendConnection().getTransactionDataSourceNames());
+        try {
+            return executeEngine.getJdbcExecutorWrapper().route(sql);
+        } finally {
+            TransactionDataSourceHolder.clear();
+        }
+    }
+    
     private BackendResponse execute(final ExecutionContext executionContext) throws SQLException {
         if (executionContext.getExecutionUnits().isEmpty()) {
             return new UpdateResponse();
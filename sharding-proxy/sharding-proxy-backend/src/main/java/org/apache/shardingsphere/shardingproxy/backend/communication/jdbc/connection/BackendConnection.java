@@ -37,6 +37,8 @@ import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
@@ -212,6 +214,20 @@ public final class BackendConnection implements AutoCloseable {
         return cachedConnections.values().size();
     }
     
+    /**
+     * Get data source names which hold connections of current transaction.
+     *
+     * @return data source names, empty if not in transaction
+     */
+    public Collection<String> getTransactionDataSourceNames() {
+        if (!stateHandler.isInTransaction()) {
+            return Collections.emptyList();
+        }
+        synchronized (cachedConnections) {
+            return new HashSet<>(cachedConnections.keySet());
+        }
+    }
+    
     /**
      * Add statement.
      *
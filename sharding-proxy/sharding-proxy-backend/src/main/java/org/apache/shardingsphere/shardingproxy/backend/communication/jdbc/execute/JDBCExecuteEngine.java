@@ -18,6 +18,8 @@
 package org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.execute;
 
 import lombok.Getter;
+import org.apache.shardingsphere.sharding.execute.context.ShardingExecutionContext;
+import org.apache.shardingsphere.sharding.route.engine.join.HashJoinPlan;
 import org.apache.shardingsphere.underlying.executor.context.ExecutionContext;
 import org.apache.shardingsphere.sharding.execute.sql.StatementExecuteUnit;
 import org.apache.shardingsphere.sharding.execute.sql.execute.SQLExecuteTemplate;
@@ -42,7 +44,9 @@ import org.apache.shardingsphere.underlying.executor.engine.InputGroup;
 
 import java.sql.SQLException;
 import java.util.Collection;
+import java.util.LinkedList;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * SQL Execute engine for JDBC.
@@ -73,14 +77,34 @@ public final class JDBCExecuteEngine implements SQLExecuteEngine {
         SQLStatementContext sqlStatementContext = executionContext.getSqlStatementContext();
         boolean isReturnGeneratedKeys = sqlStatementContext.getSqlStatement() instanceof InsertStatement;
         boolean isExceptionThrown = ExecutorExceptionHandler.isExceptionThrown();
+        Optional<HashJoinPlan> hashJoinPlan = executionContext instanceof ShardingExecutionContext ? ((ShardingExecutionContext) executionContext).getHashJoinPlan() : Optional.empty();
         Collection<InputGroup<StatementExecuteUnit>> inputGroups = sqlExecutePrepareTemplate.getExecuteUnitGroups(
                 executionContext.getExecutionUnits(), new ProxyJDBCExecutePrepareCallback(backendConnection, jdbcExecutorWrapper, isReturnGeneratedKeys));
         Collection<ExecuteResponse> executeResponses = sqlExecuteTemplate.execute((Collection) inputGroups, 
-                new ProxySQLExecuteCallback(sqlStatementContext, backendConnection, jdbcExecutorWrapper, isExceptionThrown, isReturnGeneratedKeys, true),
-                new ProxySQLExecuteCallback(sqlStatementContext, backendConnection, jdbcExecutorWrapper, isExceptionThrown, isReturnGeneratedKeys, false));
+                new ProxySQLExecuteCallback(sqlStatementContext, backendConnection, jdbcExecutorWrapper, isExceptionThrown, isReturnGeneratedKeys, true, hashJoinPlan.isPresent()),
+                new ProxySQLExecuteCallback(sqlStatementContext, backendConnection, jdbcExecutorWrapper, isExceptionThrown, isReturnGeneratedKeys, hashJoinPlan.isPresent(), hashJoinPlan.isPresent()));
         ExecuteResponse executeResponse = executeResponses.iterator().next();
-        return executeResponse instanceof ExecuteQueryResponse
-                ? getExecuteQueryResponse(((ExecuteQueryResponse) executeResponse).getQueryHeaders(), executeResponses) : new UpdateResponse(executeResponses);
+        if (!(executeResponse instanceof ExecuteQueryResponse)) {
+            return new UpdateResponse(executeResponses);
+        }
+        return getExecuteQueryResponse(hashJoinPlan.isPresent()
+                ? getHashJoinQueryHeaders(hashJoinPlan.get(), executeResponses) : ((ExecuteQueryResponse) executeResponse).getQueryHeaders(), executeResponses);
+    }
+    
+    @SuppressWarnings("unchecked")
+    private List<QueryHeader> getHashJoinQueryHeaders(final HashJoinPlan hashJoinPlan, final Collection<ExecuteResponse> executeResponses) throws SQLException {
+        List<QueryHeader>[] tableQueryHeaders = new List[2];
+        for (ExecuteResponse each : executeResponses) {
+            ExecuteQueryResponse executeQueryResponse = (ExecuteQueryResponse) each;
+            String tableIndexColumnLabel = executeQueryResponse.getQueryResult().getColumnLabel(hashJoinPlan.getColumnCount() + 1);
+            tableQueryHeaders[hashJoinPlan.getTableIndex(tableIndexColumnLabel)] = executeQueryResponse.getQueryHeaders();
+        }
+        List<QueryHeader> result = new LinkedList<>();
+        for (int columnIndex = 1; columnIndex <= hashJoinPlan.getColumnCount(); columnIndex++) {
+            List<QueryHeader> queryHeaders = tableQueryHeaders[hashJoinPlan.getColumnTableIndex(columnIndex)];
+            result.add((null == queryHeaders ? tableQueryHeaders[1 - hashJoinPlan.getColumnTableIndex(columnIndex)] : queryHeaders).get(columnIndex - 1));
+        }
+        return result;
     }
     
     private BackendResponse getExecuteQueryResponse(final List<QueryHeader> queryHeaders, final Collection<ExecuteResponse> executeResponses) {
@@ -88,8 +88,8 @@ public final class PreparedStatementExecutorWrapper implements JDBCExecutorWrapp
     }
     
     private ExecutionContext doShardingRoute(final String sql) {
-        PreparedQueryShardingEngine shardingEngine = new PreparedQueryShardingEngine(
-                logicSchema.getShardingRule(), ShardingProxyContext.getInstance().getProperties(), logicSchema.getMetaData(), logicSchema.getSqlParserEngine());
+        PreparedQueryShardingEngine shardingEngine = new PreparedQueryShardingEngine(logicSchema.getShardingRule(),
+                ShardingProxyContext.getInstance().getProperties(), logicSchema.getMetaData(), logicSchema.getSqlParserEngine(), ((ShardingSchema) logicSchema).getRoutePlanCache());
         return shardingEngine.shard(sql, parameters);
     }
     
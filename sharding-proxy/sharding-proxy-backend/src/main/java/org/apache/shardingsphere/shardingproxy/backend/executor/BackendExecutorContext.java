@@ -21,7 +21,10 @@ import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.apache.shardingsphere.underlying.common.constant.properties.PropertiesConstant;
+import org.apache.shardingsphere.underlying.common.constant.properties.ShardingSphereProperties;
+import org.apache.shardingsphere.underlying.executor.engine.ExecuteFailurePolicy;
 import org.apache.shardingsphere.underlying.executor.engine.ExecutorEngine;
+import org.apache.shardingsphere.underlying.executor.engine.bulkhead.ExecutorBulkhead;
 import org.apache.shardingsphere.shardingproxy.context.ShardingProxyContext;
 
 /**
@@ -33,8 +36,7 @@ public final class BackendExecutorContext {
     
     private static final BackendExecutorContext INSTANCE = new BackendExecutorContext();
     
-    private final ExecutorEngine executorEngine = new ExecutorEngine(
-            ShardingProxyContext.getInstance().getProperties().<Integer>getValue(PropertiesConstant.EXECUTOR_SIZE));
+    private final ExecutorEngine executorEngine = createExecutorEngine(ShardingProxyContext.getInstance().getProperties());
     
     /**
      * Get executor context instance.
@@ -44,4 +46,11 @@ public final class BackendExecutorContext {
     public static BackendExecutorContext getInstance() {
         return INSTANCE;
     }
+    
+    private static ExecutorEngine createExecutorEngine(final ShardingSphereProperties properties) {
+        ExecuteFailurePolicy failurePolicy = ExecuteFailurePolicy.valueOf(properties.<String>getValue(PropertiesConstant.EXECUTOR_FAILURE_POLICY).toUpperCase());
+        ExecutorBulkhead bulkhead = new ExecutorBulkhead(
+                properties.<Integer>getValue(PropertiesConstant.EXECUTOR_MAX_CONCURRENCY_PER_DATA_SOURCE), properties.<Integer>getValue(PropertiesConstant.EXECUTOR_BULKHEAD_MAX_WAIT_MILLISECONDS));
+        return new ExecutorEngine(properties.<Integer>getValue(PropertiesConstant.EXECUTOR_SIZE), failurePolicy, bulkhead);
+    }
 }
@@ -30,6 +30,7 @@ import org.apache.shardingsphere.orchestration.internal.registry.state.schema.Or
 import org.apache.shardingsphere.orchestration.internal.rule.OrchestrationMasterSlaveRule;
 import org.apache.shardingsphere.orchestration.internal.rule.OrchestrationShardingRule;
 import org.apache.shardingsphere.sharding.execute.metadata.loader.ShardingTableMetaDataLoader;
+import org.apache.shardingsphere.sharding.route.engine.cache.RoutePlanCache;
 import org.apache.shardingsphere.shardingproxy.backend.executor.BackendExecutorContext;
 import org.apache.shardingsphere.shardingproxy.backend.schema.LogicSchema;
 import org.apache.shardingsphere.shardingproxy.backend.schema.LogicSchemas;
@@ -57,6 +58,7 @@ import org.apache.shardingsphere.underlying.common.metadata.table.TableMetas;
 import org.apache.shardingsphere.underlying.common.metadata.table.init.TableMetaDataInitializer;
 import org.apache.shardingsphere.underlying.common.metadata.table.init.TableMetaDataInitializerEntry;
 import org.apache.shardingsphere.underlying.common.rule.BaseRule;
+import org.apache.shardingsphere.underlying.executor.context.ExecutionUnit;
 
 import java.sql.SQLException;
 import java.util.Collection;
@@ -75,6 +77,8 @@ public final class ShardingSchema extends LogicSchema {
     
     private final ShardingSphereMetaData metaData;
     
+    private final RoutePlanCache<Collection<ExecutionUnit>> routePlanCache = new RoutePlanCache<>();
+    
     public ShardingSchema(
             final String name, final Map<String, YamlDataSourceParameter> dataSources, final ShardingRuleConfiguration shardingRuleConfig, final boolean isUsingRegistry) throws SQLException {
         super(name, dataSources);
@@ -102,6 +106,7 @@ public final class ShardingSchema extends LogicSchema {
         if (getName().equals(shardingRuleChangedEvent.getShardingSchemaName())) {
             ConfigurationLogger.log(shardingRuleChangedEvent.getShardingRuleConfiguration());
             shardingRule = new OrchestrationShardingRule(shardingRuleChangedEvent.getShardingRuleConfiguration(), getDataSources().keySet());
+            routePlanCache.clear();
         }
     }
     
@@ -135,7 +140,10 @@ public final class ShardingSchema extends LogicSchema {
             refreshTableMetaData(((CreateIndexStatementContext) sqlStatementContext).getSqlStatement());
         } else if (sqlStatementContext instanceof DropIndexStatementContext) {
             refreshTableMetaData(((DropIndexStatementContext) sqlStatementContext).getSqlStatement());
+        } else {
+            return;
         }
+        routePlanCache.clear();
     }
     
     private void refreshTableMetaData(final CreateTableStatement createTableStatement) throws SQLException {
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.shardingproxy;
 
+import com.google.common.base.Strings;
 import com.google.common.primitives.Ints;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
@@ -45,6 +46,9 @@ import org.apache.shardingsphere.shardingproxy.config.yaml.YamlProxyServerConfig
 import org.apache.shardingsphere.shardingproxy.context.ShardingProxyContext;
 import org.apache.shardingsphere.shardingproxy.frontend.bootstrap.ShardingProxy;
 import org.apache.shardingsphere.shardingproxy.util.DataSourceConverter;
+import org.apache.shardingsphere.sql.parser.SQLParserEngine;
+import org.apache.shardingsphere.sql.parser.SQLParserEngineFactory;
+import org.apache.shardingsphere.underlying.common.database.type.DatabaseTypes;
 
 import java.io.IOException;
 import java.sql.SQLException;
@@ -104,18 +108,19 @@ public final class Bootstrap {
     }
     
     private static void startWithoutRegistryCenter(final Map<String, YamlProxyRuleConfiguration> ruleConfigs,
-                                                   final YamlAuthenticationConfiguration authentication, final Properties prop, final int port) throws SQLException {
+                                                   final YamlAuthenticationConfiguration authentication, final Properties prop, final int port) throws SQLException, IOException {
         Authentication authenticationConfiguration = getAuthentication(authentication);
         ConfigurationLogger.log(authenticationConfiguration);
         ConfigurationLogger.log(prop);
         ShardingProxyContext.getInstance().init(authenticationConfiguration, prop);
         LogicSchemas.getInstance().init(getDataSourceParameterMap(ruleConfigs), getRuleConfiguration(ruleConfigs));
         initOpenTracing();
+        warmUpSQLParser();
         ShardingProxy.getInstance().start(port);
     }
     
     private static void startWithRegistryCenter(final YamlProxyServerConfiguration serverConfig,
-                                                final Collection<String> shardingSchemaNames, final Map<String, YamlProxyRuleConfiguration> ruleConfigs, final int port) {
+                                                final Collection<String> shardingSchemaNames, final Map<String, YamlProxyRuleConfiguration> ruleConfigs, final int port) throws IOException {
         try (ShardingOrchestrationFacade shardingOrchestrationFacade = new ShardingOrchestrationFacade(
                 new OrchestrationConfigurationYamlSwapper().swap(new YamlOrchestrationConfiguration(serverConfig.getOrchestration())), shardingSchemaNames)) {
             initShardingOrchestrationFacade(serverConfig, ruleConfigs, shardingOrchestrationFacade);
@@ -126,6 +131,7 @@ public final class Bootstrap {
             ShardingProxyContext.getInstance().init(authentication, properties);
             LogicSchemas.getInstance().init(shardingSchemaNames, getSchemaDataSourceParameterMap(shardingOrchestrationFacade), getSchemaRules(shardingOrchestrationFacade), true);
             initOpenTracing();
+            warmUpSQLParser();
             ShardingProxy.getInstance().start(port);
         } catch (SQLException e) {
             e.printStackTrace();
@@ -172,6 +178,15 @@ public final class Bootstrap {
         }
     }
     
+    private static void warmUpSQLParser() throws IOException {
+        String corpusFile = ShardingProxyContext.getInstance().getProperties().getValue(PropertiesConstant.SQL_PARSER_WARM_UP_CORPUS_FILE);
+        if (!Strings.isNullOrEmpty(corpusFile)) {
+            SQLParserEngine sqlParserEngine = SQLParserEngineFactory.getSQLParserEngine(DatabaseTypes.getTrunkDatabaseTypeName(LogicSchemas.getInstance().getDatabaseType()),
+                    ShardingProxyContext.getInstance().getProperties().<Boolean>getValue(PropertiesConstant.SQL_PARSER_THREAD_LOCAL_REUSE_ENABLED));
+            SQLParserEngineFactory.warmUp(sqlParserEngine, corpusFile);
+        }
+    }
+    
     private static Map<String, Map<String, DataSourceConfiguration>> getDataSourceConfigurationMap(final Map<String, YamlProxyRuleConfiguration> ruleConfigs) {
         Map<String, Map<String, DataSourceConfiguration>> result = new LinkedHashMap<>();
         for (Entry<String, YamlProxyRuleConfiguration> entry : ruleConfigs.entrySet()) {
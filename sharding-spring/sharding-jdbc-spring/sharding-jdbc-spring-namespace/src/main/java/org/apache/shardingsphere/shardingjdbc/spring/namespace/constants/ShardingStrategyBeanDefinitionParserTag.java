@@ -32,6 +32,8 @@ public final class ShardingStrategyBeanDefinitionParserTag {
     
     public static final String INLINE_STRATEGY_ROOT_TAG = "inline-strategy";
     
+    public static final String INTERVAL_STRATEGY_ROOT_TAG = "interval-strategy";
+    
     public static final String HINT_STRATEGY_ROOT_TAG = "hint-strategy";
     
     public static final String NONE_STRATEGY_ROOT_TAG = "none-strategy";
@@ -47,4 +49,16 @@ public final class ShardingStrategyBeanDefinitionParserTag {
     public static final String RANGE_ALGORITHM_REF_ATTRIBUTE = "range-algorithm-ref";
     
     public static final String ALGORITHM_EXPRESSION_ATTRIBUTE = "algorithm-expression";
+    
+    public static final String DATETIME_PATTERN_ATTRIBUTE = "datetime-pattern";
+    
+    public static final String DATETIME_LOWER_ATTRIBUTE = "datetime-lower";
+    
+    public static final String DATETIME_UPPER_ATTRIBUTE = "datetime-upper";
+    
+    public static final String SHARDING_SUFFIX_PATTERN_ATTRIBUTE = "sharding-suffix-pattern";
+    
+    public static final String INTERVAL_UNIT_ATTRIBUTE = "interval-unit";
+    
+    public static final String INTERVAL_AMOUNT_ATTRIBUTE = "interval-amount";
 }
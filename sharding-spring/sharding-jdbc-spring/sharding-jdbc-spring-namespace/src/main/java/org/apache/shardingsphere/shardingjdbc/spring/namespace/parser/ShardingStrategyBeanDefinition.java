@@ -24,6 +24,7 @@ import lombok.NoArgsConstructor;
 import org.apache.shardingsphere.api.config.sharding.strategy.ComplexShardingStrategyConfiguration;
 import org.apache.shardingsphere.api.config.sharding.strategy.HintShardingStrategyConfiguration;
 import org.apache.shardingsphere.api.config.sharding.strategy.InlineShardingStrategyConfiguration;
+import org.apache.shardingsphere.api.config.sharding.strategy.IntervalShardingStrategyConfiguration;
 import org.apache.shardingsphere.api.config.sharding.strategy.NoneShardingStrategyConfiguration;
 import org.apache.shardingsphere.api.config.sharding.strategy.StandardShardingStrategyConfiguration;
 import org.apache.shardingsphere.underlying.common.exception.ShardingSphereException;
@@ -46,6 +47,8 @@ public final class ShardingStrategyBeanDefinition {
                 return getComplexShardingStrategyConfigBeanDefinition(element);
             case ShardingStrategyBeanDefinitionParserTag.INLINE_STRATEGY_ROOT_TAG:
                 return getInlineShardingStrategyConfigBeanDefinition(element);
+            case ShardingStrategyBeanDefinitionParserTag.INTERVAL_STRATEGY_ROOT_TAG:
+                return getIntervalShardingStrategyConfigBeanDefinition(element);
             case ShardingStrategyBeanDefinitionParserTag.HINT_STRATEGY_ROOT_TAG:
                 return getHintShardingStrategyConfigBeanDefinition(element);
             case ShardingStrategyBeanDefinitionParserTag.NONE_STRATEGY_ROOT_TAG:
@@ -79,6 +82,19 @@ public final class ShardingStrategyBeanDefinition {
         return factory.getBeanDefinition();
     }
     
+    private static AbstractBeanDefinition getIntervalShardingStrategyConfigBeanDefinition(final Element element) {
+        BeanDefinitionBuilder factory = BeanDefinitionBuilder.rootBeanDefinition(IntervalShardingStrategyConfiguration.class);
+        factory.addConstructorArgValue(element.getAttribute(ShardingStrategyBeanDefinitionParserTag.SHARDING_COLUMN_ATTRIBUTE));
+        factory.addConstructorArgValue(element.getAttribute(ShardingStrategyBeanDefinitionParserTag.DATETIME_PATTERN_ATTRIBUTE));
+        factory.addConstructorArgValue(element.getAttribute(ShardingStrategyBeanDefinitionParserTag.DATETIME_LOWER_ATTRIBUTE));
+        factory.addConstructorArgValue(element.getAttribute(ShardingStrategyBeanDefinitionParserTag.DATETIME_UPPER_ATTRIBUTE));
+        factory.addConstructorArgValue(element.getAttribute(ShardingStrategyBeanDefinitionParserTag.SHARDING_SUFFIX_PATTERN_ATTRIBUTE));
+        factory.addConstructorArgValue(element.getAttribute(ShardingStrategyBeanDefinitionParserTag.INTERVAL_UNIT_ATTRIBUTE));
+        String intervalAmount = element.getAttribute(ShardingStrategyBeanDefinitionParserTag.INTERVAL_AMOUNT_ATTRIBUTE);
+        factory.addConstructorArgValue(Strings.isNullOrEmpty(intervalAmount) ? 1 : Integer.parseInt(intervalAmount));
+        return factory.getBeanDefinition();
+    }
+    
     private static AbstractBeanDefinition getHintShardingStrategyConfigBeanDefinition(final Element element) {
         BeanDefinitionBuilder factory = BeanDefinitionBuilder.rootBeanDefinition(HintShardingStrategyConfiguration.class);
         factory.addConstructorArgReference(element.getAttribute(ShardingStrategyBeanDefinitionParserTag.ALGORITHM_REF_ATTRIBUTE));
@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.binder.cache;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.sql.parser.binder.SQLStatementContextFactory;
+import org.apache.shardingsphere.sql.parser.binder.metadata.RelationMetas;
+import org.apache.shardingsphere.sql.parser.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.sql.parser.binder.statement.dml.InsertStatementContext;
+import org.apache.shardingsphere.sql.parser.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.sql.parser.sql.statement.SQLStatement;
+
+import java.util.List;
+
+/**
+ * SQL statement context cache.
+ * 
+ * <p>Cache parameter independent SQL statement contexts as templates by identity of SQL statement,
+ * and bind parameter dependent contexts, such as pagination and insert values, for every creation.
+ * The SQL statement should come from the SQL parse result cache, otherwise the template can never be reused.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SQLStatementContextCache {
+    
+    private static final Cache<SQLStatement, SQLStatementContextTemplate> CACHE = CacheBuilder.newBuilder().weakKeys().softValues().initialCapacity(2000).maximumSize(65535).build();
+    
+    /**
+     * Get SQL statement context.
+     *
+     * @param relationMetas relation metas
+     * @param sql SQL
+     * @param parameters SQL parameters
+     * @param sqlStatement SQL statement
+     * @return SQL statement context
+     */
+    public static SQLStatementContext getSQLStatementContext(final RelationMetas relationMetas, final String sql, final List<Object> parameters, final SQLStatement sqlStatement) {
+        SQLStatementContextTemplate template = CACHE.getIfPresent(sqlStatement);
+        if (null == template || relationMetas != template.relationMetas) {
+            template = new SQLStatementContextTemplate(relationMetas, SQLStatementContextFactory.newInstance(relationMetas, sql, parameters, sqlStatement));
+            CACHE.put(sqlStatement, template);
+        }
+        return bind(template.sqlStatementContext, parameters);
+    }
+    
+    private static SQLStatementContext bind(final SQLStatementContext template, final List<Object> parameters) {
+        if (template instanceof SelectStatementContext) {
+            return new SelectStatementContext((SelectStatementContext) template, parameters);
+        }
+        if (template instanceof InsertStatementContext) {
+            return new InsertStatementContext((InsertStatementContext) template, parameters);
+        }
+        return template;
+    }
+    
+    /**
+     * Clear cache.
+     */
+    public static void clear() {
+        CACHE.invalidateAll();
+    }
+    
+    @RequiredArgsConstructor
+    private static final class SQLStatementContextTemplate {
+        
+        private final RelationMetas relationMetas;
+        
+        private final SQLStatementContext sqlStatementContext;
+    }
+}
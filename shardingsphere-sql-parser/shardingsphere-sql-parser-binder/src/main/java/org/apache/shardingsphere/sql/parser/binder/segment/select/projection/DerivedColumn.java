@@ -34,6 +34,8 @@ public enum DerivedColumn {
     AVG_SUM_ALIAS("AVG_DERIVED_SUM_"), 
     ORDER_BY_ALIAS("ORDER_BY_DERIVED_"), 
     GROUP_BY_ALIAS("GROUP_BY_DERIVED_"),
+    HASH_JOIN_SIDE_ALIAS("HASH_JOIN_DERIVED_SIDE_"),
+    HASH_JOIN_KEY_ALIAS("HASH_JOIN_DERIVED_KEY_"),
     AGGREGATION_DISTINCT_DERIVED("AGGREGATION_DISTINCT_DERIVED_");
 
     private static final Collection<DerivedColumn> VALUES_WITHOUT_AGGREGATION_DISTINCT_DERIVED = getValues();
@@ -54,6 +54,13 @@ public final class InsertStatementContext extends CommonSQLStatementContext<Inse
         insertValueContexts = getInsertValueContexts(parameters);
     }
     
+    public InsertStatementContext(final InsertStatementContext template, final List<Object> parameters) {
+        super(template.getSqlStatement());
+        tablesContext = template.tablesContext;
+        columnNames = template.columnNames;
+        insertValueContexts = getInsertValueContexts(parameters);
+    }
+    
     private List<InsertValueContext> getInsertValueContexts(final List<Object> parameters) {
         List<InsertValueContext> result = new LinkedList<>();
         int parametersOffset = 0;
@@ -31,6 +31,7 @@ import org.apache.shardingsphere.sql.parser.binder.segment.select.pagination.eng
 import org.apache.shardingsphere.sql.parser.binder.segment.select.projection.Projection;
 import org.apache.shardingsphere.sql.parser.binder.segment.select.projection.ProjectionsContext;
 import org.apache.shardingsphere.sql.parser.binder.segment.select.projection.engine.ProjectionsContextEngine;
+import org.apache.shardingsphere.sql.parser.binder.segment.select.projection.impl.AggregationDistinctProjection;
 import org.apache.shardingsphere.sql.parser.binder.segment.select.projection.impl.AggregationProjection;
 import org.apache.shardingsphere.sql.parser.binder.type.TableAvailable;
 import org.apache.shardingsphere.sql.parser.binder.segment.table.TablesContext;
@@ -101,6 +102,52 @@ public final class SelectStatementContext extends CommonSQLStatementContext<Sele
         containsSubquery = containsSubquery();
     }
     
+    public SelectStatementContext(final SelectStatementContext template, final List<Object> parameters) {
+        super(template.getSqlStatement());
+        tablesContext = template.tablesContext;
+        groupByContext = new GroupByContext(copyOrderByItems(template.groupByContext.getItems()), template.groupByContext.getLastIndex());
+        orderByContext = new OrderByContext(template.orderByContext.getItems() == template.groupByContext.getItems()
+                ? groupByContext.getItems() : copyOrderByItems(template.orderByContext.getItems()), template.orderByContext.isGenerated());
+        projectionsContext = new ProjectionsContext(template.projectionsContext.getStartIndex(), template.projectionsContext.getStopIndex(),
+                template.projectionsContext.isDistinctRow(), copyProjections(template.projectionsContext.getProjections()));
+        paginationContext = new PaginationContextEngine().createPaginationContext(getSqlStatement(), projectionsContext, parameters);
+        containsSubquery = template.containsSubquery;
+    }
+    
+    private Collection<OrderByItem> copyOrderByItems(final Collection<OrderByItem> orderByItems) {
+        Collection<OrderByItem> result = new LinkedList<>();
+        for (OrderByItem each : orderByItems) {
+            OrderByItem orderByItem = new OrderByItem(each.getSegment());
+            orderByItem.setIndex(each.getIndex());
+            result.add(orderByItem);
+        }
+        return result;
+    }
+    
+    private Collection<Projection> copyProjections(final Collection<Projection> projections) {
+        Collection<Projection> result = new LinkedList<>();
+        for (Projection each : projections) {
+            result.add(each instanceof AggregationProjection ? copyAggregationProjection((AggregationProjection) each) : each);
+        }
+        return result;
+    }
+    
+    private AggregationProjection copyAggregationProjection(final AggregationProjection aggregationProjection) {
+        AggregationProjection result;
+        if (aggregationProjection instanceof AggregationDistinctProjection) {
+            AggregationDistinctProjection aggregationDistinctProjection = (AggregationDistinctProjection) aggregationProjection;
+            result = new AggregationDistinctProjection(aggregationDistinctProjection.getStartIndex(), aggregationDistinctProjection.getStopIndex(), aggregationDistinctProjection.getType(),
+                    aggregationDistinctProjection.getInnerExpression(), aggregationDistinctProjection.getAlias().orElse(null), aggregationDistinctProjection.getDistinctInnerExpression());
+        } else {
+            result = new AggregationProjection(aggregationProjection.getType(), aggregationProjection.getInnerExpression(), aggregationProjection.getAlias().orElse(null));
+        }
+        result.setIndex(aggregationProjection.getIndex());
+        for (AggregationProjection each : aggregationProjection.getDerivedAggregationProjections()) {
+            result.getDerivedAggregationProjections().add(copyAggregationProjection(each));
+        }
+        return result;
+    }
+    
     private boolean containsSubquery() {
         // FIXME process subquery
 //        Collection<SubqueryPredicateSegment> subqueryPredicateSegments = getSqlStatement().findSQLSegments(SubqueryPredicateSegment.class);
@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.binder.cache;
+
+import org.apache.shardingsphere.sql.parser.binder.metadata.RelationMetas;
+import org.apache.shardingsphere.sql.parser.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.sql.parser.binder.statement.dml.InsertStatementContext;
+import org.apache.shardingsphere.sql.parser.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.assignment.AssignmentSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.assignment.SetAssignmentSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.column.ColumnSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.expr.simple.ParameterMarkerExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.item.ProjectionsSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.pagination.limit.LimitSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.pagination.limit.ParameterMarkerLimitValueSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.generic.table.SimpleTableSegment;
+import org.apache.shardingsphere.sql.parser.sql.statement.SQLStatement;
+import org.apache.shardingsphere.sql.parser.sql.statement.dml.InsertStatement;
+import org.apache.shardingsphere.sql.parser.sql.statement.dml.SelectStatement;
+import org.apache.shardingsphere.sql.parser.sql.value.identifier.IdentifierValue;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+
+public final class SQLStatementContextCacheTest {
+    
+    @After
+    public void tearDown() {
+        SQLStatementContextCache.clear();
+    }
+    
+    @Test
+    public void assertGetSelectStatementContextWithCachedTemplate() {
+        SelectStatement selectStatement = new SelectStatement();
+        selectStatement.setProjections(new ProjectionsSegment(0, 0));
+        selectStatement.setLimit(new LimitSegment(0, 0, null, new ParameterMarkerLimitValueSegment(0, 0, 0)));
+        RelationMetas relationMetas = new RelationMetas(Collections.emptyMap());
+        SelectStatementContext actual1 = (SelectStatementContext) SQLStatementContextCache.getSQLStatementContext(relationMetas, "", Collections.singletonList(10), selectStatement);
+        SelectStatementContext actual2 = (SelectStatementContext) SQLStatementContextCache.getSQLStatementContext(relationMetas, "", Collections.singletonList(20), selectStatement);
+        assertThat(actual1, not(sameInstance(actual2)));
+        assertThat(actual1.getTablesContext(), sameInstance(actual2.getTablesContext()));
+        assertThat(actual1.getProjectionsContext(), not(sameInstance(actual2.getProjectionsContext())));
+        assertThat(actual1.getOrderByContext(), not(sameInstance(actual2.getOrderByContext())));
+        assertThat(actual1.getGroupByContext(), not(sameInstance(actual2.getGroupByContext())));
+        assertThat(actual1.getPaginationContext().getActualRowCount().orElse(null), is(10L));
+        assertThat(actual2.getPaginationContext().getActualRowCount().orElse(null), is(20L));
+    }
+    
+    @Test
+    public void assertGetInsertStatementContextWithCachedTemplate() {
+        InsertStatement insertStatement = new InsertStatement();
+        insertStatement.setTable(new SimpleTableSegment(0, 0, new IdentifierValue("tbl")));
+        insertStatement.setSetAssignment(new SetAssignmentSegment(0, 0,
+                Collections.singleton(new AssignmentSegment(0, 0, new ColumnSegment(0, 0, new IdentifierValue("col")), new ParameterMarkerExpressionSegment(0, 0, 0)))));
+        RelationMetas relationMetas = new RelationMetas(Collections.emptyMap());
+        InsertStatementContext actual1 = (InsertStatementContext) SQLStatementContextCache.getSQLStatementContext(relationMetas, "", Collections.singletonList(1), insertStatement);
+        InsertStatementContext actual2 = (InsertStatementContext) SQLStatementContextCache.getSQLStatementContext(relationMetas, "", Collections.singletonList(2), insertStatement);
+        assertThat(actual1.getColumnNames(), sameInstance(actual2.getColumnNames()));
+        assertThat(actual1.getGroupedParameters().get(0).get(0), is((Object) 1));
+        assertThat(actual2.getGroupedParameters().get(0).get(0), is((Object) 2));
+    }
+    
+    @Test
+    public void assertGetSQLStatementContextWithoutParameter() {
+        SQLStatement sqlStatement = mock(SQLStatement.class);
+        RelationMetas relationMetas = new RelationMetas(Collections.emptyMap());
+        SQLStatementContext actual = SQLStatementContextCache.getSQLStatementContext(relationMetas, "", Collections.emptyList(), sqlStatement);
+        assertThat(SQLStatementContextCache.getSQLStatementContext(relationMetas, "", Collections.emptyList(), sqlStatement), sameInstance(actual));
+        assertThat(SQLStatementContextCache.getSQLStatementContext(new RelationMetas(Collections.emptyMap()), "", Collections.emptyList(), sqlStatement), not(sameInstance(actual)));
+    }
+}
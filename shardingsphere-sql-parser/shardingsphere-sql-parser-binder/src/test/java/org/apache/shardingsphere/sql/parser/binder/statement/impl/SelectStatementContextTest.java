@@ -43,6 +43,7 @@ import org.junit.Test;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedList;
 import java.util.Map;
 
 import static org.hamcrest.CoreMatchers.is;
@@ -138,6 +139,25 @@ public final class SelectStatementContextTest {
         assertThat(selectStatementContext.getOrderByContext().getItems().iterator().next().getIndex(), is(3));
     }
     
+    @Test
+    public void assertSetIndexesWithoutChangingTemplate() {
+        AggregationProjection aggregationProjection = new AggregationProjection(AggregationType.MAX, "(id)", "max_id");
+        ProjectionsContext projectionsContext = new ProjectionsContext(0, 0, false, Collections.singletonList(aggregationProjection));
+        SelectStatement selectStatement = new SelectStatement();
+        selectStatement.setProjections(new ProjectionsSegment(0, 0));
+        SelectStatementContext template = new SelectStatementContext(
+                selectStatement, new GroupByContext(new LinkedList<>(), 0), createOrderBy(COLUMN_ORDER_BY_WITHOUT_OWNER_ALIAS), projectionsContext, null);
+        SelectStatementContext actual = new SelectStatementContext(template, Collections.emptyList());
+        Map<String, Integer> columnLabelIndexMap = new HashMap<>();
+        columnLabelIndexMap.put("max_id", 1);
+        columnLabelIndexMap.put("id", 2);
+        actual.setIndexes(columnLabelIndexMap);
+        assertThat(actual.getProjectionsContext().getAggregationProjections().get(0).getIndex(), is(1));
+        assertThat(actual.getOrderByContext().getItems().iterator().next().getIndex(), is(2));
+        assertThat(aggregationProjection.getIndex(), is(-1));
+        assertThat(template.getOrderByContext().getItems().iterator().next().getIndex(), is(0));
+    }
+    
     private OrderByContext createOrderBy(final String type) {
         OrderByItemSegment orderByItemSegment = createOrderByItemSegment(type);
         OrderByItem orderByItem = new OrderByItem(orderByItemSegment);
@@ -17,8 +17,10 @@
 
 package org.apache.shardingsphere.sql.parser;
 
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.antlr.v4.runtime.tree.ParseTree;
+import org.apache.shardingsphere.sql.parser.cache.SQLFingerprintCache;
 import org.apache.shardingsphere.sql.parser.cache.SQLParseResultCache;
 import org.apache.shardingsphere.sql.parser.core.constant.RuleName;
 import org.apache.shardingsphere.sql.parser.core.parser.SQLParserExecutor;
@@ -39,11 +41,20 @@ public final class SQLParserEngine {
     
     private final SQLParseResultCache cache = new SQLParseResultCache();
     
+    @Getter
+    private final SQLFingerprintCache fingerprintCache = new SQLFingerprintCache();
+    
+    private final boolean threadLocalParserReused;
+    
+    public SQLParserEngine(final String databaseTypeName) {
+        this(databaseTypeName, false);
+    }
+    
     /**
      * Parse SQL.
      *
      * @param sql SQL
-     * @param useCache use cache or not
+     * @param useCache use cache of SQL statement or not, parse tree of SQL is always rebound from fingerprint cache if present
      * @return SQL statement
      */
     public SQLStatement parse(final String sql, final boolean useCache) {
@@ -68,11 +79,22 @@ public final class SQLParserEngine {
                 return cachedSQLStatement.get();
             }
         }
-        ParseTree parseTree = new SQLParserExecutor(databaseTypeName, sql).execute();
-        SQLStatement result = (SQLStatement) ParseTreeVisitorFactory.newInstance(databaseTypeName, RuleName.valueOf(parseTree.getClass())).visit(parseTree);
+        SQLParserExecutor sqlParserExecutor = new SQLParserExecutor(databaseTypeName, sql, threadLocalParserReused);
+        SQLStatement result;
+        try {
+            Optional<SQLStatement> simpleDMLStatement = sqlParserExecutor.executeSimpleDML();
+            result = simpleDMLStatement.isPresent() ? simpleDMLStatement.get() : visit(sqlParserExecutor);
+        } finally {
+            sqlParserExecutor.release();
+        }
         if (useCache) {
             cache.put(sql, result);
         }
         return result;
     }
+    
+    private SQLStatement visit(final SQLParserExecutor sqlParserExecutor) {
+        ParseTree parseTree = sqlParserExecutor.execute(fingerprintCache);
+        return (SQLStatement) ParseTreeVisitorFactory.newInstance(databaseTypeName, RuleName.valueOf(parseTree.getClass())).visit(parseTree);
+    }
 }
@@ -17,11 +17,23 @@
 
 package org.apache.shardingsphere.sql.parser;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import lombok.SneakyThrows;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 /**
  * SQL parser engine factory.
@@ -31,6 +43,10 @@ public final class SQLParserEngineFactory {
     
     private static final Map<String, SQLParserEngine> ENGINES = new ConcurrentHashMap<>();
     
+    private static final Map<String, SQLParserEngine> THREAD_LOCAL_PARSER_REUSED_ENGINES = new ConcurrentHashMap<>();
+    
+    private static final Collection<SQLParserEngine> WARMED_UP_ENGINES = Collections.newSetFromMap(new ConcurrentHashMap<>());
+    
     /**
      * Get SQL parser engine.
      *
@@ -38,16 +54,92 @@ public final class SQLParserEngineFactory {
      * @return SQL parser engine
      */
     public static SQLParserEngine getSQLParserEngine(final String databaseTypeName) {
-        if (ENGINES.containsKey(databaseTypeName)) {
-            return ENGINES.get(databaseTypeName);
+        return getSQLParserEngine(databaseTypeName, false);
+    }
+    
+    /**
+     * Get SQL parser engine.
+     * 
+     * <p>
+     * SQL parser engines which reuse thread local parser or not are cached separately, so that each caller gets the engine of its own setting.
+     * </p>
+     *
+     * @param databaseTypeName name of database type
+     * @param threadLocalParserReused reuse thread local parser or not
+     * @return SQL parser engine
+     */
+    public static SQLParserEngine getSQLParserEngine(final String databaseTypeName, final boolean threadLocalParserReused) {
+        Map<String, SQLParserEngine> engines = threadLocalParserReused ? THREAD_LOCAL_PARSER_REUSED_ENGINES : ENGINES;
+        if (engines.containsKey(databaseTypeName)) {
+            return engines.get(databaseTypeName);
         }
-        synchronized (ENGINES) {
-            if (ENGINES.containsKey(databaseTypeName)) {
-                return ENGINES.get(databaseTypeName);
+        synchronized (engines) {
+            if (engines.containsKey(databaseTypeName)) {
+                return engines.get(databaseTypeName);
             }
-            SQLParserEngine result = new SQLParserEngine(databaseTypeName);
-            ENGINES.put(databaseTypeName, result);
+            SQLParserEngine result = new SQLParserEngine(databaseTypeName, threadLocalParserReused);
+            engines.put(databaseTypeName, result);
             return result;
         }
     }
+    
+    /**
+     * Warm up SQL parser engine with SQLs in corpus file.
+     * 
+     * <p>
+     * Each line of corpus file is a SQL, blank lines and lines start with {@code --} are ignored.
+     * Corpus file is not read if SQL parser engine has already been warmed up.
+     * </p>
+     *
+     * @param sqlParserEngine SQL parser engine
+     * @param corpusFile path of corpus file
+     * @throws IOException IO exception
+     */
+    public static void warmUp(final SQLParserEngine sqlParserEngine, final String corpusFile) throws IOException {
+        if (WARMED_UP_ENGINES.contains(sqlParserEngine)) {
+            return;
+        }
+        Collection<String> sqls = new LinkedList<>();
+        for (String each : Files.readAllLines(Paths.get(corpusFile), StandardCharsets.UTF_8)) {
+            String sql = each.trim();
+            if (!sql.isEmpty() && !sql.startsWith("--")) {
+                sqls.add(sql.endsWith(";") ? sql.substring(0, sql.length() - 1) : sql);
+            }
+        }
+        warmUp(sqlParserEngine, sqls);
+    }
+    
+    /**
+     * Warm up SQL parser engine.
+     * 
+     * <p>
+     * SQLs are parsed in parallel to fill DFA cache of parser and fingerprint cache of SQL parser engine, unsupported SQLs are ignored.
+     * Each SQL parser engine is warmed up only once, subsequent calls are ignored.
+     * </p>
+     *
+     * @param sqlParserEngine SQL parser engine
+     * @param sqls SQLs to be parsed
+     */
+    @SneakyThrows
+    public static void warmUp(final SQLParserEngine sqlParserEngine, final Collection<String> sqls) {
+        if (sqls.isEmpty() || !WARMED_UP_ENGINES.add(sqlParserEngine)) {
+            return;
+        }
+        ExecutorService executorService = Executors.newFixedThreadPool(
+                Math.min(Runtime.getRuntime().availableProcessors(), sqls.size()), new ThreadFactoryBuilder().setDaemon(true).setNameFormat("ShardingSphere-SQLParserWarmUp-%d").build());
+        for (String each : sqls) {
+            executorService.execute(() -> parseQuietly(sqlParserEngine, each));
+        }
+        executorService.shutdown();
+        executorService.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+    }
+    
+    private static void parseQuietly(final SQLParserEngine sqlParserEngine, final String sql) {
+        try {
+            sqlParserEngine.parse(sql, true);
+            // CHECKSTYLE:OFF
+        } catch (final Exception ignored) {
+            // CHECKSTYLE:ON
+        }
+    }
 }
@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.cache;
+
+import lombok.SneakyThrows;
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.antlr.v4.runtime.tree.TerminalNode;
+import org.antlr.v4.runtime.tree.TerminalNodeImpl;
+
+import java.lang.reflect.Constructor;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Parse tree template.
+ * 
+ * <p>
+ * Parse tree template is created from a successful parsed SQL, 
+ * and can be rebound to tokens of another SQL with same fingerprint without parsing again.
+ * </p>
+ */
+public final class ParseTreeTemplate {
+    
+    private static final Map<Class<?>, Constructor<?>> CONTEXT_CONSTRUCTORS = new ConcurrentHashMap<>();
+    
+    private final ParseTree parseTree;
+    
+    private final int[] tokenOrdinals;
+    
+    public ParseTreeTemplate(final ParseTree parseTree, final SQLFingerprint fingerprint) {
+        this.parseTree = parseTree;
+        List<Token> tokens = fingerprint.getTokens();
+        tokenOrdinals = new int[tokens.isEmpty() ? 0 : tokens.get(tokens.size() - 1).getTokenIndex() + 1];
+        for (int i = 0; i < tokens.size(); i++) {
+            tokenOrdinals[tokens.get(i).getTokenIndex()] = i;
+        }
+    }
+    
+    /**
+     * Bind tokens of SQL to new parse tree.
+     * 
+     * @param fingerprint SQL fingerprint which is same with fingerprint of template
+     * @return parse tree
+     */
+    public ParseTree bind(final SQLFingerprint fingerprint) {
+        return copy(parseTree, null, fingerprint.getTokens());
+    }
+    
+    @SneakyThrows
+    private ParseTree copy(final ParseTree node, final ParserRuleContext parent, final List<Token> tokens) {
+        if (node instanceof TerminalNode) {
+            TerminalNodeImpl result = new TerminalNodeImpl(getToken(((TerminalNode) node).getSymbol(), tokens));
+            result.setParent(parent);
+            return result;
+        }
+        ParserRuleContext template = (ParserRuleContext) node;
+        ParserRuleContext result = (ParserRuleContext) getContextConstructor(template.getClass()).newInstance(parent, template.invokingState);
+        result.start = getToken(template.start, tokens);
+        result.stop = getToken(template.stop, tokens);
+        for (int i = 0; i < template.getChildCount(); i++) {
+            ParseTree child = copy(template.getChild(i), result, tokens);
+            if (child instanceof TerminalNode) {
+                result.addChild((TerminalNode) child);
+            } else {
+                result.addChild((ParserRuleContext) child);
+            }
+        }
+        return result;
+    }
+    
+    private Token getToken(final Token templateToken, final List<Token> tokens) {
+        if (null == templateToken || templateToken.getTokenIndex() < 0 || templateToken.getTokenIndex() >= tokenOrdinals.length) {
+            return templateToken;
+        }
+        return tokens.get(tokenOrdinals[templateToken.getTokenIndex()]);
+    }
+    
+    private Constructor<?> getContextConstructor(final Class<?> contextClass) throws NoSuchMethodException {
+        Constructor<?> result = CONTEXT_CONSTRUCTORS.get(contextClass);
+        if (null == result) {
+            result = contextClass.getConstructor(ParserRuleContext.class, int.class);
+            CONTEXT_CONSTRUCTORS.put(contextClass, result);
+        }
+        return result;
+    }
+}
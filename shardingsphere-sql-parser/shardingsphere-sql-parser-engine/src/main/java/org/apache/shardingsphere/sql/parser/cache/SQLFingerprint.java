@@ -0,0 +1,52 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.cache;
+
+import lombok.Getter;
+import org.antlr.v4.runtime.Token;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * SQL fingerprint.
+ * 
+ * <p>
+ * Fingerprint is the token types sequence of SQL in default channel, which normalizes literals, identifiers, whitespaces and comments.
+ * SQLs with same fingerprint have same parse tree shape.
+ * </p>
+ */
+@Getter
+public final class SQLFingerprint {
+    
+    private final List<Token> tokens;
+    
+    private final String value;
+    
+    public SQLFingerprint(final List<Token> allTokens) {
+        tokens = new ArrayList<>(allTokens.size());
+        StringBuilder value = new StringBuilder(allTokens.size());
+        for (Token each : allTokens) {
+            if (Token.DEFAULT_CHANNEL == each.getChannel()) {
+                tokens.add(each);
+                value.append((char) each.getType());
+            }
+        }
+        this.value = value.toString();
+    }
+}
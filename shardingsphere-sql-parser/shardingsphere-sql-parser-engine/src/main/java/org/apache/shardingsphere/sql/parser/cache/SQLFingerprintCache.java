@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.cache;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * SQL fingerprint cache.
+ */
+public final class SQLFingerprintCache {
+    
+    private final Cache<String, ParseTreeTemplate> cache = CacheBuilder.newBuilder().softValues().initialCapacity(2000).maximumSize(65535).build();
+    
+    private final AtomicLong hitCount = new AtomicLong();
+    
+    private final AtomicLong missCount = new AtomicLong();
+    
+    /**
+     * Put SQL fingerprint and parse tree template into cache.
+     * 
+     * @param fingerprint SQL fingerprint
+     * @param parseTreeTemplate parse tree template
+     */
+    public void put(final SQLFingerprint fingerprint, final ParseTreeTemplate parseTreeTemplate) {
+        cache.put(fingerprint.getValue(), parseTreeTemplate);
+    }
+    
+    /**
+     * Get parse tree template.
+     *
+     * @param fingerprint SQL fingerprint
+     * @return parse tree template
+     */
+    public Optional<ParseTreeTemplate> getParseTreeTemplate(final SQLFingerprint fingerprint) {
+        ParseTreeTemplate result = cache.getIfPresent(fingerprint.getValue());
+        if (null == result) {
+            missCount.incrementAndGet();
+        } else {
+            hitCount.incrementAndGet();
+        }
+        return Optional.ofNullable(result);
+    }
+    
+    /**
+     * Get hit count.
+     * 
+     * @return hit count
+     */
+    public long getHitCount() {
+        return hitCount.get();
+    }
+    
+    /**
+     * Get miss count.
+     *
+     * @return miss count
+     */
+    public long getMissCount() {
+        return missCount.get();
+    }
+    
+    /**
+     * Clear cache.
+     */
+    public synchronized void clear() {
+        cache.invalidateAll();
+        hitCount.set(0L);
+        missCount.set(0L);
+    }
+}
@@ -17,42 +17,119 @@
 
 package org.apache.shardingsphere.sql.parser.core.parser;
 
-import lombok.RequiredArgsConstructor;
 import org.antlr.v4.runtime.BailErrorStrategy;
+import org.antlr.v4.runtime.BufferedTokenStream;
 import org.antlr.v4.runtime.DefaultErrorStrategy;
 import org.antlr.v4.runtime.Parser;
+import org.antlr.v4.runtime.Token;
 import org.antlr.v4.runtime.atn.PredictionMode;
 import org.antlr.v4.runtime.misc.ParseCancellationException;
 import org.antlr.v4.runtime.tree.ErrorNode;
 import org.antlr.v4.runtime.tree.ParseTree;
 import org.apache.shardingsphere.sql.parser.api.parser.SQLParser;
+import org.apache.shardingsphere.sql.parser.cache.ParseTreeTemplate;
+import org.apache.shardingsphere.sql.parser.cache.SQLFingerprint;
+import org.apache.shardingsphere.sql.parser.cache.SQLFingerprintCache;
 import org.apache.shardingsphere.sql.parser.exception.SQLParsingException;
+import org.apache.shardingsphere.sql.parser.sql.statement.SQLStatement;
+
+import java.util.List;
+import java.util.Optional;
 
 /**
  * SQL parser executor.
  */
-@RequiredArgsConstructor
 public final class SQLParserExecutor {
     
     private final String databaseTypeName;
     
     private final String sql;
     
+    private final boolean threadLocalParserReused;
+    
+    private final SQLParser sqlParser;
+    
+    private SQLFingerprint fingerprint;
+    
+    public SQLParserExecutor(final String databaseTypeName, final String sql, final boolean threadLocalParserReused) {
+        this.databaseTypeName = databaseTypeName;
+        this.sql = sql;
+        this.threadLocalParserReused = threadLocalParserReused;
+        sqlParser = threadLocalParserReused ? SQLParserFactory.getThreadLocalInstance(databaseTypeName, sql) : SQLParserFactory.newInstance(databaseTypeName, sql);
+    }
+    
+    /**
+     * Execute to parse simple DML SQL without parse tree.
+     * 
+     * @return SQL statement, empty if SQL is not simple DML
+     */
+    public Optional<SQLStatement> executeSimpleDML() {
+        return SimpleDMLStatementParser.isSupported(databaseTypeName) ? new SimpleDMLStatementParser(((Parser) sqlParser).getVocabulary(), getFingerprint().getTokens()).parse() : Optional.empty();
+    }
+    
     /**
      * Execute to parse SQL.
      *
      * @return parse tree
      */
     public ParseTree execute() {
-        ParseTree result = towPhaseParse();
+        return parse(sqlParser);
+    }
+    
+    /**
+     * Execute to parse SQL with fingerprint cache.
+     * 
+     * <p>
+     * Parse tree of SQL which has same fingerprint with cached one is rebound from parse tree template without parsing again.
+     * </p>
+     *
+     * @param fingerprintCache SQL fingerprint cache
+     * @return parse tree
+     */
+    public ParseTree execute(final SQLFingerprintCache fingerprintCache) {
+        SQLFingerprint fingerprint = getFingerprint();
+        Optional<ParseTreeTemplate> parseTreeTemplate = fingerprintCache.getParseTreeTemplate(fingerprint);
+        if (parseTreeTemplate.isPresent()) {
+            return parseTreeTemplate.get().bind(fingerprint);
+        }
+        ParseTree result = parse(sqlParser);
+        if (0 == ((Parser) sqlParser).getNumberOfSyntaxErrors()) {
+            fingerprintCache.put(fingerprint, new ParseTreeTemplate(result, fingerprint));
+        }
+        return result;
+    }
+    
+    /**
+     * Release SQL parser if it is reused by thread.
+     */
+    public void release() {
+        if (threadLocalParserReused) {
+            SQLParserFactory.release(sqlParser);
+        }
+    }
+    
+    private SQLFingerprint getFingerprint() {
+        if (null == fingerprint) {
+            fingerprint = new SQLFingerprint(getAllTokens(sqlParser));
+        }
+        return fingerprint;
+    }
+    
+    private List<Token> getAllTokens(final SQLParser sqlParser) {
+        BufferedTokenStream tokenStream = (BufferedTokenStream) ((Parser) sqlParser).getTokenStream();
+        tokenStream.fill();
+        return tokenStream.getTokens();
+    }
+    
+    private ParseTree parse(final SQLParser sqlParser) {
+        ParseTree result = towPhaseParse(sqlParser);
         if (result instanceof ErrorNode) {
             throw new SQLParsingException(String.format("Unsupported SQL of `%s`", sql));
         }
         return result;
     }
     
-    private ParseTree towPhaseParse() {
-        SQLParser sqlParser = SQLParserFactory.newInstance(databaseTypeName, sql);
+    private ParseTree towPhaseParse(final SQLParser sqlParser) {
         try {
             ((Parser) sqlParser).setErrorHandler(new BailErrorStrategy());
             ((Parser) sqlParser).getInterpreter().setPredictionMode(PredictionMode.SLL);
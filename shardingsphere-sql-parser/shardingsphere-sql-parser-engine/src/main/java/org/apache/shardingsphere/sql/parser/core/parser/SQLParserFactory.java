@@ -20,21 +20,28 @@ package org.apache.shardingsphere.sql.parser.core.parser;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import lombok.SneakyThrows;
+import org.antlr.v4.runtime.BufferedTokenStream;
 import org.antlr.v4.runtime.CharStream;
 import org.antlr.v4.runtime.CharStreams;
 import org.antlr.v4.runtime.CommonTokenStream;
 import org.antlr.v4.runtime.Lexer;
+import org.antlr.v4.runtime.Parser;
 import org.antlr.v4.runtime.TokenStream;
 import org.apache.shardingsphere.spi.NewInstanceServiceLoader;
 import org.apache.shardingsphere.sql.parser.api.parser.SQLParser;
 import org.apache.shardingsphere.sql.parser.spi.SQLParserConfiguration;
 
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * SQL parser factory.
  */
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class SQLParserFactory {
     
+    private static final ThreadLocal<Map<String, SQLParser>> THREAD_LOCAL_SQL_PARSERS = ThreadLocal.withInitial(HashMap::new);
+    
     static {
         NewInstanceServiceLoader.register(SQLParserConfiguration.class);
     }
@@ -55,6 +62,51 @@ public final class SQLParserFactory {
         throw new UnsupportedOperationException(String.format("Cannot support database type '%s'", databaseTypeName));
     }
     
+    /**
+     * Get thread local instance of SQL parser.
+     * 
+     * <p>
+     * Lexer, token stream and parser are created once for each thread and database type, and reset with new SQL for every call.
+     * Parse trees and tokens created by previous calls are not affected by reset.
+     * </p>
+     *
+     * @param databaseTypeName name of database type
+     * @param sql SQL
+     * @return SQL parser
+     */
+    public static SQLParser getThreadLocalInstance(final String databaseTypeName, final String sql) {
+        Map<String, SQLParser> sqlParsers = THREAD_LOCAL_SQL_PARSERS.get();
+        SQLParser result = sqlParsers.get(databaseTypeName);
+        if (null == result) {
+            result = newInstance(databaseTypeName, sql);
+            sqlParsers.put(databaseTypeName, result);
+            return result;
+        }
+        reset(result, sql);
+        return result;
+    }
+    
+    /**
+     * Release SQL parser got from thread local.
+     * 
+     * <p>
+     * Input of lexer and buffered tokens of last SQL are released, so that thread local SQL parser does not retain them until next call.
+     * </p>
+     *
+     * @param sqlParser SQL parser
+     */
+    public static void release(final SQLParser sqlParser) {
+        reset(sqlParser, "");
+    }
+    
+    private static void reset(final SQLParser sqlParser, final String sql) {
+        BufferedTokenStream tokenStream = (BufferedTokenStream) ((Parser) sqlParser).getTokenStream();
+        Lexer lexer = (Lexer) tokenStream.getTokenSource();
+        lexer.setInputStream(CharStreams.fromString(sql));
+        tokenStream.setTokenSource(lexer);
+        ((Parser) sqlParser).setTokenStream(tokenStream);
+    }
+    
     @SneakyThrows
     private static SQLParser createSQLParser(final String sql, final SQLParserConfiguration configuration) {
         Lexer lexer = configuration.getLexerClass().getConstructor(CharStream.class).newInstance(CharStreams.fromString(sql));
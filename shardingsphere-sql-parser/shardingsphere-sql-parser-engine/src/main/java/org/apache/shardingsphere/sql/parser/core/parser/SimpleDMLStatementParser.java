@@ -0,0 +1,343 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.core.parser;
+
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.Vocabulary;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.assignment.AssignmentSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.assignment.InsertValuesSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.assignment.SetAssignmentSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.column.ColumnSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.column.InsertColumnsSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.expr.ExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.expr.simple.LiteralExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.expr.simple.ParameterMarkerExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.item.ColumnProjectionSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.item.ProjectionsSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.predicate.AndPredicate;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.predicate.PredicateSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.predicate.WhereSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.predicate.value.PredicateCompareRightValue;
+import org.apache.shardingsphere.sql.parser.sql.segment.generic.table.SimpleTableSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.generic.table.TableNameSegment;
+import org.apache.shardingsphere.sql.parser.sql.statement.SQLStatement;
+import org.apache.shardingsphere.sql.parser.sql.statement.dml.DMLStatement;
+import org.apache.shardingsphere.sql.parser.sql.statement.dml.DeleteStatement;
+import org.apache.shardingsphere.sql.parser.sql.statement.dml.InsertStatement;
+import org.apache.shardingsphere.sql.parser.sql.statement.dml.SelectStatement;
+import org.apache.shardingsphere.sql.parser.sql.statement.dml.UpdateStatement;
+import org.apache.shardingsphere.sql.parser.sql.value.identifier.IdentifierValue;
+import org.apache.shardingsphere.sql.parser.sql.value.literal.impl.NumberLiteralValue;
+import org.apache.shardingsphere.sql.parser.sql.value.literal.impl.StringLiteralValue;
+
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Simple DML statement parser.
+ * 
+ * <p>
+ * Recognize point DML from tokens directly without ANTLR parser, and create same SQL statement with visitor. Supported SQLs are:
+ * </p>
+ * 
+ * <ul>
+ *     <li>{@code SELECT column (, column)* FROM table (WHERE column = value (AND column = value)*)?}</li>
+ *     <li>{@code INSERT INTO table (column (, column)*) VALUES (value (, value)*) (, (value (, value)*))*}</li>
+ *     <li>{@code UPDATE table SET column = value (, column = value)* (WHERE column = value (AND column = value)*)?}</li>
+ *     <li>{@code DELETE FROM table (WHERE column = value (AND column = value)*)?}</li>
+ * </ul>
+ * 
+ * <p>
+ * Table and column should be identifiers without owner, value should be parameter marker, number literal or string literal.
+ * Other SQLs are not recognized and should be parsed by ANTLR parser.
+ * </p>
+ */
+public final class SimpleDMLStatementParser {
+    
+    private static final String SUPPORTED_DATABASE_TYPE = "MySQL";
+    
+    private final Vocabulary vocabulary;
+    
+    private final List<Token> tokens;
+    
+    private int position;
+    
+    private int parameterIndex;
+    
+    public SimpleDMLStatementParser(final Vocabulary vocabulary, final List<Token> tokens) {
+        this.vocabulary = vocabulary;
+        this.tokens = tokens;
+    }
+    
+    /**
+     * Judge whether database type is supported.
+     * 
+     * @param databaseTypeName name of database type
+     * @return is supported or not
+     */
+    public static boolean isSupported(final String databaseTypeName) {
+        return SUPPORTED_DATABASE_TYPE.equals(databaseTypeName);
+    }
+    
+    /**
+     * Parse tokens to SQL statement.
+     * 
+     * @return SQL statement, empty if tokens are not recognized
+     */
+    public Optional<SQLStatement> parse() {
+        DMLStatement result = parseStatement();
+        if (null == result) {
+            return Optional.empty();
+        }
+        skipIfMatch("SEMI_");
+        if (!isMatch("EOF")) {
+            return Optional.empty();
+        }
+        result.setParameterCount(parameterIndex);
+        return Optional.of(result);
+    }
+    
+    private DMLStatement parseStatement() {
+        if (isMatch("SELECT")) {
+            return parseSelect();
+        }
+        if (isMatch("INSERT")) {
+            return parseInsert();
+        }
+        if (isMatch("UPDATE")) {
+            return parseUpdate();
+        }
+        if (isMatch("DELETE")) {
+            return parseDelete();
+        }
+        return null;
+    }
+    
+    private SelectStatement parseSelect() {
+        position++;
+        List<ColumnSegment> columns = parseColumns();
+        if (null == columns || !skipIfMatch("FROM")) {
+            return null;
+        }
+        SimpleTableSegment table = parseTable();
+        if (null == table) {
+            return null;
+        }
+        SelectStatement result = new SelectStatement();
+        ProjectionsSegment projections = new ProjectionsSegment(columns.get(0).getStartIndex(), columns.get(columns.size() - 1).getStopIndex());
+        for (ColumnSegment each : columns) {
+            projections.getProjections().add(new ColumnProjectionSegment(each));
+        }
+        result.setProjections(projections);
+        result.getTables().add(table);
+        if (isMatch("WHERE")) {
+            WhereSegment where = parseWhere();
+            if (null == where) {
+                return null;
+            }
+            result.setWhere(where);
+        }
+        return result;
+    }
+    
+    private InsertStatement parseInsert() {
+        position++;
+        if (!skipIfMatch("INTO")) {
+            return null;
+        }
+        SimpleTableSegment table = parseTable();
+        if (null == table || !isMatch("LP_")) {
+            return null;
+        }
+        int columnsStartIndex = tokens.get(position++).getStartIndex();
+        Collection<ColumnSegment> columns = parseColumns();
+        if (null == columns || !isMatch("RP_")) {
+            return null;
+        }
+        InsertStatement result = new InsertStatement();
+        result.setInsertColumns(new InsertColumnsSegment(columnsStartIndex, tokens.get(position++).getStopIndex(), columns));
+        if (!skipIfMatch("VALUES") && !skipIfMatch("VALUE")) {
+            return null;
+        }
+        do {
+            InsertValuesSegment insertValues = parseInsertValues();
+            if (null == insertValues) {
+                return null;
+            }
+            result.getValues().add(insertValues);
+        } while (skipIfMatch("COMMA_"));
+        result.setTable(table);
+        return result;
+    }
+    
+    private InsertValuesSegment parseInsertValues() {
+        if (!isMatch("LP_")) {
+            return null;
+        }
+        int startIndex = tokens.get(position++).getStartIndex();
+        List<ExpressionSegment> values = new LinkedList<>();
+        do {
+            ExpressionSegment value = parseValue();
+            if (null == value) {
+                return null;
+            }
+            values.add(value);
+        } while (skipIfMatch("COMMA_"));
+        return isMatch("RP_") ? new InsertValuesSegment(startIndex, tokens.get(position++).getStopIndex(), values) : null;
+    }
+    
+    private UpdateStatement parseUpdate() {
+        position++;
+        SimpleTableSegment table = parseTable();
+        if (null == table || !isMatch("SET")) {
+            return null;
+        }
+        int setStartIndex = tokens.get(position++).getStartIndex();
+        Collection<AssignmentSegment> assignments = new LinkedList<>();
+        do {
+            ColumnSegment column = parseColumn();
+            if (null == column || !skipIfMatch("EQ_")) {
+                return null;
+            }
+            ExpressionSegment value = parseValue();
+            if (null == value) {
+                return null;
+            }
+            assignments.add(new AssignmentSegment(column.getStartIndex(), value.getStopIndex(), column, value));
+        } while (skipIfMatch("COMMA_"));
+        UpdateStatement result = new UpdateStatement();
+        result.getTables().add(table);
+        result.setSetAssignment(new SetAssignmentSegment(setStartIndex, tokens.get(position - 1).getStopIndex(), assignments));
+        if (isMatch("WHERE")) {
+            WhereSegment where = parseWhere();
+            if (null == where) {
+                return null;
+            }
+            result.setWhere(where);
+        }
+        return result;
+    }
+    
+    private DeleteStatement parseDelete() {
+        position++;
+        if (!skipIfMatch("FROM")) {
+            return null;
+        }
+        SimpleTableSegment table = parseTable();
+        if (null == table) {
+            return null;
+        }
+        DeleteStatement result = new DeleteStatement();
+        result.getTables().add(table);
+        if (isMatch("WHERE")) {
+            WhereSegment where = parseWhere();
+            if (null == where) {
+                return null;
+            }
+            result.setWhere(where);
+        }
+        return result;
+    }
+    
+    private WhereSegment parseWhere() {
+        int startIndex = tokens.get(position++).getStartIndex();
+        AndPredicate andPredicate = new AndPredicate();
+        do {
+            ColumnSegment column = parseColumn();
+            if (null == column || !isMatch("EQ_")) {
+                return null;
+            }
+            String operator = tokens.get(position++).getText();
+            ExpressionSegment value = parseValue();
+            if (null == value) {
+                return null;
+            }
+            andPredicate.getPredicates().add(new PredicateSegment(column.getStartIndex(), value.getStopIndex(), column, new PredicateCompareRightValue(operator, value)));
+        } while (skipIfMatch("AND"));
+        WhereSegment result = new WhereSegment(startIndex, tokens.get(position - 1).getStopIndex());
+        result.getAndPredicates().add(andPredicate);
+        return result;
+    }
+    
+    private List<ColumnSegment> parseColumns() {
+        List<ColumnSegment> result = new LinkedList<>();
+        do {
+            ColumnSegment column = parseColumn();
+            if (null == column) {
+                return null;
+            }
+            result.add(column);
+        } while (skipIfMatch("COMMA_"));
+        return result;
+    }
+    
+    private ColumnSegment parseColumn() {
+        if (!isMatch("IDENTIFIER_")) {
+            return null;
+        }
+        Token token = tokens.get(position++);
+        return new ColumnSegment(token.getStartIndex(), token.getStopIndex(), new IdentifierValue(token.getText()));
+    }
+    
+    private SimpleTableSegment parseTable() {
+        if (!isMatch("IDENTIFIER_")) {
+            return null;
+        }
+        Token token = tokens.get(position++);
+        return new SimpleTableSegment(new TableNameSegment(token.getStartIndex(), token.getStopIndex(), new IdentifierValue(token.getText())));
+    }
+    
+    private ExpressionSegment parseValue() {
+        if (position >= tokens.size()) {
+            return null;
+        }
+        Token token = tokens.get(position);
+        switch (getSymbolicName(token)) {
+            case "QUESTION_":
+                position++;
+                return new ParameterMarkerExpressionSegment(token.getStartIndex(), token.getStopIndex(), parameterIndex++);
+            case "NUMBER_":
+                position++;
+                return new LiteralExpressionSegment(token.getStartIndex(), token.getStopIndex(), new NumberLiteralValue(token.getText()).getValue());
+            case "STRING_":
+                position++;
+                return new LiteralExpressionSegment(token.getStartIndex(), token.getStopIndex(), new StringLiteralValue(token.getText()).getValue());
+            default:
+                return null;
+        }
+    }
+    
+    private boolean isMatch(final String symbolicName) {
+        return position < tokens.size() && symbolicName.equals(getSymbolicName(tokens.get(position)));
+    }
+    
+    private boolean skipIfMatch(final String symbolicName) {
+        if (isMatch(symbolicName)) {
+            position++;
+            return true;
+        }
+        return false;
+    }
+    
+    private String getSymbolicName(final Token token) {
+        String result = vocabulary.getSymbolicName(token.getType());
+        return null == result ? "" : result;
+    }
+}
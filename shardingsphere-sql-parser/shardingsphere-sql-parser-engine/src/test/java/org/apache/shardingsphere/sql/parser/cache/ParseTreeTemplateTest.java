@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.cache;
+
+import org.antlr.v4.runtime.CommonToken;
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.antlr.v4.runtime.tree.TerminalNodeImpl;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.junit.Assert.assertThat;
+
+public final class ParseTreeTemplateTest {
+    
+    @Test
+    public void assertBind() {
+        SQLFingerprint templateFingerprint = createFingerprint("SELECT", " ", "1");
+        ParserRuleContext parseTree = new ParserRuleContext(null, 1);
+        parseTree.addChild(new TerminalNodeImpl(templateFingerprint.getTokens().get(0)));
+        parseTree.addChild(new TerminalNodeImpl(templateFingerprint.getTokens().get(1)));
+        parseTree.start = templateFingerprint.getTokens().get(0);
+        parseTree.stop = templateFingerprint.getTokens().get(1);
+        ParseTree actual = new ParseTreeTemplate(parseTree, templateFingerprint).bind(createFingerprint("SELECT", "  ", "100"));
+        assertThat(actual, not((ParseTree) parseTree));
+        assertThat(actual.getText(), is("SELECT100"));
+        assertThat(((ParserRuleContext) actual).getStop().getStartIndex(), is(8));
+        assertThat(actual.getChild(1).getParent(), is((ParseTree) actual));
+    }
+    
+    private SQLFingerprint createFingerprint(final String keyword, final String whitespace, final String literal) {
+        return new SQLFingerprint(Arrays.asList(createToken(1, keyword, 0, 0, Token.DEFAULT_CHANNEL), 
+                createToken(2, whitespace, 1, keyword.length(), Token.HIDDEN_CHANNEL), createToken(3, literal, 2, keyword.length() + whitespace.length(), Token.DEFAULT_CHANNEL)));
+    }
+    
+    private Token createToken(final int type, final String text, final int tokenIndex, final int startIndex, final int channel) {
+        CommonToken result = new CommonToken(type, text);
+        result.setTokenIndex(tokenIndex);
+        result.setStartIndex(startIndex);
+        result.setStopIndex(startIndex + text.length() - 1);
+        result.setChannel(channel);
+        return result;
+    }
+}
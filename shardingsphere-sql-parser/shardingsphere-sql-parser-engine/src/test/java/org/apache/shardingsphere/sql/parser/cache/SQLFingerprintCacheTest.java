@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.cache;
+
+import org.antlr.v4.runtime.CommonToken;
+import org.antlr.v4.runtime.Token;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class SQLFingerprintCacheTest {
+    
+    @Test
+    public void assertGetParseTreeTemplateWithinCache() {
+        SQLFingerprintCache actual = new SQLFingerprintCache();
+        ParseTreeTemplate parseTreeTemplate = new ParseTreeTemplate(null, createFingerprint("1"));
+        actual.put(createFingerprint("1"), parseTreeTemplate);
+        assertTrue(actual.getParseTreeTemplate(createFingerprint("2")).isPresent());
+        assertThat(actual.getParseTreeTemplate(createFingerprint("3")).get(), is(parseTreeTemplate));
+        assertThat(actual.getHitCount(), is(2L));
+        assertThat(actual.getMissCount(), is(0L));
+    }
+    
+    @Test
+    public void assertGetParseTreeTemplateWithoutCache() {
+        SQLFingerprintCache actual = new SQLFingerprintCache();
+        actual.put(createFingerprint("1"), new ParseTreeTemplate(null, createFingerprint("1")));
+        assertFalse(actual.getParseTreeTemplate(new SQLFingerprint(Arrays.<Token>asList(createToken(1, "SELECT", 0), createToken(3, "'1'", 1)))).isPresent());
+        assertThat(actual.getHitCount(), is(0L));
+        assertThat(actual.getMissCount(), is(1L));
+    }
+    
+    @Test
+    public void assertClear() {
+        SQLFingerprintCache actual = new SQLFingerprintCache();
+        actual.put(createFingerprint("1"), new ParseTreeTemplate(null, createFingerprint("1")));
+        actual.getParseTreeTemplate(createFingerprint("1"));
+        actual.clear();
+        assertThat(actual.getHitCount(), is(0L));
+        assertFalse(actual.getParseTreeTemplate(createFingerprint("1")).isPresent());
+    }
+    
+    private SQLFingerprint createFingerprint(final String literal) {
+        List<Token> tokens = Arrays.<Token>asList(createToken(1, "SELECT", 0), createToken(2, literal, 1));
+        return new SQLFingerprint(tokens);
+    }
+    
+    private Token createToken(final int type, final String text, final int tokenIndex) {
+        CommonToken result = new CommonToken(type, text);
+        result.setTokenIndex(tokenIndex);
+        return result;
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.integrate.engine;
+
+import org.apache.shardingsphere.sql.parser.SQLParserEngine;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.expr.simple.LiteralExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.predicate.PredicateSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.predicate.value.PredicateCompareRightValue;
+import org.apache.shardingsphere.sql.parser.sql.statement.dml.SelectStatement;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class SQLParserEngineFingerprintCacheTest {
+    
+    @Test
+    public void assertParseLiteralVariantsWithoutStatementCache() {
+        SQLParserEngine sqlParserEngine = new SQLParserEngine("MySQL");
+        String sql = "SELECT order_id FROM t_order WHERE status = 'a' ORDER BY order_id";
+        assertLiteral((SelectStatement) sqlParserEngine.parse(sql, false), "a", sql.indexOf("'a'"), sql.indexOf("'a'") + 2);
+        assertThat(sqlParserEngine.getFingerprintCache().getHitCount(), is(0L));
+        String literalVariantSQL = "SELECT order_id FROM t_order WHERE status = 'finished' ORDER BY order_id";
+        SelectStatement actual = (SelectStatement) sqlParserEngine.parse(literalVariantSQL, false);
+        assertThat(sqlParserEngine.getFingerprintCache().getHitCount(), is(1L));
+        assertLiteral(actual, "finished", literalVariantSQL.indexOf("'finished'"), literalVariantSQL.indexOf("'finished'") + 9);
+        assertThat(actual.getOrderBy().get().getStopIndex(), is(literalVariantSQL.length() - 1));
+    }
+    
+    private void assertLiteral(final SelectStatement actual, final String expectedLiteral, final int expectedStartIndex, final int expectedStopIndex) {
+        PredicateSegment predicate = actual.getWhere().get().getAndPredicates().iterator().next().getPredicates().iterator().next();
+        LiteralExpressionSegment literal = (LiteralExpressionSegment) ((PredicateCompareRightValue) predicate.getRightValue()).getExpression();
+        assertThat(literal.getLiterals(), is((Object) expectedLiteral));
+        assertThat(literal.getStartIndex(), is(expectedStartIndex));
+        assertThat(literal.getStopIndex(), is(expectedStopIndex));
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.integrate.engine;
+
+import org.apache.shardingsphere.sql.parser.SQLParserEngine;
+import org.apache.shardingsphere.sql.parser.SQLParserEngineFactory;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class SQLParserEngineWarmUpTest {
+    
+    @Test
+    public void assertWarmUp() {
+        SQLParserEngine sqlParserEngine = SQLParserEngineFactory.getSQLParserEngine("MySQL");
+        SQLParserEngineFactory.warmUp(sqlParserEngine, Arrays.asList("SELECT user_id FROM t_user WHERE status = 'a' ORDER BY user_id", "UNSUPPORTED SQL"));
+        long hitCount = sqlParserEngine.getFingerprintCache().getHitCount();
+        long missCount = sqlParserEngine.getFingerprintCache().getMissCount();
+        sqlParserEngine.parse("SELECT user_id FROM t_user WHERE status = 'finished' ORDER BY user_id", false);
+        assertThat(sqlParserEngine.getFingerprintCache().getHitCount(), is(hitCount + 1));
+        assertThat(sqlParserEngine.getFingerprintCache().getMissCount(), is(missCount));
+        SQLParserEngineFactory.warmUp(sqlParserEngine, Collections.singletonList("SELECT user_id FROM t_user WHERE user_id > 10 GROUP BY user_id"));
+        assertThat(sqlParserEngine.getFingerprintCache().getMissCount(), is(missCount));
+        sqlParserEngine.parse("SELECT user_id FROM t_user WHERE user_id > 20 GROUP BY user_id", false);
+        assertThat(sqlParserEngine.getFingerprintCache().getHitCount(), is(hitCount + 1));
+        assertThat(sqlParserEngine.getFingerprintCache().getMissCount(), is(missCount + 1));
+    }
+}
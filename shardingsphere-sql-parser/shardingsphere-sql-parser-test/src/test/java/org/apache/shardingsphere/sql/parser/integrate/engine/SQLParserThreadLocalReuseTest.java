@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.integrate.engine;
+
+import org.antlr.v4.runtime.BufferedTokenStream;
+import org.antlr.v4.runtime.Parser;
+import org.apache.shardingsphere.sql.parser.SQLParserEngine;
+import org.apache.shardingsphere.sql.parser.SQLParserEngineFactory;
+import org.apache.shardingsphere.sql.parser.api.parser.SQLParser;
+import org.apache.shardingsphere.sql.parser.core.parser.SQLParserFactory;
+import org.apache.shardingsphere.sql.parser.sql.statement.dml.DeleteStatement;
+import org.apache.shardingsphere.sql.parser.sql.statement.dml.SelectStatement;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class SQLParserThreadLocalReuseTest {
+    
+    private static final String SELECT_SQL = "SELECT order_id FROM t_order WHERE user_id = 1 ORDER BY order_id";
+    
+    private static final String DELETE_SQL = "DELETE FROM t_order WHERE order_id > 10 ORDER BY order_id LIMIT 5";
+    
+    @Test
+    public void assertGetThreadLocalInstance() {
+        SQLParser expected = SQLParserFactory.getThreadLocalInstance("MySQL", SELECT_SQL);
+        assertThat(SQLParserFactory.getThreadLocalInstance("MySQL", DELETE_SQL), sameInstance(expected));
+        assertThat(SQLParserFactory.newInstance("MySQL", DELETE_SQL), not(sameInstance(expected)));
+    }
+    
+    @Test
+    public void assertRelease() {
+        SQLParser sqlParser = SQLParserFactory.getThreadLocalInstance("MySQL", SELECT_SQL);
+        sqlParser.execute();
+        assertTrue(getTokenStream(sqlParser).size() > 1);
+        SQLParserFactory.release(sqlParser);
+        assertReleased(sqlParser);
+    }
+    
+    @Test
+    public void assertParseWithThreadLocalParserReused() {
+        SQLParserEngine sqlParserEngine = new SQLParserEngine("MySQL", true);
+        SQLParser threadLocalSQLParser = SQLParserFactory.getThreadLocalInstance("MySQL", "");
+        assertThat(sqlParserEngine.parse(SELECT_SQL, false), instanceOf(SelectStatement.class));
+        assertReleased(threadLocalSQLParser);
+        DeleteStatement actual = (DeleteStatement) sqlParserEngine.parse(DELETE_SQL, false);
+        assertThat(actual.getWhere().get().getStopIndex(), is(DELETE_SQL.indexOf(" ORDER BY") - 1));
+        assertReleased(threadLocalSQLParser);
+    }
+    
+    @Test
+    public void assertGetSQLParserEngineWithThreadLocalParserReused() {
+        SQLParserEngine expected = SQLParserEngineFactory.getSQLParserEngine("MySQL", true);
+        assertThat(SQLParserEngineFactory.getSQLParserEngine("MySQL", true), sameInstance(expected));
+        assertThat(SQLParserEngineFactory.getSQLParserEngine("MySQL"), not(sameInstance(expected)));
+        assertThat(SQLParserEngineFactory.getSQLParserEngine("MySQL", false), sameInstance(SQLParserEngineFactory.getSQLParserEngine("MySQL")));
+    }
+    
+    private void assertReleased(final SQLParser sqlParser) {
+        assertThat(getTokenStream(sqlParser).getTokenSource().getInputStream().size(), is(0));
+        assertThat(getTokenStream(sqlParser).getTokens().size(), is(0));
+    }
+    
+    private BufferedTokenStream getTokenStream(final SQLParser sqlParser) {
+        return (BufferedTokenStream) ((Parser) sqlParser).getTokenStream();
+    }
+}
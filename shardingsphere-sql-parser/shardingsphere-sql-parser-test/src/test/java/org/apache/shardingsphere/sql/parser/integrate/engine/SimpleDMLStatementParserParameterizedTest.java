@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.integrate.engine;
+
+import lombok.RequiredArgsConstructor;
+import org.antlr.v4.runtime.BufferedTokenStream;
+import org.antlr.v4.runtime.Parser;
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.apache.shardingsphere.sql.parser.cache.SQLFingerprint;
+import org.apache.shardingsphere.sql.parser.core.constant.RuleName;
+import org.apache.shardingsphere.sql.parser.core.parser.SQLParserExecutor;
+import org.apache.shardingsphere.sql.parser.core.parser.SQLParserFactory;
+import org.apache.shardingsphere.sql.parser.core.parser.SimpleDMLStatementParser;
+import org.apache.shardingsphere.sql.parser.core.visitor.ParseTreeVisitorFactory;
+import org.apache.shardingsphere.sql.parser.integrate.asserts.SQLCaseAssertContext;
+import org.apache.shardingsphere.sql.parser.integrate.asserts.statement.SQLStatementAssert;
+import org.apache.shardingsphere.sql.parser.integrate.jaxb.SQLParserTestCasesRegistry;
+import org.apache.shardingsphere.sql.parser.integrate.jaxb.SQLParserTestCasesRegistryFactory;
+import org.apache.shardingsphere.sql.parser.sql.statement.SQLStatement;
+import org.apache.shardingsphere.test.sql.SQLCaseType;
+import org.apache.shardingsphere.test.sql.loader.SQLCasesLoader;
+import org.apache.shardingsphere.test.sql.loader.SQLCasesRegistry;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(Parameterized.class)
+@RequiredArgsConstructor
+public final class SimpleDMLStatementParserParameterizedTest {
+    
+    private static final SQLCasesLoader SQL_CASES_LOADER = SQLCasesRegistry.getInstance().getSqlCasesLoader();
+    
+    private static final SQLParserTestCasesRegistry SQL_PARSER_TEST_CASES_REGISTRY = SQLParserTestCasesRegistryFactory.getInstance().getRegistry();
+    
+    private static final Collection<String> SIMPLE_DML_SQL_CASE_IDS = Arrays.asList(
+            "insert_with_double_value", "insert_with_special_characters", "update_with_special_character", "delete_with_special_character_without_sharding_value");
+    
+    private final String sqlCaseId;
+    
+    private final String databaseType;
+    
+    private final SQLCaseType sqlCaseType;
+    
+    @Parameters(name = "{0} ({2}) -> {1}")
+    public static Collection<Object[]> getTestParameters() {
+        Collection<Object[]> result = new LinkedList<>();
+        for (Object[] each : SQLParserParameterizedTest.getTestParameters()) {
+            if ("MySQL".equals(each[1]) || "H2".equals(each[1])) {
+                result.add(each);
+            }
+        }
+        return result;
+    }
+    
+    @Test
+    public void assertSimpleDMLStatement() {
+        String sql = SQL_CASES_LOADER.getSQL(sqlCaseId, sqlCaseType, SQL_PARSER_TEST_CASES_REGISTRY.get(sqlCaseId).getParameters());
+        Parser parser = (Parser) SQLParserFactory.newInstance("MySQL", sql);
+        BufferedTokenStream tokenStream = (BufferedTokenStream) parser.getTokenStream();
+        tokenStream.fill();
+        Optional<SQLStatement> actual = new SimpleDMLStatementParser(parser.getVocabulary(), new SQLFingerprint(tokenStream.getTokens()).getTokens()).parse();
+        if (SQLCaseType.Literal == sqlCaseType && SIMPLE_DML_SQL_CASE_IDS.contains(sqlCaseId)) {
+            assertTrue(String.format("SQL case `%s` should be recognized by simple DML statement parser.", sqlCaseId), actual.isPresent());
+        }
+        if (actual.isPresent()) {
+            SQLCaseAssertContext assertContext = new SQLCaseAssertContext(sqlCaseId, sqlCaseType);
+            SQLStatement expected = parseWithANTLR(sql);
+            assertThat(assertContext.getText("SQL statement type assertion error: "), actual.get().getClass().getName(), is(expected.getClass().getName()));
+            assertThat(assertContext.getText("Parameter count assertion error: "), actual.get().getParameterCount(), is(expected.getParameterCount()));
+            SQLStatementAssert.assertIs(assertContext, expected, SQL_PARSER_TEST_CASES_REGISTRY.get(sqlCaseId));
+            SQLStatementAssert.assertIs(assertContext, actual.get(), SQL_PARSER_TEST_CASES_REGISTRY.get(sqlCaseId));
+        }
+    }
+    
+    private SQLStatement parseWithANTLR(final String sql) {
+        ParseTree parseTree = new SQLParserExecutor("MySQL", sql, false).execute();
+        return (SQLStatement) ParseTreeVisitorFactory.newInstance("MySQL", RuleName.valueOf(parseTree.getClass())).visit(parseTree);
+    }
+}
@@ -32,6 +32,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 
 /**
@@ -60,6 +61,8 @@ public final class InlineExpressionParser {
     
     /**
      * Split and evaluate inline expression.
+     * 
+     * <p>Range, list and literal placeholders are expanded natively, other expressions are evaluated by groovy.</p>
      *
      * @return result list
      */
@@ -67,7 +70,12 @@ public final class InlineExpressionParser {
         if (null == inlineExpression) {
             return Collections.emptyList();
         }
-        return flatten(evaluate(split()));
+        List<String> result = new ArrayList<>();
+        for (String each : split()) {
+            Optional<List<String>> segments = NativeInlineExpressionEvaluator.evaluate(each);
+            result.addAll(segments.isPresent() ? segments.get() : flatten(evaluate(Collections.singletonList(each))));
+        }
+        return result;
     }
     
     /**
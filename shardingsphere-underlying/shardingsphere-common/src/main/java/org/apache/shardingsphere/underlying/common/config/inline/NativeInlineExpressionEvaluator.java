@@ -0,0 +1,164 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.underlying.common.config.inline;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Native inline expression evaluator.
+ * 
+ * <p>
+ * Evaluate inline expression segment with integer range ({@code ${0..63}} or {@code ${0..<64}}), list ({@code ${[0, 'a']}}),
+ * integer and single quoted string placeholders without groovy, and expand cartesian product in the same order as groovy.
+ * </p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class NativeInlineExpressionEvaluator {
+    
+    /**
+     * Evaluate inline expression segment.
+     * 
+     * @param inlineExpression inline expression segment
+     * @return evaluated results, absent if inline expression segment should be evaluated by groovy
+     */
+    static Optional<List<String>> evaluate(final String inlineExpression) {
+        List<String> literals = new ArrayList<>();
+        List<List<String>> placeholderValues = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+        int position = 0;
+        while (position < inlineExpression.length()) {
+            char each = inlineExpression.charAt(position);
+            if ('\\' == each || '"' == each) {
+                return Optional.empty();
+            }
+            if ('$' != each) {
+                literal.append(each);
+                position++;
+                continue;
+            }
+            int start = inlineExpression.startsWith("${", position) ? position + 2 : inlineExpression.startsWith("$->{", position) ? position + 4 : -1;
+            int end = -1 == start ? -1 : inlineExpression.indexOf('}', start);
+            if (-1 == end) {
+                return Optional.empty();
+            }
+            Optional<List<String>> values = evaluatePlaceholder(inlineExpression.substring(start, end).trim());
+            if (!values.isPresent()) {
+                return Optional.empty();
+            }
+            literals.add(literal.toString());
+            literal.setLength(0);
+            placeholderValues.add(values.get());
+            position = end + 1;
+        }
+        literals.add(literal.toString());
+        List<String> result = new ArrayList<>(getCartesianProductSize(placeholderValues));
+        assemblyCartesianSegments(literals, placeholderValues, 0, new StringBuilder(), result);
+        return Optional.of(result);
+    }
+    
+    private static Optional<List<String>> evaluatePlaceholder(final String placeholder) {
+        if (placeholder.startsWith("[") && placeholder.endsWith("]")) {
+            return evaluateList(placeholder.substring(1, placeholder.length() - 1));
+        }
+        if (placeholder.contains("..")) {
+            return evaluateRange(placeholder);
+        }
+        return evaluateLiteral(placeholder).map(Collections::singletonList);
+    }
+    
+    private static Optional<List<String>> evaluateList(final String list) {
+        Collection<String> result = new LinkedHashSet<>();
+        for (String each : list.split(",", -1)) {
+            Optional<String> value = evaluateLiteral(each.trim());
+            if (!value.isPresent()) {
+                return Optional.empty();
+            }
+            result.add(value.get());
+        }
+        return Optional.of(new ArrayList<>(result));
+    }
+    
+    private static Optional<List<String>> evaluateRange(final String range) {
+        int index = range.indexOf("..");
+        boolean exclusive = range.startsWith("<", index + 2);
+        Optional<Integer> from = parseInteger(range.substring(0, index).trim());
+        Optional<Integer> to = parseInteger(range.substring(index + (exclusive ? 3 : 2)).trim());
+        if (!from.isPresent() || !to.isPresent() || exclusive && from.get() >= to.get()) {
+            return Optional.empty();
+        }
+        int first = from.get();
+        int last = exclusive ? to.get() - 1 : to.get();
+        List<String> result = new ArrayList<>(Math.abs(last - first) + 1);
+        int step = first <= last ? 1 : -1;
+        for (int i = first; i != last + step; i += step) {
+            result.add(Integer.toString(i));
+        }
+        return Optional.of(result);
+    }
+    
+    private static Optional<String> evaluateLiteral(final String literal) {
+        if (literal.length() >= 2 && literal.startsWith("'") && literal.endsWith("'")) {
+            String result = literal.substring(1, literal.length() - 1);
+            return result.contains("'") || result.contains("\\") ? Optional.empty() : Optional.of(result);
+        }
+        return parseInteger(literal).map(String::valueOf);
+    }
+    
+    private static Optional<Integer> parseInteger(final String literal) {
+        if (literal.isEmpty() || literal.length() > 9 || literal.length() > 1 && '0' == literal.charAt(0)) {
+            return Optional.empty();
+        }
+        for (int i = 0; i < literal.length(); i++) {
+            if (!Character.isDigit(literal.charAt(i))) {
+                return Optional.empty();
+            }
+        }
+        return Optional.of(Integer.parseInt(literal));
+    }
+    
+    private static int getCartesianProductSize(final List<List<String>> placeholderValues) {
+        long result = 1;
+        for (List<String> each : placeholderValues) {
+            result *= each.size();
+        }
+        return (int) Math.min(result, Integer.MAX_VALUE - 8);
+    }
+    
+    private static void assemblyCartesianSegments(final List<String> literals, final List<List<String>> placeholderValues, final int index, final StringBuilder segment, final List<String> result) {
+        int length = segment.length();
+        segment.append(literals.get(index));
+        if (index == placeholderValues.size()) {
+            result.add(segment.toString());
+        } else {
+            for (String each : placeholderValues.get(index)) {
+                segment.append(each);
+                assemblyCartesianSegments(literals, placeholderValues, index + 1, segment, result);
+                segment.setLength(length + literals.get(index).length());
+            }
+        }
+        segment.setLength(length);
+    }
+}
@@ -71,6 +71,38 @@ public enum PropertiesConstant implements TypedPropertiesKey {
      */
     EXECUTOR_SIZE("executor.size", String.valueOf(0), int.class),
     
+    /**
+     * Failure policy of executing SQL in multiple threads.
+     *
+     * <p>
+     * COLLECT_ALL: wait for executions of all data sources and throw the failure after them.
+     * FAIL_FAST: cancel executions of other data sources and throw the failure once any execution fails.
+     * Default: COLLECT_ALL
+     * </p>
+     */
+    EXECUTOR_FAILURE_POLICY("executor.failure.policy", "COLLECT_ALL", String.class),
+    
+    /**
+     * Max concurrent executions of each data source.
+     *
+     * <p>
+     * Executions exceeding this value wait for permit of the data source, 0 means unlimited.
+     * Default: 0
+     * </p>
+     */
+    EXECUTOR_MAX_CONCURRENCY_PER_DATA_SOURCE("executor.max.concurrency.per.data.source", String.valueOf(0), int.class),
+    
+    /**
+     * Max milliseconds to wait for execution permit of data source.
+     *
+     * <p>
+     * Execution is rejected if no permit is available after waiting this value.
+     * It works only when executor.max.concurrency.per.data.source is greater than 0.
+     * Default: 3000
+     * </p>
+     */
+    EXECUTOR_BULKHEAD_MAX_WAIT_MILLISECONDS("executor.bulkhead.max.wait.milliseconds", String.valueOf(3000), int.class),
+    
     /**
      * Max opened connection size for each query.
      */
@@ -95,6 +127,84 @@ public enum PropertiesConstant implements TypedPropertiesKey {
      */
     ALLOW_RANGE_QUERY_WITH_INLINE_SHARDING("allow.range.query.with.inline.sharding", String.valueOf(Boolean.FALSE), boolean.class),
     
+    /**
+     * Max size of integer range which can be enumerated by inline sharding strategy.
+     *
+     * <p>
+     * When range query with inline sharding is allowed, integer range whose size is not greater than this value is routed by evaluating inline expression with each value,
+     * and wider range is routed to all data nodes.
+     * If inline expression is modulo of sharding column, range not narrower than modulus is routed to all data nodes directly.
+     * Default: 256
+     * </p>
+     */
+    INLINE_SHARDING_RANGE_ENUMERATION_MAX_SIZE("inline.sharding.range.enumeration.max.size", String.valueOf(256), int.class),
+    
+    /**
+     * Enable or Disable to cache route plans of prepared statements.
+     *
+     * <p>
+     * Route and rewrite results of sharding tables are cached by SQL and parameters, so executing same SQL with same parameters skips routing and rewriting.
+     * Statements with hint, generated key, master-slave or encrypt rule are never cached.
+     * Default: false
+     * </p>
+     */
+    ROUTE_PLAN_CACHE_ENABLED("route.plan.cache.enabled", String.valueOf(Boolean.FALSE), boolean.class),
+    
+    /**
+     * Enable or Disable to join non-binding sharding tables by hash join instead of cartesian routing.
+     *
+     * <p>
+     * Select statements which join two non-binding sharding tables by equality of columns are routed to scans of each table with pushed down predicates,
+     * and rows of the scans are joined by hash join in merge layer, so count of actual SQLs is linear in count of data nodes instead of quadratic.
+     * Joins with JOIN clause, OR predicates, expressions, aggregation, group by, order by, limit or subquery are still routed by cartesian routing.
+     * Join columns are matched by equality of Java objects with numbers normalized, instead of comparison of database,
+     * so strings are matched case sensitively and trailing spaces are significant whatever collation of columns is.
+     * Default: false
+     * </p>
+     */
+    CARTESIAN_HASH_JOIN_ENABLED("cartesian.hash.join.enabled", String.valueOf(Boolean.FALSE), boolean.class),
+    
+    /**
+     * Max rows of hash join which are held in memory.
+     *
+     * <p>
+     * Rows of build side of hash join exceeding this value are spilled to partitioned temporary files with rows of probe side,
+     * and each partition is joined in chunks of this value.
+     * Default: 100000
+     * </p>
+     */
+    CARTESIAN_HASH_JOIN_MAX_MEMORY_ROWS("cartesian.hash.join.max.memory.rows", String.valueOf(100000), int.class),
+    
+    /**
+     * Enable or Disable to hedge slow reads of master-slave.
+     *
+     * <p>
+     * Query of statement routed to a slave which has not returned within latency percentile of the slave is issued to another slave too,
+     * result of the query which returns first is used and the other query is cancelled.
+     * Queries of prepared statements are not hedged, because they are bound to one slave when prepared.
+     * Default: false
+     * </p>
+     */
+    MASTER_SLAVE_HEDGED_READ_ENABLED("master.slave.hedged.read.enabled", String.valueOf(Boolean.FALSE), boolean.class),
+    
+    /**
+     * Latency percentile of slave to wait before hedging read.
+     *
+     * <p>
+     * Default: 95
+     * </p>
+     */
+    MASTER_SLAVE_HEDGED_READ_PERCENTILE("master.slave.hedged.read.percentile", String.valueOf(95), int.class),
+    
+    /**
+     * Max percent of hedged reads in all reads of master-slave rule.
+     *
+     * <p>
+     * Default: 10
+     * </p>
+     */
+    MASTER_SLAVE_HEDGED_READ_BUDGET_PERCENT("master.slave.hedged.read.budget.percent", String.valueOf(10), int.class),
+    
     /**
      * Sharding-Proxy's flush threshold for every records from databases.
      */
@@ -134,7 +244,30 @@ public enum PropertiesConstant implements TypedPropertiesKey {
     
     PROXY_BACKEND_CONNECTION_TIMEOUT_SECONDS("proxy.backend.connection.timeout.seconds", String.valueOf(60), int.class),
     
-    CHECK_TABLE_METADATA_ENABLED("check.table.metadata.enabled", String.valueOf(Boolean.FALSE), boolean.class);
+    CHECK_TABLE_METADATA_ENABLED("check.table.metadata.enabled", String.valueOf(Boolean.FALSE), boolean.class),
+    
+    /**
+     * Corpus file of SQL parser warm up.
+     *
+     * <p>
+     * SQLs in corpus file (one SQL per line) are parsed when startup to warm up SQL parser, 
+     * which avoids latency of cold parser for first queries.
+     * Default: empty, do not warm up.
+     * </p>
+     */
+    SQL_PARSER_WARM_UP_CORPUS_FILE("sql.parser.warm.up.corpus.file", "", String.class),
+    
+    /**
+     * Enable or Disable to reuse lexer and parser of SQL parser in each thread.
+     *
+     * <p>
+     * Lexer, token stream and parser are created once for each thread and database type instead of for each SQL,
+     * and input of last SQL is released after parsing.
+     * Data sources with and without this switch use separate SQL parser engines, so the switch only applies to its own configuration.
+     * Default: false
+     * </p>
+     */
+    SQL_PARSER_THREAD_LOCAL_REUSE_ENABLED("sql.parser.thread.local.reuse.enabled", String.valueOf(Boolean.FALSE), boolean.class);
     
     private final String key;
     
@@ -19,6 +19,7 @@ package org.apache.shardingsphere.underlying.common.config.inline;
 
 import org.junit.Test;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
@@ -69,6 +70,31 @@ public final class InlineExpressionParserTest {
         assertThat(expected, hasItems("t_order_0", "t_order_1", "t_order_2", "t_order_item_0", "t_order_item_1"));
     }
     
+    @Test
+    public void assertEvaluateForDescendingRange() {
+        assertThat(new InlineExpressionParser("t_order_${2..0}").splitAndEvaluate(), is(Arrays.asList("t_order_2", "t_order_1", "t_order_0")));
+    }
+    
+    @Test
+    public void assertEvaluateForExclusiveRange() {
+        assertThat(new InlineExpressionParser("t_order_$->{0..<3}").splitAndEvaluate(), is(Arrays.asList("t_order_0", "t_order_1", "t_order_2")));
+    }
+    
+    @Test
+    public void assertEvaluateForCartesianRange() {
+        List<String> expected = new InlineExpressionParser("ds_${0..63}.t_order_${0..1023}").splitAndEvaluate();
+        assertThat(expected.size(), is(65536));
+        assertThat(expected.get(0), is("ds_0.t_order_0"));
+        assertThat(expected.get(1), is("ds_0.t_order_1"));
+        assertThat(expected.get(1024), is("ds_1.t_order_0"));
+        assertThat(expected.get(65535), is("ds_63.t_order_1023"));
+    }
+    
+    @Test
+    public void assertEvaluateForDuplicatedArray() {
+        assertThat(new InlineExpressionParser("t_order_${[1, 0, 1]}").splitAndEvaluate(), is(Arrays.asList("t_order_1", "t_order_0")));
+    }
+    
     @Test
     public void assertEvaluateForComplex() {
         List<String> expected = new InlineExpressionParser("t_${['new','old']}_order_${1..2}, t_config").splitAndEvaluate();
@@ -0,0 +1,113 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.underlying.executor.engine;
+
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+
+/**
+ * Execute canceller, cancel all registered input groups at first failure.
+ *
+ * @param <I> type of input value
+ * @param <O> type of return value
+ */
+final class ExecuteCanceller<I, O> {
+    
+    private final Collection<InputGroup<I>> inputGroups = new LinkedList<>();
+    
+    private final Collection<GroupedCallback<I, O>> callbacks = new LinkedList<>();
+    
+    private final Collection<ListenableFuture<Collection<O>>> futures = new LinkedList<>();
+    
+    private Throwable cause;
+    
+    /**
+     * Register input group which executes in trunk thread.
+     *
+     * @param inputGroup input group
+     * @param callback grouped callback
+     */
+    synchronized void register(final InputGroup<I> inputGroup, final GroupedCallback<I, O> callback) {
+        inputGroups.add(inputGroup);
+        callbacks.add(callback);
+    }
+    
+    /**
+     * Register input group which executes asynchronously.
+     *
+     * @param inputGroup input group
+     * @param callback grouped callback
+     * @param future future of execution
+     */
+    synchronized void register(final InputGroup<I> inputGroup, final GroupedCallback<I, O> callback, final ListenableFuture<Collection<O>> future) {
+        register(inputGroup, callback);
+        futures.add(future);
+        Futures.addCallback(future, new FutureCallback<Collection<O>>() {
+            
+            @Override
+            public void onSuccess(final Collection<O> result) {
+            }
+            
+            @Override
+            public void onFailure(final Throwable throwable) {
+                if (!(throwable instanceof CancellationException)) {
+                    cancel(throwable);
+                }
+            }
+        }, MoreExecutors.directExecutor());
+        if (null != cause) {
+            future.cancel(false);
+        }
+    }
+    
+    /**
+     * Cancel all registered input groups, only first cause is kept.
+     *
+     * @param cause cause of cancellation
+     */
+    synchronized void cancel(final Throwable cause) {
+        if (null != this.cause) {
+            return;
+        }
+        this.cause = cause;
+        for (ListenableFuture<Collection<O>> each : futures) {
+            each.cancel(false);
+        }
+        Iterator<GroupedCallback<I, O>> callbackIterator = callbacks.iterator();
+        for (InputGroup<I> each : inputGroups) {
+            callbackIterator.next().cancel(each.getInputs(), cause);
+        }
+    }
+    
+    /**
+     * Get cause of cancellation.
+     *
+     * @return cause of cancellation
+     */
+    synchronized Optional<Throwable> getCause() {
+        return Optional.ofNullable(cause);
+    }
+}
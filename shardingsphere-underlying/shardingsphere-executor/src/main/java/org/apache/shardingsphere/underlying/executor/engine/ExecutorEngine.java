@@ -18,18 +18,29 @@
 package org.apache.shardingsphere.underlying.executor.engine;
 
 import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import lombok.Getter;
 import org.apache.shardingsphere.underlying.common.exception.ShardingSphereException;
+import org.apache.shardingsphere.underlying.executor.engine.bulkhead.ExecutorBulkhead;
 import org.apache.shardingsphere.underlying.executor.engine.impl.ShardingSphereExecutorService;
 
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Executor engine.
@@ -38,8 +49,23 @@ public final class ExecutorEngine implements AutoCloseable {
     
     private final ShardingSphereExecutorService executorService;
     
+    private final ExecuteFailurePolicy failurePolicy;
+    
+    @Getter
+    private final ExecutorBulkhead bulkhead;
+    
     public ExecutorEngine(final int executorSize) {
+        this(executorSize, ExecuteFailurePolicy.COLLECT_ALL);
+    }
+    
+    public ExecutorEngine(final int executorSize, final ExecuteFailurePolicy failurePolicy) {
+        this(executorSize, failurePolicy, new ExecutorBulkhead(0, 0L));
+    }
+    
+    public ExecutorEngine(final int executorSize, final ExecuteFailurePolicy failurePolicy, final ExecutorBulkhead bulkhead) {
         executorService = new ShardingSphereExecutorService(executorSize);
+        this.failurePolicy = failurePolicy;
+        this.bulkhead = bulkhead;
     }
     
     /**
@@ -76,6 +102,93 @@ public final class ExecutorEngine implements AutoCloseable {
         return serial ? serialExecute(inputGroups, firstCallback, callback) : parallelExecute(inputGroups, firstCallback, callback);
     }
     
+    /**
+     * Execute asynchronously, no input group is executed and no execution permit is waited for in caller thread.
+     *
+     * @param inputGroups input groups
+     * @param callback grouped callback
+     * @param serial whether execute input groups one by one in a single thread or not
+     * @param <I> type of input value
+     * @param <O> type of return value
+     * @return future of execute result
+     */
+    public <I, O> CompletableFuture<List<O>> executeAsync(final Collection<InputGroup<I>> inputGroups, final GroupedCallback<I, O> callback, final boolean serial) {
+        if (inputGroups.isEmpty()) {
+            return CompletableFuture.completedFuture(Collections.emptyList());
+        }
+        if (serial) {
+            return serialExecuteAsync(inputGroups, callback);
+        }
+        CompletableFuture<List<O>> result = new CompletableFuture<>();
+        ExecuteCanceller<I, O> canceller = new ExecuteCanceller<>();
+        List<ListenableFuture<Collection<O>>> futures = new ArrayList<>(inputGroups.size());
+        List<CompletableFuture<Collection<O>>> groupResultFutures = new ArrayList<>(inputGroups.size());
+        try {
+            for (InputGroup<I> each : inputGroups) {
+                ListenableFuture<Collection<O>> future = asyncExecuteWithPermitAcquiredInPool(each, callback);
+                if (ExecuteFailurePolicy.FAIL_FAST == failurePolicy) {
+                    canceller.register(each, callback, future);
+                }
+                futures.add(future);
+                groupResultFutures.add(toCompletableFuture(future, result));
+            }
+        } catch (final RejectedExecutionException ex) {
+            if (ExecuteFailurePolicy.FAIL_FAST == failurePolicy) {
+                canceller.cancel(ex);
+            } else {
+                cancel(inputGroups, callback, futures, ex);
+            }
+            result.completeExceptionally(ex);
+            return result;
+        }
+        CompletableFuture.allOf(groupResultFutures.toArray(new CompletableFuture[0])).whenComplete((ignored, throwable) -> {
+            if (null != throwable) {
+                result.completeExceptionally(canceller.getCause().orElse(throwable instanceof CompletionException ? throwable.getCause() : throwable));
+                return;
+            }
+            List<O> groupResults = new LinkedList<>();
+            for (CompletableFuture<Collection<O>> each : groupResultFutures) {
+                groupResults.addAll(each.join());
+            }
+            result.complete(groupResults);
+        });
+        return result;
+    }
+    
+    private <I, O> CompletableFuture<List<O>> serialExecuteAsync(final Collection<InputGroup<I>> inputGroups, final GroupedCallback<I, O> callback) {
+        CompletableFuture<List<O>> result = new CompletableFuture<>();
+        executorService.getExecutorService().execute(() -> {
+            try {
+                result.complete(serialExecute(inputGroups, null, callback));
+                // CHECKSTYLE:OFF
+            } catch (final Throwable ex) {
+                // CHECKSTYLE:ON
+                result.completeExceptionally(ex);
+            }
+        });
+        return result;
+    }
+    
+    private <O> CompletableFuture<Collection<O>> toCompletableFuture(final ListenableFuture<Collection<O>> future, final CompletableFuture<List<O>> resultFuture) {
+        CompletableFuture<Collection<O>> result = new CompletableFuture<>();
+        Futures.addCallback(future, new FutureCallback<Collection<O>>() {
+            
+            @Override
+            public void onSuccess(final Collection<O> groupResult) {
+                result.complete(groupResult);
+            }
+            
+            @Override
+            public void onFailure(final Throwable throwable) {
+                result.completeExceptionally(throwable);
+                if (ExecuteFailurePolicy.FAIL_FAST == failurePolicy && !(throwable instanceof CancellationException)) {
+                    resultFuture.completeExceptionally(throwable);
+                }
+            }
+        }, MoreExecutors.directExecutor());
+        return result;
+    }
+    
     private <I, O> List<O> serialExecute(final Collection<InputGroup<I>> inputGroups, final GroupedCallback<I, O> firstCallback, final GroupedCallback<I, O> callback) throws SQLException {
         Iterator<InputGroup<I>> inputGroupsIterator = inputGroups.iterator();
         InputGroup<I> firstInputs = inputGroupsIterator.next();
@@ -89,25 +202,117 @@ public final class ExecutorEngine implements AutoCloseable {
     private <I, O> List<O> parallelExecute(final Collection<InputGroup<I>> inputGroups, final GroupedCallback<I, O> firstCallback, final GroupedCallback<I, O> callback) throws SQLException {
         Iterator<InputGroup<I>> inputGroupsIterator = inputGroups.iterator();
         InputGroup<I> firstInputs = inputGroupsIterator.next();
+        if (ExecuteFailurePolicy.FAIL_FAST == failurePolicy) {
+            return failFastParallelExecute(firstInputs, null == firstCallback ? callback : firstCallback, Lists.newArrayList(inputGroupsIterator), callback);
+        }
         Collection<ListenableFuture<Collection<O>>> restResultFutures = asyncExecute(Lists.newArrayList(inputGroupsIterator), callback);
         return getGroupResults(syncExecute(firstInputs, null == firstCallback ? callback : firstCallback), restResultFutures);
     }
     
+    private <I, O> List<O> failFastParallelExecute(final InputGroup<I> firstInputs, final GroupedCallback<I, O> firstCallback, 
+                                                   final List<InputGroup<I>> restInputGroups, final GroupedCallback<I, O> callback) throws SQLException {
+        ExecuteCanceller<I, O> canceller = new ExecuteCanceller<>();
+        canceller.register(firstInputs, firstCallback);
+        Collection<ListenableFuture<Collection<O>>> restResultFutures = new LinkedList<>();
+        try {
+            for (InputGroup<I> each : restInputGroups) {
+                ListenableFuture<Collection<O>> future = asyncExecute(each, callback);
+                canceller.register(each, callback, future);
+                restResultFutures.add(future);
+            }
+        } catch (final ShardingSphereException ex) {
+            canceller.cancel(ex);
+            throw ex;
+        }
+        Collection<O> firstResults;
+        try {
+            firstResults = syncExecute(firstInputs, firstCallback);
+        } catch (final SQLException | ShardingSphereException ex) {
+            canceller.cancel(ex);
+            return throwCause(canceller);
+        }
+        List<O> result = new LinkedList<>(firstResults);
+        try {
+            for (Collection<O> each : Futures.allAsList(restResultFutures).get()) {
+                result.addAll(each);
+            }
+        } catch (final InterruptedException | ExecutionException | CancellationException ex) {
+            canceller.cancel(ex instanceof ExecutionException ? ex.getCause() : ex);
+            return throwCause(canceller);
+        }
+        return result;
+    }
+    
     private <I, O> Collection<O> syncExecute(final InputGroup<I> inputGroup, final GroupedCallback<I, O> callback) throws SQLException {
-        return callback.execute(inputGroup.getInputs(), true, ExecutorDataMap.getValue());
+        return executeWithPermit(inputGroup, callback, true, ExecutorDataMap.getValue());
+    }
+    
+    private <I, O> Collection<O> executeWithPermit(final InputGroup<I> inputGroup, final GroupedCallback<I, O> callback, 
+                                                   final boolean isTrunkThread, final Map<String, Object> dataMap) throws SQLException {
+        bulkhead.acquire(inputGroup.getDataSourceName());
+        try {
+            return callback.execute(inputGroup.getInputs(), isTrunkThread, dataMap);
+        } finally {
+            bulkhead.release(inputGroup.getDataSourceName());
+        }
+    }
+    
+    private <I, O> ListenableFuture<Collection<O>> asyncExecuteWithPermitAcquiredInPool(final InputGroup<I> inputGroup, final GroupedCallback<I, O> callback) {
+        final Map<String, Object> dataMap = ExecutorDataMap.getValue();
+        return executorService.getExecutorService().submit(() -> executeWithPermit(inputGroup, callback, false, dataMap));
     }
     
     private <I, O> Collection<ListenableFuture<Collection<O>>> asyncExecute(final List<InputGroup<I>> inputGroups, final GroupedCallback<I, O> callback) {
-        Collection<ListenableFuture<Collection<O>>> result = new LinkedList<>();
-        for (InputGroup<I> each : inputGroups) {
-            result.add(asyncExecute(each, callback));
+        List<ListenableFuture<Collection<O>>> result = new ArrayList<>(inputGroups.size());
+        try {
+            for (InputGroup<I> each : inputGroups) {
+                result.add(asyncExecute(each, callback));
+            }
+        } catch (final ShardingSphereException ex) {
+            cancel(inputGroups, callback, result, ex);
+            throw ex;
         }
         return result;
     }
     
     private <I, O> ListenableFuture<Collection<O>> asyncExecute(final InputGroup<I> inputGroup, final GroupedCallback<I, O> callback) {
         final Map<String, Object> dataMap = ExecutorDataMap.getValue();
-        return executorService.getExecutorService().submit(() -> callback.execute(inputGroup.getInputs(), false, dataMap));
+        bulkhead.acquire(inputGroup.getDataSourceName());
+        AtomicBoolean started = new AtomicBoolean();
+        ListenableFuture<Collection<O>> result;
+        try {
+            result = executorService.getExecutorService().submit(() -> asyncExecute(inputGroup, callback, dataMap, started));
+        } catch (final RejectedExecutionException ex) {
+            bulkhead.release(inputGroup.getDataSourceName());
+            throw ex;
+        }
+        result.addListener(() -> {
+            if (started.compareAndSet(false, true)) {
+                bulkhead.release(inputGroup.getDataSourceName());
+            }
+        }, MoreExecutors.directExecutor());
+        return result;
+    }
+    
+    private <I, O> Collection<O> asyncExecute(final InputGroup<I> inputGroup, final GroupedCallback<I, O> callback, 
+                                              final Map<String, Object> dataMap, final AtomicBoolean started) throws SQLException {
+        if (!started.compareAndSet(false, true)) {
+            throw new CancellationException();
+        }
+        try {
+            return callback.execute(inputGroup.getInputs(), false, dataMap);
+        } finally {
+            bulkhead.release(inputGroup.getDataSourceName());
+        }
+    }
+    
+    private <I, O> void cancel(final Collection<InputGroup<I>> inputGroups, final GroupedCallback<I, O> callback, final List<ListenableFuture<Collection<O>>> submittedFutures, final Throwable cause) {
+        ExecuteCanceller<I, O> canceller = new ExecuteCanceller<>();
+        Iterator<InputGroup<I>> inputGroupsIterator = inputGroups.iterator();
+        for (ListenableFuture<Collection<O>> each : submittedFutures) {
+            canceller.register(inputGroupsIterator.next(), callback, each);
+        }
+        canceller.cancel(cause);
     }
     
     private <O> List<O> getGroupResults(final Collection<O> firstResults, final Collection<ListenableFuture<Collection<O>>> restFutures) throws SQLException {
@@ -122,6 +327,20 @@ public final class ExecutorEngine implements AutoCloseable {
         return result;
     }
     
+    private <I, O> List<O> throwCause(final ExecuteCanceller<I, O> canceller) throws SQLException {
+        Throwable cause = canceller.getCause().orElseThrow(IllegalStateException::new);
+        if (cause instanceof SQLException) {
+            throw (SQLException) cause;
+        }
+        if (cause instanceof ShardingSphereException) {
+            throw (ShardingSphereException) cause;
+        }
+        if (cause instanceof Error) {
+            throw (Error) cause;
+        }
+        throw new ShardingSphereException((Exception) cause);
+    }
+    
     private <O> List<O> throwException(final Exception exception) throws SQLException {
         if (exception.getCause() instanceof SQLException) {
             throw (SQLException) exception.getCause();
@@ -39,4 +39,13 @@ public interface GroupedCallback<I, O> {
      * @throws SQLException throw when execute failure
      */
     Collection<O> execute(Collection<I> inputs, boolean isTrunkThread, Map<String, Object> dataMap) throws SQLException;
+    
+    /**
+     * Cancel executing inputs because execution of other inputs failed.
+     * 
+     * @param inputs input values
+     * @param cause cause of cancellation
+     */
+    default void cancel(Collection<I> inputs, Throwable cause) {
+    }
 }
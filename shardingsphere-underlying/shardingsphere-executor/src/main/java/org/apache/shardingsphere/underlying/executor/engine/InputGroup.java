@@ -31,5 +31,11 @@ import java.util.List;
 @Getter
 public final class InputGroup<T> {
     
+    private final String dataSourceName;
+    
     private final List<T> inputs;
+    
+    public InputGroup(final List<T> inputs) {
+        this(null, inputs);
+    }
 }
@@ -0,0 +1,130 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.underlying.executor.engine.bulkhead;
+
+import lombok.Getter;
+import org.apache.shardingsphere.underlying.common.exception.ShardingSphereException;
+
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Executor bulkhead, which limits concurrent executions per data source.
+ */
+public final class ExecutorBulkhead {
+    
+    @Getter
+    private final int maxConcurrencyPerDataSource;
+    
+    @Getter
+    private final long maxWaitMilliseconds;
+    
+    private final Map<String, DataSourceBulkhead> dataSourceBulkheads = new ConcurrentHashMap<>();
+    
+    public ExecutorBulkhead(final int maxConcurrencyPerDataSource, final long maxWaitMilliseconds) {
+        this.maxConcurrencyPerDataSource = maxConcurrencyPerDataSource;
+        this.maxWaitMilliseconds = maxWaitMilliseconds;
+    }
+    
+    /**
+     * Judge whether bulkhead is enabled.
+     *
+     * @return bulkhead is enabled or not
+     */
+    public boolean isEnabled() {
+        return maxConcurrencyPerDataSource > 0;
+    }
+    
+    /**
+     * Acquire execution permit of data source, wait at most max wait milliseconds.
+     *
+     * @param dataSourceName data source name
+     */
+    public void acquire(final String dataSourceName) {
+        if (!isEnabled() || null == dataSourceName) {
+            return;
+        }
+        DataSourceBulkhead dataSourceBulkhead = dataSourceBulkheads.computeIfAbsent(dataSourceName, key -> new DataSourceBulkhead(maxConcurrencyPerDataSource));
+        long startNanos = System.nanoTime();
+        boolean acquired;
+        try {
+            acquired = dataSourceBulkhead.semaphore.tryAcquire(maxWaitMilliseconds, TimeUnit.MILLISECONDS);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        long queueTimeMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+        dataSourceBulkhead.totalQueueTimeMillis.add(queueTimeMillis);
+        if (!acquired) {
+            dataSourceBulkhead.rejectedCount.increment();
+            throw new ShardingSphereException("Data source `%s` is saturated, %s executions are running and no permit is available after waiting %s ms.", 
+                    dataSourceName, maxConcurrencyPerDataSource, queueTimeMillis);
+        }
+        dataSourceBulkhead.acquiredCount.increment();
+    }
+    
+    /**
+     * Release execution permit of data source.
+     *
+     * @param dataSourceName data source name
+     */
+    public void release(final String dataSourceName) {
+        if (!isEnabled() || null == dataSourceName) {
+            return;
+        }
+        DataSourceBulkhead dataSourceBulkhead = dataSourceBulkheads.get(dataSourceName);
+        if (null != dataSourceBulkhead) {
+            dataSourceBulkhead.semaphore.release();
+        }
+    }
+    
+    /**
+     * Get metrics of all data sources.
+     *
+     * @return metrics of all data sources
+     */
+    public Collection<DataSourceBulkheadMetrics> getMetrics() {
+        Collection<DataSourceBulkheadMetrics> result = new LinkedList<>();
+        for (Map.Entry<String, DataSourceBulkhead> entry : dataSourceBulkheads.entrySet()) {
+            DataSourceBulkhead each = entry.getValue();
+            result.add(new DataSourceBulkheadMetrics(entry.getKey(), maxConcurrencyPerDataSource, maxConcurrencyPerDataSource - each.semaphore.availablePermits(), 
+                    each.semaphore.getQueueLength(), each.acquiredCount.sum(), each.rejectedCount.sum(), each.totalQueueTimeMillis.sum()));
+        }
+        return result;
+    }
+    
+    private static final class DataSourceBulkhead {
+        
+        private final Semaphore semaphore;
+        
+        private final LongAdder acquiredCount = new LongAdder();
+        
+        private final LongAdder rejectedCount = new LongAdder();
+        
+        private final LongAdder totalQueueTimeMillis = new LongAdder();
+        
+        DataSourceBulkhead(final int maxConcurrency) {
+            semaphore = new Semaphore(maxConcurrency, true);
+        }
+    }
+}
@@ -17,6 +17,10 @@
 
 package org.apache.shardingsphere.underlying.executor.engine;
 
+import org.apache.shardingsphere.underlying.common.exception.ShardingSphereException;
+import org.apache.shardingsphere.underlying.executor.engine.bulkhead.DataSourceBulkheadMetrics;
+import org.apache.shardingsphere.underlying.executor.engine.bulkhead.ExecutorBulkhead;
+import org.apache.shardingsphere.underlying.executor.engine.fixture.FailureGroupedCallbackFixture;
 import org.apache.shardingsphere.underlying.executor.engine.fixture.GroupedCallbackFixture;
 import org.junit.After;
 import org.junit.Before;
@@ -26,10 +30,16 @@ import java.sql.SQLException;
 import java.util.Collection;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
 
+import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 import static org.mockito.Mockito.mock;
 
 public final class ExecutorEngineTest {
@@ -64,6 +74,14 @@ public final class ExecutorEngineTest {
         return result;
     }
     
+    private Collection<InputGroup<Object>> createMockedInputGroups(final String dataSourceName, final int groupSize) {
+        Collection<InputGroup<Object>> result = new LinkedList<>();
+        for (int i = 0; i < groupSize; i++) {
+            result.add(new InputGroup<>(dataSourceName, createMockedInputs(1)));
+        }
+        return result;
+    }
+    
     private List<Object> createMockedInputs(final int size) {
         List<Object> result = new LinkedList<>();
         for (int j = 0; j < size; j++) {
@@ -93,6 +111,42 @@ public final class ExecutorEngineTest {
         assertThat(actual.size(), is(4));
     }
     
+    @Test
+    public void assertParallelExecuteAsync() throws InterruptedException {
+        List<String> actual = executorEngine.executeAsync(inputGroups, callback, false).join();
+        latch.await();
+        assertThat(actual.size(), is(4));
+    }
+    
+    @Test
+    public void assertSerialExecuteAsync() throws InterruptedException {
+        List<String> actual = executorEngine.executeAsync(inputGroups, callback, true).join();
+        latch.await();
+        assertThat(actual.size(), is(4));
+    }
+    
+    @Test
+    public void assertExecuteAsyncWithFailure() throws InterruptedException {
+        try {
+            executorEngine.executeAsync(inputGroups, new FailureGroupedCallbackFixture(false), false).get();
+            fail("Expected ExecutionException to be thrown.");
+        } catch (final ExecutionException ex) {
+            assertThat(ex.getCause().getMessage(), is("failed"));
+        }
+    }
+    
+    @Test
+    public void assertSerialExecuteAsyncWithRuntimeException() throws InterruptedException {
+        try {
+            executorEngine.executeAsync(inputGroups, (GroupedCallback<Object, String>) (inputs, isTrunkThread, dataMap) -> {
+                throw new IllegalStateException("failed");
+            }, true).get();
+            fail("Expected ExecutionException to be thrown.");
+        } catch (final ExecutionException ex) {
+            assertThat(ex.getCause(), instanceOf(IllegalStateException.class));
+        }
+    }
+    
     @Test
     public void assertInputGroupIsEmpty() throws SQLException {
         CountDownLatch latch = new CountDownLatch(1);
@@ -100,4 +154,69 @@ public final class ExecutorEngineTest {
         latch.countDown();
         assertThat(actual.size(), is(0));
     }
+    
+    @Test
+    public void assertParallelExecuteWithFailFastWhenTrunkThreadFailed() {
+        assertParallelExecuteWithFailFast(true);
+    }
+    
+    @Test
+    public void assertParallelExecuteWithFailFastWhenAsyncThreadFailed() {
+        assertParallelExecuteWithFailFast(false);
+    }
+    
+    private void assertParallelExecuteWithFailFast(final boolean isFailedInTrunkThread) {
+        ExecutorEngine failFastExecutorEngine = new ExecutorEngine(10, ExecuteFailurePolicy.FAIL_FAST);
+        FailureGroupedCallbackFixture failureCallback = new FailureGroupedCallbackFixture(isFailedInTrunkThread);
+        try {
+            failFastExecutorEngine.execute(inputGroups, failureCallback);
+            fail("Expected SQLException to be thrown.");
+        } catch (final SQLException ex) {
+            assertThat(ex.getMessage(), is("failed"));
+            assertThat(failureCallback.getCancelCause(), is((Throwable) ex));
+        } finally {
+            failFastExecutorEngine.close();
+        }
+    }
+    
+    @Test
+    public void assertParallelExecuteWhenBulkheadRejected() throws SQLException {
+        ExecutorEngine bulkheadExecutorEngine = new ExecutorEngine(10, ExecuteFailurePolicy.COLLECT_ALL, new ExecutorBulkhead(1, 500L));
+        FailureGroupedCallbackFixture blockedCallback = new FailureGroupedCallbackFixture(true);
+        try {
+            bulkheadExecutorEngine.execute(createMockedInputGroups("ds_0", 3), blockedCallback);
+            fail("Expected ShardingSphereException to be thrown.");
+        } catch (final ShardingSphereException ex) {
+            assertTrue(ex.getMessage().startsWith("Data source `ds_0` is saturated"));
+            assertThat(blockedCallback.getCancelCause(), is((Throwable) ex));
+            assertPermitReleased(bulkheadExecutorEngine);
+        } finally {
+            bulkheadExecutorEngine.close();
+        }
+    }
+    
+    @Test
+    public void assertParallelExecuteAsyncWhenBulkheadRejected() throws SQLException, InterruptedException {
+        ExecutorEngine bulkheadExecutorEngine = new ExecutorEngine(10, ExecuteFailurePolicy.FAIL_FAST, new ExecutorBulkhead(1, 500L));
+        FailureGroupedCallbackFixture blockedCallback = new FailureGroupedCallbackFixture(true);
+        try {
+            CompletableFuture<List<String>> actual = bulkheadExecutorEngine.executeAsync(createMockedInputGroups("ds_0", 2), blockedCallback, false);
+            assertFalse(actual.isDone());
+            actual.get();
+            fail("Expected ExecutionException to be thrown.");
+        } catch (final ExecutionException ex) {
+            assertThat(ex.getCause(), instanceOf(ShardingSphereException.class));
+            assertThat(blockedCallback.getCancelCause(), is(ex.getCause()));
+            assertPermitReleased(bulkheadExecutorEngine);
+        } finally {
+            bulkheadExecutorEngine.close();
+        }
+    }
+    
+    private void assertPermitReleased(final ExecutorEngine bulkheadExecutorEngine) throws SQLException {
+        assertThat(bulkheadExecutorEngine.execute(createMockedInputGroups("ds_0", 1), new GroupedCallbackFixture(new CountDownLatch(1))).size(), is(1));
+        DataSourceBulkheadMetrics actual = bulkheadExecutorEngine.getBulkhead().getMetrics().iterator().next();
+        assertThat(actual.getOccupancy(), is(0));
+        assertThat(actual.getRejectedCount(), is(1L));
+    }
 }
@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.underlying.executor.engine.bulkhead;
+
+import org.apache.shardingsphere.underlying.common.exception.ShardingSphereException;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public final class ExecutorBulkheadTest {
+    
+    @Test
+    public void assertAcquireAndReleaseWhenDisabled() {
+        ExecutorBulkhead bulkhead = new ExecutorBulkhead(0, 0L);
+        bulkhead.acquire("ds_0");
+        bulkhead.acquire("ds_0");
+        bulkhead.release("ds_0");
+        assertTrue(bulkhead.getMetrics().isEmpty());
+    }
+    
+    @Test
+    public void assertAcquireWhenSaturated() {
+        ExecutorBulkhead bulkhead = new ExecutorBulkhead(1, 10L);
+        bulkhead.acquire("ds_0");
+        bulkhead.acquire("ds_1");
+        try {
+            bulkhead.acquire("ds_0");
+            fail("Expected ShardingSphereException to be thrown.");
+        } catch (final ShardingSphereException ex) {
+            assertTrue(ex.getMessage().startsWith("Data source `ds_0` is saturated"));
+        }
+        DataSourceBulkheadMetrics actual = bulkhead.getMetrics().stream().filter(each -> "ds_0".equals(each.getDataSourceName())).findFirst().orElseThrow(IllegalStateException::new);
+        assertThat(actual.getMaxConcurrency(), is(1));
+        assertThat(actual.getOccupancy(), is(1));
+        assertThat(actual.getAcquiredCount(), is(1L));
+        assertThat(actual.getRejectedCount(), is(1L));
+        assertTrue(actual.getTotalQueueTimeMillis() >= 10L);
+    }
+    
+    @Test
+    public void assertAcquireAfterRelease() {
+        ExecutorBulkhead bulkhead = new ExecutorBulkhead(1, 10L);
+        bulkhead.acquire("ds_0");
+        bulkhead.release("ds_0");
+        bulkhead.acquire("ds_0");
+        DataSourceBulkheadMetrics actual = bulkhead.getMetrics().iterator().next();
+        assertThat(actual.getOccupancy(), is(1));
+        assertThat(actual.getAcquiredCount(), is(2L));
+        assertThat(actual.getRejectedCount(), is(0L));
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.underlying.executor.engine.fixture;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.underlying.executor.engine.GroupedCallback;
+
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+@RequiredArgsConstructor
+public final class FailureGroupedCallbackFixture implements GroupedCallback<Object, String> {
+    
+    private final boolean isFailedInTrunkThread;
+    
+    private final CountDownLatch cancelLatch = new CountDownLatch(1);
+    
+    @Getter
+    private volatile Throwable cancelCause;
+    
+    @Override
+    public Collection<String> execute(final Collection<Object> inputs, final boolean isTrunkThread, final Map<String, Object> dataMap) throws SQLException {
+        if (isFailedInTrunkThread == isTrunkThread) {
+            throw new SQLException("failed");
+        }
+        try {
+            cancelLatch.await(10, TimeUnit.SECONDS);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        throw new SQLException("cancelled");
+    }
+    
+    @Override
+    public void cancel(final Collection<Object> inputs, final Throwable cause) {
+        cancelCause = cause;
+        cancelLatch.countDown();
+    }
+}